@@ -37,6 +37,7 @@ import org.ldp4j.rdf.Format;
 import org.ldp4j.rdf.spi.Marshaller;
 import org.ldp4j.rdf.spi.Configuration;
 import org.ldp4j.rdf.spi.RuntimeInstance;
+import org.ldp4j.rdf.spi.StreamingUnmarshaller;
 import org.ldp4j.rdf.spi.Unmarshaller;
 
 
@@ -116,4 +117,24 @@ public final class RDFContext {
 		return unmarshaller.unmarshall(source);
 	}
 
+	/**
+	 * Deserialize the source pushing each triple to the specified handler
+	 * as soon as it is parsed. Triples are handled in the order in which
+	 * they appear in the source, regardless of the triple ordering option.
+	 */
+	public <T> void deserialize(T source, Format format, TripleHandler handler) throws IOException {
+		Objects.requireNonNull(source, "Source cannot be null");
+		Objects.requireNonNull(format, FORMAT_PARAM);
+		Objects.requireNonNull(handler, "Handler cannot be null");
+		Unmarshaller<T> unmarshaller=RuntimeInstance.getInstance().newUnmarshaller(format,source);
+		unmarshaller.setConfiguration(getConfiguration(format));
+		if(unmarshaller instanceof StreamingUnmarshaller) {
+			((StreamingUnmarshaller<T>)unmarshaller).unmarshall(source,handler);
+		} else {
+			for(Triple triple:unmarshaller.unmarshall(source)) {
+				handler.handleTriple(triple);
+			}
+		}
+	}
+
 }
\ No newline at end of file
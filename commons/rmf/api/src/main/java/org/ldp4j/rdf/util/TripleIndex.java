@@ -0,0 +1,142 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.commons.rmf:rmf-api:0.2.1
+ *   Bundle      : rmf-api-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.rdf.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.ldp4j.rdf.Node;
+import org.ldp4j.rdf.Resource;
+import org.ldp4j.rdf.Triple;
+import org.ldp4j.rdf.URIRef;
+
+/**
+ * Subject, predicate and object indexes of a set of triples. Each triple is
+ * registered once per index, under the corresponding term. Patterns with a
+ * single bound term are resolved with a single probe, whereas patterns with
+ * two bound terms only scan the smallest of the candidate buckets.
+ */
+final class TripleIndex {
+
+	private static final SortedSet<Triple> NO_TRIPLES=Collections.unmodifiableSortedSet(new TreeSet<Triple>());
+
+	private final Map<Node,SortedSet<Triple>> bySubject=new HashMap<Node,SortedSet<Triple>>();
+	private final Map<Node,SortedSet<Triple>> byPredicate=new HashMap<Node,SortedSet<Triple>>();
+	private final Map<Node,SortedSet<Triple>> byObject=new HashMap<Node,SortedSet<Triple>>();
+
+	void add(Triple triple) {
+		bucket(this.bySubject,triple.getSubject()).add(triple);
+		bucket(this.byPredicate,triple.getPredicate()).add(triple);
+		bucket(this.byObject,triple.getObject()).add(triple);
+	}
+
+	void remove(Triple triple) {
+		unregister(this.bySubject,triple.getSubject(),triple);
+		unregister(this.byPredicate,triple.getPredicate(),triple);
+		unregister(this.byObject,triple.getObject(),triple);
+	}
+
+	void clear() {
+		this.bySubject.clear();
+		this.byPredicate.clear();
+		this.byObject.clear();
+	}
+
+	/**
+	 * Find the triples of the indexed set that match the specified pattern.
+	 * The result is backed by the index, and must be copied before the set
+	 * is modified.
+	 */
+	Collection<Triple> match(Set<Triple> triples, Resource<?> subject, URIRef predicate, Node object) {
+		if(subject==null && predicate==null && object==null) {
+			return triples;
+		}
+		if(subject!=null && predicate!=null && object!=null) {
+			Triple triple=new Triple(subject,predicate,object);
+			return triples.contains(triple)?Collections.singleton(triple):Collections.<Triple>emptySet();
+		}
+		SortedSet<Triple> candidates=null;
+		int bound=0;
+		if(subject!=null) {
+			candidates=smallest(candidates,this.bySubject.get(subject));
+			bound++;
+		}
+		if(predicate!=null) {
+			candidates=smallest(candidates,this.byPredicate.get(predicate));
+			bound++;
+		}
+		if(object!=null) {
+			candidates=smallest(candidates,this.byObject.get(object));
+			bound++;
+		}
+		if(bound==1 || candidates.isEmpty()) {
+			return candidates;
+		}
+		TriplePatternMatcher matcher=new TriplePatternMatcher(subject,predicate,object);
+		SortedSet<Triple> result=new TreeSet<Triple>();
+		for(Triple t:candidates) {
+			if(matcher.accept(t)) {
+				result.add(t);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * A missing bucket means that no triple matches the term, so it is
+	 * considered to be the smallest one.
+	 */
+	private static SortedSet<Triple> smallest(SortedSet<Triple> current, SortedSet<Triple> bucket) {
+		SortedSet<Triple> candidate=bucket==null?NO_TRIPLES:bucket;
+		if(current==null || candidate.size()<current.size()) {
+			return candidate;
+		}
+		return current;
+	}
+
+	private static SortedSet<Triple> bucket(Map<Node,SortedSet<Triple>> map, Node key) {
+		SortedSet<Triple> bucket=map.get(key);
+		if(bucket==null) {
+			bucket=new TreeSet<Triple>();
+			map.put(key,bucket);
+		}
+		return bucket;
+	}
+
+	private static void unregister(Map<Node,SortedSet<Triple>> map, Node key, Triple triple) {
+		SortedSet<Triple> bucket=map.get(key);
+		if(bucket!=null && bucket.remove(triple) && bucket.isEmpty()) {
+			map.remove(key);
+		}
+	}
+
+}
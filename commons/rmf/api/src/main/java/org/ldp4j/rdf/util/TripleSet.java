@@ -30,6 +30,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.SortedSet;
@@ -73,23 +74,89 @@ public final class TripleSet implements ITripleSet {
 
 	private final SortedSet<Triple> triples=new TreeSet<Triple>();
 
+	/**
+	 * Minimum number of triples for which pattern lookups are resolved using
+	 * an index. Smaller sets are scanned, as the index would roughly
+	 * quadruple their memory footprint.
+	 */
+	static final int INDEX_THRESHOLD = 128;
+
+	/**
+	 * Index used for resolving pattern lookups. It is built upon the first
+	 * lookup once the set reaches the {@link #INDEX_THRESHOLD threshold},
+	 * kept up to date afterwards, and discarded if the set shrinks again.
+	 */
+	private TripleIndex index;
+
+	private TripleIndex index() {
+		if(this.index==null && this.triples.size()>=INDEX_THRESHOLD) {
+			this.index=new TripleIndex();
+			for(Triple t:this.triples) {
+				this.index.add(t);
+			}
+		}
+		return this.index;
+	}
+
+	private void indexAdded(Iterable<Triple> triples) {
+		if(this.index!=null) {
+			for(Triple t:triples) {
+				this.index.add(t);
+			}
+		}
+	}
+
+	private void indexRemoved(Iterable<Triple> triples) {
+		if(this.index!=null) {
+			if(this.triples.size()<INDEX_THRESHOLD/2) {
+				this.index=null;
+			} else {
+				for(Triple t:triples) {
+					this.index.remove(t);
+				}
+			}
+		}
+	}
+
+	boolean isIndexed() {
+		return this.index!=null;
+	}
+
+	/**
+	 * {@inheritDoc} <br>
+	 * The result is a copy of the matching triples.
+	 */
 	@Override
 	public TripleSet get(Resource<?> subject, URIRef predicate, Node object) {
-		return get(new TriplePatternMatcher(subject, predicate, object));
+		TripleIndex currentIndex=index();
+		if(currentIndex==null) {
+			return scan(new TriplePatternMatcher(subject, predicate, object));
+		}
+		TripleSet result=new TripleSet();
+		result.triples.addAll(currentIndex.match(this.triples, subject, predicate, object));
+		return result;
 	}
 
-	@Override
-	public TripleSet get(ITripleMatcher tripleMatcher) {
-		Objects.requireNonNull(tripleMatcher, TRIPLE_MATCHER_PARAM);
+	private TripleSet scan(ITripleMatcher tripleMatcher) {
 		TripleSet result=new TripleSet();
 		for(Triple t:triples) {
 			if(tripleMatcher.accept(t)) {
-				result.add(t);
+				result.triples.add(t);
 			}
 		}
 		return result;
 	}
 
+	@Override
+	public TripleSet get(ITripleMatcher tripleMatcher) {
+		Objects.requireNonNull(tripleMatcher, TRIPLE_MATCHER_PARAM);
+		if(tripleMatcher instanceof TriplePatternMatcher) {
+			TriplePatternMatcher pattern=(TriplePatternMatcher)tripleMatcher;
+			return get(pattern.subject(),pattern.predicate(),pattern.object());
+		}
+		return scan(tripleMatcher);
+	}
+
 	@Override
 	public boolean contains(Triple triple) {
 		return triples.contains(triple);
@@ -127,7 +194,9 @@ public final class TripleSet implements ITripleSet {
 
 	public void add(Triple... triples) {
 		if(triples!=null && triples.length>0) {
-			this.triples.addAll(Arrays.asList(triples));
+			List<Triple> added=Arrays.asList(triples);
+			this.triples.addAll(added);
+			indexAdded(added);
 		}
 	}
 
@@ -140,6 +209,7 @@ public final class TripleSet implements ITripleSet {
 					this.triples.add(t);
 				}
 			}
+			indexAdded(triples);
 		}
 	}
 
@@ -152,12 +222,16 @@ public final class TripleSet implements ITripleSet {
 
 	public void remove(Triple... triples) {
 		if(triples!=null && triples.length>0) {
-			this.triples.removeAll(Arrays.asList(triples));
+			List<Triple> removed=Arrays.asList(triples);
+			this.triples.removeAll(removed);
+			indexRemoved(removed);
 		}
 	}
 
 	public <T extends Iterable<Triple>> void remove(T triples) {
-		if(triples!=null) {
+		if(triples==this) {
+			clear();
+		} else if(triples!=null) {
 			if(triples instanceof TripleSet) {
 				this.triples.removeAll(((TripleSet)triples).triples);
 			} else {
@@ -165,6 +239,7 @@ public final class TripleSet implements ITripleSet {
 					this.triples.remove(t);
 				}
 			}
+			indexRemoved(triples);
 		}
 	}
 
@@ -181,10 +256,12 @@ public final class TripleSet implements ITripleSet {
 			}
 		}
 		triples.removeAll(result);
+		indexRemoved(result);
 	}
 
 	public void clear() {
 		this.triples.clear();
+		this.index=null;
 	}
 
 	@Override
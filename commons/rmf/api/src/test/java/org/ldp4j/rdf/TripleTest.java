@@ -0,0 +1,66 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.commons.rmf:rmf-api:0.2.1
+ *   Bundle      : rmf-api-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.rdf;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.ldp4j.rdf.util.RDFModelDSL.literal;
+import static org.ldp4j.rdf.util.RDFModelDSL.triple;
+import static org.ldp4j.rdf.util.RDFModelDSL.uriRef;
+
+import org.junit.Test;
+
+public class TripleTest {
+
+	private static final String SUBJECT = "http://www.example.org/subject";
+	private static final String PREDICATE = "http://www.example.org/predicate";
+
+	@Test
+	public void testEqualTriples() {
+		Triple t1=triple(uriRef(SUBJECT),uriRef(PREDICATE),literal("value"));
+		Triple t2=triple(uriRef(SUBJECT),uriRef(PREDICATE),literal("value"));
+		assertThat(t1,equalTo(t2));
+		assertThat(t1.hashCode(),equalTo(t2.hashCode()));
+	}
+
+	@Test
+	public void testTriplesWithDifferentObjectsAreNotEqual() {
+		Triple t1=triple(uriRef(SUBJECT),uriRef(PREDICATE),literal("value"));
+		Triple t2=triple(uriRef(SUBJECT),uriRef(PREDICATE),literal("other"));
+		assertThat(t1,not(equalTo(t2)));
+	}
+
+	@Test
+	public void testObjectIsNotComparedWithPredicate() {
+		Triple t1=triple(uriRef(SUBJECT),uriRef(PREDICATE),uriRef(PREDICATE));
+		Triple t2=triple(uriRef(SUBJECT),uriRef(PREDICATE),uriRef(SUBJECT));
+		assertThat(t1,not(equalTo(t2)));
+		assertThat(t2,not(equalTo(t1)));
+	}
+
+}
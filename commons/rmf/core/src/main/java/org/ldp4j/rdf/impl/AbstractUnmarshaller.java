@@ -27,9 +27,9 @@
 package org.ldp4j.rdf.impl;
 
 import org.ldp4j.rdf.spi.Configuration;
-import org.ldp4j.rdf.spi.Unmarshaller;
+import org.ldp4j.rdf.spi.StreamingUnmarshaller;
 
-public abstract class AbstractUnmarshaller<T> implements Unmarshaller<T> {
+public abstract class AbstractUnmarshaller<T> implements StreamingUnmarshaller<T> {
 
 	
 	private Configuration options;
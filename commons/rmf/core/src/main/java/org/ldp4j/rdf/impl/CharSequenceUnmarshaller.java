@@ -28,7 +28,9 @@ package org.ldp4j.rdf.impl;
 
 import java.io.IOException;
 
+import org.apache.commons.io.input.CharSequenceReader;
 import org.ldp4j.rdf.Triple;
+import org.ldp4j.rdf.TripleHandler;
 
 final class CharSequenceUnmarshaller extends AbstractUnmarshaller<CharSequence> {
 
@@ -36,5 +38,10 @@ final class CharSequenceUnmarshaller extends AbstractUnmarshaller<CharSequence>
 	public Iterable<Triple> unmarshall(CharSequence source) throws IOException {
 		return getParser().parse(source.toString());
 	}
+
+	@Override
+	public void unmarshall(CharSequence source, TripleHandler handler) throws IOException {
+		getParser().parse(new CharSequenceReader(source),handler);
+	}
 	
 }
\ No newline at end of file
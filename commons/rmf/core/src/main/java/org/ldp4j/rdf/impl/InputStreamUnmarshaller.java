@@ -28,15 +28,21 @@ package org.ldp4j.rdf.impl;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 
-import org.apache.commons.io.IOUtils;
 import org.ldp4j.rdf.Triple;
+import org.ldp4j.rdf.TripleHandler;
 
 final class InputStreamUnmarshaller extends AbstractUnmarshaller<InputStream> {
 
 	@Override
 	public Iterable<Triple> unmarshall(InputStream source) throws IOException {
-		return getParser().parse(IOUtils.toString(source));
+		return getParser().parse(new InputStreamReader(source));
+	}
+
+	@Override
+	public void unmarshall(InputStream source, TripleHandler handler) throws IOException {
+		getParser().parse(new InputStreamReader(source),handler);
 	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.commons.rmf:rmf-core:0.2.1
+ *   Bundle      : rmf-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.rdf.impl;
+
+import org.ldp4j.rdf.spi.Configuration;
+
+public final class MarshallOptions {
+
+	/**
+	 * Write Turtle documents incrementally, instead of rendering the whole
+	 * document in memory before writing it.
+	 */
+	public static final String TURTLE_STREAMING="org.ldp4j.rdf.marshall.turtle_streaming";
+
+	/**
+	 * Maximum number of triples buffered for grouping them by subject when
+	 * writing Turtle documents incrementally.
+	 */
+	public static final String TURTLE_STREAMING_LOOKAHEAD="org.ldp4j.rdf.marshall.turtle_streaming_lookahead";
+
+	private static final int DEFAULT_LOOKAHEAD=1000;
+
+	private MarshallOptions() {
+	}
+
+	static boolean turtleStreaming(Configuration configuration) {
+		return configuration.getOption(TURTLE_STREAMING, Boolean.class, Boolean.FALSE);
+	}
+
+	static int turtleStreamingLookahead(Configuration configuration) {
+		return configuration.getOption(TURTLE_STREAMING_LOOKAHEAD, Integer.class, DEFAULT_LOOKAHEAD);
+	}
+
+}
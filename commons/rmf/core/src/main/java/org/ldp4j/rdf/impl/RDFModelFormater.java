@@ -31,6 +31,8 @@ import java.io.StringWriter;
 import java.io.Writer;
 import java.net.URI;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.ldp4j.rdf.BlankNode;
 import org.ldp4j.rdf.Format;
@@ -44,6 +46,7 @@ import org.ldp4j.rdf.URIRef;
 import org.ldp4j.rdf.sesame.TurtlePrettyPrinter;
 import org.openrdf.model.Statement;
 import org.openrdf.model.ValueFactory;
+import org.openrdf.model.impl.ValueFactoryImpl;
 import org.openrdf.repository.RepositoryConnection;
 import org.openrdf.repository.RepositoryException;
 import org.openrdf.rio.RDFFormat;
@@ -58,12 +61,17 @@ import org.openrdf.rio.helpers.JSONLDMode;
 import org.openrdf.rio.helpers.JSONLDSettings;
 import org.openrdf.rio.turtle.TurtleUtil;
 import org.openrdf.rio.turtle.TurtleWriter;
-import org.openrdf.sail.memory.model.MemValueFactory;
 
 final class RDFModelFormater {
 
 	private final class RebasingTurtleWriter extends TurtleWriter {
 
+		/**
+		 * Encoded relative form of the URIs already written, or the empty
+		 * string for those that cannot be relativized.
+		 */
+		private final Map<String,String> relativeURIs=new HashMap<String,String>();
+
 		private RebasingTurtleWriter(Writer writer) {
 			super(writer);
 		}
@@ -85,16 +93,25 @@ final class RDFModelFormater {
 		@Override
 		protected void writeURI(org.openrdf.model.URI uri)
 				throws IOException {
-			URI create = URI.create(uri.toString());
-			URI rel = baseURI.relativize(create);
-			if(!rel.isAbsolute()) {
+			String rel = relativize(uri.toString());
+			if(!rel.isEmpty()) {
 				writer.write("<");
-				writer.write(TurtleUtil.encodeURIString(rel.toString()));
+				writer.write(rel);
 				writer.write(">");
 			} else {
 				super.writeURI(uri);
 			}
 		}
+
+		private String relativize(String uri) {
+			String result=relativeURIs.get(uri);
+			if(result==null) {
+				URI rel = baseURI.relativize(URI.create(uri));
+				result=rel.isAbsolute()?"":TurtleUtil.encodeURIString(rel.toString());
+				relativeURIs.put(uri,result);
+			}
+			return result;
+		}
 	}
 
 	private static class TripleFormater {
@@ -102,12 +119,12 @@ final class RDFModelFormater {
 		private final class ObjectFormater extends NodeVisitor<org.openrdf.model.Value> {
 			@Override
 			public org.openrdf.model.Value visitURIRef(URIRef node, org.openrdf.model.Value defaultResult) {
-				return valueFactory.createURI(baseURI.resolve(node.getIdentity()).toString());
+				return formatURI(node.getIdentity());
 			}
 
 			@Override
 			public org.openrdf.model.Value visitBlankNode(BlankNode node, org.openrdf.model.Value defaultResult) {
-				return valueFactory.createBNode(node.getIdentity());
+				return formatBlankNode(node.getIdentity());
 			}
 
 			@Override
@@ -144,7 +161,7 @@ final class RDFModelFormater {
 			@Override
 			public org.openrdf.model.Value visitTypedLiteral(TypedLiteral<?> node, org.openrdf.model.Value defaultResult) {
 				URI type = node.getType().toURI();
-				return valueFactory.createLiteral(node.getValue().toString(),valueFactory.createURI(type.toString()));
+				return valueFactory.createLiteral(node.getValue().toString(),formatURI(type));
 			}
 
 		}
@@ -154,14 +171,14 @@ final class RDFModelFormater {
 			public org.openrdf.model.Resource visitURIRef(
 					URIRef node,
 					org.openrdf.model.Resource defaultResult) {
-				return valueFactory.createURI(baseURI.resolve(node.getIdentity()).toString());
+				return formatURI(node.getIdentity());
 			}
 
 			@Override
 			public org.openrdf.model.Resource visitBlankNode(
 					BlankNode node,
 					org.openrdf.model.Resource defaultResult) {
-				return valueFactory.createBNode(node.getIdentity());
+				return formatBlankNode(node.getIdentity());
 			}
 		}
 
@@ -170,11 +187,38 @@ final class RDFModelFormater {
 		private final ObjectFormater objectFormater;
 		private final URI baseURI;
 
+		/**
+		 * Terms already formatted during the serialization, keyed by their
+		 * identity, so that repeated terms are resolved only once.
+		 */
+		private final Map<URI,org.openrdf.model.URI> uris;
+		private final Map<String,org.openrdf.model.BNode> blankNodes;
+
 		public TripleFormater(URI baseURI) {
 			this.baseURI = baseURI;
-			this.valueFactory = new MemValueFactory();
+			this.valueFactory = ValueFactoryImpl.getInstance();
 			this.subjectFormater = new SubjectFormater();
 			this.objectFormater = new ObjectFormater();
+			this.uris=new HashMap<URI,org.openrdf.model.URI>();
+			this.blankNodes=new HashMap<String,org.openrdf.model.BNode>();
+		}
+
+		private org.openrdf.model.URI formatURI(URI identity) {
+			org.openrdf.model.URI result=uris.get(identity);
+			if(result==null) {
+				result=valueFactory.createURI(baseURI.resolve(identity).toString());
+				uris.put(identity,result);
+			}
+			return result;
+		}
+
+		private org.openrdf.model.BNode formatBlankNode(String identity) {
+			org.openrdf.model.BNode result=blankNodes.get(identity);
+			if(result==null) {
+				result=valueFactory.createBNode(identity);
+				blankNodes.put(identity,result);
+			}
+			return result;
 		}
 
 		public Statement formatTriple(Triple t) {
@@ -187,7 +231,7 @@ final class RDFModelFormater {
 		}
 
 		private org.openrdf.model.URI formatPredicate(URIRef predicate) {
-			return valueFactory.createURI(baseURI.resolve(predicate.getIdentity()).toString());
+			return formatURI(predicate.getIdentity());
 		}
 
 	}
@@ -195,6 +239,7 @@ final class RDFModelFormater {
 	private final URI baseURI;
 	private final Format format;
 	private final Namespaces namespaces;
+	private int streamingLookahead;
 
 	RDFModelFormater(URI baseURI, Namespaces namespaces, Format format) {
 		this.baseURI   =baseURI;
@@ -202,11 +247,24 @@ final class RDFModelFormater {
 		this.namespaces=new Namespaces(namespaces);
 	}
 
+	/**
+	 * Write Turtle documents incrementally, buffering at most
+	 * {@code lookahead} triples.
+	 */
+	RDFModelFormater enableStreaming(int lookahead) {
+		this.streamingLookahead=lookahead;
+		return this;
+	}
+
 	public String format(Iterable<Triple> triples) throws IOException {
 		StringWriter writer=new StringWriter();
+		format(triples,writer);
+		return writer.toString();
+	}
+
+	public void format(Iterable<Triple> triples, Writer writer) throws IOException {
 		try {
 			exportTriples(triples, createWriter(writer));
-			return writer.toString();
 		} catch (RDFHandlerException e) {
 			throw new IOException(e);
 		}
@@ -239,10 +297,14 @@ final class RDFModelFormater {
 		}
 	}
 
-	private RDFWriter createWriter(StringWriter writer) {
+	private RDFWriter createWriter(Writer writer) {
 		RDFWriter result=null;
 		if(format.equals(Format.TURTLE)) {
-			result=new TurtlePrettyPrinter(new MemValueFactory().createURI(baseURI.toString()),writer);
+			result=new TurtlePrettyPrinter(ValueFactoryImpl.getInstance().createURI(baseURI.toString()),writer);
+			if(streamingLookahead>0) {
+				result.getWriterConfig().set(TurtlePrettyPrinter.ENABLE_STREAMING,true);
+				result.getWriterConfig().set(TurtlePrettyPrinter.STREAMING_LOOKAHEAD,streamingLookahead);
+			}
 		} else {
 			RDFWriterRegistry registry=RDFWriterRegistry.getInstance();
 			RDFFormat rawFormat=Rio.getWriterFormatForMIMEType(format.getMime(),RDFFormat.RDFXML);
@@ -27,6 +27,7 @@
 package org.ldp4j.rdf.impl;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.net.URI;
 import java.util.ArrayList;
@@ -35,6 +36,7 @@ import java.util.List;
 import org.ldp4j.rdf.Format;
 import org.ldp4j.rdf.Namespaces;
 import org.ldp4j.rdf.Triple;
+import org.ldp4j.rdf.TripleHandler;
 import org.ldp4j.rdf.impl.UnmarshallOptions.Ordering;
 import org.ldp4j.rdf.impl.UnmarshallOptions.UnmarshallStyle;
 import org.ldp4j.rdf.util.TripleSet;
@@ -59,17 +61,15 @@ import org.slf4j.LoggerFactory;
 
 final class RDFModelParser {
 
-	private interface TripleSink {
+	private interface TripleSink extends TripleHandler {
 
 		Iterable<Triple> triples();
 
-		void addTriple(Triple triple);
-
 	}
 
 	private interface TripleProducer {
 
-		void injectTriples(TripleSink sink) throws IOException;
+		void injectTriples(TripleHandler handler) throws IOException;
 
 	}
 
@@ -82,7 +82,7 @@ final class RDFModelParser {
 		}
 
 		@Override
-		public void addTriple(Triple triple) {
+		public void handleTriple(Triple triple) {
 			triples.add(triple);
 		}
 	}
@@ -96,17 +96,17 @@ final class RDFModelParser {
 		}
 
 		@Override
-		public void addTriple(Triple triple) {
+		public void handleTriple(Triple triple) {
 			triples.add(triple);
 		}
 	}
 
 	private static final class RepositoryBasedTripleProducer implements TripleProducer {
-		private final String content;
+		private final Reader content;
 		private final RDFFormat format;
 		private final String base;
 
-		private RepositoryBasedTripleProducer(String content, RDFFormat format, String base) {
+		private RepositoryBasedTripleProducer(Reader content, RDFFormat format, String base) {
 			this.content = content;
 			this.format = format;
 			this.base = base;
@@ -148,21 +148,21 @@ final class RDFModelParser {
 			}
 		}
 
-		private void importRepository(RepositoryConnection connection, TripleSink sink) throws RepositoryException {
+		private void importRepository(RepositoryConnection connection, TripleHandler handler) throws RepositoryException {
 			RepositoryResult<Statement> statements = null;
 			try {
 				statements=connection.getStatements(null, null, null, false);
 				SesameModelParser tripleParser=new SesameModelParser(getNamespaces(connection));
 				while(statements.hasNext()) {
-					sink.addTriple(tripleParser.parseStatement(statements.next()));
+					handler.handleTriple(tripleParser.parseStatement(statements.next()));
 				}
 			} finally {
 				closeQuietly(statements, "Could not close results after parsing statements");
 			}
 		}
 
-		private void populateRepository(String content, RepositoryConnection connection) throws IOException, RDFParseException, RepositoryException {
-			connection.add(new StringReader(content), this.base, this.format);
+		private void populateRepository(Reader content, RepositoryConnection connection) throws IOException, RDFParseException, RepositoryException {
+			connection.add(content, this.base, this.format);
 		}
 
 		private Namespaces getNamespaces(RepositoryConnection connection) throws RepositoryException {
@@ -181,7 +181,7 @@ final class RDFModelParser {
 		}
 
 		@Override
-		public void injectTriples(TripleSink sink) throws IOException {
+		public void injectTriples(TripleHandler handler) throws IOException {
 			Repository repository = null;
 			RepositoryConnection connection=null;
 			try {
@@ -189,7 +189,7 @@ final class RDFModelParser {
 				repository.initialize();
 				connection=repository.getConnection();
 				populateRepository(this.content, connection);
-				importRepository(connection,sink);
+				importRepository(connection,handler);
 			} catch (OpenRDFException e) {
 				throw new IOException(e);
 			} finally {
@@ -201,14 +201,21 @@ final class RDFModelParser {
 
 	private static final class ParserBasedTripleProducer implements TripleProducer {
 
-		private static final class Collector implements RDFHandler {
+		/**
+		 * Converts each statement as soon as the parser reports it. The
+		 * namespaces are collected as they are declared, which is always
+		 * before they can be used by any statement.
+		 */
+		private static final class TripleGenerator implements RDFHandler {
 
-			private final List<Statement> statements;
 			private final Namespaces namespaces;
+			private final SesameModelParser tripleParser;
+			private final TripleHandler handler;
 
-			private Collector() {
-				this.namespaces = new Namespaces();
-				this.statements=new ArrayList<Statement>();
+			private TripleGenerator(TripleHandler handler) {
+				this.handler=handler;
+				this.namespaces=new Namespaces();
+				this.tripleParser=new SesameModelParser(this.namespaces);
 			}
 
 			@Override
@@ -223,12 +230,12 @@ final class RDFModelParser {
 
 			@Override
 			public void handleNamespace(String prefix, String uri) throws RDFHandlerException {
-				this.getNamespaces().addPrefix(prefix,uri);
+				this.namespaces.addPrefix(prefix,uri);
 			}
 
 			@Override
 			public void handleStatement(Statement st) throws RDFHandlerException {
-				this.getStatements().add(st);
+				this.handler.handleTriple(this.tripleParser.parseStatement(st));
 			}
 
 			@Override
@@ -236,36 +243,24 @@ final class RDFModelParser {
 				// Nothing to do
 			}
 
-			Namespaces getNamespaces() {
-				return this.namespaces;
-			}
-
-			List<Statement> getStatements() {
-				return this.statements;
-			}
 		}
 
-		private final String content;
+		private final Reader content;
 		private final RDFFormat format;
 		private final String base;
 
-		private ParserBasedTripleProducer(String content, RDFFormat format, String base) {
+		private ParserBasedTripleProducer(Reader content, RDFFormat format, String base) {
 			this.content = content;
 			this.format = format;
 			this.base = base;
 		}
 
 		@Override
-		public void injectTriples(TripleSink sink) throws IOException {
+		public void injectTriples(TripleHandler handler) throws IOException {
 			try {
-				Collector collector = new Collector();
 				RDFParser parser =Rio.createParser(this.format);
-				parser.setRDFHandler(collector);
-				parser.parse(new StringReader(this.content), this.base);
-				SesameModelParser tripleParser=new SesameModelParser(collector.getNamespaces());
-				for(Statement st:collector.getStatements()) {
-					sink.addTriple(tripleParser.parseStatement(st));
-				}
+				parser.setRDFHandler(new TripleGenerator(handler));
+				parser.parse(this.content, this.base);
 			} catch (OpenRDFException e) {
 				throw new IOException(e);
 			}
@@ -288,12 +283,16 @@ final class RDFModelParser {
 		this.ordering = ordering;
 	}
 
-	private TripleProducer getProducer(String content) {
-		RDFFormat sesameFormat =
+	private RDFFormat sesameFormat() {
+		return
 			Rio.
 				getParserFormatForMIMEType(
 					this.format.getMime(),
 					RDFFormat.TURTLE);
+	}
+
+	private TripleProducer getProducer(Reader content) {
+		RDFFormat sesameFormat=sesameFormat();
 		TripleProducer producer=null;
 		switch(unmarshallStyle) {
 			case PARSER_BASED:
@@ -324,9 +323,24 @@ final class RDFModelParser {
 	}
 
 	public Iterable<Triple> parse(final String content) throws IOException {
+		return parse(new StringReader(content));
+	}
+
+	public Iterable<Triple> parse(final Reader content) throws IOException {
 		TripleSink sink = getTripleSink();
 		TripleProducer producer = getProducer(content);
 		producer.injectTriples(sink);
 		return sink.triples();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Parse the content pushing each triple to the handler as soon as the
+	 * underlying parser reports it. Neither the configured unmarshalling
+	 * style nor the triple ordering apply: no intermediate repository or
+	 * statement list is created, and triples are handled in document order.
+	 */
+	public void parse(final Reader content, final TripleHandler handler) throws IOException {
+		new ParserBasedTripleProducer(content,sesameFormat(),this.baseURI.toString()).injectTriples(handler);
+	}
+
+}
@@ -32,9 +32,9 @@ import java.io.Reader;
 import java.io.Writer;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.ldp4j.rdf.Format;
 import org.ldp4j.rdf.spi.Marshaller;
@@ -51,15 +51,59 @@ public class RuntimeInstanceImpl extends RuntimeInstance {
 	private static final Logger LOGGER=LoggerFactory.getLogger(RuntimeInstance.class);
 	
 
-	private final Map<Class<?>, Transformer<?>> transformers;
+	/**
+	 * Per-type cache of the transformers resolved by this runtime instance.
+	 * Each type is resolved at most once per cache generation.
+	 */
+	private final class TransformerCache extends ClassValue<Transformer<?>> {
+
+		@Override
+		protected Transformer<?> computeValue(Class<?> type) {
+			return resolveTransformer(type);
+		}
+
+	}
+
+	/**
+	 * Explicit registrations only. The transformers resolved for types without
+	 * an explicit registration (either declared via {@link Transformable} or
+	 * inherited from a registered supertype) are kept in the
+	 * {@link TransformerCache} instead of being registered here, so that
+	 * resolving them does not invalidate the cache.
+	 */
+	private final ConcurrentMap<Class<?>, Transformer<?>> transformers;
+
+	/**
+	 * Registrations may change the transformer to use for any subtype of the
+	 * registered type, so a new cache is installed whenever a transformer is
+	 * registered.
+	 */
+	private volatile TransformerCache cache;
 
 	public RuntimeInstanceImpl() {
-		transformers=new HashMap<Class<?>, Transformer<?>>();
+		this.transformers=new ConcurrentHashMap<Class<?>, Transformer<?>>();
+		this.cache=new TransformerCache();
+	}
+
+	/**
+	 * Fixed-arity tracing helpers: no message is formatted and no argument
+	 * array is allocated unless tracing is enabled.
+	 */
+	private static void trace(String message, Object arg) {
+		if(LOGGER.isTraceEnabled()) {
+			LOGGER.trace(message,arg);
+		}
 	}
 
-	private static void trace(String format, Object... args) {
+	private static void trace(String message, Object arg1, Object arg2) {
 		if(LOGGER.isTraceEnabled()) {
-			LOGGER.trace(String.format(format,args));
+			LOGGER.trace(message,arg1,arg2);
+		}
+	}
+
+	private static void trace(String message, Object arg1, Object arg2, Object arg3) {
+		if(LOGGER.isTraceEnabled()) {
+			LOGGER.trace(message,arg1,arg2,arg3);
 		}
 	}
 
@@ -119,16 +163,16 @@ public class RuntimeInstanceImpl extends RuntimeInstance {
 
 	private <T> Transformer<T> getRegisteredTransformer(Class<? extends T> transformable) {
 		Transformer<T> result=null;
-		for(Entry<Class<?>,Transformer<?>> entry:transformers.entrySet()) {
+		for(Entry<Class<?>,Transformer<?>> entry:this.transformers.entrySet()) {
 			Class<?> registeredClass = entry.getKey();
 			if(registeredClass.isAssignableFrom(transformable)) {
-				trace("Found compatible transformer registered for type '%s' (%s).",transformable.getName(),registeredClass.getName());
+				trace("Found compatible transformer registered for type '{}' ({}).",transformable.getName(),registeredClass.getName());
 				try {
 					result=cast(entry.getValue(),transformable);
-					trace("Using registered transformer '%s' via type '%s'.",result.getClass().getName(),registeredClass.getName());
+					trace("Using registered transformer '{}' via type '{}'.",result.getClass().getName(),registeredClass.getName());
 					break;
 				} catch (IllegalArgumentException e) {
-					trace("Invalid transformer registration for type '%s'. Transformer '%s' does not support source class '%s'.",registeredClass.getName(),entry.getValue().getClass().getName(),transformable.getName());
+					trace("Invalid transformer registration for type '{}'. Transformer '{}' does not support source class '{}'.",registeredClass.getName(),entry.getValue().getClass().getName(),transformable.getName());
 					throw new IllegalStateException("Invalid transformer registration",e);
 				}
 			}
@@ -155,15 +199,15 @@ public class RuntimeInstanceImpl extends RuntimeInstance {
 	 */
 	private <T> Transformer<T> tryAnnotation(Class<? extends Transformer<?>> transformerImplementationClass, Class<? extends T> transformable, Class<?> clz) {
 		Transformer<T> transformer=null;
-		trace("Type '%s' is transformable via type '%s'.",transformable.getName(),clz.getName());
+		trace("Type '{}' is transformable via type '{}'.",transformable.getName(),clz.getName());
 		try {
 			if(!isValidTransformer(transformable, transformerImplementationClass)) {
 				throw new IllegalArgumentException("Not a valid transformer defined");
 			}
 			transformer=instantiateTransformerImplementation(transformerImplementationClass);
-			trace("Using declared transformer '"+transformer.getClass().getName()+"' via type '"+clz.getName()+"'.");
+			trace("Using declared transformer '{}' via type '{}'.",transformer.getClass().getName(),clz.getName());
 		} catch (IllegalArgumentException e) {
-			trace("Incompatible transformer declaration for type '"+clz.getClass().getName()+"'. Transformer class '"+transformerImplementationClass.getName()+"' does not support source class '"+transformable.getName()+"'.");
+			trace("Incompatible transformer declaration for type '{}'. Transformer class '{}' does not support source class '{}'.",clz.getClass().getName(),transformerImplementationClass.getName(),transformable.getName());
 			throw new IllegalStateException("Incompatible transformer declaration",e);
 		}
 		return transformer;
@@ -171,37 +215,42 @@ public class RuntimeInstanceImpl extends RuntimeInstance {
 
 	@Override
 	public <T> void registerTransformer(Class<? extends T> type, Transformer<T> transformer) {
-		trace("Registered transformer '"+transformer.getClass().getName()+"' for type '"+type.getName()+"'.");
-		transformers.put(type, transformer);
+		trace("Registered transformer '{}' for type '{}'.",transformer.getClass().getName(),type.getName());
+		this.transformers.put(type, transformer);
+		this.cache=new TransformerCache();
 	}
 
 	@Override
 	public <T> Transformer<T> findTransformer(Class<? extends T> transformable) {
-		trace("Requested transformer for source class '"+transformable.getName()+"'...");
+		@SuppressWarnings("unchecked")
+		Transformer<T> result=(Transformer<T>)this.cache.get(transformable);
+		return result;
+	}
+
+	private Transformer<?> resolveTransformer(Class<?> transformable) {
+		trace("Requested transformer for source class '{}'...",transformable.getName());
 
-		Transformer<?> tmp = transformers.get(transformable);
+		Transformer<?> tmp = this.transformers.get(transformable);
 		if(tmp!=null) {
-			trace("Using transformer '"+tmp.getClass().getName()+"' registered for type '"+transformable.getName()+"'.");
+			trace("Using transformer '{}' registered for type '{}'.",tmp.getClass().getName(),transformable.getName());
 			return cast(tmp,transformable);
 		}
-		
-		trace("No transformer registered for type '"+transformable.getName()+"'. Checking if type is transformable...");
-		Transformer<T> result=getTransformerFromAnnotation(transformable);
+
+		trace("No transformer registered for type '{}'. Checking if type is transformable...",transformable.getName());
+		Transformer<?> result=getTransformerFromAnnotation(transformable);
 		if(result!=null) {
-			registerTransformer(transformable, result);
 			return result;
 		}
 
-		trace("Type '"+transformable.getName()+"' is not transformable. Looking for compatible registered transformer...");
+		trace("Type '{}' is not transformable. Looking for compatible registered transformer...",transformable.getName());
 		result=getRegisteredTransformer(transformable);
 		if(result!=null) {
-			registerTransformer(transformable, result);
 			return result;
 		}
 
-		trace("No compatible transformer registered for type '"+transformable.getName()+"'.");
-		result=new NullTransformer<T>();
-		trace("Using default transformer '"+result.getClass().getName()+"'.");
+		trace("No compatible transformer registered for type '{}'.",transformable.getName());
+		result=new NullTransformer<Object>();
+		trace("Using default transformer '{}'.",result.getClass().getName());
 		return result;
 	}
 
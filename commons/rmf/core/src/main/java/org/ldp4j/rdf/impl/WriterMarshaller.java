@@ -49,8 +49,12 @@ final class WriterMarshaller implements Marshaller<Writer> {
 
 	@Override
 	public void marshall(Iterable<Triple> triples, Writer target) throws IOException {
-		String output = new RDFModelFormater(getConfiguration().getBase(),getConfiguration().getNamespaces(),getConfiguration().getFormat()).format(triples);
-		target.write(output);
+		RDFModelFormater formater=new RDFModelFormater(getConfiguration().getBase(),getConfiguration().getNamespaces(),getConfiguration().getFormat());
+		if(MarshallOptions.turtleStreaming(getConfiguration())) {
+			formater.enableStreaming(MarshallOptions.turtleStreamingLookahead(getConfiguration())).format(triples,target);
+		} else {
+			target.write(formater.format(triples));
+		}
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.commons.rmf:rmf-core:0.2.1
+ *   Bundle      : rmf-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.rdf.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.ldp4j.rdf.spi.Transformer;
+
+public class RuntimeInstanceImplTest {
+
+	private static final int THREADS = 8;
+	private static final int ITERATIONS = 1000;
+
+	private static final class Source {
+	}
+
+	private static final class Unrelated {
+	}
+
+	@Test
+	public void testResolvedTransformersAreCached() throws Exception {
+		RuntimeInstanceImpl sut=new RuntimeInstanceImpl();
+		Transformer<Source> first=sut.findTransformer(Source.class);
+		assertThat(first,notNullValue());
+		assertThat(sut.findTransformer(Source.class),sameInstance(first));
+	}
+
+	@Test
+	public void testRegistrationInvalidatesCache() throws Exception {
+		RuntimeInstanceImpl sut=new RuntimeInstanceImpl();
+		Transformer<Source> first=sut.findTransformer(Source.class);
+		sut.registerTransformer(Unrelated.class,new NullTransformer<Unrelated>());
+		Transformer<Source> second=sut.findTransformer(Source.class);
+		assertThat(second,not(sameInstance(first)));
+		assertThat(sut.findTransformer(Source.class),sameInstance(second));
+	}
+
+	@Test
+	public void testConcurrentRegistrationAndLookup() throws Exception {
+		final RuntimeInstanceImpl sut=new RuntimeInstanceImpl();
+		final CountDownLatch start=new CountDownLatch(1);
+		ExecutorService executor=Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<Integer>> results=new ArrayList<Future<Integer>>();
+			for(int i=0;i<THREADS;i++) {
+				final boolean register=i%2==0;
+				results.add(
+					executor.submit(
+						new Callable<Integer>() {
+							@Override
+							public Integer call() throws Exception {
+								start.await();
+								int found=0;
+								for(int j=0;j<ITERATIONS;j++) {
+									if(register) {
+										sut.registerTransformer(Unrelated.class,new NullTransformer<Unrelated>());
+									}
+									if(sut.findTransformer(Source.class)!=null) {
+										found++;
+									}
+								}
+								return found;
+							}
+						}
+					)
+				);
+			}
+			start.countDown();
+			for(Future<Integer> result:results) {
+				assertThat(result.get(30,TimeUnit.SECONDS),equalTo(ITERATIONS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
@@ -69,6 +69,20 @@ final class GraphRenderer {
 	String render() {
 		renderPrefixes();
 		renderBase();
+		renderIndividuals();
+		return builder.toString();
+	}
+
+	/**
+	 * Render the individuals of the graph, without the prefix and base
+	 * directives.
+	 */
+	String renderBody() {
+		renderIndividuals();
+		return builder.toString();
+	}
+
+	private void renderIndividuals() {
 		for(Individual individual:graph) {
 			if(!individual.isReference() && (disableFolding || !individual.isFoldable())) {
 				renderSubject(individual);
@@ -76,7 +90,6 @@ final class GraphRenderer {
 				renderNewLine();
 			}
 		}
-		return builder.toString();
 	}
 
 	/**
@@ -88,7 +101,7 @@ final class GraphRenderer {
 	
 	private void renderBase() {
 		if(base!=null) {
-			builder.append(NL).append("@base <"+base+"> .").append(NL);
+			builder.append(NL).append(baseDirective(base)).append(NL);
 		}
 	}
 
@@ -121,7 +134,7 @@ final class GraphRenderer {
 	private void renderPrefixes() {
 		SortedSet<String> prefixesDirectives=new TreeSet<String>();
 		for(Entry<String,String> entry:namespaces.entrySet()) {
-			prefixesDirectives.add(String.format("@prefix %s: <%s> .",entry.getValue(),entry.getKey()));
+			prefixesDirectives.add(prefixDirective(entry.getValue(),entry.getKey()));
 		}
 	
 		for(String directive:prefixesDirectives) {
@@ -129,6 +142,14 @@ final class GraphRenderer {
 		}
 	}
 
+	static String baseDirective(Resource base) {
+		return "@base <"+base+"> .";
+	}
+
+	static String prefixDirective(String prefix, String namespace) {
+		return String.format("@prefix %s: <%s> .",prefix,namespace);
+	}
+
 	private void renderPredicates(boolean anonymous, Individual individual) {
 		Iterator<URI> predicateIterator = individual.iterator();
 		while(predicateIterator.hasNext()) {
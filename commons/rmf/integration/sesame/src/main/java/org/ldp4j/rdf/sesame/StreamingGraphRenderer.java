@@ -0,0 +1,176 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.commons.rmf:integration-sesame:0.2.1
+ *   Bundle      : integration-sesame-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.rdf.sesame;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.openrdf.model.BNode;
+import org.openrdf.model.Resource;
+import org.openrdf.model.Statement;
+import org.openrdf.model.Value;
+
+/**
+ * Renders a stream of statements incrementally. Statements are grouped by
+ * subject within a window of at most {@code lookahead} statements; whenever
+ * the window overflows, the oldest groups are rendered and written out. <br>
+ * Prefix directives are written right before the first chunk that uses them,
+ * and blank node folding is only applied to the last chunk, and only if none
+ * of its blank nodes was already written in a previous chunk. Thus, documents
+ * that fit within the window are rendered exactly as the {@link GraphRenderer}
+ * would do.
+ */
+final class StreamingGraphRenderer {
+
+	private static final String NL = System.getProperty("line.separator");
+
+	private final Resource base;
+	private final PrintWriter out;
+	private final boolean enableFolding;
+	private final int lookahead;
+
+	private final Map<String,String> namespaces;
+	private final Map<String,String> renderedPrefixes;
+	private final Map<Resource,List<Statement>> pending;
+	private final Set<BNode> renderedBlankNodes;
+
+	private int pendingStatements;
+	private boolean headerRendered;
+
+	StreamingGraphRenderer(Resource base, PrintWriter out, boolean enableFolding, int lookahead) {
+		this.base = base;
+		this.out = out;
+		this.enableFolding = enableFolding;
+		this.lookahead = Math.max(1,lookahead);
+		this.namespaces=new HashMap<String,String>();
+		this.renderedPrefixes=new HashMap<String,String>();
+		this.pending=new LinkedHashMap<Resource,List<Statement>>();
+		this.renderedBlankNodes=new HashSet<BNode>();
+	}
+
+	void addNamespace(String prefix, String namespace) {
+		this.namespaces.put(namespace,prefix);
+	}
+
+	void add(Statement statement) {
+		List<Statement> group=this.pending.get(statement.getSubject());
+		if(group==null) {
+			group=new ArrayList<Statement>();
+			this.pending.put(statement.getSubject(),group);
+		}
+		group.add(statement);
+		this.pendingStatements++;
+		if(this.pendingStatements>this.lookahead) {
+			renderOldestGroups();
+		}
+	}
+
+	void finish() {
+		GraphImpl chunk=newChunk();
+		boolean folding=this.enableFolding;
+		for(List<Statement> group:this.pending.values()) {
+			for(Statement statement:group) {
+				add(chunk,statement);
+				folding&=!isRendered(statement.getSubject()) && !isRendered(statement.getObject());
+			}
+		}
+		this.pending.clear();
+		this.pendingStatements=0;
+		render(chunk,folding);
+	}
+
+	private void renderOldestGroups() {
+		GraphImpl chunk=newChunk();
+		Iterator<List<Statement>> iterator=this.pending.values().iterator();
+		while(iterator.hasNext() && this.pendingStatements>this.lookahead/2) {
+			List<Statement> group=iterator.next();
+			iterator.remove();
+			this.pendingStatements-=group.size();
+			for(Statement statement:group) {
+				add(chunk,statement);
+				markRendered(statement.getSubject());
+				markRendered(statement.getObject());
+			}
+		}
+		render(chunk,false);
+	}
+
+	private GraphImpl newChunk() {
+		GraphImpl chunk=new GraphImpl(this.base);
+		for(Entry<String,String> entry:this.namespaces.entrySet()) {
+			chunk.addNamespace(entry.getValue(),entry.getKey());
+		}
+		return chunk;
+	}
+
+	private void add(GraphImpl chunk, Statement statement) {
+		chunk.add(statement.getSubject(),statement.getPredicate(),statement.getObject());
+	}
+
+	private void markRendered(Value value) {
+		if(value instanceof BNode) {
+			this.renderedBlankNodes.add((BNode)value);
+		}
+	}
+
+	private boolean isRendered(Value value) {
+		return value instanceof BNode && this.renderedBlankNodes.contains(value);
+	}
+
+	private void render(GraphImpl chunk, boolean folding) {
+		SortedSet<String> directives=new TreeSet<String>();
+		for(Entry<String,String> entry:chunk.getNamespaces().entrySet()) {
+			String namespace=entry.getKey();
+			String prefix=entry.getValue();
+			if(!namespace.equals(this.renderedPrefixes.put(prefix,namespace))) {
+				directives.add(GraphRenderer.prefixDirective(prefix,namespace));
+			}
+		}
+		for(String directive:directives) {
+			this.out.append(directive).append(NL);
+		}
+		if(!this.headerRendered) {
+			if(this.base!=null) {
+				this.out.append(NL).append(GraphRenderer.baseDirective(this.base)).append(NL);
+			}
+			this.headerRendered=true;
+		}
+		this.out.append(new GraphRenderer(chunk,folding).renderBody());
+		this.out.flush();
+	}
+
+}
@@ -52,6 +52,18 @@ public final class TurtlePrettyPrinter implements RDFWriter {
 
 	public static final RioSetting<Boolean> ENABLE_FOLDING = new RioSettingImpl<Boolean>("org.ldp4j.rdf.sesame.turtle.folding", "Enable blank node folding", Boolean.TRUE);
 
+	/**
+	 * Write the statements incrementally instead of rendering the whole graph
+	 * once all the statements have been received.
+	 */
+	public static final RioSetting<Boolean> ENABLE_STREAMING = new RioSettingImpl<Boolean>("org.ldp4j.rdf.sesame.turtle.streaming", "Enable streaming", Boolean.FALSE);
+
+	/**
+	 * Maximum number of statements buffered for grouping them by subject when
+	 * streaming.
+	 */
+	public static final RioSetting<Integer> STREAMING_LOOKAHEAD = new RioSettingImpl<Integer>("org.ldp4j.rdf.sesame.turtle.streaming.lookahead", "Number of statements buffered when streaming", 1000);
+
 	private static final Logger LOGGER=LoggerFactory.getLogger(TurtlePrettyPrinter.class);
 
 	private static final List<RioSetting<?>> SUPPORTED_SETTINGS;
@@ -60,11 +72,14 @@ public final class TurtlePrettyPrinter implements RDFWriter {
 	private final long id=COUNTER.incrementAndGet();
 	private final PrintWriter out;
 	private GraphImpl graph;
+	private StreamingGraphRenderer renderer;
 	private String logPrefix;
 
 	static {
 		List<RioSetting<?>> tmp=new ArrayList<RioSetting<?>>();
 		tmp.add(ENABLE_FOLDING);
+		tmp.add(ENABLE_STREAMING);
+		tmp.add(STREAMING_LOOKAHEAD);
 		SUPPORTED_SETTINGS = Collections.unmodifiableList(tmp);
 	}
 	private final URI base;
@@ -92,7 +107,13 @@ public final class TurtlePrettyPrinter implements RDFWriter {
 	@Override
 	public void startRDF() throws RDFHandlerException {
 		trace("Started RDF processing...");
-		graph=new GraphImpl(base);
+		graph=null;
+		renderer=null;
+		if(writerConfig.get(ENABLE_STREAMING)) {
+			renderer=new StreamingGraphRenderer(base,out,writerConfig.get(ENABLE_FOLDING),writerConfig.get(STREAMING_LOOKAHEAD));
+		} else {
+			graph=new GraphImpl(base);
+		}
 	}
 
 	@Override
@@ -101,12 +122,20 @@ public final class TurtlePrettyPrinter implements RDFWriter {
 		URI predicate = st.getPredicate();
 		Value object = st.getObject();
 		trace("Added triple (%s,%s,%s).",subject,predicate,object);
-		graph.add(subject, predicate, object);
+		if(renderer!=null) {
+			renderer.add(st);
+		} else {
+			graph.add(subject, predicate, object);
+		}
 	}
 
 	@Override
 	public void handleNamespace(String prefix, String uri) throws RDFHandlerException {
-		graph.addNamespace(prefix, uri);
+		if(renderer!=null) {
+			renderer.addNamespace(prefix, uri);
+		} else {
+			graph.addNamespace(prefix, uri);
+		}
 		trace("Added prefix '%s' for namespace '%s'.",prefix,uri);
 	}
 
@@ -117,9 +146,15 @@ public final class TurtlePrettyPrinter implements RDFWriter {
 
 	@Override
 	public void endRDF() throws RDFHandlerException {
-		GraphRenderer renderer=new GraphRenderer(graph,writerConfig.get(ENABLE_FOLDING));
-		out.append(renderer.render());
-		out.flush();
+		if(renderer!=null) {
+			renderer.finish();
+		} else {
+			out.append(new GraphRenderer(graph,writerConfig.get(ENABLE_FOLDING)).render());
+			out.flush();
+		}
+		if(out.checkError()) {
+			throw new RDFHandlerException("Could not write the Turtle document");
+		}
 		trace("Completed RDF processing.");
 	}
 
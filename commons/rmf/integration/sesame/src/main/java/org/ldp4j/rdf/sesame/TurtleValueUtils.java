@@ -26,6 +26,7 @@
  */
 package org.ldp4j.rdf.sesame;
 
+import java.util.HashMap;
 import java.util.Map;
 
 import org.ldp4j.commons.net.URIUtils;
@@ -79,10 +80,12 @@ final class TurtleValueUtils {
 	private static final String ESCAPED_DOUBLE_QUOTES = "\"";
 	private final Map<String, String> namespaceTable;
 	private final URI base;
+	private final Map<URI,String> writtenURIs;
 
 	TurtleValueUtils(URI base, Map<String,String> namespaceTable) {
 		this.base = base;
 		this.namespaceTable = namespaceTable;
+		this.writtenURIs = new HashMap<URI,String>();
 	}
 
 
@@ -105,6 +108,15 @@ final class TurtleValueUtils {
 	}
 
 	private String writeURI(URI uri) {
+		String result=writtenURIs.get(uri);
+		if(result==null) {
+			result=formatURI(uri);
+			writtenURIs.put(uri,result);
+		}
+		return result;
+	}
+
+	private String formatURI(URI uri) {
 		String result=null;
 		String prefix=namespaceTable.get(uri.getNamespace());
 		if(prefix!=null) {
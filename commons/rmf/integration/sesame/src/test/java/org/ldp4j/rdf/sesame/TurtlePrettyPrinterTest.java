@@ -29,9 +29,12 @@ package org.ldp4j.rdf.sesame;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isEmptyString;
 import static org.hamcrest.Matchers.not;
 
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.net.URL;
 import java.util.ArrayList;
@@ -42,12 +45,16 @@ import org.junit.Test;
 import org.ldp4j.rdf.sesame.SesameUtils;
 import org.ldp4j.rdf.sesame.TurtlePrettyPrinter;
 import org.openrdf.model.BNode;
+import org.openrdf.model.Model;
 import org.openrdf.model.Resource;
 import org.openrdf.model.Statement;
 import org.openrdf.model.URI;
 import org.openrdf.model.Value;
 import org.openrdf.model.ValueFactory;
+import org.openrdf.model.util.ModelUtil;
 import org.openrdf.repository.RepositoryConnection;
+import org.openrdf.rio.RDFFormat;
+import org.openrdf.rio.Rio;
 import org.openrdf.sail.memory.model.MemValueFactory;
 
 public class TurtlePrettyPrinterTest extends AbstractRDFTestCase {
@@ -208,6 +215,56 @@ public class TurtlePrettyPrinterTest extends AbstractRDFTestCase {
 		assertThat(outWithBase.toString(),not(containsString(uriRef(NS2_NAMESPACE,URI2).toString())));
 	}
 
+	private List<Statement> containerStatements(int members) {
+		List<Statement> statements=new ArrayList<Statement>();
+		URI container=uri(BASE+"container");
+		for(int i=0;i<members;i++) {
+			URI member=uri(BASE+"member"+i);
+			BNode address=blankNode("address"+i);
+			statements.add(statement(container,uriRef(NS1_NAMESPACE,"contains"),member));
+			statements.add(statement(member,uriRef(NS2_NAMESPACE,"name"),vf.createLiteral("Member "+i)));
+			statements.add(statement(member,uriRef(NS2_NAMESPACE,"address"),address));
+			statements.add(statement(address,uriRef(NS2_NAMESPACE,"street"),vf.createLiteral("Street "+i)));
+		}
+		return statements;
+	}
+
+	private String prettyPrint(List<Statement> statements, boolean streaming, int lookahead) throws Exception {
+		StringWriter out=new StringWriter();
+		TurtlePrettyPrinter printer=new TurtlePrettyPrinter(vf.createURI(BASE),out);
+		printer.getWriterConfig().set(TurtlePrettyPrinter.ENABLE_STREAMING,streaming);
+		printer.getWriterConfig().set(TurtlePrettyPrinter.STREAMING_LOOKAHEAD,lookahead);
+		printer.startRDF();
+		printer.handleNamespace(NS1_PX1,NS1_NAMESPACE);
+		printer.handleNamespace(NS2_PX,NS2_NAMESPACE);
+		for(Statement statement:statements) {
+			printer.handleStatement(statement);
+		}
+		printer.endRDF();
+		return out.toString();
+	}
+
+	private Model parse(String turtle) throws Exception {
+		return Rio.parse(new StringReader(turtle),BASE,RDFFormat.TURTLE);
+	}
+
+	@Test
+	public void testStreaming$smallDocsAreRenderedAsWhenBuffering() throws Exception {
+		List<Statement> statements=containerStatements(3);
+		assertThat(prettyPrint(statements,true,1000),equalTo(prettyPrint(statements,false,1000)));
+	}
+
+	@Test
+	public void testStreaming$largeDocsKeepContent() throws Exception {
+		List<Statement> statements=containerStatements(50);
+		Model buffered=parse(prettyPrint(statements,false,1000));
+		String streamed=prettyPrint(statements,true,8);
+		assertThat(ModelUtil.equals(parse(streamed),buffered),is(true));
+		assertThat(streamed,containsString(prefixDirective(NS1_PX1, NS1_NAMESPACE)));
+		assertThat(streamed,containsString(prefixDirective(NS2_PX, NS2_NAMESPACE)));
+		assertThat(streamed,containsString(BASE_DIRECTIVE));
+	}
+
 	protected URL getExamplesResource() {
 		return ClassLoader.getSystemResource("corner_cases.ttl");
 	}
@@ -26,6 +26,8 @@
  */
 package org.ldp4j.rdf.sesame;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -77,4 +79,13 @@ public class TurtleValueUtilsTest {
 		System.out.println("Base as resource: "+sut.toString(vf.createURI(BASE.substring(0,BASE.length()-1))));
 	}
 
+	@Test
+	public void testToString$repeatedURIs() throws Exception {
+		String child=sut.toString(vf.createURI(BASE+"child"));
+		String term=sut.toString(vf.createURI("http://www.megatwork.org/vocabulary#term"));
+		assertThat(sut.toString(vf.createURI(BASE+"child")),equalTo(child));
+		assertThat(sut.toString(vf.createURI("http://www.megatwork.org/vocabulary#term")),equalTo(term));
+		assertThat(term,equalTo("sav:term"));
+	}
+
 }
@@ -0,0 +1,146 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.commons.rmf:rmf-query:0.2.1
+ *   Bundle      : rmf-query-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.rdf.impl.query;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.ldp4j.rdf.io.Metadata;
+import org.ldp4j.rdf.io.Module;
+import org.ldp4j.rdf.io.Source;
+import org.ldp4j.rdf.io.SourceVisitor;
+
+/**
+ * Identity of the contents of a module, used for detecting whether a module
+ * that has already been loaded has to be loaded again. <br>
+ * Two keys are equal if the modules have the same base, the same source
+ * metadata and the same source data. String contents are compared by value,
+ * whereas local files (including {@code file:} URLs and URIs) are compared by
+ * path, size and modification date. Remote contents cannot be checked for
+ * changes, and thus have no key. <br>
+ * Note that file changes are detected only through the size and the
+ * modification date of the file: a change that preserves the size and is
+ * made within the timestamp granularity of the file system (or that restores
+ * the modification date) goes unnoticed, and the stale graph is used.
+ */
+final class ModuleKey {
+
+	private static final class IdentityCollector implements SourceVisitor<RuntimeException> {
+
+		private Object[] identity;
+
+		@Override
+		public void visitFile(Source<File> source) {
+			this.identity=fileIdentity(source.getData());
+		}
+
+		@Override
+		public void visitURL(Source<URL> source) {
+			URL url=source.getData();
+			if("file".equalsIgnoreCase(url.getProtocol())) {
+				visitLocation(url.toString());
+			}
+		}
+
+		@Override
+		public void visitString(Source<String> source) {
+			this.identity=new Object[]{source.getData()};
+		}
+
+		@Override
+		public void visitURI(Source<URI> source) {
+			URI uri=source.getData();
+			if("file".equalsIgnoreCase(uri.getScheme())) {
+				visitLocation(uri.toString());
+			}
+		}
+
+		private void visitLocation(String location) {
+			try {
+				this.identity=fileIdentity(new File(URI.create(location)));
+			} catch (IllegalArgumentException e) {
+				this.identity=null;
+			}
+		}
+
+		private static Object[] fileIdentity(File file) {
+			File absolute=file.getAbsoluteFile();
+			return new Object[]{absolute,absolute.length(),absolute.lastModified()};
+		}
+
+	}
+
+	private final String base;
+	private final Metadata metadata;
+	private final Object[] identity;
+
+	private ModuleKey(String base, Metadata metadata, Object[] identity) {
+		this.base=base;
+		this.metadata=metadata;
+		this.identity=identity;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.base,this.metadata.getFormat(),this.metadata.getCharset(),Arrays.hashCode(this.identity));
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		boolean result=false;
+		if(obj instanceof ModuleKey) {
+			ModuleKey that=(ModuleKey)obj;
+			result=
+				Objects.equals(this.base,that.base) &&
+				Objects.equals(this.metadata.getFormat(),that.metadata.getFormat()) &&
+				Objects.equals(this.metadata.getCharset(),that.metadata.getCharset()) &&
+				Arrays.equals(this.identity,that.identity);
+		}
+		return result;
+	}
+
+	/**
+	 * Get the key of the current contents of a module, or {@code null} if
+	 * changes in the contents of the module cannot be detected.
+	 */
+	static ModuleKey of(Module<?> module) {
+		Source<?> source=module.getSource();
+		if(source==null || source.getData()==null || source.getMetadata()==null) {
+			return null;
+		}
+		IdentityCollector collector=new IdentityCollector();
+		source.accept(collector);
+		if(collector.identity==null) {
+			return null;
+		}
+		return new ModuleKey(module.getBase(),source.getMetadata(),collector.identity);
+	}
+
+}
@@ -32,34 +32,23 @@ import org.ldp4j.rdf.query.Query;
 import org.ldp4j.rdf.query.QueryResultBuilder;
 import org.ldp4j.rdf.query.QueryResultHandler;
 import org.ldp4j.rdf.query.SelectQuery;
-import org.openrdf.repository.RepositoryConnection;
 
 abstract class QueryExecutionStrategy<R,S> {
 
 	R execute(QuerySupport support) throws QueryExecutionException {
 		Objects.requireNonNull(support,"Query support cannot be null");
-		RepositoryConnection connection=support.getConnection();
-		Query<R, S> query = getQuery();
-		try {
-			QueryResultBuilder<R,S> builder = query.newResultBuilder();
-			doExecute(
-				connection,
-				getInstantiatedQuery(query,support),
-				builder.getHandler());
-			return builder.getResult();
-		} finally {
-			support.close(connection);
-		}
-	}
-
-	private String getInstantiatedQuery(Query<R, S> query, QuerySupport support) {
-		return query.getTemplate().instantiate(support.getUsedNamedGraphs());
+		QueryResultBuilder<R,S> builder = getQuery().newResultBuilder();
+		doExecute(
+			support,
+			support.instantiate(),
+			builder.getHandler());
+		return builder.getResult();
 	}
 
 	protected abstract Query<R,S> getQuery();
 
 	protected abstract void doExecute(
-			RepositoryConnection connection,
+			QuerySupport support,
 			String instantiatedQuery,
 			QueryResultHandler<S> handler)
 			throws QueryExecutionException;
@@ -72,7 +61,7 @@ abstract class QueryExecutionStrategy<R,S> {
 		} else {
 			strategy=new QueryExecutionStrategy<R,S>() {
 				@Override
-				protected void doExecute(RepositoryConnection connection,
+				protected void doExecute(QuerySupport support,
 						String instantiatedQuery, QueryResultHandler<S> handler)
 						throws QueryExecutionException {
 					throw new QueryExecutionException("Query type '"+query.getClass().getCanonicalName()+"' is not supported");
@@ -37,7 +37,11 @@ import org.ldp4j.rdf.query.QueryTemplate;
 import org.ldp4j.rdf.sesame.ContentProcessingException;
 import org.ldp4j.rdf.sesame.SesameUtils;
 import org.ldp4j.rdf.sesame.SesameUtilsException;
+import org.openrdf.model.Resource;
 import org.openrdf.model.URI;
+import org.openrdf.query.MalformedQueryException;
+import org.openrdf.query.QueryLanguage;
+import org.openrdf.query.TupleQuery;
 import org.openrdf.repository.Repository;
 import org.openrdf.repository.RepositoryConnection;
 import org.openrdf.repository.RepositoryException;
@@ -47,6 +51,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
+/**
+ * Repository where the graphs required by a query template are loaded. <br>
+ * The support can be reused for evaluating the template several times:
+ * graphs whose module has not changed since it was loaded are not loaded
+ * again, and the instantiated query is only prepared once as long as the
+ * loaded graphs do not change. Instances are not thread-safe.
+ */
 final class QuerySupport {
 
 	private static final String TEMPLATE_PARAM = "Template cannot be null";
@@ -65,11 +76,27 @@ final class QuerySupport {
 
 	private final AtomicLong graphCounter;
 
+	/**
+	 * Keys of the modules loaded for each graph. The default graph, when not
+	 * named, is registered with the {@code null} key.
+	 */
+	private final Map<String,ModuleKey> loadedModules;
+
+	private final Map<String,TupleQuery> preparedQueries;
+
+	private RepositoryConnection queryConnection;
+
+	private Map<String,String> instantiatedGraphs;
+
+	private String instantiatedQuery;
+
 	private QuerySupport(Repository tmpRepo, QueryTemplate template) {
 		this.repository=tmpRepo;
 		this.template = template;
 		this.loadedGraphs=new HashMap<String,URI>();
 		this.graphCounter=new AtomicLong();
+		this.loadedModules=new HashMap<String,ModuleKey>();
+		this.preparedQueries=new HashMap<String,TupleQuery>();
 	}
 
 	private boolean isReady() {
@@ -83,12 +110,20 @@ final class QuerySupport {
 	}
 
 	private <T> void loadGraph(String graphName, Module<T> module) throws InvalidContentsException {
+		ModuleKey key=ModuleKey.of(module);
+		if(key!=null && key.equals(loadedModules.get(graphName))) {
+			return;
+		}
+		boolean loaded=false;
 		RepositoryConnection connection=getConnection();
 		try {
 			URI newCtx=null;
 			if(graphName!=null) {
 				newCtx=nextContext(connection,graphName,module.getBase());
+			} else if(loadedModules.containsKey(null)) {
+				connection.clear((Resource)null);
 			}
+			loadedModules.remove(graphName);
 			SesameUtils.loadModule(connection,module,newCtx);
 			if(graphName!=null) {
 				URI previousCtx=loadedGraphs.put(graphName, newCtx);
@@ -96,6 +131,8 @@ final class QuerySupport {
 					connection.clear(previousCtx);
 				}
 			}
+			loadedModules.put(graphName,key);
+			loaded=true;
 		} catch (ContentProcessingException e) {
 			throw new InvalidContentsException("The contents provided could not be loaded",e,graphName,module);
 		} catch (RepositoryException e) {
@@ -104,6 +141,9 @@ final class QuerySupport {
 			throw new QueryTemplateSupportFailure(e);
 		} finally {
 			close(connection);
+			if(!loaded) {
+				clear();
+			}
 		}
 	}
 
@@ -140,6 +180,7 @@ final class QuerySupport {
 			connection=getConnection();
 			connection.clear();
 			loadedGraphs.clear();
+			loadedModules.clear();
 			graphCounter.set(0);
 			result=true;
 		} catch (QueryTemplateSupportFailure e) {
@@ -154,6 +195,9 @@ final class QuerySupport {
 
 	boolean dispose() {
 		boolean result = true;
+		preparedQueries.clear();
+		close(queryConnection);
+		queryConnection=null;
 		if(repository.isInitialized()) {
 			try {
 				repository.shutDown();
@@ -176,6 +220,37 @@ final class QuerySupport {
 		return result;
 	}
 
+	/**
+	 * Instantiate the template for the graphs currently loaded. The
+	 * instantiation is reused until a different set of graphs is loaded.
+	 */
+	String instantiate() {
+		Map<String,String> usedGraphs=getUsedNamedGraphs();
+		if(!usedGraphs.equals(instantiatedGraphs)) {
+			instantiatedQuery=template.instantiate(usedGraphs);
+			instantiatedGraphs=usedGraphs;
+		}
+		return instantiatedQuery;
+	}
+
+	/**
+	 * Get a tuple query for an instantiated query, preparing it only the
+	 * first time it is requested. Prepared queries are discarded once the
+	 * graphs they refer to are reloaded.
+	 */
+	TupleQuery prepareTupleQuery(String query) throws MalformedQueryException, RepositoryException {
+		TupleQuery result=preparedQueries.get(query);
+		if(result==null) {
+			if(queryConnection==null) {
+				queryConnection=getConnection();
+			}
+			preparedQueries.clear();
+			result=queryConnection.prepareTupleQuery(QueryLanguage.SPARQL,query);
+			preparedQueries.put(query,result);
+		}
+		return result;
+	}
+
 	void close(RepositoryConnection connection) {
 		if(connection==null) {
 			return;
@@ -39,11 +39,9 @@ import org.ldp4j.rdf.sesame.SesameModelParser;
 import org.openrdf.query.BindingSet;
 import org.openrdf.query.MalformedQueryException;
 import org.openrdf.query.QueryEvaluationException;
-import org.openrdf.query.QueryLanguage;
 import org.openrdf.query.TupleQuery;
 import org.openrdf.query.TupleQueryResultHandler;
 import org.openrdf.query.TupleQueryResultHandlerException;
-import org.openrdf.repository.RepositoryConnection;
 import org.openrdf.repository.RepositoryException;
 
 final class SelectQueryExecutionStrategy<R> extends QueryExecutionStrategy<R,Map<String,Node>>{
@@ -117,16 +115,12 @@ final class SelectQueryExecutionStrategy<R> extends QueryExecutionStrategy<R,Map
 
 	@Override
 	protected void doExecute(
-			RepositoryConnection connection,
+			QuerySupport support,
 			String instantiatedQuery,
 			QueryResultHandler<Map<String, Node>> handler)
 			throws QueryExecutionException {
 		try {
-			TupleQuery preparedQuery=
-			connection.
-				prepareTupleQuery(
-					QueryLanguage.SPARQL,
-					instantiatedQuery);
+			TupleQuery preparedQuery=support.prepareTupleQuery(instantiatedQuery);
 			TupleQueryResultHandler adapter=new TupleQueryResultHandlerAdapter(handler);
 			preparedQuery.evaluate(adapter);
 		} catch (MalformedQueryException e) {
@@ -26,6 +26,9 @@
  */
 package org.ldp4j.rdf.impl.query;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 import org.ldp4j.rdf.io.Module;
 import org.ldp4j.rdf.query.DataSet;
 import org.ldp4j.rdf.query.Query;
@@ -33,17 +36,57 @@ import org.ldp4j.rdf.query.QueryProcessingException;
 import org.ldp4j.rdf.query.QueryProcessor;
 import org.ldp4j.rdf.query.QueryTemplate;
 
+/**
+ * Query processor that evaluates the query in an in-memory Sesame
+ * repository. <br>
+ * Repositories are kept between invocations, so that the graphs of the data
+ * sets are only loaded again when their modules change (see
+ * {@link ModuleKey} for the limits of the change detection), and the query
+ * is only prepared once. Concurrent invocations use different repositories,
+ * and up to one idle repository per available processor is kept for later
+ * invocations. The repositories are released when the processor is
+ * disposed.
+ */
 public final class SesameQueryProcessor<R,S> implements QueryProcessor<R,S> {
 
+	private static final int MAX_IDLE_SUPPORTS=Runtime.getRuntime().availableProcessors();
+
 	private final Query<R,S> query;
 
+	private final Deque<QuerySupport> idleSupports;
+
 	public SesameQueryProcessor(Query<R,S> query) {
 		this.query = query;
+		this.idleSupports=new ArrayDeque<QuerySupport>();
 	}
-	
-	private QuerySupport getSupport(QueryTemplate template,DataSet dataSets) throws QueryProcessingException {
+
+	/**
+	 * Get the most recently used idle support, which is the one most likely
+	 * to have the data sets already loaded.
+	 */
+	private QuerySupport acquireSupport(QueryTemplate template) {
+		QuerySupport support=null;
+		synchronized(idleSupports) {
+			support=idleSupports.pollFirst();
+		}
+		if(support==null) {
+			support=QuerySupport.newInstance(template);
+		}
+		return support;
+	}
+
+	private void releaseSupport(QuerySupport support) {
+		synchronized(idleSupports) {
+			if(idleSupports.size()<MAX_IDLE_SUPPORTS) {
+				idleSupports.offerFirst(support);
+				return;
+			}
+		}
+		support.dispose();
+	}
+
+	private void loadDataSets(QuerySupport support, QueryTemplate template, DataSet dataSets) throws QueryProcessingException {
 		try {
-			QuerySupport support=QuerySupport.newInstance(template);
 			support.addDefaultGraph(dataSets.getDefaultGraph());
 			for(String graphName:template.getRequiredNamedGraphs()) {
 				Module<?> namedGraph = dataSets.getNamedGraph(graphName);
@@ -52,7 +95,6 @@ public final class SesameQueryProcessor<R,S> implements QueryProcessor<R,S> {
 				}
 				support.addNamedGraph(graphName, namedGraph);
 			}
-			return support;
 		} catch (InvalidContentsException e) {
 			throw new QueryProcessingException(e);
 		}
@@ -60,13 +102,30 @@ public final class SesameQueryProcessor<R,S> implements QueryProcessor<R,S> {
 
 	@Override
 	public R process(DataSet dataSets) throws QueryProcessingException {
-		QuerySupport support = getSupport(query.getTemplate(),dataSets);
+		QueryTemplate template=query.getTemplate();
+		QuerySupport support=acquireSupport(template);
 		try {
+			loadDataSets(support,template,dataSets);
 			return QueryExecutionStrategy.createStrategy(query).execute(support);
 		} catch (QueryExecutionException e) {
 			throw new QueryProcessingException(e);
 		} finally {
-			support.dispose();
+			releaseSupport(support);
+		}
+	}
+
+	/**
+	 * {@inheritDoc} <br>
+	 * Only the idle repositories are released: the repositories in use by
+	 * concurrent invocations will be released by the next disposal.
+	 */
+	@Override
+	public void dispose() {
+		synchronized(idleSupports) {
+			for(QuerySupport support:idleSupports) {
+				support.dispose();
+			}
+			idleSupports.clear();
 		}
 	}
 
@@ -33,4 +33,10 @@ public interface QueryProcessor<R,S> {
 	
 	R process(DataSet dataSets) throws QueryProcessingException;
 
+	/**
+	 * Release the resources used for processing the query. The processor
+	 * can still be used afterwards, at the cost of acquiring them again.
+	 */
+	void dispose();
+
 }
\ No newline at end of file
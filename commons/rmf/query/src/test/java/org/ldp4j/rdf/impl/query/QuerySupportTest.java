@@ -0,0 +1,130 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.commons.rmf:rmf-query:0.2.1
+ *   Bundle      : rmf-query-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.rdf.impl.query;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.IOException;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.ldp4j.rdf.io.Module;
+import org.ldp4j.rdf.io.ModuleFactory;
+import org.ldp4j.rdf.query.QueryBuilder;
+import org.openrdf.model.URI;
+import org.openrdf.model.ValueFactory;
+import org.openrdf.query.TupleQuery;
+import org.openrdf.repository.RepositoryConnection;
+import org.openrdf.repository.RepositoryException;
+
+public class QuerySupportTest {
+
+	private static final String BASE="http://www.example.org/entities/";
+
+	private static final String MARKER="http://www.example.org/marker";
+
+	private QuerySupport sut;
+
+	private String data;
+
+	@Before
+	public void setUp() throws Exception {
+		sut=
+			QuerySupport.newInstance(
+				QueryBuilder.
+					newSelectQuery().
+						withTemplate(loadResource("relaxed_valid_query_template.sparql")).
+						build(null).
+						getTemplate());
+		data=loadResource("valid_query_data.ttl");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		sut.dispose();
+	}
+
+	/**
+	 * Add a statement to the default graph which is only kept as long as the
+	 * graph is not loaded again.
+	 */
+	private void addMarker() throws RepositoryException {
+		RepositoryConnection connection=sut.getConnection();
+		try {
+			ValueFactory factory=connection.getValueFactory();
+			URI marker=factory.createURI(MARKER);
+			connection.add(marker,marker,marker);
+		} finally {
+			sut.close(connection);
+		}
+	}
+
+	private boolean hasMarker() throws RepositoryException {
+		RepositoryConnection connection=sut.getConnection();
+		try {
+			URI marker=connection.getValueFactory().createURI(MARKER);
+			return connection.hasStatement(marker,marker,marker,false);
+		} finally {
+			sut.close(connection);
+		}
+	}
+
+	@Test
+	public void testUnchangedModuleIsNotLoadedAgain() throws Exception {
+		sut.addDefaultGraph(ModuleFactory.create(BASE,data));
+		addMarker();
+		sut.addDefaultGraph(ModuleFactory.create(BASE,data));
+		assertThat(hasMarker(),equalTo(true));
+	}
+
+	@Test
+	public void testChangedModuleIsLoadedAgain() throws Exception {
+		sut.addDefaultGraph(ModuleFactory.create(BASE,data));
+		addMarker();
+		sut.addDefaultGraph(ModuleFactory.create(BASE,data+"\n"));
+		assertThat(hasMarker(),equalTo(false));
+	}
+
+	@Test
+	public void testPreparedQueryIsReused() throws Exception {
+		Module<String> module=ModuleFactory.create(BASE,data);
+		sut.addDefaultGraph(module);
+		TupleQuery first=sut.prepareTupleQuery(sut.instantiate());
+		sut.addDefaultGraph(module);
+		TupleQuery second=sut.prepareTupleQuery(sut.instantiate());
+		assertThat(second,sameInstance(first));
+	}
+
+	private String loadResource(String resource) throws IOException {
+		return IOUtils.toString(ClassLoader.getSystemResource("org/ldp4j/rdf/query/"+resource));
+	}
+
+}
@@ -30,6 +30,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.fail;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -147,7 +148,11 @@ public class SesameQueryProcessorTest {
 		public Map<String,List<String>> getUsedResources(String base, String source) throws QueryProcessingException {
 			return queryProcessor.process(ImmutableDataSet.newInstance().withDefaultGraph(ModuleFactory.create(base, source)));
 		}
-		
+
+		public void dispose() {
+			queryProcessor.dispose();
+		}
+
 	}
 	
 	@Before
@@ -169,6 +174,29 @@ public class SesameQueryProcessorTest {
 		sut.getUsedResources("http://www.example.org/entities/",loadResource("invalid_query_data.ttl"));
 	}
 
+	@Test
+	public void testParse$repeatedInferences() throws Exception {
+		String base="http://www.example.org/entities/";
+		String valid=loadResource("valid_query_data.ttl");
+		Map<String, List<String>> first = sut.getUsedResources(base,valid);
+		Map<String, List<String>> second = sut.getUsedResources(base,valid);
+		assertThat(second,equalTo(first));
+		try {
+			sut.getUsedResources(base,loadResource("invalid_query_data.ttl"));
+			fail("Changed contents should have been loaded");
+		} catch (QueryProcessingException e) {
+			// Expected failure
+		}
+		verifyInference(sut.getUsedResources(base,valid));
+		sut.dispose();
+		verifyInference(sut.getUsedResources(base,valid));
+	}
+
+	private void verifyInference(Map<String, List<String>> result) {
+		assertThat(result.size(),equalTo(1));
+		assertThat(result.values().iterator().next(),hasItems("http://www.example.org/entities/dataSet1","http://www.example.org/entities/vocabulary1"));
+	}
+
 	private String loadResource(String resource) throws IOException {
 		return IOUtils.toString(ClassLoader.getSystemResource("org/ldp4j/rdf/query/"+resource));
 	}
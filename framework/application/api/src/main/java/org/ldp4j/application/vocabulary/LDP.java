@@ -156,6 +156,19 @@ public final class LDP extends AbstractImmutableVocabulary<ImmutableTerm> {
 	 */
 	public static final Term CONSTRAINED_BY;
 
+	/**
+	 * PAGE_SEQUENCE
+	 * <p>
+	 * {@code http://www.w3.org/ns/ldp#pageSequence}.
+	 * <p>
+	 * Links a paged resource with the sequence of in-sequence page resources
+	 * that are used to retrieve its representation.
+	 *
+	 * @see <a
+	 *      href="http://www.w3.org/ns/ldp#pageSequence">ldp:pageSequence</a>
+	 */
+	public static final Term PAGE_SEQUENCE;
+
 	/* ---------------------------------------------------------------------- */
 	/* CLASSES                                                                */
 	/* ---------------------------------------------------------------------- */
@@ -247,6 +260,18 @@ public final class LDP extends AbstractImmutableVocabulary<ImmutableTerm> {
 	 */
 	public static final Term INDIRECT_CONTAINER;
 
+	/**
+	 * PAGE
+	 * <p>
+	 * {@code http://www.w3.org/ns/ldp#Page}.
+	 * <p>
+	 * A resource whose representation is a subset of the representation of a
+	 * paged resource.
+	 *
+	 * @see <a href="http://www.w3.org/ns/ldp#Page">ldp:Page</a>
+	 */
+	public static final Term PAGE;
+
 	/* ---------------------------------------------------------------------- */
 	/* INDIVIDUALS                                                            */
 	/* ---------------------------------------------------------------------- */
@@ -335,6 +360,7 @@ public final class LDP extends AbstractImmutableVocabulary<ImmutableTerm> {
 		IS_MEMBER_OF_RELATION=term("isMemberOfRelation");
 		INSERTED_CONTENT_RELATION=term("insertedContentRelation");
 		CONSTRAINED_BY=term("constrainedBy");
+		PAGE_SEQUENCE=term("pageSequence");
 		// Initialize classes
 		RESOURCE=term("Resource");
 		NON_RDF_SOURCE=term("NonRDFSource");
@@ -343,6 +369,7 @@ public final class LDP extends AbstractImmutableVocabulary<ImmutableTerm> {
 		BASIC_CONTAINER=term("BasicContainer");
 		DIRECT_CONTAINER=term("DirectContainer");
 		INDIRECT_CONTAINER=term("IndirectContainer");
+		PAGE=term("Page");
 		// Initialize individuals
 		MEMBER_SUBJECT=term("MemberSubject");
 		PREFER_CONTAINMENT=term("PreferContainment");
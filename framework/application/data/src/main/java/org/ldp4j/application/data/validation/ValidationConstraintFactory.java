@@ -121,7 +121,7 @@ public final class ValidationConstraintFactory {
 
 	}
 
-	private static class MandatoryPropertyValuesValidationConstraint implements ValidationConstraint<Property> {
+	private static class MandatoryPropertyValuesValidationConstraint implements ValidationConstraint<Property>, PropertyConstraintScope {
 
 		private final Object individualId;
 		private final URI predicate;
@@ -137,6 +137,16 @@ public final class ValidationConstraintFactory {
 			this(individualId,predicate,Arrays.asList(values));
 		}
 
+		@Override
+		public URI predicate() {
+			return this.predicate;
+		}
+
+		@Override
+		public Object individualId() {
+			return this.individualId;
+		}
+
 		@Override
 		public boolean mustBeChecked() {
 			return this.individualId!=null && !this.values.isEmpty();
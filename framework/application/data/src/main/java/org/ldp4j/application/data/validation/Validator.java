@@ -26,10 +26,12 @@
  */
 package org.ldp4j.application.data.validation;
 
+import java.net.URI;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.ldp4j.application.data.DataSet;
@@ -39,7 +41,10 @@ import org.ldp4j.application.data.Property;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 import static com.google.common.base.Preconditions.*;
@@ -91,12 +96,72 @@ public final class Validator {
 
 	}
 
+	/**
+	 * Index of the property validation constraints, which dispatches each
+	 * property to the constraints scoped to its predicate and individual,
+	 * the constraints scoped to its predicate for any individual, and the
+	 * constraints without a known scope.
+	 */
+	private static final class PropertyConstraintIndex {
+
+		private static final class PredicateConstraints {
+
+			private final ListMultimap<Object,ValidationConstraint<Property>> byIndividual=ArrayListMultimap.create();
+			private final List<ValidationConstraint<Property>> anyIndividual=Lists.newArrayList();
+
+		}
+
+		private final Map<URI,PredicateConstraints> byPredicate=Maps.newHashMap();
+		private final List<ValidationConstraint<Property>> unscoped=Lists.newArrayList();
+
+		private PropertyConstraintIndex(Collection<ValidationConstraint<Property>> constraints) {
+			for(ValidationConstraint<Property> constraint:constraints) {
+				if(constraint instanceof PropertyConstraintScope) {
+					PropertyConstraintScope scope=(PropertyConstraintScope)constraint;
+					PredicateConstraints predicateConstraints=this.byPredicate.get(scope.predicate());
+					if(predicateConstraints==null) {
+						predicateConstraints=new PredicateConstraints();
+						this.byPredicate.put(scope.predicate(),predicateConstraints);
+					}
+					if(scope.individualId()==null) {
+						predicateConstraints.anyIndividual.add(constraint);
+					} else {
+						predicateConstraints.byIndividual.put(scope.individualId(),constraint);
+					}
+				} else {
+					this.unscoped.add(constraint);
+				}
+			}
+		}
+
+		private List<List<ValidationConstraint<Property>>> constraintsOf(Property property) {
+			List<List<ValidationConstraint<Property>>> result=Lists.newArrayListWithCapacity(3);
+			PredicateConstraints predicateConstraints=this.byPredicate.get(property.predicate());
+			if(predicateConstraints!=null) {
+				List<ValidationConstraint<Property>> individualConstraints=predicateConstraints.byIndividual.get(property.individual().id());
+				if(!individualConstraints.isEmpty()) {
+					result.add(individualConstraints);
+				}
+				if(!predicateConstraints.anyIndividual.isEmpty()) {
+					result.add(predicateConstraints.anyIndividual);
+				}
+			}
+			if(!this.unscoped.isEmpty()) {
+				result.add(this.unscoped);
+			}
+			return result;
+		}
+
+	}
+
 	private final Collection<ValidationConstraint<DataSet>> dataSetVC;
 	private final Collection<ValidationConstraint<Individual<?,?>>> individualVC;
 	private final Collection<ValidationConstraint<Property>> propertyVC;
 
 	private final Set<ValidationConstraint<?>> checkedVC;
 
+	private PropertyConstraintIndex propertyIndex;
+
 	private Validator() {
 		this.dataSetVC=Lists.newArrayList();
 		this.individualVC=Lists.newArrayList();
@@ -109,11 +174,11 @@ public final class Validator {
 		ValidationReportImpl report=new ValidationReportImpl();
 		processValidationConstraints(dataSet, report);
 		verifyValidationConstraints(report);
-		if(LOGGER.isInfoEnabled()) {
+		if(LOGGER.isDebugEnabled()) {
 			if(report.isValid()) {
-				LOGGER.info("Validation completed succesfully");
+				LOGGER.debug("Validation completed succesfully");
 			} else {
-				LOGGER.info("Validation failed: {} violations found",report.validationFailures().size());
+				LOGGER.debug("Validation failed: {} violations found",report.validationFailures().size());
 			}
 		}
 		return report;
@@ -127,11 +192,20 @@ public final class Validator {
 		for(Individual<?,?> individual:dataSet) {
 			verifyConstraints(individual,this.individualVC,report);
 			for(Property property:individual) {
-				verifyConstraints(property,this.propertyVC,report);
+				for(List<ValidationConstraint<Property>> constraints:propertyIndex().constraintsOf(property)) {
+					verifyConstraints(property,constraints,report);
+				}
 			}
 		}
 	}
 
+	private PropertyConstraintIndex propertyIndex() {
+		if(this.propertyIndex==null) {
+			this.propertyIndex=new PropertyConstraintIndex(this.propertyVC);
+		}
+		return this.propertyIndex;
+	}
+
 	private void verifyValidationConstraints(ValidationReportImpl report) {
 		if(LOGGER.isDebugEnabled()) {
 			LOGGER.debug("Started verifying validation constraints...");
@@ -203,6 +277,11 @@ public final class Validator {
 
 	private void setPropertyValidationConstraints(Collection<ValidationConstraint<Property>> constraints) {
 		this.propertyVC.addAll(constraints);
+		this.propertyIndex=null;
+	}
+
+	private void compile() {
+		propertyIndex();
 	}
 
 	public static ValidatorBuilder builder() {
@@ -233,6 +312,7 @@ public final class Validator {
 		}
 
 		public Validator build() {
+			this.helper.compile();
 			return this.helper;
 		}
 
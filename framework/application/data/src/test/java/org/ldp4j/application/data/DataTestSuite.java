@@ -29,6 +29,7 @@ package org.ldp4j.application.data;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
+import org.ldp4j.application.data.validation.ValidatorTest;
 
 @RunWith(Suite.class)
 @SuiteClasses({
@@ -44,6 +45,7 @@ import org.junit.runners.Suite.SuiteClasses;
 	LiteralAdapterTest.class,
 	LiteralValueExtractorTest.class,
 	IndividualExtractorTest.class,
+	ValidatorTest.class,
 })
 public class DataTestSuite {
 
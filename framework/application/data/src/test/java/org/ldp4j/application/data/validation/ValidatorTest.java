@@ -0,0 +1,150 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-data:0.2.1
+ *   Bundle      : ldp4j-application-data-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.data.validation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.net.URI;
+import java.util.List;
+
+import org.junit.Test;
+import org.ldp4j.application.data.DataSet;
+import org.ldp4j.application.data.DataSets;
+import org.ldp4j.application.data.Literals;
+import org.ldp4j.application.data.ManagedIndividual;
+import org.ldp4j.application.data.ManagedIndividualId;
+import org.ldp4j.application.data.NamingScheme;
+import org.ldp4j.application.data.Property;
+
+import com.google.common.collect.Lists;
+
+public class ValidatorTest {
+
+	private static final URI TITLE = URI.create("http://purl.org/dc/terms/title");
+	private static final URI CREATOR = URI.create("http://purl.org/dc/terms/creator");
+
+	private static final ManagedIndividualId FIRST = ManagedIndividualId.createId(NamingScheme.getDefault().name("first"),"template");
+	private static final ManagedIndividualId SECOND = ManagedIndividualId.createId(NamingScheme.getDefault().name("second"),"template");
+
+	private static final class RecordingConstraint implements ValidationConstraint<Property> {
+
+		private final List<URI> predicates=Lists.newArrayList();
+
+		@Override
+		public ValidationLog validate(Property item) {
+			this.predicates.add(item.predicate());
+			return ValidationConstraintFactory.mandatoryPropertyValues(item.predicate()).validate(item);
+		}
+
+		@Override
+		public boolean mustBeChecked() {
+			return false;
+		}
+
+		@Override
+		public ValidationFailure uncheckedFailure() {
+			return null;
+		}
+
+	}
+
+	private DataSet dataSet() {
+		DataSet dataSet=DataSets.createDataSet(NamingScheme.getDefault().name("dataSet"));
+		ManagedIndividual first=dataSet.individual(FIRST,ManagedIndividual.class);
+		first.addValue(TITLE,Literals.newLiteral("first"));
+		first.addValue(CREATOR,Literals.newLiteral("creator"));
+		ManagedIndividual second=dataSet.individual(SECOND,ManagedIndividual.class);
+		second.addValue(TITLE,Literals.newLiteral("second"));
+		return dataSet;
+	}
+
+	@Test
+	public void testIndividualScopedConstraintOnlyAppliesToItsIndividual() throws Exception {
+		ValidationReport report=
+			Validator.
+				builder().
+					withPropertyConstraint(ValidationConstraintFactory.readOnlyProperty(FIRST,TITLE,Literals.newLiteral("first"))).
+					withPropertyConstraint(ValidationConstraintFactory.readOnlyProperty(SECOND,TITLE,Literals.newLiteral("second"))).
+					build().
+					validate(dataSet());
+		assertThat(report.isValid(),equalTo(true));
+	}
+
+	@Test
+	public void testIndividualScopedConstraintDetectsChanges() throws Exception {
+		ValidationReport report=
+			Validator.
+				builder().
+					withPropertyConstraint(ValidationConstraintFactory.readOnlyProperty(SECOND,TITLE,Literals.newLiteral("other"))).
+					build().
+					validate(dataSet());
+		assertThat(report.isValid(),equalTo(false));
+		assertThat(report.validationFailures(),hasSize(1));
+	}
+
+	@Test
+	public void testUncheckedIndividualScopedConstraint() throws Exception {
+		ManagedIndividualId missing=ManagedIndividualId.createId(NamingScheme.getDefault().name("missing"),"template");
+		ValidationReport report=
+			Validator.
+				builder().
+					withPropertyConstraint(ValidationConstraintFactory.mandatoryPropertyValues(missing,TITLE,Literals.newLiteral("missing"))).
+					build().
+					validate(dataSet());
+		assertThat(report.isValid(),equalTo(false));
+		assertThat(report.validationFailures(),hasSize(1));
+	}
+
+	@Test
+	public void testPredicateScopedConstraintAppliesToEveryIndividual() throws Exception {
+		ValidationReport report=
+			Validator.
+				builder().
+					withPropertyConstraint(ValidationConstraintFactory.readOnlyProperty(TITLE,Literals.newLiteral("first"))).
+					build().
+					validate(dataSet());
+		assertThat(report.isValid(),equalTo(false));
+		assertThat(report.validationFailures(),hasSize(1));
+	}
+
+	@Test
+	public void testUnscopedConstraintAppliesToEveryProperty() throws Exception {
+		RecordingConstraint constraint=new RecordingConstraint();
+		ValidationReport report=
+			Validator.
+				builder().
+					withPropertyConstraint(constraint).
+					withPropertyConstraint(ValidationConstraintFactory.readOnlyProperty(CREATOR,Literals.newLiteral("creator"))).
+					build().
+					validate(dataSet());
+		assertThat(report.isValid(),equalTo(true));
+		assertThat(constraint.predicates,hasSize(3));
+	}
+
+}
@@ -27,6 +27,7 @@
 package org.ldp4j.application.engine.context;
 
 import org.ldp4j.application.engine.lifecycle.ApplicationLifecycleListener;
+import org.ldp4j.application.engine.lifecycle.EndpointLifecycleListener;
 import org.ldp4j.application.ext.Namespaces;
 
 public interface ApplicationContext {
@@ -43,4 +44,8 @@ public interface ApplicationContext {
 
 	void deregisterApplicationLifecycleListener(ApplicationLifecycleListener listener);
 
+	void registerEndpointLifecycleListener(EndpointLifecycleListener listener);
+
+	void deregisterEndpointLifecycleListener(EndpointLifecycleListener listener);
+
 }
\ No newline at end of file
@@ -36,6 +36,17 @@ public interface ApplicationContextOperation {
 
 	PublicResource resolveResource(String path);
 
+	/**
+	 * Resolve the resource published at the longest path among the
+	 * specified path and its directory prefixes.
+	 *
+	 * @param path
+	 *            the path to resolve
+	 * @return the resource published at the longest matching path, or
+	 *         {@code null} if no resource matches.
+	 */
+	PublicResource resolveResourceOfLongestPrefix(String path);
+
 	PublicResource resolveResource(ManagedIndividualId id);
 
 	void dispose();
@@ -0,0 +1,69 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-engine-api:0.2.1
+ *   Bundle      : ldp4j-application-engine-api-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.engine.context;
+
+import org.ldp4j.application.data.DataSet;
+
+/**
+ * A page of the representation of a container. The page includes the
+ * container's own data and metadata, but only the containment and membership
+ * triples of the members that belong to the page.
+ */
+public interface ContainerPage {
+
+	/**
+	 * The cursor that identifies the page.
+	 *
+	 * @return the cursor used for retrieving the page
+	 */
+	long cursor();
+
+	/**
+	 * The representation of the page.
+	 *
+	 * @return the data set with the page contents
+	 */
+	DataSet entity();
+
+	/**
+	 * Whether or not there are more members after the ones included in this
+	 * page.
+	 *
+	 * @return {@code true} if there is a next page, {@code false} otherwise
+	 */
+	boolean hasNext();
+
+	/**
+	 * The cursor that identifies the next page.
+	 *
+	 * @return the cursor of the next page
+	 * @throws IllegalStateException
+	 *             if there is no next page
+	 */
+	long nextCursor();
+
+}
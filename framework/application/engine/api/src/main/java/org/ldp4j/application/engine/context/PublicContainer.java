@@ -34,6 +34,34 @@ public interface PublicContainer extends PublicRDFSource {
 
 	Collection<PublicResource> members();
 
+	/**
+	 * Retrieve a page of the container representation.
+	 *
+	 * @param contentPreferences
+	 *            the preferences to use for populating the page
+	 * @param cursor
+	 *            the cursor of the page to retrieve. Use {@code 0} to retrieve
+	 *            the first page
+	 * @param pageSize
+	 *            the maximum number of members to include in the page
+	 * @return the requested page
+	 * @throws ApplicationExecutionException
+	 *             if the application fails to retrieve the container data
+	 */
+	ContainerPage page(ContentPreferences contentPreferences, long cursor, int pageSize)
+			throws ApplicationExecutionException;
+
+	/**
+	 * Find out whether the container has more members than the specified
+	 * number, without retrieving all of them.
+	 *
+	 * @param count
+	 *            the number of members to check
+	 * @return {@code true} if the container has more than {@code count}
+	 *         members, {@code false} otherwise
+	 */
+	boolean hasMoreMembersThan(int count);
+
 	/**
 	 * Create a resource using the specified data set and preferences.
 	 *
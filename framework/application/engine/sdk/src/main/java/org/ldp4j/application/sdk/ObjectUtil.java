@@ -31,11 +31,11 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Iterator;
-import java.util.Map;
 import java.util.Map.Entry;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.ldp4j.application.ext.ObjectTransformationException;
 import org.ldp4j.application.sdk.internal.EnumObjectFactory;
@@ -45,9 +45,6 @@ import org.ldp4j.application.sdk.spi.ObjectFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
-
 final class ObjectUtil {
 
 	/**
@@ -93,8 +90,19 @@ final class ObjectUtil {
 
 	private static final Logger LOGGER=LoggerFactory.getLogger(ObjectUtil.class);
 
-	private static final Map<Class<?>,ObjectFactory<?>> FACTORY_CACHE=Maps.newIdentityHashMap();
-	private static final Set<Class<?>> PRELOADED_FACTORIES=Sets.newIdentityHashSet();
+	/**
+	 * Registry of object factories. The factories provided via the
+	 * {@link ServiceLoader} mechanism are discovered once, when the class is
+	 * initialized. The default factories of the rest of the value classes
+	 * are created and cached upon their first use, including the factories
+	 * that reject unsupported value classes, so lookups never block nor
+	 * trigger discovery again.
+	 */
+	private static final ConcurrentMap<Class<?>,ObjectFactory<?>> FACTORY_CACHE=new ConcurrentHashMap<Class<?>,ObjectFactory<?>>();
+
+	static {
+		discoverObjectFactories();
+	}
 
 	private ObjectUtil() {
 	}
@@ -130,60 +138,45 @@ final class ObjectUtil {
 	}
 
 	@SuppressWarnings("unchecked")
-	private static synchronized <T> ObjectFactory<T> findObjectFactory(final Class<? extends T> valueClass) {
+	private static <T> ObjectFactory<T> findObjectFactory(final Class<? extends T> valueClass) {
 		ObjectFactory<?> rawResult=FACTORY_CACHE.get(valueClass);
 		if(rawResult==null) {
-			debug("No cached factory found for value class '{}'",valueClass);
-			rawResult=discoverObjectFactory(valueClass);
-			if(rawResult==null) {
-				debug("No factory discovered for value class '{}'",valueClass);
-				rawResult=prepareDefaultObjectFactory(valueClass);
-			}
+			debug("No factory found for value class '{}'",valueClass);
+			rawResult=prepareDefaultObjectFactory(valueClass);
 		}
 		return (ObjectFactory<T>)rawResult;
 	}
 
-	private static <T> ObjectFactory<?> discoverObjectFactory(final Class<? extends T> valueClass) {
-		ObjectFactory<?> result=null;
+	private static void discoverObjectFactories() {
 		@SuppressWarnings("rawtypes")
 		ServiceLoader<ObjectFactory> loader=ServiceLoader.load(ObjectFactory.class);
 		@SuppressWarnings("rawtypes")
 		Iterator<ObjectFactory> it = loader.iterator();
-		do {
+		while(hasNextObjectFactory(it)) {
 			try {
-				result=processObjectFactory(valueClass,(ObjectFactory<?>)it.next());
+				processObjectFactory((ObjectFactory<?>)it.next());
 			} catch (ServiceConfigurationError e) {
 				LOGGER.error("ObjectFactory configuration failure. Full stacktrace follows",e);
 			}
-		} while(result==null && it.hasNext());
-		return result;
+		}
 	}
 
-	private static <T> ObjectFactory<?> processObjectFactory(final Class<? extends T> valueClass, ObjectFactory<?> candidate) {
-		ObjectFactory<?> result=null;
-		if(PRELOADED_FACTORIES.contains(candidate.getClass())) {
-			trace("Discarded cached factory '{}' for value class '{}'",candidate.getClass(),valueClass);
-		} else {
-			Class<?> targetClass = candidate.targetClass();
-			if(FACTORY_CACHE.containsKey(targetClass)) {
-				warn("Discarded clashing factory '{}' for value class '{}'",candidate.getClass(),valueClass);
-			} else {
-				cacheObjectFactory(candidate);
-				if(targetClass==valueClass) {
-					result=candidate;
-					debug("Found factory '{}' for value class '{}'",candidate.getClass(),valueClass);
-				} else {
-					trace("Discarded factory '{}': target class '{}' does not match value class '{}'",candidate.getClass(),targetClass,valueClass);
-				}
-			}
+	private static boolean hasNextObjectFactory(@SuppressWarnings("rawtypes") Iterator<ObjectFactory> it) {
+		try {
+			return it.hasNext();
+		} catch (ServiceConfigurationError e) {
+			LOGGER.error("ObjectFactory discovery failure. Full stacktrace follows",e);
+			return false;
 		}
-		return result;
 	}
 
-	private static void cacheObjectFactory(final ObjectFactory<?> candidate) {
-		FACTORY_CACHE.put(candidate.targetClass(),candidate);
-		PRELOADED_FACTORIES.add(candidate.getClass());
-		trace("Cached factory '{}' for value class '{}'",candidate.getClass(),candidate.targetClass());
+	private static void processObjectFactory(ObjectFactory<?> candidate) {
+		Class<?> targetClass = candidate.targetClass();
+		if(FACTORY_CACHE.putIfAbsent(targetClass,candidate)!=null) {
+			warn("Discarded clashing factory '{}' for value class '{}'",candidate.getClass(),targetClass);
+		} else {
+			trace("Cached factory '{}' for value class '{}'",candidate.getClass(),targetClass);
+		}
 	}
 
 	@SuppressWarnings("unchecked")
@@ -198,7 +191,10 @@ final class ObjectUtil {
 		} else {
 			result=createConventionObjectFactory(valueClass);
 		}
-		FACTORY_CACHE.put(valueClass,result);
+		ObjectFactory<?> previous=FACTORY_CACHE.putIfAbsent(valueClass,result);
+		if(previous!=null) {
+			return previous;
+		}
 		trace("Cached default factory '{}' for value class '{}'",result.getClass(),valueClass);
 		return result;
 	}
@@ -26,6 +26,10 @@
  */
 package org.ldp4j.application.sdk.internal;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 import org.ldp4j.application.sdk.spi.ObjectFactory;
@@ -34,12 +38,28 @@ import org.ldp4j.application.sdk.spi.ObjectParseException;
 public final class ReflectionObjectFactory<T> implements ObjectFactory<T> {
 
 	private final Class<? extends T> valueClass;
-	private final Method method;
+	private final MethodHandle handle;
 
 	public ReflectionObjectFactory(Class<? extends T> valueClass, Method method) {
 		this.valueClass = valueClass;
-		this.method = method;
-		this.method.setAccessible(true);
+		this.handle = unreflect(method);
+	}
+
+	/**
+	 * Resolve the factory method once so that parsing does not pay the
+	 * access checks and argument boxing of {@link Method#invoke}.
+	 */
+	private static MethodHandle unreflect(Method method) {
+		method.setAccessible(true);
+		try {
+			return
+				MethodHandles.
+					lookup().
+						unreflect(method).
+							asType(MethodType.methodType(Object.class,String.class));
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Could not access factory method "+method,e);
+		}
 	}
 
 	@Override
@@ -49,9 +69,18 @@ public final class ReflectionObjectFactory<T> implements ObjectFactory<T> {
 
 	@Override
 	public T fromString(String rawValue) {
+		Object result=null;
+		try {
+			result=this.handle.invokeExact(rawValue);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable t) {
+			// Only exceptions get here: the factory method failed to parse the value
+			throw new ObjectParseException(new InvocationTargetException(t),targetClass(),rawValue);
+		}
 		try {
-			return targetClass().cast(this.method.invoke(null, rawValue));
-		} catch (Exception e) {
+			return targetClass().cast(result);
+		} catch (ClassCastException e) {
 			throw new ObjectParseException(e,targetClass(),rawValue);
 		}
 	}
@@ -37,7 +37,13 @@ import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
@@ -224,6 +230,39 @@ public class ObjectUtilTest {
 		}
 	}
 
+	@Test
+	public void rejectUnsupportedTypes$repeatedLookups() {
+		for(int i=0;i<3;i++) {
+			assertThat(ObjectUtil.isSupported(NotPublicNorStaticConventionMethod.class),equalTo(false));
+		}
+	}
+
+	@Test
+	public void testConcurrentLookups() throws Exception {
+		ExecutorService executor=Executors.newFixedThreadPool(4);
+		try {
+			List<Future<FromStringType>> results=Lists.newArrayList();
+			for(int i=0;i<32;i++) {
+				results.add(
+					executor.submit(
+						new Callable<FromStringType>() {
+							@Override
+							public FromStringType call() throws Exception {
+								return ObjectUtil.fromString(FromStringType.class,ObjectUtil.toString(new FromStringType(CustomType.VALUE1)));
+							}
+						}
+					)
+				);
+			}
+			for(Future<FromStringType> result:results) {
+				assertThat(result.get(),equalTo(new FromStringType(CustomType.VALUE1)));
+			}
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(5,TimeUnit.SECONDS);
+		}
+	}
+
 	@Test
 	public void rejectUnsupportedTypes$toStringFailure() {
 		try {
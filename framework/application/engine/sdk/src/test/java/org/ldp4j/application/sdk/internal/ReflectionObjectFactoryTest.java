@@ -48,6 +48,10 @@ public class ReflectionObjectFactoryTest {
 		throw new IllegalStateException("failure");
 	}
 
+	public static void broken(String value) {
+		throw new AssertionError("failure");
+	}
+
 	@Before
 	public void setUp() throws Exception {
 		this.sut=new ReflectionObjectFactory<ReflectionObjectFactoryTest>(ReflectionObjectFactoryTest.class,getClass().getDeclaredMethod("valueOf",String.class));
@@ -71,4 +75,11 @@ public class ReflectionObjectFactoryTest {
 		}
 	}
 
+	@Test(expected=AssertionError.class)
+	public void testFromStringDoesNotWrapErrors() throws Exception {
+		ReflectionObjectFactory<ReflectionObjectFactoryTest> factory=
+			new ReflectionObjectFactory<ReflectionObjectFactoryTest>(ReflectionObjectFactoryTest.class,getClass().getDeclaredMethod("broken",String.class));
+		factory.fromString("data");
+	}
+
 }
@@ -0,0 +1,250 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-api:0.2.1
+ *   Bundle      : ldp4j-application-kernel-api-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.constraints;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.TimeUnit;
+
+import org.ldp4j.application.data.constraints.Constraints;
+import org.ldp4j.application.data.constraints.Constraints.Shape;
+import org.ldp4j.application.engine.context.HttpRequest;
+import org.ldp4j.application.engine.context.HttpRequest.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.primitives.Ints;
+
+/**
+ * Retention policy of the constraint reports kept by a
+ * {@link ConstraintReportRepository}. The policy bounds the number of reports
+ * kept per resource, the age of the reports and the estimated size (in
+ * bytes) of the reports. A limit of zero means that the corresponding
+ * dimension is not bounded. <br>
+ * By default reports are kept forever, as in previous versions: retention is
+ * enabled by configuring any of the limits using the following system
+ * properties:
+ * <ul>
+ * <li>{@value #MAX_REPORTS_PER_RESOURCE} (default: not bounded)</li>
+ * <li>{@value #MAX_AGE} in milliseconds (default: not bounded)</li>
+ * <li>{@value #MAX_BYTES} (default: not bounded)</li>
+ * <li>{@value #SWEEP_INTERVAL} in milliseconds (default: {@value #DEFAULT_SWEEP_INTERVAL})</li>
+ * </ul>
+ */
+public final class ConstraintReportRetentionPolicy {
+
+	static final String MAX_REPORTS_PER_RESOURCE = "org.ldp4j.application.kernel.constraints.retention.maxReportsPerResource";
+	static final String MAX_AGE                  = "org.ldp4j.application.kernel.constraints.retention.maxAge";
+	static final String MAX_BYTES                = "org.ldp4j.application.kernel.constraints.retention.maxBytes";
+	static final String SWEEP_INTERVAL           = "org.ldp4j.application.kernel.constraints.retention.sweepInterval";
+
+	static final int  DEFAULT_MAX_REPORTS_PER_RESOURCE = 0;
+	static final long DEFAULT_MAX_AGE                  = 0L;
+	static final long DEFAULT_MAX_BYTES                = 0L;
+	static final long DEFAULT_SWEEP_INTERVAL           = 60000L;
+
+	/**
+	 * Rough storage estimates (in bytes) of the parts of a report whose size
+	 * does not depend on the length of its strings.
+	 */
+	private static final long REPORT_OVERHEAD     = 512L;
+	private static final long HEADER_OVERHEAD     = 64L;
+	private static final long SHAPE_OVERHEAD      = 256L;
+	private static final long CONSTRAINT_OVERHEAD = 512L;
+
+	private static final Logger LOGGER=LoggerFactory.getLogger(ConstraintReportRetentionPolicy.class);
+
+	private final int maxReportsPerResource;
+	private final long maxAge;
+	private final long maxBytes;
+	private final long sweepInterval;
+
+	private ConstraintReportRetentionPolicy(int maxReportsPerResource, long maxAge, long maxBytes, long sweepInterval) {
+		this.maxReportsPerResource=maxReportsPerResource;
+		this.maxAge=maxAge;
+		this.maxBytes=maxBytes;
+		this.sweepInterval=sweepInterval;
+	}
+
+	/**
+	 * Maximum number of reports kept per resource, or zero if not bounded.
+	 */
+	public int maxReportsPerResource() {
+		return this.maxReportsPerResource;
+	}
+
+	/**
+	 * Maximum age (in milliseconds) of the reports kept, or zero if not
+	 * bounded.
+	 */
+	public long maxAge() {
+		return this.maxAge;
+	}
+
+	/**
+	 * Maximum size (in bytes) of the reports kept, or zero if not bounded.
+	 */
+	public long maxBytes() {
+		return this.maxBytes;
+	}
+
+	/**
+	 * Period (in milliseconds) with which expired reports are evicted in
+	 * the background.
+	 */
+	public long sweepInterval() {
+		return this.sweepInterval;
+	}
+
+	public boolean isBounded() {
+		return this.maxReportsPerResource>0 || this.maxAge>0 || this.maxBytes>0;
+	}
+
+	public boolean exceedsReportsPerResource(int reports) {
+		return this.maxReportsPerResource>0 && reports>this.maxReportsPerResource;
+	}
+
+	public boolean exceedsBytes(long bytes) {
+		return this.maxBytes>0 && bytes>this.maxBytes;
+	}
+
+	public boolean isExpired(ConstraintReport report, long now) {
+		return this.maxAge>0 && report.getDate()!=null && now-report.getDate().getTime()>this.maxAge;
+	}
+
+	/**
+	 * Oldest report creation date (in milliseconds) that is not expired at
+	 * the specified instant, or {@link Long#MIN_VALUE} if reports never
+	 * expire.
+	 */
+	public long expirationThreshold(long now) {
+		return this.maxAge>0?now-this.maxAge:Long.MIN_VALUE;
+	}
+
+	public ConstraintReportRetentionPolicy withMaxReportsPerResource(int maxReportsPerResource) {
+		checkArgument(maxReportsPerResource>=0,"Maximum reports per resource cannot be negative (%s)",maxReportsPerResource);
+		return new ConstraintReportRetentionPolicy(maxReportsPerResource,this.maxAge,this.maxBytes,this.sweepInterval);
+	}
+
+	public ConstraintReportRetentionPolicy withMaxAge(long maxAge, TimeUnit unit) {
+		checkArgument(maxAge>=0,"Maximum age cannot be negative (%s)",maxAge);
+		checkNotNull(unit,"Time unit cannot be null");
+		return new ConstraintReportRetentionPolicy(this.maxReportsPerResource,unit.toMillis(maxAge),this.maxBytes,this.sweepInterval);
+	}
+
+	public ConstraintReportRetentionPolicy withMaxBytes(long maxBytes) {
+		checkArgument(maxBytes>=0,"Maximum bytes cannot be negative (%s)",maxBytes);
+		return new ConstraintReportRetentionPolicy(this.maxReportsPerResource,this.maxAge,maxBytes,this.sweepInterval);
+	}
+
+	public ConstraintReportRetentionPolicy withSweepInterval(long sweepInterval, TimeUnit unit) {
+		checkArgument(sweepInterval>0,"Sweep interval must be positive (%s)",sweepInterval);
+		checkNotNull(unit,"Time unit cannot be null");
+		return new ConstraintReportRetentionPolicy(this.maxReportsPerResource,this.maxAge,this.maxBytes,unit.toMillis(sweepInterval));
+	}
+
+	@Override
+	public String toString() {
+		return
+			MoreObjects.
+				toStringHelper(getClass()).
+					add("maxReportsPerResource",this.maxReportsPerResource).
+					add("maxAge",this.maxAge).
+					add("maxBytes",this.maxBytes).
+					add("sweepInterval",this.sweepInterval).
+					toString();
+	}
+
+	/**
+	 * Estimate the storage required by a report from the length of its
+	 * request and the number of constraints it holds. The report is not
+	 * serialized, so the estimate is cheap to compute but only approximates
+	 * the actual storage used.
+	 */
+	public static long sizeOf(ConstraintReport report) {
+		checkNotNull(report,"Constraint report cannot be null");
+		long size=REPORT_OVERHEAD;
+		HttpRequest request=report.getRequest();
+		if(request!=null) {
+			size+=length(request.absolutePath())+length(request.host())+length(request.body());
+			for(Header header:request.headers()) {
+				size+=HEADER_OVERHEAD+length(header.name())+length(header.rawValue());
+			}
+		}
+		Constraints constraints=report.getConstraints();
+		if(constraints!=null) {
+			for(Shape shape:constraints.shapes()) {
+				int shapeConstraints=shape.propertyConstraints().size()+shape.inversePropertyConstraints().size();
+				size+=SHAPE_OVERHEAD+CONSTRAINT_OVERHEAD*shapeConstraints;
+			}
+		}
+		return size;
+	}
+
+	private static long length(String value) {
+		return value==null?0:value.length();
+	}
+
+	/**
+	 * A policy that keeps every report.
+	 */
+	public static ConstraintReportRetentionPolicy unbounded() {
+		return new ConstraintReportRetentionPolicy(0,0,0,DEFAULT_SWEEP_INTERVAL);
+	}
+
+	/**
+	 * The policy configured through the system properties.
+	 */
+	public static ConstraintReportRetentionPolicy fromSystemProperties() {
+		return
+			new ConstraintReportRetentionPolicy(
+				Ints.saturatedCast(longProperty(MAX_REPORTS_PER_RESOURCE,DEFAULT_MAX_REPORTS_PER_RESOURCE,0)),
+				longProperty(MAX_AGE,DEFAULT_MAX_AGE,0),
+				longProperty(MAX_BYTES,DEFAULT_MAX_BYTES,0),
+				longProperty(SWEEP_INTERVAL,DEFAULT_SWEEP_INTERVAL,1));
+	}
+
+	private static long longProperty(String property, long defaultValue, long minimum) {
+		String rawValue=System.getProperty(property);
+		if(rawValue==null) {
+			return defaultValue;
+		}
+		try {
+			long value=Long.parseLong(rawValue.trim());
+			if(value>=minimum) {
+				return value;
+			}
+		} catch (NumberFormatException e) {
+			// Fall through to the warning
+		}
+		LOGGER.warn("Invalid value for property '{}' ({}): using default value {}",property,rawValue,defaultValue);
+		return defaultValue;
+	}
+
+}
@@ -0,0 +1,188 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-api:0.2.1
+ *   Bundle      : ldp4j-application-kernel-api-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.constraints;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Lock-free counters of the evictions carried out by the constraint report
+ * repositories when enforcing the {@link ConstraintReportRetentionPolicy}.
+ * The statistics are registered in the platform MBean server as
+ * {@value #OBJECT_NAME} when the {@value #RETENTION_METRICS} system property
+ * is set to {@value #JMX}.
+ */
+public final class ConstraintReportRetentionStatistics implements ConstraintReportRetentionStatisticsMBean {
+
+	public enum Cause {
+		RESOURCE_LIMIT,
+		EXPIRED,
+		SIZE_LIMIT,
+	}
+
+	private static final class Holder {
+
+		private static final ConstraintReportRetentionStatistics INSTANCE=newInstance();
+
+		private Holder() {
+		}
+
+	}
+
+	static final String RETENTION_METRICS = "org.ldp4j.application.kernel.constraints.retention.metrics";
+
+	static final String JMX = "jmx";
+
+	static final String OBJECT_NAME = "org.ldp4j.application.kernel:type=ConstraintReportRetention";
+
+	private static final Logger LOGGER=LoggerFactory.getLogger(ConstraintReportRetentionStatistics.class);
+
+	private final AtomicLong evictedByResourceLimit=new AtomicLong();
+	private final AtomicLong evictedByAge=new AtomicLong();
+	private final AtomicLong evictedBySizeLimit=new AtomicLong();
+	private final AtomicLong evictedBytes=new AtomicLong();
+	private final AtomicLong sweeps=new AtomicLong();
+	private final AtomicLong retainedReports=new AtomicLong();
+	private final AtomicLong retainedBytes=new AtomicLong();
+
+	ConstraintReportRetentionStatistics() {
+	}
+
+	private AtomicLong counter(Cause cause) {
+		switch(cause) {
+		case RESOURCE_LIMIT:
+			return this.evictedByResourceLimit;
+		case EXPIRED:
+			return this.evictedByAge;
+		default:
+			return this.evictedBySizeLimit;
+		}
+	}
+
+	public void reportsEvicted(Cause cause, int reports, long bytes) {
+		if(reports>0) {
+			counter(cause).addAndGet(reports);
+			this.evictedBytes.addAndGet(bytes);
+		}
+	}
+
+	public void sweepCompleted(long reports, long bytes) {
+		this.sweeps.incrementAndGet();
+		this.retainedReports.set(reports);
+		this.retainedBytes.set(bytes);
+	}
+
+	@Override
+	public long getReportsEvictedByResourceLimit() {
+		return this.evictedByResourceLimit.get();
+	}
+
+	@Override
+	public long getReportsEvictedByAge() {
+		return this.evictedByAge.get();
+	}
+
+	@Override
+	public long getReportsEvictedBySizeLimit() {
+		return this.evictedBySizeLimit.get();
+	}
+
+	@Override
+	public long getEvictedBytes() {
+		return this.evictedBytes.get();
+	}
+
+	@Override
+	public long getSweeps() {
+		return this.sweeps.get();
+	}
+
+	@Override
+	public long getRetainedReports() {
+		return this.retainedReports.get();
+	}
+
+	@Override
+	public long getRetainedBytes() {
+		return this.retainedBytes.get();
+	}
+
+	@Override
+	public void reset() {
+		this.evictedByResourceLimit.set(0);
+		this.evictedByAge.set(0);
+		this.evictedBySizeLimit.set(0);
+		this.evictedBytes.set(0);
+		this.sweeps.set(0);
+	}
+
+	@Override
+	public String toString() {
+		return
+			MoreObjects.
+				toStringHelper(getClass()).
+					add("evictedByResourceLimit",getReportsEvictedByResourceLimit()).
+					add("evictedByAge",getReportsEvictedByAge()).
+					add("evictedBySizeLimit",getReportsEvictedBySizeLimit()).
+					add("evictedBytes",getEvictedBytes()).
+					add("sweeps",getSweeps()).
+					add("retainedReports",getRetainedReports()).
+					add("retainedBytes",getRetainedBytes()).
+					toString();
+	}
+
+	static ConstraintReportRetentionStatistics newInstance() {
+		ConstraintReportRetentionStatistics statistics=new ConstraintReportRetentionStatistics();
+		if(JMX.equalsIgnoreCase(System.getProperty(RETENTION_METRICS,"").trim())) {
+			try {
+				MBeanServer server=ManagementFactory.getPlatformMBeanServer();
+				ObjectName name=new ObjectName(OBJECT_NAME);
+				if(server.isRegistered(name)) {
+					server.unregisterMBean(name);
+				}
+				server.registerMBean(statistics,name);
+			} catch (JMException e) {
+				LOGGER.warn("Could not register constraint report retention statistics MBean '{}'",OBJECT_NAME,e);
+			}
+		}
+		return statistics;
+	}
+
+	public static ConstraintReportRetentionStatistics getInstance() {
+		return Holder.INSTANCE;
+	}
+
+}
@@ -0,0 +1,101 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-api:0.2.1
+ *   Bundle      : ldp4j-application-kernel-api-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.constraints;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Runs the eviction task of a constraint report repository periodically in
+ * a background daemon thread. Failures of a sweep are logged and do not
+ * prevent subsequent sweeps.
+ */
+public final class ConstraintReportSweeper {
+
+	private static final Logger LOGGER=LoggerFactory.getLogger(ConstraintReportSweeper.class);
+
+	private final class SafeTask implements Runnable {
+
+		@Override
+		public void run() {
+			try {
+				ConstraintReportSweeper.this.task.run();
+			} catch (RuntimeException e) {
+				LOGGER.warn("Constraint report sweep of {} failed",ConstraintReportSweeper.this.name,e);
+			}
+		}
+
+	}
+
+	private final String name;
+	private final Runnable task;
+
+	private ScheduledExecutorService executor;
+
+	public ConstraintReportSweeper(String name, Runnable task) {
+		this.name=checkNotNull(name,"Sweeper name cannot be null");
+		this.task=checkNotNull(task,"Sweep task cannot be null");
+	}
+
+	public synchronized boolean isRunning() {
+		return this.executor!=null;
+	}
+
+	public synchronized void start(long interval) {
+		checkArgument(interval>0,"Sweep interval must be positive (%s)",interval);
+		if(this.executor!=null) {
+			return;
+		}
+		this.executor=
+			Executors.newSingleThreadScheduledExecutor(
+				new ThreadFactoryBuilder().
+					setNameFormat("ldp4j-"+this.name+"-sweeper-%d").
+					setDaemon(true).
+					build());
+		this.executor.scheduleWithFixedDelay(new SafeTask(),interval,interval,TimeUnit.MILLISECONDS);
+		LOGGER.debug("Started constraint report sweeper of {} (every {} ms)",this.name,interval);
+	}
+
+	public synchronized void stop() {
+		if(this.executor==null) {
+			return;
+		}
+		this.executor.shutdownNow();
+		this.executor=null;
+		LOGGER.debug("Stopped constraint report sweeper of {}",this.name);
+	}
+
+}
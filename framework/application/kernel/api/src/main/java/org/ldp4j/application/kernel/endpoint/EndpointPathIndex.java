@@ -0,0 +1,184 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-api:0.2.1
+ *   Bundle      : ldp4j-application-kernel-api-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.endpoint;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Path-segment trie over the paths of a set of endpoints. Given a path, the
+ * index finds the registered paths that are either the path itself or one
+ * of its directory prefixes (i.e., prefixes ending with a '/'), walking
+ * the path once instead of looking up each candidate prefix. <br>
+ * The query and the fragment of a path are never split, so that
+ * {@code a/b#c/d} is only matched by {@code a/b#c/d}, {@code a/} and the
+ * empty path. <br>
+ * The index is safe for concurrent use: additions and removals are
+ * lock-free and lookups are never blocked.
+ */
+public final class EndpointPathIndex {
+
+	private static final class Node {
+
+		private final ConcurrentMap<String,Node> children=Maps.newConcurrentMap();
+
+		private volatile String path;
+
+		private Node child(String segment) {
+			return this.children.get(segment);
+		}
+
+		private Node getOrCreateChild(String segment) {
+			Node child=this.children.get(segment);
+			if(child==null) {
+				Node newChild=new Node();
+				child=this.children.putIfAbsent(segment,newChild);
+				if(child==null) {
+					child=newChild;
+				}
+			}
+			return child;
+		}
+
+	}
+
+	private final Node root=new Node();
+
+	/**
+	 * Split a path in segments, keeping the trailing '/' of each directory
+	 * segment. The query and the fragment are part of the last segment.
+	 */
+	static List<String> segments(String path) {
+		int end=path.length();
+		int query=path.indexOf('?');
+		if(query>=0) {
+			end=query;
+		}
+		int fragment=path.indexOf('#');
+		if(fragment>=0 && fragment<end) {
+			end=fragment;
+		}
+		List<String> segments=Lists.newArrayList();
+		int start=0;
+		for(int i=0;i<end;i++) {
+			if(path.charAt(i)=='/') {
+				segments.add(path.substring(start,i+1));
+				start=i+1;
+			}
+		}
+		if(start<path.length()) {
+			segments.add(path.substring(start));
+		}
+		return segments;
+	}
+
+	private Node find(String path) {
+		Node node=this.root;
+		for(String segment:segments(path)) {
+			node=node.child(segment);
+			if(node==null) {
+				break;
+			}
+		}
+		return node;
+	}
+
+	/**
+	 * Register the path of an endpoint.
+	 */
+	public void add(String path) {
+		checkNotNull(path,"Path cannot be null");
+		Node node=this.root;
+		for(String segment:segments(path)) {
+			node=node.getOrCreateChild(segment);
+		}
+		node.path=path;
+	}
+
+	/**
+	 * Unregister the path of an endpoint. The nodes of the trie are kept,
+	 * as they are likely to be reused.
+	 */
+	public void remove(String path) {
+		checkNotNull(path,"Path cannot be null");
+		Node node=find(path);
+		if(node!=null) {
+			node.path=null;
+		}
+	}
+
+	public boolean contains(String path) {
+		checkNotNull(path,"Path cannot be null");
+		Node node=find(path);
+		return node!=null && node.path!=null;
+	}
+
+	/**
+	 * Get the registered paths that match the specified path or any of its
+	 * directory prefixes, the longest first.
+	 */
+	public List<String> prefixesOf(String path) {
+		checkNotNull(path,"Path cannot be null");
+		List<String> prefixes=Lists.newArrayList();
+		Node node=this.root;
+		String candidate=node.path;
+		if(candidate!=null) {
+			prefixes.add(candidate);
+		}
+		for(String segment:segments(path)) {
+			node=node.child(segment);
+			if(node==null) {
+				break;
+			}
+			candidate=node.path;
+			if(candidate!=null) {
+				prefixes.add(candidate);
+			}
+		}
+		return Lists.reverse(prefixes);
+	}
+
+	/**
+	 * Get the longest registered path that matches the specified path or any
+	 * of its directory prefixes, or {@code null} if there is none.
+	 */
+	public String longestPrefixOf(String path) {
+		List<String> prefixes=prefixesOf(path);
+		return prefixes.isEmpty()?null:prefixes.get(0);
+	}
+
+	public void clear() {
+		this.root.children.clear();
+		this.root.path=null;
+	}
+
+}
@@ -26,14 +26,41 @@
  */
 package org.ldp4j.application.kernel.endpoint;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.ldp4j.application.kernel.resource.ResourceId;
 
 public interface EndpointRepository {
 
 	Endpoint endpointOfPath(String path);
 
+	/**
+	 * Find the endpoint whose path is the longest match of the specified
+	 * path among the path itself and its directory prefixes (see
+	 * {@link EndpointPathIndex}).
+	 *
+	 * @param path
+	 *            the path to match
+	 * @return the endpoint with the longest matching path, or {@code null}
+	 *         if no endpoint matches.
+	 */
+	Endpoint endpointOfLongestPrefix(String path);
+
 	Endpoint endpointOfResource(ResourceId id);
 
+	/**
+	 * Find the endpoints of a collection of resources at once, as
+	 * {@link #endpointOfResource(ResourceId)} would do for each of them.
+	 *
+	 * @param ids
+	 *            the identifiers of the resources
+	 * @return a map from the identifiers of the resources that have an
+	 *         endpoint to their endpoint. Resources without endpoint are not
+	 *         included.
+	 */
+	Map<ResourceId,Endpoint> endpointsOfResources(Collection<ResourceId> ids);
+
 	void add(Endpoint endpoint);
 
 }
\ No newline at end of file
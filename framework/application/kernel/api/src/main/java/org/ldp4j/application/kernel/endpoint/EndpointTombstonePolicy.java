@@ -0,0 +1,149 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-api:0.2.1
+ *   Bundle      : ldp4j-application-kernel-api-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.endpoint;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Policy for compacting the tombstones of deleted endpoints. A deleted
+ * endpoint is kept as is during a grace period, after which it may be
+ * compacted by the {@link EndpointRepository}. Repositories compacting
+ * tombstones must keep answering that the path of the endpoint is gone.
+ * <br>
+ * The policy used by the kernel can be configured using the following system
+ * properties:
+ * <ul>
+ * <li>{@value #GRACE_PERIOD} in milliseconds (default: {@value #DEFAULT_GRACE_PERIOD})</li>
+ * <li>{@value #COMPACTION_INTERVAL} in milliseconds (default: {@value #DEFAULT_COMPACTION_INTERVAL})</li>
+ * </ul>
+ */
+public final class EndpointTombstonePolicy {
+
+	static final String GRACE_PERIOD        = "org.ldp4j.application.kernel.endpoint.tombstone.gracePeriod";
+	static final String COMPACTION_INTERVAL = "org.ldp4j.application.kernel.endpoint.tombstone.compactionInterval";
+
+	static final long DEFAULT_GRACE_PERIOD        = 3600000L;
+	static final long DEFAULT_COMPACTION_INTERVAL = 60000L;
+
+	private static final Logger LOGGER=LoggerFactory.getLogger(EndpointTombstonePolicy.class);
+
+	private final long gracePeriod;
+	private final long compactionInterval;
+
+	private EndpointTombstonePolicy(long gracePeriod, long compactionInterval) {
+		this.gracePeriod=gracePeriod;
+		this.compactionInterval=compactionInterval;
+	}
+
+	/**
+	 * Time (in milliseconds) during which the tombstone of a deleted
+	 * endpoint is kept as is.
+	 */
+	public long gracePeriod() {
+		return this.gracePeriod;
+	}
+
+	/**
+	 * Period (in milliseconds) with which tombstones are compacted in the
+	 * background.
+	 */
+	public long compactionInterval() {
+		return this.compactionInterval;
+	}
+
+	/**
+	 * Check whether the endpoint is a tombstone whose grace period has
+	 * expired at the specified instant.
+	 */
+	public boolean isExpired(Endpoint endpoint, long now) {
+		Date deleted=endpoint.deleted();
+		return deleted!=null && now-deleted.getTime()>this.gracePeriod;
+	}
+
+	public EndpointTombstonePolicy withGracePeriod(long gracePeriod, TimeUnit unit) {
+		checkArgument(gracePeriod>=0,"Grace period cannot be negative (%s)",gracePeriod);
+		checkNotNull(unit,"Time unit cannot be null");
+		return new EndpointTombstonePolicy(unit.toMillis(gracePeriod),this.compactionInterval);
+	}
+
+	public EndpointTombstonePolicy withCompactionInterval(long compactionInterval, TimeUnit unit) {
+		checkArgument(compactionInterval>0,"Compaction interval must be positive (%s)",compactionInterval);
+		checkNotNull(unit,"Time unit cannot be null");
+		return new EndpointTombstonePolicy(this.gracePeriod,unit.toMillis(compactionInterval));
+	}
+
+	@Override
+	public String toString() {
+		return
+			MoreObjects.
+				toStringHelper(getClass()).
+					add("gracePeriod",this.gracePeriod).
+					add("compactionInterval",this.compactionInterval).
+					toString();
+	}
+
+	public static EndpointTombstonePolicy defaultPolicy() {
+		return new EndpointTombstonePolicy(DEFAULT_GRACE_PERIOD,DEFAULT_COMPACTION_INTERVAL);
+	}
+
+	/**
+	 * The policy configured through the system properties.
+	 */
+	public static EndpointTombstonePolicy fromSystemProperties() {
+		return
+			new EndpointTombstonePolicy(
+				longProperty(GRACE_PERIOD,DEFAULT_GRACE_PERIOD,0),
+				longProperty(COMPACTION_INTERVAL,DEFAULT_COMPACTION_INTERVAL,1));
+	}
+
+	private static long longProperty(String property, long defaultValue, long minimum) {
+		String rawValue=System.getProperty(property);
+		if(rawValue==null) {
+			return defaultValue;
+		}
+		try {
+			long value=Long.parseLong(rawValue.trim());
+			if(value>=minimum) {
+				return value;
+			}
+		} catch (NumberFormatException e) {
+			// Fall through to the warning
+		}
+		LOGGER.warn("Invalid value for property '{}' ({}): using default value {}",property,rawValue,defaultValue);
+		return defaultValue;
+	}
+
+}
@@ -26,6 +26,7 @@
  */
 package org.ldp4j.application.kernel.resource;
 
+import java.util.List;
 import java.util.Set;
 
 public interface Container extends Resource {
@@ -34,6 +35,19 @@ public interface Container extends Resource {
 
 	Set<Member> members();
 
+	/**
+	 * Retrieve a page of the members of the container. Members are returned in
+	 * ascending order of their {@link Member#number() number}.
+	 *
+	 * @param cursor
+	 *            the lowest member number to include in the page
+	 * @param pageSize
+	 *            the maximum number of members to include in the page
+	 * @return the members of the container whose number is greater or equal
+	 *         to the specified cursor, up to the specified page size
+	 */
+	List<Member> members(long cursor, int pageSize);
+
 	boolean hasMember(ResourceId resourceId);
 
 	Member findMember(ResourceId resourceId);
@@ -0,0 +1,86 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-api:0.2.1
+ *   Bundle      : ldp4j-application-kernel-api-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.constraints;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ConstraintReportRetentionPolicyTest {
+
+	@After
+	public void tearDown() {
+		System.clearProperty(ConstraintReportRetentionPolicy.MAX_REPORTS_PER_RESOURCE);
+		System.clearProperty(ConstraintReportRetentionPolicy.MAX_AGE);
+	}
+
+	@Test
+	public void testUnboundedPolicy() {
+		ConstraintReportRetentionPolicy sut=ConstraintReportRetentionPolicy.unbounded();
+		assertThat(sut.isBounded(),equalTo(false));
+		assertThat(sut.exceedsReportsPerResource(Integer.MAX_VALUE),equalTo(false));
+		assertThat(sut.exceedsBytes(Long.MAX_VALUE),equalTo(false));
+		assertThat(sut.expirationThreshold(0),equalTo(Long.MIN_VALUE));
+	}
+
+	@Test
+	public void testLimits() {
+		ConstraintReportRetentionPolicy sut=
+			ConstraintReportRetentionPolicy.
+				unbounded().
+					withMaxReportsPerResource(2).
+					withMaxAge(1,TimeUnit.SECONDS).
+					withMaxBytes(10);
+		assertThat(sut.isBounded(),equalTo(true));
+		assertThat(sut.exceedsReportsPerResource(2),equalTo(false));
+		assertThat(sut.exceedsReportsPerResource(3),equalTo(true));
+		assertThat(sut.exceedsBytes(10),equalTo(false));
+		assertThat(sut.exceedsBytes(11),equalTo(true));
+		assertThat(sut.expirationThreshold(5000),equalTo(4000L));
+	}
+
+	@Test
+	public void testUnboundedByDefault() {
+		ConstraintReportRetentionPolicy sut=ConstraintReportRetentionPolicy.fromSystemProperties();
+		assertThat(sut.isBounded(),equalTo(false));
+	}
+
+	@Test
+	public void testSystemProperties() {
+		System.setProperty(ConstraintReportRetentionPolicy.MAX_REPORTS_PER_RESOURCE,"5");
+		System.setProperty(ConstraintReportRetentionPolicy.MAX_AGE,"not a number");
+		ConstraintReportRetentionPolicy sut=ConstraintReportRetentionPolicy.fromSystemProperties();
+		assertThat(sut.maxReportsPerResource(),equalTo(5));
+		assertThat(sut.maxAge(),equalTo(ConstraintReportRetentionPolicy.DEFAULT_MAX_AGE));
+		assertThat(sut.maxBytes(),equalTo(ConstraintReportRetentionPolicy.DEFAULT_MAX_BYTES));
+	}
+
+}
@@ -0,0 +1,109 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-api:0.2.1
+ *   Bundle      : ldp4j-application-kernel-api-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.endpoint;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class EndpointPathIndexTest {
+
+	private EndpointPathIndex sut;
+
+	@Before
+	public void setUp() {
+		this.sut=new EndpointPathIndex();
+		this.sut.add("api/");
+		this.sut.add("api/people/");
+		this.sut.add("api/people/1/");
+		this.sut.add("api/people/2");
+	}
+
+	@Test
+	public void testSegments() {
+		assertThat(EndpointPathIndex.segments("a/b/c"),contains("a/","b/","c"));
+		assertThat(EndpointPathIndex.segments("a/b/"),contains("a/","b/"));
+		assertThat(EndpointPathIndex.segments("a/b#c/d"),contains("a/","b#c/d"));
+		assertThat(EndpointPathIndex.segments("a/?q=/"),contains("a/","?q=/"));
+		assertThat(EndpointPathIndex.segments(""),empty());
+	}
+
+	@Test
+	public void testExactMatch() {
+		assertThat(sut.longestPrefixOf("api/people/1/"),equalTo("api/people/1/"));
+		assertThat(sut.longestPrefixOf("api/people/2"),equalTo("api/people/2"));
+	}
+
+	@Test
+	public void testLongestDirectoryPrefix() {
+		assertThat(sut.longestPrefixOf("api/people/1/address#me"),equalTo("api/people/1/"));
+		assertThat(sut.longestPrefixOf("api/people/3"),equalTo("api/people/"));
+		assertThat(sut.prefixesOf("api/people/1/x"),contains("api/people/1/","api/people/","api/"));
+	}
+
+	@Test
+	public void testOnlyDirectoryPrefixesMatch() {
+		assertThat(sut.longestPrefixOf("api/people/2/x"),equalTo("api/people/"));
+		assertThat(sut.longestPrefixOf("api/people/2#me"),equalTo("api/people/"));
+	}
+
+	@Test
+	public void testNoMatch() {
+		assertThat(sut.longestPrefixOf("other/"),nullValue());
+		assertThat(sut.longestPrefixOf("apis/"),nullValue());
+		assertThat(sut.longestPrefixOf(""),nullValue());
+	}
+
+	@Test
+	public void testEmptyPathMatchesEverything() {
+		sut.add("");
+		assertThat(sut.longestPrefixOf("other/"),equalTo(""));
+		assertThat(sut.longestPrefixOf("api/people/1/"),equalTo("api/people/1/"));
+	}
+
+	@Test
+	public void testRemove() {
+		sut.remove("api/people/1/");
+		assertThat(sut.contains("api/people/1/"),is(false));
+		assertThat(sut.longestPrefixOf("api/people/1/x"),equalTo("api/people/"));
+		sut.remove("unknown/");
+		assertThat(sut.contains("api/people/"),is(true));
+	}
+
+	@Test
+	public void testClear() {
+		sut.clear();
+		assertThat(sut.longestPrefixOf("api/people/1/"),nullValue());
+	}
+
+}
@@ -254,6 +254,11 @@ public final class EndpointManagementService implements Service {
 		return this.endpointRepository.endpointOfPath(path);
 	}
 
+	public Endpoint resolveEndpointOfLongestPrefix(String path) {
+		checkNotNull(path,PATH_CANNOT_BE_NULL);
+		return this.endpointRepository.endpointOfLongestPrefix(path);
+	}
+
 	public Endpoint createEndpointForResource(Resource resource, String relativePath, EntityTag entityTag, Date lastModified) throws EndpointCreationException {
 		checkNotNull(resource,RESOURCE_CANNOT_BE_NULL);
 		checkNotNull(entityTag,ENTITY_TAG_CANNOT_BE_NULL);
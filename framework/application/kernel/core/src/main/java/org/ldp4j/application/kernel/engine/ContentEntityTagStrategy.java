@@ -0,0 +1,80 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-core:0.2.1
+ *   Bundle      : ldp4j-application-kernel-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.engine;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.ldp4j.application.engine.context.ApplicationExecutionException;
+import org.ldp4j.application.engine.context.EntityTag;
+import org.ldp4j.application.kernel.endpoint.Endpoint;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Publishes entity tags derived from the contents of the representation of the
+ * resources. As the same representation always yields the same entity tag,
+ * the tags can be recomputed after a restart or by any other node serving the
+ * same application.
+ * <br/>
+ * The tags are cached using the entity tag stored in the endpoint as version
+ * marker, so that the representation only has to be retrieved the first time
+ * the tag of a given version is requested.
+ * <br/>
+ * The digest is computed over the representation populated using the default
+ * content preferences. The server derives the tags of the representations
+ * populated using other preferences from this one.
+ */
+final class ContentEntityTagStrategy implements EntityTagStrategy {
+
+	private final Cache<String,EntityTag> entityTags;
+
+	ContentEntityTagStrategy(long cacheSize) {
+		checkArgument(cacheSize>=0,"Cache size cannot be negative (%s)",cacheSize);
+		this.entityTags=
+			CacheBuilder.
+				newBuilder().
+					maximumSize(cacheSize).
+					build();
+	}
+
+	private static String versionKey(Endpoint endpoint) {
+		return endpoint.path()+"@"+endpoint.entityTag().getValue();
+	}
+
+	@Override
+	public EntityTag entityTag(Endpoint endpoint, Representation representation) throws ApplicationExecutionException {
+		String key=versionKey(endpoint);
+		EntityTag result=this.entityTags.getIfPresent(key);
+		if(result==null) {
+			result=EntityTag.createStrong(DataSetDigest.digest(representation.get()).toString());
+			this.entityTags.put(key,result);
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,278 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-core:0.2.1
+ *   Bundle      : ldp4j-application-kernel-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.engine;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import org.ldp4j.application.data.DataSet;
+import org.ldp4j.application.data.ExternalIndividual;
+import org.ldp4j.application.data.Individual;
+import org.ldp4j.application.data.IndividualVisitor;
+import org.ldp4j.application.data.LanguageLiteral;
+import org.ldp4j.application.data.Literal;
+import org.ldp4j.application.data.LiteralVisitor;
+import org.ldp4j.application.data.LocalIndividual;
+import org.ldp4j.application.data.ManagedIndividual;
+import org.ldp4j.application.data.ManagedIndividualId;
+import org.ldp4j.application.data.Name;
+import org.ldp4j.application.data.NameVisitor;
+import org.ldp4j.application.data.NewIndividual;
+import org.ldp4j.application.data.Property;
+import org.ldp4j.application.data.RelativeIndividual;
+import org.ldp4j.application.data.TypedLiteral;
+import org.ldp4j.application.data.Value;
+import org.ldp4j.application.data.ValueVisitor;
+import org.ldp4j.application.vocabulary.Term;
+
+import com.google.common.collect.Lists;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Utility class for computing a 128-bit digest of the contents of a
+ * {@code DataSet}. The digest is computed over the sorted canonical form of the
+ * triples of the data set, so that it does not depend on the order in which
+ * individuals, properties and values were added to the data set. <br>
+ * The canonical form of a term is built from its components, each of them
+ * prefixed by its length, and never relies on the {@code toString()} methods
+ * of the terms:
+ * <ul>
+ * <li>literals: the lexical value plus the datatype URI, the language tag, or
+ * the Java type of the value for plain literals;</li>
+ * <li>managed individuals: the name, the manager and the indirect id;</li>
+ * <li>relative individuals: the managed individual and the path;</li>
+ * <li>local individuals: the name;</li>
+ * <li>external and new individuals: the URI.</li>
+ * </ul>
+ * Names are encoded using the type and the lexical value of their
+ * identifier.
+ */
+final class DataSetDigest {
+
+	private static final class TermEncoder extends NameVisitor implements ValueVisitor, IndividualVisitor {
+
+		private final class LiteralEncoder implements LiteralVisitor {
+
+			@Override
+			public void visitLiteral(Literal<?> literal) {
+				Object value=literal.get();
+				tag(PLAIN_LITERAL).
+					component(String.valueOf(value)).
+					component(value==null?"":value.getClass().getName());
+			}
+
+			@Override
+			public void visitTypedLiteral(TypedLiteral<?> literal) {
+				tag(TYPED_LITERAL).
+					component(String.valueOf(literal.get())).
+					component(literal.type());
+			}
+
+			@Override
+			public void visitLanguageLiteral(LanguageLiteral literal) {
+				tag(LANGUAGE_LITERAL).
+					component(literal.get()).
+					component(literal.language());
+			}
+
+		}
+
+		private final StringBuilder builder=new StringBuilder();
+
+		private final LiteralEncoder literalEncoder=new LiteralEncoder();
+
+		private TermEncoder tag(char tag) {
+			this.builder.append(tag);
+			return this;
+		}
+
+		private TermEncoder component(String component) {
+			this.builder.append(component.length()).append(LENGTH_SEPARATOR).append(component);
+			return this;
+		}
+
+		private TermEncoder component(URI component) {
+			return component(component==null?"":component.toASCIIString());
+		}
+
+		private TermEncoder component(Name<?> name) {
+			tag(NAME).component(name.id().getClass().getName());
+			name.accept(this);
+			return this;
+		}
+
+		private TermEncoder component(ManagedIndividualId id) {
+			return
+				component(id.name()).
+				component(id.managerId()).
+				component(id.indirectId());
+		}
+
+		private String encode(Value value) {
+			this.builder.setLength(0);
+			value.accept(this);
+			return this.builder.toString();
+		}
+
+		private String encode(URI predicate) {
+			this.builder.setLength(0);
+			component(predicate);
+			return this.builder.toString();
+		}
+
+		@Override
+		public void visitLiteral(Literal<?> value) {
+			value.accept(this.literalEncoder);
+		}
+
+		@Override
+		public void visitIndividual(Individual<?, ?> value) {
+			value.accept((IndividualVisitor)this);
+		}
+
+		@Override
+		public void visitManagedIndividual(ManagedIndividual individual) {
+			tag(MANAGED_INDIVIDUAL).
+				component(individual.id());
+		}
+
+		@Override
+		public void visitRelativeIndividual(RelativeIndividual individual) {
+			tag(RELATIVE_INDIVIDUAL).
+				component(individual.id().parentId()).
+				component(individual.id().path());
+		}
+
+		@Override
+		public void visitLocalIndividual(LocalIndividual individual) {
+			tag(LOCAL_INDIVIDUAL).
+				component(individual.id());
+		}
+
+		@Override
+		public void visitExternalIndividual(ExternalIndividual individual) {
+			tag(EXTERNAL_INDIVIDUAL).
+				component(individual.id());
+		}
+
+		@Override
+		public void visitNewIndividual(NewIndividual individual) {
+			tag(NEW_INDIVIDUAL).
+				component(individual.id());
+		}
+
+		@Override
+		public void visitURI(URI id) {
+			component(id);
+		}
+
+		@Override
+		public void visitQName(QName id) {
+			component(id.getNamespaceURI()).
+				component(id.getLocalPart());
+		}
+
+		@Override
+		public void visitTerm(Term id) {
+			component(id.qualifiedEntityName());
+		}
+
+		@Override
+		public void visitString(String id) {
+			component(id);
+		}
+
+		@Override
+		public void visitNumber(Number id) {
+			component(id.toString());
+		}
+
+		@Override
+		public void visitObject(Object id) {
+			component(id.toString());
+		}
+
+	}
+
+	private static final HashFunction HASH_FUNCTION=Hashing.murmur3_128();
+
+	private static final char LENGTH_SEPARATOR = ':';
+
+	private static final char NAME = 'N';
+	private static final char PLAIN_LITERAL = 'P';
+	private static final char TYPED_LITERAL = 'T';
+	private static final char LANGUAGE_LITERAL = 'G';
+	private static final char MANAGED_INDIVIDUAL = 'M';
+	private static final char RELATIVE_INDIVIDUAL = 'R';
+	private static final char LOCAL_INDIVIDUAL = 'L';
+	private static final char EXTERNAL_INDIVIDUAL = 'E';
+	private static final char NEW_INDIVIDUAL = 'W';
+
+	private static final char SEPARATOR = ' ';
+
+	private static final char TERMINATOR = '\n';
+
+	private DataSetDigest() {
+	}
+
+	static HashCode digest(DataSet dataSet) {
+		List<String> triples=Lists.newArrayList();
+		TermEncoder encoder=new TermEncoder();
+		for(Individual<?,?> individual:dataSet) {
+			String subject=encoder.encode(individual);
+			for(Property property:individual) {
+				String predicate=encoder.encode(property.predicate());
+				for(Value value:property) {
+					triples.add(
+						new StringBuilder().
+							append(subject).
+							append(SEPARATOR).
+							append(predicate).
+							append(SEPARATOR).
+							append(encoder.encode(value)).
+							toString());
+				}
+			}
+		}
+		Collections.sort(triples);
+		Hasher hasher=HASH_FUNCTION.newHasher();
+		for(String triple:triples) {
+			hasher.
+				putString(triple,StandardCharsets.UTF_8).
+				putChar(TERMINATOR);
+		}
+		return hasher.hash();
+	}
+
+}
\ No newline at end of file
@@ -28,7 +28,10 @@ package org.ldp4j.application.kernel.engine;
 
 import static com.google.common.base.Preconditions.checkState;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 
 import org.ldp4j.application.data.DataSet;
 import org.ldp4j.application.data.ManagedIndividualId;
@@ -38,10 +41,12 @@ import org.ldp4j.application.engine.context.ApplicationContextException;
 import org.ldp4j.application.engine.context.ApplicationContextOperation;
 import org.ldp4j.application.engine.context.ApplicationExecutionException;
 import org.ldp4j.application.engine.context.Capabilities;
+import org.ldp4j.application.engine.context.EntityTag;
 import org.ldp4j.application.engine.context.HttpRequest;
 import org.ldp4j.application.engine.context.InvalidIndirectIdentifierException;
 import org.ldp4j.application.engine.context.PublicResource;
 import org.ldp4j.application.engine.lifecycle.ApplicationLifecycleListener;
+import org.ldp4j.application.engine.lifecycle.EndpointLifecycleListener;
 import org.ldp4j.application.ext.Application;
 import org.ldp4j.application.ext.ApplicationRuntimeException;
 import org.ldp4j.application.ext.Configuration;
@@ -70,18 +75,44 @@ import org.ldp4j.application.kernel.template.ResourceTemplate;
 import org.ldp4j.application.kernel.template.TemplateIntrospector;
 import org.ldp4j.application.kernel.transaction.Transaction;
 import org.ldp4j.application.kernel.transaction.TransactionManager;
+import org.ldp4j.application.kernel.transaction.TransactionMetrics;
+import org.ldp4j.application.kernel.transaction.TransactionMetricsProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Maps;
+
 public final class DefaultApplicationContext implements ApplicationContext {
 
+	private static final class EndpointLifecycleListenerAdapter implements org.ldp4j.application.kernel.endpoint.EndpointLifecycleListener {
+
+		private final EndpointLifecycleListener listener;
+
+		private EndpointLifecycleListenerAdapter(EndpointLifecycleListener listener) {
+			this.listener = listener;
+		}
+
+		@Override
+		public void endpointCreated(Endpoint endpoint) {
+			this.listener.endpointCreated(endpoint.path());
+		}
+
+		@Override
+		public void endpointDeleted(Endpoint endpoint) {
+			this.listener.endpointDeleted(endpoint.path());
+		}
+
+	}
+
 	private final class DefaultApplicationOperation implements ApplicationContextOperation {
 
 		private final HttpRequest request;
 		private final Transaction transaction;
+		private final long started;
 
 		private DefaultApplicationOperation(HttpRequest request) {
 			this.request = request;
+			this.started=System.nanoTime();
 			this.transaction=getContext().operationController.beginTransaction();
 		}
 
@@ -104,6 +135,11 @@ public final class DefaultApplicationContext implements ApplicationContext {
 			return DefaultApplicationContext.this.resolveResource(path);
 		}
 
+		@Override
+		public PublicResource resolveResourceOfLongestPrefix(String path) {
+			return DefaultApplicationContext.this.resolveResourceOfLongestPrefix(path);
+		}
+
 		@Override
 		public PublicResource resolveResource(ManagedIndividualId id) {
 			return DefaultApplicationContext.this.resolveResource(id);
@@ -112,7 +148,7 @@ public final class DefaultApplicationContext implements ApplicationContext {
 		@Override
 		public void dispose() {
 			try {
-				getContext().operationController.endTransaction(this.transaction);
+				getContext().operationController.endTransaction(this.transaction,this.started);
 			} finally {
 				getContext().currentOperation.remove();
 			}
@@ -123,34 +159,34 @@ public final class DefaultApplicationContext implements ApplicationContext {
 	private final class ApplicationContextOperationController {
 
 		private final TransactionManager transactionManager;
+		private final TransactionMetrics metrics;
 
 		private ApplicationContextOperationController() {
 			this.transactionManager = RuntimeDelegate.getInstance().getTransactionManager();
+			this.metrics=TransactionMetricsProvider.metrics();
 		}
 
 		public Transaction beginTransaction() {
 			Transaction transaction = this.transactionManager.currentTransaction();
+			long started=System.nanoTime();
 			transaction.begin();
-			LOGGER.
-				info("Started transaction {}.{},",
-					Thread.currentThread().getName(),
-					transaction);
+			this.metrics.transactionStarted(System.nanoTime()-started);
 			return transaction;
 		}
 
-		public void endTransaction(Transaction transaction) {
+		public void endTransaction(Transaction transaction, long started) {
 			if(transaction.isActive()) {
+				long rollbackStarted=System.nanoTime();
 				transaction.rollback();
+				this.metrics.transactionRolledBack(System.nanoTime()-rollbackStarted);
 			}
-			LOGGER.
-				info("Completed transaction {}.{},",
-					Thread.currentThread().getName(),
-					transaction);
+			this.metrics.operationCompleted(System.nanoTime()-started);
 		}
 
 	}
 
 	private static final String APPLICATION_LIFECYCLE_LISTENER_CANNOT_BE_NULL = "Application lifecycle listener cannot be null";
+	private static final String ENDPOINT_LIFECYCLE_LISTENER_CANNOT_BE_NULL    = "Endpoint lifecycle listener cannot be null";
 	private static final String APPLICATION_INITILIZATION_FAILED              = "Application '{}' initilization failed";
 	private static final String COULD_NOT_FIND_CONTAINER_FOR_ENDPOINT         = "Could not find container for endpoint '%s'";
 	private static final String COULD_NOT_FIND_RESOURCE_FOR_ENDPOINT          = "Could not find resource for endpoint '%s'";
@@ -178,6 +214,9 @@ public final class DefaultApplicationContext implements ApplicationContext {
 	private final EndpointRepository endpointRepository;
 	private final ConstraintReportRepository constraintReportRepository;
 
+	private final EntityTagStrategy entityTagStrategy;
+
+	private final ConcurrentMap<EndpointLifecycleListener,EndpointLifecycleListenerAdapter> endpointLifecycleListeners;
 
 	DefaultApplicationContext(DefaultApplicationEngine engine) {
 		this.engine=engine;
@@ -187,6 +226,8 @@ public final class DefaultApplicationContext implements ApplicationContext {
 		this.factory=DefaultPublicResourceFactory.newInstance(this);
 		this.operationController=new ApplicationContextOperationController();
 		this.currentOperation=new ThreadLocal<DefaultApplicationOperation>();
+		this.entityTagStrategy=EntityTagStrategies.newInstance();
+		this.endpointLifecycleListeners=Maps.newConcurrentMap();
 	}
 
 	private static <T> T checkNotNull(T object, String message) {
@@ -227,6 +268,15 @@ public final class DefaultApplicationContext implements ApplicationContext {
 		return this.factory.createResource(endpoint);
 	}
 
+	private PublicResource resolveResourceOfLongestPrefix(final String path) {
+		checkNotNull(path,"Endpoint path cannot be null");
+		Endpoint endpoint=
+			engine().
+				endpointManagementService().
+					resolveEndpointOfLongestPrefix(path);
+		return this.factory.createResource(endpoint);
+	}
+
 	private PublicResource resolveResource(ManagedIndividualId id) {
 		checkNotNull(id,"Individual identifier cannot be null");
 		return this.factory.createResource(resolveResource(ResourceId.createId(id.name(), id.managerId())));
@@ -318,6 +368,15 @@ public final class DefaultApplicationContext implements ApplicationContext {
 		}
 	}
 
+	EntityTag entityTag(Endpoint endpoint, EntityTagStrategy.Representation representation) {
+		try {
+			return this.entityTagStrategy.entityTag(endpoint,representation);
+		} catch (ApplicationExecutionException e) {
+			LOGGER.warn("Could not compute entity tag for endpoint '{}': using persisted entity tag instead",endpoint.path(),e);
+			return endpoint.entityTag();
+		}
+	}
+
 	void registerContentFailure(Endpoint endpoint, InvalidContentException error) {
 		registerConstraintReport(loadResource(endpoint.resourceId()),error);
 	}
@@ -330,6 +389,10 @@ public final class DefaultApplicationContext implements ApplicationContext {
 		return this.endpointRepository.endpointOfResource(id);
 	}
 
+	Map<ResourceId,Endpoint> resolveResources(Collection<ResourceId> ids) {
+		return this.endpointRepository.endpointsOfResources(ids);
+	}
+
 	Resource createResource(Endpoint endpoint, DataSet dataSet, String desiredPath) throws ApplicationExecutionException {
 		ResourceId resourceId=endpoint.resourceId();
 		Container resource = this.resourceRepository.containerOfId(resourceId);
@@ -519,4 +582,28 @@ public final class DefaultApplicationContext implements ApplicationContext {
 		this.engine().applicationLifecycleService().deregisterApplicationLifecycleListener(listener);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void registerEndpointLifecycleListener(EndpointLifecycleListener listener) {
+		checkNotNull(listener,ENDPOINT_LIFECYCLE_LISTENER_CANNOT_BE_NULL);
+		EndpointLifecycleListenerAdapter adapter=new EndpointLifecycleListenerAdapter(listener);
+		if(this.endpointLifecycleListeners.putIfAbsent(listener,adapter)==null) {
+			this.engine().endpointManagementService().registerEndpointLifecycleListener(adapter);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void deregisterEndpointLifecycleListener(EndpointLifecycleListener listener) {
+		checkNotNull(listener,ENDPOINT_LIFECYCLE_LISTENER_CANNOT_BE_NULL);
+		EndpointLifecycleListenerAdapter adapter=this.endpointLifecycleListeners.remove(listener);
+		if(adapter!=null) {
+			this.engine().endpointManagementService().deregisterEndpointLifecycleListener(adapter);
+		}
+	}
+
 }
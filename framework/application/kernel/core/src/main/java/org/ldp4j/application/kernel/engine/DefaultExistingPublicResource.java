@@ -44,6 +44,7 @@ import org.ldp4j.application.data.validation.Validator;
 import org.ldp4j.application.data.validation.Validator.ValidatorBuilder;
 import org.ldp4j.application.engine.context.ApplicationExecutionException;
 import org.ldp4j.application.engine.context.ContentPreferences;
+import org.ldp4j.application.engine.context.EntityTag;
 import org.ldp4j.application.engine.context.PublicBasicContainer;
 import org.ldp4j.application.engine.context.PublicDirectContainer;
 import org.ldp4j.application.engine.context.PublicIndirectContainer;
@@ -147,6 +148,8 @@ abstract class DefaultExistingPublicResource extends DefaultPublicResource {
 
 	private final ManagedIndividualId individualId;
 
+	private EntityTag entityTag;
+
 	protected DefaultExistingPublicResource(DefaultApplicationContext applicationContext, Endpoint endpoint) {
 		super(applicationContext,endpoint);
 		this.individualId=
@@ -161,6 +164,29 @@ abstract class DefaultExistingPublicResource extends DefaultPublicResource {
 		return this.individualId;
 	}
 
+	/**
+	 * {@inheritDoc}<br/>
+	 * The entity tag is computed using the entity tag strategy of the
+	 * application context, using the representation of the resource for the
+	 * default content preferences if required.
+	 */
+	@Override
+	public final EntityTag entityTag() {
+		if(this.entityTag==null) {
+			this.entityTag=
+				applicationContext().
+					entityTag(
+						endpoint(),
+						new EntityTagStrategy.Representation() {
+							@Override
+							public DataSet get() throws ApplicationExecutionException {
+								return entity(ContentPreferences.defaultPreferences());
+							}
+						});
+		}
+		return this.entityTag;
+	}
+
 	@Override
 	public final Map<String,PublicResource> attachments() {
 		Map<String,PublicResource> result=new HashMap<String, PublicResource>();
@@ -172,6 +198,15 @@ abstract class DefaultExistingPublicResource extends DefaultPublicResource {
 
 	@Override
 	public final DataSet entity(ContentPreferences contentPreferences) throws ApplicationExecutionException {
+		return entity(contentPreferences,null);
+	}
+
+	/**
+	 * Create the representation of the resource. If the members are specified,
+	 * only these will be used for populating the containment and membership
+	 * metadata of the resource.
+	 */
+	final DataSet entity(ContentPreferences contentPreferences, Collection<PublicResource> members) throws ApplicationExecutionException {
 		DataSet dataSet=resourceData(contentPreferences);
 		DataSet representation = DataSets.createDataSet(id().name());
 		DataSets.
@@ -179,6 +214,9 @@ abstract class DefaultExistingPublicResource extends DefaultPublicResource {
 				dataSet,
 				representation);
 		Context ctx = new Context(representation);
+		if(members!=null) {
+			ctx.setMembers(id(),members);
+		}
 		fillInMetadata(
 			contentPreferences,
 			ctx.newIndividual(individualId()),
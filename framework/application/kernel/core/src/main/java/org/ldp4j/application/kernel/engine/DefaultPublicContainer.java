@@ -26,6 +26,9 @@
  */
 package org.ldp4j.application.kernel.engine;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -48,6 +51,7 @@ import org.ldp4j.application.data.validation.ValidationConstraint;
 import org.ldp4j.application.data.validation.ValidationConstraintFactory;
 import org.ldp4j.application.data.validation.Validator.ValidatorBuilder;
 import org.ldp4j.application.engine.context.ApplicationExecutionException;
+import org.ldp4j.application.engine.context.ContainerPage;
 import org.ldp4j.application.engine.context.ContentPreferences;
 import org.ldp4j.application.engine.context.CreationPreferences;
 import org.ldp4j.application.engine.context.PublicContainer;
@@ -70,11 +74,14 @@ import org.ldp4j.application.kernel.template.TemplateVisitor;
 import org.ldp4j.application.vocabulary.LDP;
 import org.ldp4j.application.vocabulary.RDF;
 
+import com.google.common.base.MoreObjects;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
 abstract class DefaultPublicContainer<T extends ContainerTemplate> extends DefaultPublicRDFSource implements PublicContainer {
 
+	private static final int MEMBER_BATCH_SIZE=256;
+
 	private static final class AcceptableInteractionModelCollector implements
 			TemplateVisitor {
 		private final Set<InteractionModel> acceptable;
@@ -115,6 +122,51 @@ abstract class DefaultPublicContainer<T extends ContainerTemplate> extends Defau
 		}
 	}
 
+	private static final class DefaultContainerPage implements ContainerPage {
+
+		private final long cursor;
+		private final DataSet entity;
+		private final Long nextCursor;
+
+		private DefaultContainerPage(long cursor, DataSet entity, Long nextCursor) {
+			this.cursor = cursor;
+			this.entity = entity;
+			this.nextCursor = nextCursor;
+		}
+
+		@Override
+		public long cursor() {
+			return this.cursor;
+		}
+
+		@Override
+		public DataSet entity() {
+			return this.entity;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.nextCursor!=null;
+		}
+
+		@Override
+		public long nextCursor() {
+			checkState(this.nextCursor!=null,"No next page available");
+			return this.nextCursor;
+		}
+
+		@Override
+		public String toString() {
+			return
+				MoreObjects.
+					toStringHelper(getClass()).
+						add("cursor",this.cursor).
+						add("nextCursor",this.nextCursor).
+						toString();
+		}
+
+	}
+
 	private final class IndividualFilter implements IndividualVisitor {
 		private final List<Individual<?, ?>> toRemove;
 
@@ -189,7 +241,7 @@ abstract class DefaultPublicContainer<T extends ContainerTemplate> extends Defau
 				ctx.property(RDF.TYPE),
 				ctx.reference(LDP.CONTAINER));
 		if(contentPreferences.mayInclude(Preference.CONTAINMENT_TRIPLES)) {
-			for(PublicResource member:members()) {
+			for(PublicResource member:members(ctx)) {
 				individual.addValue(
 					ctx.property(LDP.CONTAINS),
 					ctx.newIndividual(member));
@@ -216,13 +268,51 @@ abstract class DefaultPublicContainer<T extends ContainerTemplate> extends Defau
 	 */
 	@Override
 	public final Collection<PublicResource> members() {
+		// Walk the membership in batches, so that the resource never has to
+		// load all its members at once
+		Container container=resolveAs(Container.class);
 		List<PublicResource> members=Lists.newArrayList();
-		for(Member member:resolveAs(Container.class).members()) {
-			members.add(createResource(member.memberId()));
+		long cursor=0;
+		List<Member> batch=container.members(cursor,MEMBER_BATCH_SIZE);
+		while(!batch.isEmpty()) {
+			members.addAll(createMembers(batch));
+			if(batch.size()<MEMBER_BATCH_SIZE) {
+				break;
+			}
+			cursor=batch.get(batch.size()-1).number()+1;
+			batch=container.members(cursor,MEMBER_BATCH_SIZE);
 		}
 		return Collections.unmodifiableList(members);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final ContainerPage page(ContentPreferences contentPreferences, long cursor, int pageSize) throws ApplicationExecutionException {
+		checkArgument(cursor>=0,"Page cursor cannot be negative (%s)",cursor);
+		checkArgument(pageSize>0,"Page size must be greater than zero (%s)",pageSize);
+		// Retrieve an extra member to find out where the next page starts
+		List<Member> candidates=resolveAs(Container.class).members(cursor,pageSize+1);
+		Long nextCursor=null;
+		if(candidates.size()>pageSize) {
+			nextCursor=candidates.get(pageSize).number();
+			candidates=candidates.subList(0,pageSize);
+		}
+		List<PublicResource> members=Lists.<PublicResource>newArrayList(createMembers(candidates));
+		DataSet entity=entity(contentPreferences,Collections.unmodifiableList(members));
+		return new DefaultContainerPage(cursor,entity,nextCursor);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final boolean hasMoreMembersThan(int count) {
+		checkArgument(count>=0,"Member count cannot be negative (%s)",count);
+		return resolveAs(Container.class).members(0,count+1).size()>count;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -233,6 +323,27 @@ abstract class DefaultPublicContainer<T extends ContainerTemplate> extends Defau
 		return createResource(resource.id());
 	}
 
+	/**
+	 * Get the members of the container to be used for populating the specified
+	 * context. The members are only resolved once per context.
+	 */
+	protected final Collection<PublicResource> members(Context ctx) {
+		Collection<PublicResource> members=ctx.members(id());
+		if(members==null) {
+			members=members();
+			ctx.setMembers(id(),members);
+		}
+		return members;
+	}
+
+	private List<DefaultPublicResource> createMembers(Collection<Member> members) {
+		List<ResourceId> memberIds=Lists.newArrayListWithCapacity(members.size());
+		for(Member member:members) {
+			memberIds.add(member.memberId());
+		}
+		return createResources(memberIds);
+	}
+
 	private void cleanIndividual(Individual<?,?> individual) {
 		for(Property property:individual) {
 			URI propertyId = property.predicate();
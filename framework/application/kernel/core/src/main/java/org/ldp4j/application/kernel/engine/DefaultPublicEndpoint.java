@@ -27,6 +27,8 @@
 package org.ldp4j.application.kernel.engine;
 
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
 
 import org.ldp4j.application.engine.context.Capabilities;
 import org.ldp4j.application.engine.context.EntityTag;
@@ -36,6 +38,8 @@ import org.ldp4j.application.kernel.resource.Resource;
 import org.ldp4j.application.kernel.resource.ResourceId;
 import org.ldp4j.application.kernel.template.ResourceTemplate;
 
+import com.google.common.collect.Lists;
+
 abstract class DefaultPublicEndpoint implements PublicEndpoint {
 
 	private final Endpoint endpoint;
@@ -72,6 +76,23 @@ abstract class DefaultPublicEndpoint implements PublicEndpoint {
 		return this.factory.createResource(this.applicationContext.resolveResource(resourceId));
 	}
 
+	/**
+	 * Create the public resources of a list of resources, resolving their
+	 * endpoints at once. The order of the resources is preserved, and
+	 * resources without endpoint are skipped.
+	 */
+	protected final List<DefaultPublicResource> createResources(List<ResourceId> resourceIds) {
+		Map<ResourceId,Endpoint> endpoints=this.applicationContext.resolveResources(resourceIds);
+		List<DefaultPublicResource> resources=Lists.newArrayListWithCapacity(resourceIds.size());
+		for(ResourceId resourceId:resourceIds) {
+			DefaultPublicResource resource=this.factory.createResource(endpoints.get(resourceId));
+			if(resource!=null) {
+				resources.add(resource);
+			}
+		}
+		return resources;
+	}
+
 	protected final ResourceTemplate template() {
 		if(this.template==null) {
 			this.template = this.applicationContext.resourceTemplate(resolveAs(Resource.class));
@@ -119,7 +140,7 @@ abstract class DefaultPublicEndpoint implements PublicEndpoint {
 	 * {@inheritDoc}
 	 */
 	@Override
-	public final EntityTag entityTag() {
+	public EntityTag entityTag() {
 		return this.endpoint.entityTag();
 	}
 
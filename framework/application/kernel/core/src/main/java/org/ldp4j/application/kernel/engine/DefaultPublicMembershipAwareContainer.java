@@ -27,6 +27,7 @@
 package org.ldp4j.application.kernel.engine;
 
 import java.net.URI;
+import java.util.Collection;
 
 import org.ldp4j.application.data.DataSet;
 import org.ldp4j.application.data.Individual;
@@ -72,7 +73,7 @@ abstract class DefaultPublicMembershipAwareContainer<T extends MembershipAwareCo
 	}
 
 	private void populateIsMemberOf(Individual<?, ?> individual, Context ctx, URI predicate) {
-		for(PublicResource member:members()) {
+		for(PublicResource member:members(ctx)) {
 			ManagedIndividual tmp=createMemberIndividual(ctx, member);
 			tmp.addValue(
 				predicate,
@@ -83,7 +84,7 @@ abstract class DefaultPublicMembershipAwareContainer<T extends MembershipAwareCo
 	protected abstract ManagedIndividual createMemberIndividual(Context ctx, PublicResource member);
 
 	private void populateHasMember(Individual<?, ?> individual, Context ctx, URI predicate) {
-		for(PublicResource member:members()) {
+		for(PublicResource member:members(ctx)) {
 			individual.addValue(
 				predicate,
 				createMemberIndividual(ctx, member));
@@ -131,10 +132,11 @@ abstract class DefaultPublicMembershipAwareContainer<T extends MembershipAwareCo
 	}
 
 	private void configureIsMemberOfValidationConstraints(ValidatorBuilder builder, Individual<?, ?> individual, DataSet metadata, URI predicate) { // NOSONAR
-		if(members().isEmpty()) {
+		Collection<PublicResource> members=members();
+		if(members.isEmpty()) {
 			builder.withPropertyConstraint(ValidationConstraintFactory.readOnlyProperty(predicate));
 		} else {
-			for(PublicResource member:members()) {
+			for(PublicResource member:members) {
 				Individual<?,?> tmp=metadata.individualOfId(member.individualId());
 				builder.withPropertyConstraint(ValidationConstraintFactory.readOnlyProperty(tmp.property(predicate)));
 			}
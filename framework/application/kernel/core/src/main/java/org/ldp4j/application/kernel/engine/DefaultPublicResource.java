@@ -27,6 +27,8 @@
 package org.ldp4j.application.kernel.engine;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
 
 import org.ldp4j.application.data.DataSet;
 import org.ldp4j.application.data.ExternalIndividual;
@@ -45,14 +47,31 @@ import org.ldp4j.application.kernel.endpoint.Endpoint;
 import org.ldp4j.application.kernel.resource.ResourceId;
 import org.ldp4j.application.vocabulary.Term;
 
+import com.google.common.collect.Maps;
+
 abstract class DefaultPublicResource extends DefaultPublicEndpoint implements PublicResource {
 
 	protected static final class Context {
 
 		private final DataSet dataSet;
+		private final Map<ResourceId,Collection<PublicResource>> members;
 
 		protected Context(DataSet dataSet) {
 			this.dataSet = dataSet;
+			this.members = Maps.newHashMap();
+		}
+
+		/**
+		 * Members of the specified container that have already been resolved
+		 * while populating this context, or {@code null} if they have not been
+		 * resolved yet.
+		 */
+		Collection<PublicResource> members(ResourceId containerId) {
+			return this.members.get(containerId);
+		}
+
+		void setMembers(ResourceId containerId, Collection<PublicResource> members) {
+			this.members.put(containerId,members);
 		}
 
 		public URI property(Term term) {
@@ -0,0 +1,87 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-core:0.2.1
+ *   Bundle      : ldp4j-application-kernel-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.engine;
+
+import org.ldp4j.application.kernel.util.Extensions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Factory for the {@link EntityTagStrategy} used by the application contexts.
+ * The strategy is selected using the {@value #ENTITY_TAG_STRATEGY} system
+ * property, which may be either {@value #PERSISTENT_STRATEGY} (the default),
+ * {@value #CONTENT_STRATEGY}, or the fully qualified name of a class
+ * implementing {@link EntityTagStrategy} with a public no-argument
+ * constructor.
+ */
+final class EntityTagStrategies {
+
+	static final String ENTITY_TAG_STRATEGY   = "org.ldp4j.application.kernel.entityTag.strategy";
+	static final String ENTITY_TAG_CACHE_SIZE = "org.ldp4j.application.kernel.entityTag.cacheSize";
+
+	static final String PERSISTENT_STRATEGY = "persistent";
+	static final String CONTENT_STRATEGY    = "content";
+
+	private static final long DEFAULT_CACHE_SIZE = 10000;
+
+	private static final Logger LOGGER=LoggerFactory.getLogger(EntityTagStrategies.class);
+
+	private EntityTagStrategies() {
+	}
+
+	private static long cacheSize() {
+		String rawValue=System.getProperty(ENTITY_TAG_CACHE_SIZE);
+		long result=DEFAULT_CACHE_SIZE;
+		if(rawValue!=null) {
+			try {
+				result=Long.parseLong(rawValue.trim());
+			} catch (NumberFormatException e) {
+				LOGGER.warn("Invalid entity tag cache size '{}': using default value ({})",rawValue,DEFAULT_CACHE_SIZE);
+			}
+			if(result<0) {
+				LOGGER.warn("Invalid entity tag cache size '{}': using default value ({})",rawValue,DEFAULT_CACHE_SIZE);
+				result=DEFAULT_CACHE_SIZE;
+			}
+		}
+		return result;
+	}
+
+	static EntityTagStrategy newInstance() {
+		String strategy=System.getProperty(ENTITY_TAG_STRATEGY,PERSISTENT_STRATEGY).trim();
+		EntityTagStrategy result=null;
+		if(PERSISTENT_STRATEGY.equalsIgnoreCase(strategy)) {
+			result=new PersistentEntityTagStrategy();
+		} else if(CONTENT_STRATEGY.equalsIgnoreCase(strategy)) {
+			result=new ContentEntityTagStrategy(cacheSize());
+		} else {
+			result=Extensions.newInstance(EntityTagStrategy.class,strategy,new PersistentEntityTagStrategy());
+		}
+		LOGGER.debug("Using entity tag strategy {}",result.getClass().getName());
+		return result;
+	}
+
+}
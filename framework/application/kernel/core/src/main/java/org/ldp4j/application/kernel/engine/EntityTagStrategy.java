@@ -0,0 +1,67 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-core:0.2.1
+ *   Bundle      : ldp4j-application-kernel-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.engine;
+
+import org.ldp4j.application.data.DataSet;
+import org.ldp4j.application.engine.context.ApplicationExecutionException;
+import org.ldp4j.application.engine.context.EntityTag;
+import org.ldp4j.application.kernel.endpoint.Endpoint;
+
+/**
+ * Strategy for computing the entity tags published for the endpoints of an
+ * application. The entity tag stored in the {@link Endpoint} is renewed every
+ * time the state of the resource changes, and can be used by strategies as a
+ * version marker.
+ */
+public interface EntityTagStrategy {
+
+	/**
+	 * Provides access to the representation of the resource published by an
+	 * endpoint. Retrieving the representation requires the intervention of the
+	 * resource handler.
+	 */
+	interface Representation {
+
+		DataSet get() throws ApplicationExecutionException;
+
+	}
+
+	/**
+	 * Compute the entity tag to publish for a given endpoint.
+	 *
+	 * @param endpoint
+	 *            the endpoint whose entity tag is to be computed
+	 * @param representation
+	 *            lazy accessor to the representation published by the
+	 *            endpoint
+	 * @return the entity tag for the endpoint
+	 * @throws ApplicationExecutionException
+	 *             if the representation is required and could not be retrieved
+	 */
+	EntityTag entityTag(Endpoint endpoint, Representation representation) throws ApplicationExecutionException;
+
+}
@@ -30,6 +30,7 @@ import org.ldp4j.application.data.Individual;
 import org.ldp4j.application.data.Name;
 import org.ldp4j.application.ext.ResourceHandler;
 import org.ldp4j.application.kernel.transaction.Transaction;
+import org.ldp4j.application.kernel.transaction.TransactionMetricsProvider;
 import org.ldp4j.application.session.ResourceSnapshot;
 import org.ldp4j.application.session.SessionTerminationException;
 import org.ldp4j.application.session.WriteSession;
@@ -104,7 +105,9 @@ final class TransactionalWriteSession implements WriteSession {
 			this.delegate.close();
 		} finally {
 			if(this.transaction.isActive()) {
+				long started=System.nanoTime();
 				this.transaction.rollback();
+				TransactionMetricsProvider.metrics().transactionRolledBack(System.nanoTime()-started);
 			}
 		}
 	}
@@ -46,6 +46,7 @@ import org.ldp4j.application.kernel.service.ServiceBuilder;
 import org.ldp4j.application.kernel.spi.RuntimeDelegate;
 import org.ldp4j.application.kernel.template.TemplateManagementService;
 import org.ldp4j.application.kernel.transaction.TransactionManager;
+import org.ldp4j.application.kernel.transaction.TransactionMetricsProvider;
 import org.ldp4j.application.session.ResourceSnapshot;
 import org.ldp4j.application.session.WriteSession;
 import org.ldp4j.application.session.WriteSessionException;
@@ -115,7 +116,7 @@ public final class WriteSessionService implements Service {
 
 	public WriteSession createSession(WriteSessionConfiguration configuration) {
 		UnitOfWork.newCurrent();
-		logLifecycleMessage("Created write session: %s",configuration);
+		LOGGER.debug("Created write session: {}",configuration);
 		return new DelegatedWriteSession(configuration,this);
 	}
 
@@ -123,7 +124,7 @@ public final class WriteSessionService implements Service {
 		try {
 			switch(session.status()) {
 				case ACTIVE:
-					logLifecycleMessage("Force termination of active session...");
+					LOGGER.debug("Force termination of active session...");
 					session.discardChanges();
 					break;
 				case ABORTED:
@@ -156,15 +157,19 @@ public final class WriteSessionService implements Service {
 	}
 
 	void commitSession(DelegatedWriteSession session) {
-		logLifecycleMessage("Commiting session...");
+		LOGGER.debug("Commiting session...");
 		UnitOfWork.getCurrent().accept(new ResourceProcessor(session));
+		long started=System.nanoTime();
 		this.transactionManager.currentTransaction().commit();
+		TransactionMetricsProvider.metrics().transactionCommitted(System.nanoTime()-started);
 	}
 
 	void rollbackSession(DelegatedWriteSession session) {
-		logLifecycleMessage("Rolling back session...");
+		LOGGER.debug("Rolling back session...");
 		UnitOfWork.getCurrent().accept(new ResourceProcessor(session));
+		long started=System.nanoTime();
 		this.transactionManager.currentTransaction().rollback();
+		TransactionMetricsProvider.metrics().transactionRolledBack(System.nanoTime()-started);
 	}
 
 	Resource resourceOfId(ResourceId resourceId) {
@@ -175,15 +180,10 @@ public final class WriteSessionService implements Service {
 		return this.templateManagementService;
 	}
 
-	private void logLifecycleMessage(String msg, Object... args) {
-		if(LOGGER.isDebugEnabled()) {
-			LOGGER.debug(String.format(msg,args));
-		}
-	}
-
 	/**
-	 * TODO: Devise a mechanism for generating the entity tags using meaningful
-	 * information from the client
+	 * The entity tag stored in the endpoint identifies the version of the state
+	 * of the resource. Content-derived entity tags can be published using the
+	 * entity tag strategies of the engine, which use this tag as version marker.
 	 */
 	private EntityTag generateEntityTag(Resource resource) { // NOSONAR
 		return EntityTag.createStrong(UUID.randomUUID().toString());
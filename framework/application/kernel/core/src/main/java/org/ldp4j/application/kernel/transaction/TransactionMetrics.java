@@ -0,0 +1,68 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-core:0.2.1
+ *   Bundle      : ldp4j-application-kernel-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.transaction;
+
+/**
+ * Service provider interface for gathering metrics about the transactions
+ * used for serving requests. Implementations are notified from the request
+ * processing path, so they must be thread-safe and should not block. All the
+ * latencies are expressed in nanoseconds.
+ *
+ * @see TransactionMetricsProvider
+ */
+public interface TransactionMetrics {
+
+	/**
+	 * A transaction has been started.
+	 *
+	 * @param latency time spent starting the transaction
+	 */
+	void transactionStarted(long latency);
+
+	/**
+	 * A transaction has been committed.
+	 *
+	 * @param latency time spent committing the transaction
+	 */
+	void transactionCommitted(long latency);
+
+	/**
+	 * A transaction has been rolled back, either explicitly or because it was
+	 * still active when the operation was completed.
+	 *
+	 * @param latency time spent rolling back the transaction
+	 */
+	void transactionRolledBack(long latency);
+
+	/**
+	 * An operation bound to a transaction has been completed.
+	 *
+	 * @param duration time elapsed since the transaction was started
+	 */
+	void operationCompleted(long duration);
+
+}
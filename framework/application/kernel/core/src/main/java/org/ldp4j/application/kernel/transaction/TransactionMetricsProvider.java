@@ -0,0 +1,104 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-core:0.2.1
+ *   Bundle      : ldp4j-application-kernel-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.transaction;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.ldp4j.application.kernel.util.Extensions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Provides the {@link TransactionMetrics} used by the kernel. The
+ * implementation is selected using the {@value #TRANSACTION_METRICS} system
+ * property, which may be either {@value #NONE} (the default), {@value #JMX},
+ * or the fully qualified name of a class implementing
+ * {@link TransactionMetrics} with a public no-argument constructor. When
+ * {@value #JMX} is selected the statistics are registered in the platform
+ * MBean server as {@value #OBJECT_NAME}.
+ */
+public final class TransactionMetricsProvider {
+
+	private static final class Holder {
+
+		private static final TransactionMetrics INSTANCE=newInstance();
+
+		private Holder() {
+		}
+
+	}
+
+	static final String TRANSACTION_METRICS = "org.ldp4j.application.kernel.transaction.metrics";
+
+	static final String NONE = "none";
+	static final String JMX  = "jmx";
+
+	static final String OBJECT_NAME = "org.ldp4j.application.kernel:type=TransactionStatistics";
+
+	private static final Logger LOGGER=LoggerFactory.getLogger(TransactionMetricsProvider.class);
+
+	private TransactionMetricsProvider() {
+	}
+
+	private static TransactionMetrics jmxMetrics() {
+		TransactionStatistics statistics=new TransactionStatistics();
+		try {
+			MBeanServer server=ManagementFactory.getPlatformMBeanServer();
+			ObjectName name=new ObjectName(OBJECT_NAME);
+			if(server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+			server.registerMBean(statistics,name);
+		} catch (JMException e) {
+			LOGGER.warn("Could not register transaction statistics MBean '{}'",OBJECT_NAME,e);
+		}
+		return statistics;
+	}
+
+	static TransactionMetrics newInstance() {
+		String metrics=System.getProperty(TRANSACTION_METRICS,NONE).trim();
+		TransactionMetrics result=null;
+		if(NONE.equalsIgnoreCase(metrics)) {
+			result=new NullTransactionMetrics();
+		} else if(JMX.equalsIgnoreCase(metrics)) {
+			result=jmxMetrics();
+		} else {
+			result=Extensions.newInstance(TransactionMetrics.class,metrics,new NullTransactionMetrics());
+		}
+		LOGGER.debug("Using transaction metrics {}",result.getClass().getName());
+		return result;
+	}
+
+	public static TransactionMetrics metrics() {
+		return Holder.INSTANCE;
+	}
+
+}
@@ -0,0 +1,164 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-core:0.2.1
+ *   Bundle      : ldp4j-application-kernel-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.transaction;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * {@link TransactionMetrics} implementation based on lock-free counters,
+ * which are exposed through JMX by the {@link TransactionMetricsProvider}.
+ */
+final class TransactionStatistics implements TransactionMetrics, TransactionStatisticsMBean {
+
+	private static final class Timer {
+
+		private final AtomicLong count=new AtomicLong();
+		private final AtomicLong total=new AtomicLong();
+		private final AtomicLong max=new AtomicLong();
+
+		void record(long value) {
+			this.count.incrementAndGet();
+			this.total.addAndGet(value);
+			long current=this.max.get();
+			while(value>current && !this.max.compareAndSet(current,value)) {
+				current=this.max.get();
+			}
+		}
+
+		long count() {
+			return this.count.get();
+		}
+
+		long total() {
+			return this.total.get();
+		}
+
+		long max() {
+			return this.max.get();
+		}
+
+		void reset() {
+			this.count.set(0);
+			this.total.set(0);
+			this.max.set(0);
+		}
+
+	}
+
+	private final Timer started=new Timer();
+	private final Timer committed=new Timer();
+	private final Timer rolledBack=new Timer();
+	private final Timer completed=new Timer();
+
+	@Override
+	public void transactionStarted(long latency) {
+		this.started.record(latency);
+	}
+
+	@Override
+	public void transactionCommitted(long latency) {
+		this.committed.record(latency);
+	}
+
+	@Override
+	public void transactionRolledBack(long latency) {
+		this.rolledBack.record(latency);
+	}
+
+	@Override
+	public void operationCompleted(long duration) {
+		this.completed.record(duration);
+	}
+
+	@Override
+	public long getStartedTransactions() {
+		return this.started.count();
+	}
+
+	@Override
+	public long getCommittedTransactions() {
+		return this.committed.count();
+	}
+
+	@Override
+	public long getRolledBackTransactions() {
+		return this.rolledBack.count();
+	}
+
+	@Override
+	public long getCompletedOperations() {
+		return this.completed.count();
+	}
+
+	@Override
+	public long getTotalStartLatency() {
+		return this.started.total();
+	}
+
+	@Override
+	public long getTotalCommitLatency() {
+		return this.committed.total();
+	}
+
+	@Override
+	public long getTotalRollbackLatency() {
+		return this.rolledBack.total();
+	}
+
+	@Override
+	public long getTotalOperationDuration() {
+		return this.completed.total();
+	}
+
+	@Override
+	public long getMaxOperationDuration() {
+		return this.completed.max();
+	}
+
+	@Override
+	public void reset() {
+		this.started.reset();
+		this.committed.reset();
+		this.rolledBack.reset();
+		this.completed.reset();
+	}
+
+	@Override
+	public String toString() {
+		return
+			MoreObjects.
+				toStringHelper(getClass()).
+					add("started",getStartedTransactions()).
+					add("committed",getCommittedTransactions()).
+					add("rolledBack",getRolledBackTransactions()).
+					add("completed",getCompletedOperations()).
+					toString();
+	}
+
+}
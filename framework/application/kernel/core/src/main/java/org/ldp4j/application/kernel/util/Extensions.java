@@ -0,0 +1,74 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-core:0.2.1
+ *   Bundle      : ldp4j-application-kernel-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.util;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Utility methods for instantiating the implementations of the extension
+ * points of the kernel that can be configured using a fully qualified class
+ * name.
+ */
+public final class Extensions {
+
+	private static final Logger LOGGER=LoggerFactory.getLogger(Extensions.class);
+
+	private Extensions() {
+	}
+
+	/**
+	 * Create an instance of the specified class using its public no-argument
+	 * constructor. The class is loaded using the context class loader of the
+	 * current thread.
+	 *
+	 * @param type
+	 *            the extension point that the class must implement
+	 * @param className
+	 *            the fully qualified name of the class to instantiate
+	 * @param fallback
+	 *            the instance to use if the class cannot be instantiated
+	 * @return an instance of the specified class, or the fallback instance if
+	 *         the class could not be loaded, does not implement the extension
+	 *         point, or could not be instantiated
+	 */
+	public static <T> T newInstance(Class<T> type, String className, T fallback) {
+		checkNotNull(type,"Extension point cannot be null");
+		checkNotNull(className,"Class name cannot be null");
+		checkNotNull(fallback,"Fallback instance cannot be null");
+		try {
+			Class<?> clazz=Class.forName(className,true,Thread.currentThread().getContextClassLoader());
+			return clazz.asSubclass(type).newInstance();
+		} catch (Exception e) {
+			LOGGER.warn("Could not instantiate {} '{}': using {} instead",type.getSimpleName(),className,fallback.getClass().getName(),e);
+			return fallback;
+		}
+	}
+
+}
@@ -35,6 +35,7 @@ import org.ldp4j.application.kernel.lifecycle.LifecycleTestSuite;
 import org.ldp4j.application.kernel.resource.ResourceTestSuite;
 import org.ldp4j.application.kernel.session.SessionTestSuite;
 import org.ldp4j.application.kernel.template.TemplateTestSuite;
+import org.ldp4j.application.kernel.transaction.TransactionTestSuite;
 
 @RunWith(Suite.class)
 @SuiteClasses({
@@ -44,6 +45,7 @@ import org.ldp4j.application.kernel.template.TemplateTestSuite;
 	SessionTestSuite.class,
 	TemplateTestSuite.class,
 	EngineTestSuite.class,
+	TransactionTestSuite.class,
 })
 public class AllTestSuites {
 
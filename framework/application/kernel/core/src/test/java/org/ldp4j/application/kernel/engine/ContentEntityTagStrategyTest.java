@@ -0,0 +1,163 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-core:0.2.1
+ *   Bundle      : ldp4j-application-kernel-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.engine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import java.net.URI;
+import java.util.Date;
+
+import org.junit.Test;
+import org.ldp4j.application.data.DataSet;
+import org.ldp4j.application.data.DataSets;
+import org.ldp4j.application.data.Literals;
+import org.ldp4j.application.data.ManagedIndividual;
+import org.ldp4j.application.data.ManagedIndividualId;
+import org.ldp4j.application.data.NamingScheme;
+import org.ldp4j.application.engine.context.EntityTag;
+import org.ldp4j.application.kernel.endpoint.Endpoint;
+import org.ldp4j.application.kernel.resource.ResourceId;
+
+public class ContentEntityTagStrategyTest {
+
+	private static final URI TITLE = URI.create("http://purl.org/dc/terms/title");
+
+	private static final class TestEndpoint implements Endpoint {
+
+		private final String path;
+		private EntityTag entityTag;
+
+		private TestEndpoint(String path, String version) {
+			this.path=path;
+			this.entityTag=EntityTag.createStrong(version);
+		}
+
+		@Override
+		public String path() {
+			return this.path;
+		}
+
+		@Override
+		public ResourceId resourceId() {
+			return null;
+		}
+
+		@Override
+		public Date created() {
+			return null;
+		}
+
+		@Override
+		public Date deleted() {
+			return null;
+		}
+
+		@Override
+		public EntityTag entityTag() {
+			return this.entityTag;
+		}
+
+		@Override
+		public Date lastModified() {
+			return null;
+		}
+
+		@Override
+		public void modify(EntityTag newEntityTag, Date newLastModified) {
+			this.entityTag=newEntityTag;
+		}
+
+		@Override
+		public void delete(Date deleted) {
+		}
+
+	}
+
+	private static final class CountingRepresentation implements EntityTagStrategy.Representation {
+
+		private final String title;
+		private int retrievals;
+
+		private CountingRepresentation(String title) {
+			this.title=title;
+		}
+
+		@Override
+		public DataSet get() {
+			this.retrievals++;
+			DataSet dataSet=DataSets.createDataSet(NamingScheme.getDefault().name("representation"));
+			ManagedIndividualId id=ManagedIndividualId.createId(NamingScheme.getDefault().name("resource"),"template");
+			dataSet.individual(id,ManagedIndividual.class).addValue(TITLE,Literals.newLiteral(this.title));
+			return dataSet;
+		}
+
+	}
+
+	@Test
+	public void testRepresentationIsOnlyRetrievedOncePerVersion() throws Exception {
+		ContentEntityTagStrategy sut=new ContentEntityTagStrategy(10);
+		TestEndpoint endpoint=new TestEndpoint("resource/","1");
+		CountingRepresentation representation=new CountingRepresentation("title");
+		EntityTag first=sut.entityTag(endpoint,representation);
+		EntityTag second=sut.entityTag(endpoint,representation);
+		assertThat(second,equalTo(first));
+		assertThat(representation.retrievals,equalTo(1));
+	}
+
+	@Test
+	public void testNewVersionsAreRecomputed() throws Exception {
+		ContentEntityTagStrategy sut=new ContentEntityTagStrategy(10);
+		TestEndpoint endpoint=new TestEndpoint("resource/","1");
+		EntityTag first=sut.entityTag(endpoint,new CountingRepresentation("title"));
+		endpoint.modify(EntityTag.createStrong("2"),new Date());
+		CountingRepresentation representation=new CountingRepresentation("another title");
+		EntityTag second=sut.entityTag(endpoint,representation);
+		assertThat(representation.retrievals,equalTo(1));
+		assertThat(second,not(equalTo(first)));
+	}
+
+	@Test
+	public void testSameContentYieldsSameEntityTag() throws Exception {
+		TestEndpoint endpoint=new TestEndpoint("resource/","1");
+		EntityTag first=new ContentEntityTagStrategy(10).entityTag(endpoint,new CountingRepresentation("title"));
+		EntityTag second=new ContentEntityTagStrategy(10).entityTag(endpoint,new CountingRepresentation("title"));
+		assertThat(second,equalTo(first));
+	}
+
+	@Test
+	public void testDisabledCacheAlwaysRetrievesRepresentation() throws Exception {
+		ContentEntityTagStrategy sut=new ContentEntityTagStrategy(0);
+		TestEndpoint endpoint=new TestEndpoint("resource/","1");
+		CountingRepresentation representation=new CountingRepresentation("title");
+		sut.entityTag(endpoint,representation);
+		sut.entityTag(endpoint,representation);
+		assertThat(representation.retrievals,equalTo(2));
+	}
+
+}
@@ -0,0 +1,117 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-core:0.2.1
+ *   Bundle      : ldp4j-application-kernel-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.engine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+import java.net.URI;
+
+import org.junit.Test;
+import org.ldp4j.application.data.DataSet;
+import org.ldp4j.application.data.DataSets;
+import org.ldp4j.application.data.ExternalIndividual;
+import org.ldp4j.application.data.Literals;
+import org.ldp4j.application.data.ManagedIndividual;
+import org.ldp4j.application.data.ManagedIndividualId;
+import org.ldp4j.application.data.NamingScheme;
+
+public class DataSetDigestTest {
+
+	private static final URI TITLE = URI.create("http://purl.org/dc/terms/title");
+	private static final URI SEE_ALSO = URI.create("http://www.w3.org/2000/01/rdf-schema#seeAlso");
+	private static final URI EXTERNAL = URI.create("http://www.example.org/external");
+	private static final URI XSD_STRING = URI.create("http://www.w3.org/2001/XMLSchema#string");
+	private static final URI XSD_NORMALIZED_STRING = URI.create("http://www.w3.org/2001/XMLSchema#normalizedString");
+
+	private ManagedIndividualId resourceId() {
+		return ManagedIndividualId.createId(NamingScheme.getDefault().name("resource"),"template");
+	}
+
+	private DataSet dataSet(String name) {
+		return DataSets.createDataSet(NamingScheme.getDefault().name(name));
+	}
+
+	@Test
+	public void testDigestDoesNotDependOnInsertionOrder() throws Exception {
+		DataSet first=dataSet("first");
+		ManagedIndividual firstIndividual=first.individual(resourceId(),ManagedIndividual.class);
+		firstIndividual.addValue(TITLE,Literals.newLiteral("title"));
+		firstIndividual.addValue(SEE_ALSO,first.individual(EXTERNAL,ExternalIndividual.class));
+
+		DataSet second=dataSet("second");
+		second.individual(EXTERNAL,ExternalIndividual.class);
+		ManagedIndividual secondIndividual=second.individual(resourceId(),ManagedIndividual.class);
+		secondIndividual.addValue(SEE_ALSO,second.individual(EXTERNAL,ExternalIndividual.class));
+		secondIndividual.addValue(TITLE,Literals.newLiteral("title"));
+
+		assertThat(DataSetDigest.digest(first),equalTo(DataSetDigest.digest(second)));
+	}
+
+	@Test
+	public void testDigestDependsOnContent() throws Exception {
+		DataSet first=dataSet("first");
+		first.individual(resourceId(),ManagedIndividual.class).addValue(TITLE,Literals.newLiteral("title"));
+
+		DataSet second=dataSet("second");
+		second.individual(resourceId(),ManagedIndividual.class).addValue(TITLE,Literals.newLiteral("another title"));
+
+		assertThat(DataSetDigest.digest(first),not(equalTo(DataSetDigest.digest(second))));
+	}
+
+	@Test
+	public void testDigestDependsOnLiteralDatatypeAndLanguage() throws Exception {
+		DataSet typed=dataSet("typed");
+		typed.individual(resourceId(),ManagedIndividual.class).addValue(TITLE,Literals.newTypedLiteral("1",XSD_STRING));
+
+		DataSet otherType=dataSet("otherType");
+		otherType.individual(resourceId(),ManagedIndividual.class).addValue(TITLE,Literals.newTypedLiteral("1",XSD_NORMALIZED_STRING));
+
+		DataSet english=dataSet("english");
+		english.individual(resourceId(),ManagedIndividual.class).addValue(TITLE,Literals.newLanguageLiteral("1","en"));
+
+		DataSet spanish=dataSet("spanish");
+		spanish.individual(resourceId(),ManagedIndividual.class).addValue(TITLE,Literals.newLanguageLiteral("1","es"));
+
+		assertThat(DataSetDigest.digest(typed),not(equalTo(DataSetDigest.digest(otherType))));
+		assertThat(DataSetDigest.digest(typed),not(equalTo(DataSetDigest.digest(english))));
+		assertThat(DataSetDigest.digest(english),not(equalTo(DataSetDigest.digest(spanish))));
+	}
+
+	@Test
+	public void testDigestKeepsIdentifierComponentsApart() throws Exception {
+		DataSet first=dataSet("first");
+		first.individual(ManagedIndividualId.createId(NamingScheme.getDefault().name("resource"),"template"),ManagedIndividual.class).addValue(TITLE,Literals.newLiteral("title"));
+
+		DataSet second=dataSet("second");
+		second.individual(ManagedIndividualId.createId(NamingScheme.getDefault().name("resourcetemplate"),""),ManagedIndividual.class).addValue(TITLE,Literals.newLiteral("title"));
+
+		assertThat(DataSetDigest.digest(first),not(equalTo(DataSetDigest.digest(second))));
+	}
+
+}
\ No newline at end of file
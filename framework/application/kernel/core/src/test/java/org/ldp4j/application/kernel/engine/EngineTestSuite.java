@@ -33,6 +33,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
 	CoreRuntimeDelegateTest.class,
+	ContentEntityTagStrategyTest.class,
+	DataSetDigestTest.class,
 })
 public class EngineTestSuite {
 
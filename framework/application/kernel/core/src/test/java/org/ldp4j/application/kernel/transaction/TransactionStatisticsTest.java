@@ -0,0 +1,84 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-core:0.2.1
+ *   Bundle      : ldp4j-application-kernel-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.transaction;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+import org.junit.Test;
+
+public class TransactionStatisticsTest {
+
+	@Test
+	public void testCountersAndLatenciesAreAccumulated() throws Exception {
+		TransactionStatistics sut=new TransactionStatistics();
+		sut.transactionStarted(10);
+		sut.transactionStarted(20);
+		sut.transactionCommitted(5);
+		sut.transactionRolledBack(7);
+		sut.operationCompleted(100);
+		sut.operationCompleted(300);
+		assertThat(sut.getStartedTransactions(),equalTo(2L));
+		assertThat(sut.getTotalStartLatency(),equalTo(30L));
+		assertThat(sut.getCommittedTransactions(),equalTo(1L));
+		assertThat(sut.getTotalCommitLatency(),equalTo(5L));
+		assertThat(sut.getRolledBackTransactions(),equalTo(1L));
+		assertThat(sut.getTotalRollbackLatency(),equalTo(7L));
+		assertThat(sut.getCompletedOperations(),equalTo(2L));
+		assertThat(sut.getTotalOperationDuration(),equalTo(400L));
+		assertThat(sut.getMaxOperationDuration(),equalTo(300L));
+	}
+
+	@Test
+	public void testResetClearsAllCounters() throws Exception {
+		TransactionStatistics sut=new TransactionStatistics();
+		sut.transactionStarted(10);
+		sut.operationCompleted(100);
+		sut.reset();
+		assertThat(sut.getStartedTransactions(),equalTo(0L));
+		assertThat(sut.getCompletedOperations(),equalTo(0L));
+		assertThat(sut.getMaxOperationDuration(),equalTo(0L));
+	}
+
+	@Test
+	public void testMetricsAreDisabledByDefault() throws Exception {
+		System.clearProperty(TransactionMetricsProvider.TRANSACTION_METRICS);
+		assertThat(TransactionMetricsProvider.newInstance(),instanceOf(NullTransactionMetrics.class));
+	}
+
+	@Test
+	public void testJmxMetricsCanBeSelected() throws Exception {
+		System.setProperty(TransactionMetricsProvider.TRANSACTION_METRICS,TransactionMetricsProvider.JMX);
+		try {
+			assertThat(TransactionMetricsProvider.newInstance(),instanceOf(TransactionStatistics.class));
+		} finally {
+			System.clearProperty(TransactionMetricsProvider.TRANSACTION_METRICS);
+		}
+	}
+
+}
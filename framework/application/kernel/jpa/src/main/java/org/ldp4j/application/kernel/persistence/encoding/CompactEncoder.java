@@ -0,0 +1,230 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-jpa:0.2.1
+ *   Bundle      : ldp4j-application-kernel-jpa-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.persistence.encoding;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.Map;
+
+import org.ldp4j.application.data.Name;
+import org.ldp4j.application.data.NamingScheme;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.BaseEncoding;
+
+/**
+ * Compact identifier value encoder. Values are encoded as a one character
+ * type tag, a colon, and the canonical string form of the value (i.e.,
+ * {@code I:12} or {@code S:resource}), so that encoding does not require
+ * Java serialization and the encoded values are short and directly
+ * comparable. Values of other types are tagged with {@code J} and encoded
+ * as Base64 of their Java serialization.<br>
+ * Untagged data is decoded as produced by the legacy {@link ValueEncoder}
+ * (a Base64 string never contains a colon), so that values persisted
+ * before the introduction of this encoder can still be read.
+ */
+final class CompactEncoder extends Encoder {
+
+	private abstract static class Codec {
+
+		private final char tag;
+		private final Class<?> type;
+
+		private Codec(char tag, Class<?> type) {
+			this.tag=tag;
+			this.type=type;
+		}
+
+		final char tag() {
+			return this.tag;
+		}
+
+		final Class<?> type() {
+			return this.type;
+		}
+
+		String encode(Serializable value) {
+			return value.toString();
+		}
+
+		abstract Serializable decode(String value) throws IOException;
+
+	}
+
+	private static final char SEPARATOR = ':';
+
+	private static final char SERIALIZED = 'J';
+
+	private static final Codec[] CODECS={
+		new Codec('S',String.class) {
+			@Override
+			Serializable decode(String value) {
+				return value;
+			}
+		},
+		new Codec('U',URI.class) {
+			@Override
+			Serializable decode(String value) {
+				return URI.create(value);
+			}
+		},
+		new Codec('I',Integer.class) {
+			@Override
+			Serializable decode(String value) {
+				return Integer.valueOf(value);
+			}
+		},
+		new Codec('L',Long.class) {
+			@Override
+			Serializable decode(String value) {
+				return Long.valueOf(value);
+			}
+		},
+		new Codec('H',Short.class) {
+			@Override
+			Serializable decode(String value) {
+				return Short.valueOf(value);
+			}
+		},
+		new Codec('B',Byte.class) {
+			@Override
+			Serializable decode(String value) {
+				return Byte.valueOf(value);
+			}
+		},
+		new Codec('D',Double.class) {
+			@Override
+			Serializable decode(String value) {
+				return Double.valueOf(value);
+			}
+		},
+		new Codec('F',Float.class) {
+			@Override
+			Serializable decode(String value) {
+				return Float.valueOf(value);
+			}
+		},
+		new Codec('N',BigInteger.class) {
+			@Override
+			Serializable decode(String value) {
+				return new BigInteger(value);
+			}
+		},
+		new Codec('M',BigDecimal.class) {
+			@Override
+			Serializable decode(String value) {
+				return new BigDecimal(value);
+			}
+		},
+		new Codec(SERIALIZED,Serializable.class) {
+			@Override
+			String encode(Serializable value) {
+				try {
+					return BaseEncoding.base64().encode(SerializationUtils.serialize(value));
+				} catch (IOException e) {
+					throw new AssertionError("Serialization should not fail",e);
+				}
+			}
+			@Override
+			Serializable decode(String value) throws IOException {
+				return SerializationUtils.deserialize(BaseEncoding.base64().decode(value),Serializable.class);
+			}
+		},
+	};
+
+	private static final Map<Class<?>,Codec> CODEC_BY_TYPE;
+	private static final Map<Character,Codec> CODEC_BY_TAG;
+
+	static {
+		ImmutableMap.Builder<Class<?>,Codec> byType=ImmutableMap.builder();
+		ImmutableMap.Builder<Character,Codec> byTag=ImmutableMap.builder();
+		for(Codec codec:CODECS) {
+			byType.put(codec.type(),codec);
+			byTag.put(codec.tag(),codec);
+		}
+		CODEC_BY_TYPE=byType.build();
+		CODEC_BY_TAG=byTag.build();
+	}
+
+	private final Encoder legacyEncoder;
+
+	CompactEncoder(Encoder legacyEncoder) {
+		this.legacyEncoder=legacyEncoder;
+	}
+
+	private static Codec codecOf(Serializable value) {
+		Codec codec=CODEC_BY_TYPE.get(value.getClass());
+		if(codec==null) {
+			codec=CODEC_BY_TAG.get(SERIALIZED);
+		}
+		return codec;
+	}
+
+	private static boolean isTagged(String data) {
+		return data.length()>1 && data.charAt(1)==SEPARATOR;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String encode(Name<?> name) {
+		if(name==null) {
+			return null;
+		}
+		Serializable value=name.id();
+		Codec codec=codecOf(value);
+		return new StringBuilder().append(codec.tag()).append(SEPARATOR).append(codec.encode(value)).toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T extends Serializable> Name<T> decode(String data) {
+		if(data==null) {
+			return null;
+		}
+		if(!isTagged(data)) {
+			return this.legacyEncoder.decode(data);
+		}
+		Codec codec=CODEC_BY_TAG.get(data.charAt(0));
+		if(codec==null) {
+			throw new AssertionError("Unknown encoding tag '"+data.charAt(0)+"'");
+		}
+		try {
+			return (Name<T>)NamingScheme.getDefault().name(codec.decode(data.substring(2)));
+		} catch (IOException e) {
+			throw new AssertionError("Deserialization should not fail",e);
+		}
+	}
+
+}
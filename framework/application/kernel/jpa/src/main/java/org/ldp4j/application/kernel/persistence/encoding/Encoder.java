@@ -34,6 +34,7 @@ public abstract class Encoder {
 
 	private static final NameEncoder NAME_ENCODER = new NameEncoder();
 	private static final ValueEncoder VALUE_ENCODER = new ValueEncoder();
+	private static final CompactEncoder COMPACT_ENCODER = new CompactEncoder(VALUE_ENCODER);
 
 	public abstract String encode(Name<?> name);
 
@@ -47,4 +48,13 @@ public abstract class Encoder {
 		return Encoder.VALUE_ENCODER;
 	}
 
+	/**
+	 * Encoder that produces short, type-tagged canonical strings, and that
+	 * is also able to decode the data produced by the
+	 * {@link #valueEncoder() value encoder}.
+	 */
+	public static Encoder compactEncoder() {
+		return Encoder.COMPACT_ENCODER;
+	}
+
 }
\ No newline at end of file
@@ -39,11 +39,26 @@ abstract class AbstractJPAResource {
 
 	private TemplateLibrary templateLibrary;
 
+	private JPAMemberRepository memberRepository;
+
 	final void setTemplateLibrary(TemplateLibrary templateLibrary) {
 		this.templateLibrary = templateLibrary;
 		init();
 	}
 
+	final void setMemberRepository(JPAMemberRepository memberRepository) {
+		this.memberRepository = memberRepository;
+	}
+
+	/**
+	 * The repository used for querying the members of containers, or
+	 * {@code null} if the resource has not been bound to a persistence
+	 * context yet.
+	 */
+	final JPAMemberRepository getMemberRepository() {
+		return this.memberRepository;
+	}
+
 	protected abstract void init();
 
 	final TemplateLibrary getTemplateLibrary() {
@@ -0,0 +1,96 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-jpa:0.2.1
+ *   Bundle      : ldp4j-application-kernel-jpa-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.persistence.jpa;
+
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+
+/**
+ * Opt-in second-level and query cache configuration for the kernel
+ * persistence unit. The cache is enabled by setting the
+ * {@value #CACHE_REGION_FACTORY} system property to the class name of the
+ * Hibernate region factory to use (e.g.,
+ * {@code org.hibernate.cache.ehcache.SingletonEhCacheRegionFactory}, which
+ * requires the {@code hibernate-ehcache} module to be available). The
+ * property is read once, when the runtime delegate is created. Cached
+ * entries are invalidated by Hibernate whenever the backing entities are
+ * persisted, updated or removed.
+ */
+final class CacheSettings {
+
+	static final String CACHE_REGION_FACTORY="org.ldp4j.application.kernel.persistence.jpa.cache.regionFactory";
+
+	private static final String READ_WRITE="read-write";
+
+	private static final String RESOURCE=JPAResource.class.getName();
+	private static final String CONTAINER=JPAContainer.class.getName();
+
+	private final String regionFactory;
+
+	private CacheSettings(String regionFactory) {
+		this.regionFactory=regionFactory;
+	}
+
+	boolean isEnabled() {
+		return this.regionFactory!=null;
+	}
+
+	/**
+	 * The persistence unit properties to override for enabling the cache,
+	 * if any.
+	 */
+	Map<String,Object> properties() {
+		if(this.regionFactory==null) {
+			return ImmutableMap.of();
+		}
+		return
+			ImmutableMap.
+				<String,Object>builder().
+					put("javax.persistence.sharedCache.mode","ENABLE_SELECTIVE").
+					put("hibernate.cache.use_second_level_cache","true").
+					put("hibernate.cache.use_query_cache","true").
+					put("hibernate.cache.region.factory_class",this.regionFactory).
+					put("hibernate.cache.default_cache_concurrency_strategy",READ_WRITE).
+					put("hibernate.collectioncache."+RESOURCE+".attachments",READ_WRITE).
+					put("hibernate.collectioncache."+RESOURCE+".failures",READ_WRITE).
+					put("hibernate.collectioncache."+CONTAINER+".slugs",READ_WRITE).
+					build();
+	}
+
+	/**
+	 * Load the cache configuration from the system properties.
+	 */
+	static CacheSettings load() {
+		String regionFactory=System.getProperty(CACHE_REGION_FACTORY);
+		if(regionFactory==null || regionFactory.trim().isEmpty()) {
+			return new CacheSettings(null);
+		}
+		return new CacheSettings(regionFactory.trim());
+	}
+
+}
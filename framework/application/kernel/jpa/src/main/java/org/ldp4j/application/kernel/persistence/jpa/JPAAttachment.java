@@ -124,6 +124,13 @@ final class JPAAttachment implements Attachment {
 		return result;
 	}
 
+	/**
+	 * Refresh the encoded form of the keys using the compact encoding.
+	 */
+	void reencodeKeys() {
+		this.resourceId=Key.reencode(this.resourceId);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
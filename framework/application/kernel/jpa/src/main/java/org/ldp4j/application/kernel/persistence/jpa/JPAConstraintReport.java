@@ -32,6 +32,7 @@ import org.ldp4j.application.data.constraints.Constraints;
 import org.ldp4j.application.engine.context.HttpRequest;
 import org.ldp4j.application.kernel.constraints.ConstraintReport;
 import org.ldp4j.application.kernel.constraints.ConstraintReportId;
+import org.ldp4j.application.kernel.constraints.ConstraintReportRetentionPolicy;
 
 import com.google.common.base.MoreObjects;
 
@@ -47,6 +48,13 @@ final class JPAConstraintReport implements ConstraintReport {
 	private HttpRequest request;
 	private Constraints constraints;
 
+	/**
+	 * Estimated storage required by the report, used for enforcing the
+	 * retention policy without loading the report contents. Reports stored
+	 * by previous versions have no size.
+	 */
+	private Long reportSize;
+
 	private JPAConstraintReport() {
 		// JPA Friendly
 	}
@@ -57,6 +65,7 @@ final class JPAConstraintReport implements ConstraintReport {
 		this.date = date;
 		this.request = request;
 		this.constraints = constraints;
+		this.reportSize = ConstraintReportRetentionPolicy.sizeOf(this);
 	}
 
 	/**
@@ -91,6 +100,10 @@ final class JPAConstraintReport implements ConstraintReport {
 		return this.constraints;
 	}
 
+	Long reportSize() {
+		return this.reportSize;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -105,6 +118,7 @@ final class JPAConstraintReport implements ConstraintReport {
 					add("date",this.date.getTime()).
 					add("request",this.request).
 					add("constraints",this.constraints).
+					add("reportSize",this.reportSize).
 					toString();
 	}
 
@@ -26,24 +26,61 @@
  */
 package org.ldp4j.application.kernel.persistence.jpa;
 
+import java.util.Date;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.persistence.EntityManager;
 import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Root;
 
 import org.ldp4j.application.kernel.constraints.ConstraintReport;
 import org.ldp4j.application.kernel.constraints.ConstraintReportId;
 import org.ldp4j.application.kernel.constraints.ConstraintReportRepository;
+import org.ldp4j.application.kernel.constraints.ConstraintReportRetentionPolicy;
+import org.ldp4j.application.kernel.constraints.ConstraintReportRetentionStatistics;
+import org.ldp4j.application.kernel.constraints.ConstraintReportRetentionStatistics.Cause;
 import org.ldp4j.application.kernel.resource.Resource;
+import org.ldp4j.application.kernel.resource.ResourceId;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 final class JPAConstraintReportRepository implements ConstraintReportRepository {
 
+	private static final class Eviction {
+
+		private final List<Long> keys=Lists.newArrayList();
+		private long bytes;
+
+		void add(long key, long size) {
+			this.keys.add(key);
+			this.bytes+=size;
+		}
+
+	}
+
+	private static final int BATCH_SIZE=100;
+
 	private final EntityManagerProvider provider;
+	private final ConstraintReportRetentionPolicy policy;
+	private final ConstraintReportRetentionStatistics statistics;
 
 	JPAConstraintReportRepository(EntityManagerProvider provider) {
+		this(provider,ConstraintReportRetentionPolicy.fromSystemProperties(),ConstraintReportRetentionStatistics.getInstance());
+	}
+
+	JPAConstraintReportRepository(EntityManagerProvider provider, ConstraintReportRetentionPolicy policy, ConstraintReportRetentionStatistics statistics) {
 		this.provider = provider;
+		this.policy = policy;
+		this.statistics = statistics;
+	}
+
+	ConstraintReportRetentionPolicy policy() {
+		return this.policy;
 	}
 
 	private EntityManager entityManager() {
@@ -101,4 +138,76 @@ final class JPAConstraintReportRepository implements ConstraintReportRepository
 		}
 	}
 
+	/**
+	 * Evict the reports that are not to be retained according to the
+	 * retention policy at the specified instant. Only the metadata of the
+	 * reports is loaded: reports are processed from the newest to the
+	 * oldest, so that the oldest reports of a resource are the first ones
+	 * evicted when the resource exceeds its limit, and the oldest reports
+	 * overall are the first ones evicted when the size budget is exceeded.
+	 * The newest report is always retained. Must be called within a
+	 * transaction.
+	 *
+	 * @return the number of reports evicted
+	 */
+	int evict(long now) {
+		EntityManager em = entityManager();
+
+		CriteriaBuilder cb=em.getCriteriaBuilder();
+
+		CriteriaQuery<Object[]> query=cb.createQuery(Object[].class);
+		Root<JPAConstraintReport> descriptor = query.from(JPAConstraintReport.class);
+		query.
+			multiselect(
+				descriptor.get("primaryKey"),
+				descriptor.get("id"),
+				descriptor.get("date"),
+				descriptor.get("reportSize")).
+			orderBy(
+				cb.desc(descriptor.get("date")),
+				cb.desc(descriptor.get("primaryKey")));
+
+		Map<Cause,Eviction> evictions=new EnumMap<Cause,Eviction>(Cause.class);
+		for(Cause cause:Cause.values()) {
+			evictions.put(cause,new Eviction());
+		}
+		Map<ResourceId,Integer> reportsPerResource=Maps.newHashMap();
+		long expirationThreshold=this.policy.expirationThreshold(now);
+		long retainedReports=0;
+		long retainedBytes=0;
+		for(Object[] row:em.createQuery(query).getResultList()) {
+			long key=(Long)row[0];
+			ResourceId resourceId=((ConstraintReportId)row[1]).resourceId();
+			Date date=(Date)row[2];
+			long size=row[3]==null?0:(Long)row[3];
+			Integer count=reportsPerResource.get(resourceId);
+			int reports=count==null?1:count+1;
+			if(date!=null && date.getTime()<expirationThreshold) {
+				evictions.get(Cause.EXPIRED).add(key,size);
+			} else if(this.policy.exceedsReportsPerResource(reports)) {
+				evictions.get(Cause.RESOURCE_LIMIT).add(key,size);
+			} else if(retainedReports>0 && this.policy.exceedsBytes(retainedBytes+size)) {
+				evictions.get(Cause.SIZE_LIMIT).add(key,size);
+			} else {
+				reportsPerResource.put(resourceId,reports);
+				retainedReports++;
+				retainedBytes+=size;
+			}
+		}
+
+		int evicted=0;
+		for(Map.Entry<Cause,Eviction> entry:evictions.entrySet()) {
+			Eviction eviction=entry.getValue();
+			for(List<Long> batch:Lists.partition(eviction.keys,BATCH_SIZE)) {
+				CriteriaDelete<JPAConstraintReport> delete=cb.createCriteriaDelete(JPAConstraintReport.class);
+				Root<JPAConstraintReport> target=delete.from(JPAConstraintReport.class);
+				delete.where(target.get("primaryKey").in(batch));
+				evicted+=em.createQuery(delete).executeUpdate();
+			}
+			this.statistics.reportsEvicted(entry.getKey(),eviction.keys.size(),eviction.bytes);
+		}
+		this.statistics.sweepCompleted(retainedReports,retainedBytes);
+		return evicted;
+	}
+
 }
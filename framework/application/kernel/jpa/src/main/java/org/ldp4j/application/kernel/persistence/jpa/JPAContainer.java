@@ -26,9 +26,11 @@
  */
 package org.ldp4j.application.kernel.persistence.jpa;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -40,15 +42,38 @@ import org.ldp4j.application.kernel.resource.ResourceVisitor;
 import org.ldp4j.application.kernel.resource.Slug;
 import org.ldp4j.application.kernel.template.ContainerTemplate;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Ordering;
+import com.google.common.primitives.Longs;
 
 final class JPAContainer extends JPAResource implements Container {
 
+	private static final class MemberNumberOrdering extends Ordering<JPAMember> {
+
+		@Override
+		public int compare(JPAMember left, JPAMember right) {
+			return Longs.compare(left.number(),right.number());
+		}
+
+	}
+
+	private static final Ordering<JPAMember> MEMBER_NUMBER_ORDERING=new MemberNumberOrdering();
+
 	/**
-	 * Not final to enable its usage in JPA
+	 * Members added before the container is persisted. The members of a
+	 * persistent container are only accessed through targeted queries, so
+	 * that the whole membership is never loaded.
+	 */
+	private Map<Key,JPAMember> pendingMembers;
+
+	/**
+	 * Whether or not the container has been persisted or retrieved from the
+	 * repository.
 	 */
-	private Map<Key,JPAMember> members;
+	private boolean persistent;
 
 	/**
 	 * Not final to enable its usage in JPA
@@ -64,11 +89,12 @@ final class JPAContainer extends JPAResource implements Container {
 	private JPAContainer() { // NOSONAR
 		super();
 		// JPA Friendly
+		this.pendingMembers=Maps.newLinkedHashMap();
 	}
 
 	JPAContainer(ResourceId id, ResourceId parentId) {
 		super(id,parentId);
-		this.members=Maps.newLinkedHashMap();
+		this.pendingMembers=Maps.newLinkedHashMap();
 		this.slugs=Maps.newLinkedHashMap();
 		this.memberCounter=0;
 	}
@@ -81,16 +107,50 @@ final class JPAContainer extends JPAResource implements Container {
 		return Key.newInstance(id());
 	}
 
+	private boolean hasMember(Key memberId) {
+		if(this.persistent) {
+			return getMemberRepository().hasMember(key(),memberId);
+		}
+		return this.pendingMembers.containsKey(memberId);
+	}
+
 	private void createMember(Key memberId) {
 		long memberIndex=this.memberCounter++;
 		JPAMember member = new JPAMember(key(), memberId, memberIndex);
-		this.members.put(memberId, member);
+		if(this.persistent) {
+			// The member counter is only persisted while the container is
+			// managed
+			checkState(getMemberRepository().isManaged(this),"Container '%s' is detached from the persistence context",id());
+			getMemberRepository().add(member);
+		} else {
+			this.pendingMembers.put(memberId, member);
+		}
 	}
 
 	private ContainerTemplate template() {
 		return (ContainerTemplate)super.getTemplate(id());
 	}
 
+	/**
+	 * Bind the container to the repository that persists it. From then on,
+	 * its members are accessed through the member repository.
+	 */
+	void attach(JPAMemberRepository memberRepository) {
+		checkNotNull(memberRepository,"Member repository cannot be null");
+		setMemberRepository(memberRepository);
+		this.persistent=true;
+	}
+
+	/**
+	 * Retrieve and forget the members added before the container was bound
+	 * to a persistence context, so that they can be persisted.
+	 */
+	List<JPAMember> drainPendingMembers() {
+		List<JPAMember> result=ImmutableList.copyOf(this.pendingMembers.values());
+		this.pendingMembers.clear();
+		return result;
+	}
+
 	@Override
 	public void accept(ResourceVisitor visitor) {
 		visitor.visitContainer(this);
@@ -100,7 +160,7 @@ final class JPAContainer extends JPAResource implements Container {
 	public Resource addMember(ResourceId resourceId) {
 		checkNotNull(resourceId,"Member resource identifier cannot be null");
 		Key memberId = Key.newInstance(resourceId);
-		checkState(!this.members.containsKey(memberId),"A resource with id '%s' is already a member of the container",resourceId);
+		checkState(!hasMember(memberId),"A resource with id '%s' is already a member of the container",resourceId);
 		JPAResource newResource=createChild(resourceId,template().memberTemplate());
 		createMember(memberId);
 		return newResource;
@@ -108,23 +168,49 @@ final class JPAContainer extends JPAResource implements Container {
 
 	@Override
 	public boolean hasMember(ResourceId resource) {
-		return this.members.containsKey(Key.newInstance(resource));
+		return hasMember(Key.newInstance(resource));
 	}
 
 	@Override
 	public Set<Member> members() {
-		return ImmutableSet.<Member>copyOf(this.members.values());
+		if(this.persistent) {
+			return ImmutableSet.<Member>copyOf(getMemberRepository().membersOf(key()));
+		}
+		return ImmutableSet.<Member>copyOf(this.pendingMembers.values());
+	}
+
+	@Override
+	public List<Member> members(long cursor, int pageSize) {
+		checkArgument(pageSize>0,"Page size must be greater than zero (%s)",pageSize);
+		if(this.persistent) {
+			return ImmutableList.<Member>copyOf(getMemberRepository().membersOf(key(),cursor,pageSize));
+		}
+		List<JPAMember> candidates=Lists.newArrayList();
+		for(JPAMember member:this.pendingMembers.values()) {
+			if(member.number()>=cursor) {
+				candidates.add(member);
+			}
+		}
+		return ImmutableList.<Member>copyOf(MEMBER_NUMBER_ORDERING.leastOf(candidates,pageSize));
 	}
 
 	@Override
 	public Member findMember(ResourceId resourceId) {
-		return this.members.get(Key.newInstance(resourceId));
+		Key memberId=Key.newInstance(resourceId);
+		if(this.persistent) {
+			return getMemberRepository().findMember(key(),memberId);
+		}
+		return this.pendingMembers.get(memberId);
 	}
 
 	@Override
 	public boolean removeMember(Member member) {
 		checkNotNull(member,"Member cannot be null");
-		return this.members.remove(Key.newInstance(member.memberId()))!=null;
+		Key memberId=Key.newInstance(member.memberId());
+		if(this.persistent) {
+			return getMemberRepository().remove(key(),memberId);
+		}
+		return this.pendingMembers.remove(memberId)!=null;
 	}
 
 	@Override
@@ -166,7 +252,8 @@ final class JPAContainer extends JPAResource implements Container {
 		return
 			stringHelper().
 				add("memberCounter",this.memberCounter).
-				add("members",this.members).
+				add("persistent",this.persistent).
+				add("pendingMembers",this.pendingMembers).
 				add("slugs",this.slugs).
 				toString();
 	}
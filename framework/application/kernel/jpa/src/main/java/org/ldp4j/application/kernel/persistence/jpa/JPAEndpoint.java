@@ -138,6 +138,13 @@ final class JPAEndpoint implements Endpoint {
 		this.resourceId=null;
 	}
 
+	/**
+	 * Refresh the encoded form of the keys using the compact encoding.
+	 */
+	void reencodeKeys() {
+		this.resourceId=Key.reencode(this.resourceId);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -26,23 +26,83 @@
  */
 package org.ldp4j.application.kernel.persistence.jpa;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import javax.persistence.EntityManager;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
+import org.hibernate.jpa.QueryHints;
 import org.ldp4j.application.kernel.endpoint.Endpoint;
+import org.ldp4j.application.kernel.endpoint.EndpointPathIndex;
 import org.ldp4j.application.kernel.endpoint.EndpointRepository;
 import org.ldp4j.application.kernel.resource.ResourceId;
 
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
 final class JPAEndpointRepository implements EndpointRepository {
 
+	/**
+	 * Maximum number of resources looked up per query when resolving the
+	 * endpoints of multiple resources.
+	 */
+	static final int BATCH_SIZE=100;
+
+	private static final String RESOURCE_ID = "resourceId";
+
 	 private final EntityManagerProvider provider;
+	private final boolean cacheable;
 
-	JPAEndpointRepository(EntityManagerProvider provider) {
+	/**
+	 * Warm in-memory index of the paths of the persisted endpoints, lazily
+	 * populated upon the first prefix lookup and kept up to date as
+	 * endpoints are added. As additions might be rolled back, the matches
+	 * of the index are always verified against the database.
+	 */
+	private final EndpointPathIndex pathIndex;
+	private volatile boolean indexed;
+
+	JPAEndpointRepository(EntityManagerProvider provider, CacheSettings cacheSettings) {
 		this.provider = provider;
+		this.cacheable = cacheSettings.isEnabled();
+		this.pathIndex = new EndpointPathIndex();
+		this.indexed = false;
+	}
+
+	private void populateIndex() {
+		if(this.indexed) {
+			return;
+		}
+		synchronized(this.pathIndex) {
+			if(!this.indexed) {
+				List<String> paths=
+					entityManager().
+						createQuery("SELECT e.path FROM JPAEndpoint e",String.class).
+							getResultList();
+				for(String path:paths) {
+					this.pathIndex.add(path);
+				}
+				this.indexed=true;
+			}
+		}
+	}
+
+	/**
+	 * Discard the contents of the path index, which will be populated again
+	 * upon the next prefix lookup.
+	 */
+	void resetIndex() {
+		synchronized(this.pathIndex) {
+			this.pathIndex.clear();
+			this.indexed=false;
+		}
 	}
 
 	private EntityManager entityManager() {
@@ -54,6 +114,21 @@ final class JPAEndpointRepository implements EndpointRepository {
 		return entityManager().find(JPAEndpoint.class, path);
 	}
 
+	@Override
+	public Endpoint endpointOfLongestPrefix(String path) {
+		if(path==null) {
+			return null;
+		}
+		populateIndex();
+		for(String prefix:this.pathIndex.prefixesOf(path)) {
+			Endpoint endpoint=endpointOfPath(prefix);
+			if(endpoint!=null) {
+				return endpoint;
+			}
+		}
+		return null;
+	}
+
 	@Override
 	public Endpoint endpointOfResource(ResourceId id) {
 		CriteriaBuilder cb =
@@ -65,18 +140,64 @@ final class JPAEndpointRepository implements EndpointRepository {
 		Root<JPAEndpoint> descriptor = query.from(JPAEndpoint.class);
 		query.
 			select(descriptor).
-			where(cb.equal(descriptor.get("resourceId"),Key.newInstance(id))).
+			where(cb.equal(descriptor.get(RESOURCE_ID),Key.newInstance(id))).
 			distinct(true);
-		List<JPAEndpoint> results = entityManager().createQuery(query).getResultList();
+		List<JPAEndpoint> results =
+			entityManager().
+				createQuery(query).
+					setHint(QueryHints.HINT_CACHEABLE,this.cacheable).
+					getResultList();
 		if(results.isEmpty()) {
 			return null;
 		}
 		return results.get(0);
 	}
 
+	/**
+	 * {@inheritDoc}<br>
+	 * The endpoints are retrieved in batches of {@value #BATCH_SIZE}
+	 * resources, so that the number of queries does not depend on the
+	 * number of resources but on the number of batches.
+	 */
+	@Override
+	public Map<ResourceId,Endpoint> endpointsOfResources(Collection<ResourceId> ids) {
+		Map<ResourceId,Endpoint> result=Maps.newLinkedHashMap();
+		for(List<ResourceId> batch:Iterables.partition(ids,BATCH_SIZE)) {
+			for(JPAEndpoint endpoint:endpointsOfBatch(batch)) {
+				result.put(endpoint.resourceId(),endpoint);
+			}
+		}
+		return result;
+	}
+
+	private List<JPAEndpoint> endpointsOfBatch(List<ResourceId> batch) {
+		CriteriaBuilder cb =
+				entityManager().getCriteriaBuilder();
+
+		CriteriaQuery<JPAEndpoint> query =
+				cb.createQuery(JPAEndpoint.class);
+
+		Root<JPAEndpoint> descriptor = query.from(JPAEndpoint.class);
+		Path<Key> resourceId=descriptor.get(RESOURCE_ID);
+		List<Predicate> keys=Lists.newArrayListWithCapacity(batch.size());
+		for(ResourceId id:batch) {
+			keys.add(cb.equal(resourceId,Key.newInstance(id)));
+		}
+		query.
+			select(descriptor).
+			where(cb.or(keys.toArray(new Predicate[keys.size()]))).
+			distinct(true);
+		return
+			entityManager().
+				createQuery(query).
+					setHint(QueryHints.HINT_CACHEABLE,this.cacheable).
+					getResultList();
+	}
+
 	@Override
 	public void add(Endpoint endpoint) {
 		entityManager().persist(endpoint);
+		this.pathIndex.add(endpoint.path());
 	}
 
 }
@@ -88,6 +88,14 @@ final class JPAMember implements Member {
 		return this.memberId.resourceId();
 	}
 
+	/**
+	 * Refresh the encoded form of the keys using the compact encoding.
+	 */
+	void reencodeKeys() {
+		this.memberId=Key.reencode(this.memberId);
+		this.containerId=Key.reencode(this.containerId);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -0,0 +1,143 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-jpa:0.2.1
+ *   Bundle      : ldp4j-application-kernel-jpa-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.persistence.jpa;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+/**
+ * Targeted queries over the members of the containers, so that membership
+ * checks, lookups, paging and inserts never load every member of a
+ * container.
+ */
+final class JPAMemberRepository {
+
+	private static final String CONTAINER_ID = "containerId";
+	private static final String MEMBER_ID    = "memberId";
+	private static final String NUMBER       = "number";
+
+	private final EntityManagerProvider provider;
+
+	JPAMemberRepository(EntityManagerProvider provider) {
+		this.provider = provider;
+	}
+
+	private EntityManager entityManager() {
+		return this.provider.entityManager();
+	}
+
+	boolean isManaged(JPAContainer container) {
+		return entityManager().contains(container);
+	}
+
+	boolean hasMember(Key containerId, Key memberId) {
+		CriteriaBuilder cb=entityManager().getCriteriaBuilder();
+		CriteriaQuery<Long> query=cb.createQuery(Long.class);
+		Root<JPAMember> descriptor=query.from(JPAMember.class);
+		query.
+			select(cb.count(descriptor)).
+			where(
+				cb.equal(descriptor.get(CONTAINER_ID),containerId),
+				cb.equal(descriptor.get(MEMBER_ID),memberId));
+		return entityManager().createQuery(query).getSingleResult()>0;
+	}
+
+	JPAMember findMember(Key containerId, Key memberId) {
+		CriteriaBuilder cb=entityManager().getCriteriaBuilder();
+		CriteriaQuery<JPAMember> query=cb.createQuery(JPAMember.class);
+		Root<JPAMember> descriptor=query.from(JPAMember.class);
+		query.
+			select(descriptor).
+			where(
+				cb.equal(descriptor.get(CONTAINER_ID),containerId),
+				cb.equal(descriptor.get(MEMBER_ID),memberId));
+		List<JPAMember> results=
+			entityManager().
+				createQuery(query).
+					setMaxResults(1).
+					getResultList();
+		if(results.isEmpty()) {
+			return null;
+		}
+		return results.get(0);
+	}
+
+	List<JPAMember> membersOf(Key containerId) {
+		CriteriaBuilder cb=entityManager().getCriteriaBuilder();
+		CriteriaQuery<JPAMember> query=cb.createQuery(JPAMember.class);
+		Root<JPAMember> descriptor=query.from(JPAMember.class);
+		query.
+			select(descriptor).
+			where(cb.equal(descriptor.get(CONTAINER_ID),containerId)).
+			orderBy(cb.asc(descriptor.get(NUMBER)));
+		return entityManager().createQuery(query).getResultList();
+	}
+
+	List<JPAMember> membersOf(Key containerId, long cursor, int pageSize) {
+		CriteriaBuilder cb=entityManager().getCriteriaBuilder();
+		CriteriaQuery<JPAMember> query=cb.createQuery(JPAMember.class);
+		Root<JPAMember> descriptor=query.from(JPAMember.class);
+		query.
+			select(descriptor).
+			where(
+				cb.equal(descriptor.get(CONTAINER_ID),containerId),
+				cb.greaterThanOrEqualTo(descriptor.<Long>get(NUMBER),cursor)).
+			orderBy(cb.asc(descriptor.get(NUMBER)));
+		return
+			entityManager().
+				createQuery(query).
+					setMaxResults(pageSize).
+					getResultList();
+	}
+
+	void add(JPAMember member) {
+		entityManager().persist(member);
+	}
+
+	boolean remove(Key containerId, Key memberId) {
+		JPAMember member=findMember(containerId,memberId);
+		if(member==null) {
+			return false;
+		}
+		entityManager().remove(member);
+		return true;
+	}
+
+	int removeAll(Key containerId) {
+		CriteriaBuilder cb=entityManager().getCriteriaBuilder();
+		CriteriaDelete<JPAMember> delete=cb.createCriteriaDelete(JPAMember.class);
+		Root<JPAMember> descriptor=delete.from(JPAMember.class);
+		delete.where(cb.equal(descriptor.get(CONTAINER_ID),containerId));
+		return entityManager().createQuery(delete).executeUpdate();
+	}
+
+}
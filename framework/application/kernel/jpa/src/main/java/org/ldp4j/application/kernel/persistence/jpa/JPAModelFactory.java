@@ -60,6 +60,7 @@ final class JPAModelFactory implements ModelFactory {
 		private void createResource(JPAResource resource) {
 			this.resource=resource;
 			this.resource.setTemplateLibrary(JPAModelFactory.this.templateLibrary);
+			this.resource.setMemberRepository(JPAModelFactory.this.resourceRepository.memberRepository());
 		}
 
 		/**
@@ -81,6 +81,11 @@ class JPAResource extends AbstractJPAResource implements Resource {
 	 */
 	private ResourceId parentId;
 
+	/**
+	 * Encoded form of the identifier, used for indexed lookups.
+	 */
+	private Key lookupKey;
+
 	private URI indirectId;
 
 	private final AttachmentCollection attachmentCollection;
@@ -95,6 +100,7 @@ class JPAResource extends AbstractJPAResource implements Resource {
 		this();
 		this.id=id;
 		this.parentId = parentId;
+		this.lookupKey=Key.newInstance(id);
 	}
 
 	protected JPAResource(ResourceId id) {
@@ -122,6 +128,7 @@ class JPAResource extends AbstractJPAResource implements Resource {
 			newResource=new JPAContainer(resourceId,this.id);
 		}
 		newResource.setTemplateLibrary(getTemplateLibrary());
+		newResource.setMemberRepository(getMemberRepository());
 		return newResource;
 	}
 
@@ -279,6 +286,13 @@ class JPAResource extends AbstractJPAResource implements Resource {
 		return stringHelper().toString();
 	}
 
+	/**
+	 * Refresh the encoded form of the identifier using the compact encoding.
+	 */
+	final void reencodeKeys() {
+		this.lookupKey=Key.newInstance(this.id);
+	}
+
 	@Override
 	protected ToStringHelper stringHelper() {
 		return
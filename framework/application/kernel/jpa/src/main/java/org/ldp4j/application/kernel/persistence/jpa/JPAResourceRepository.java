@@ -31,8 +31,10 @@ import java.util.List;
 import javax.persistence.EntityManager;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
+import org.hibernate.jpa.QueryHints;
 import org.ldp4j.application.kernel.resource.Container;
 import org.ldp4j.application.kernel.resource.Resource;
 import org.ldp4j.application.kernel.resource.ResourceId;
@@ -42,10 +44,18 @@ import org.ldp4j.application.kernel.template.TemplateLibrary;
 final class JPAResourceRepository implements ResourceRepository {
 
 	private final EntityManagerProvider provider;
+	private final JPAMemberRepository memberRepository;
+	private final boolean cacheable;
 	private TemplateLibrary templateLibrary;
 
-	JPAResourceRepository(EntityManagerProvider provider) {
+	JPAResourceRepository(EntityManagerProvider provider, CacheSettings cacheSettings) {
 		this.provider = provider;
+		this.cacheable = cacheSettings.isEnabled();
+		this.memberRepository = new JPAMemberRepository(provider);
+	}
+
+	JPAMemberRepository memberRepository() {
+		return this.memberRepository;
 	}
 
 	void setTemplateLibrary(TemplateLibrary templateLibrary) {
@@ -56,6 +66,19 @@ final class JPAResourceRepository implements ResourceRepository {
 		return this.provider.entityManager();
 	}
 
+	/**
+	 * Resources are looked up using their indexed encoded key, unless the
+	 * legacy encoding is in use, as the keys of the resources persisted
+	 * before the key was introduced are not available until they are
+	 * migrated.
+	 */
+	private Predicate lookup(CriteriaBuilder cb, Root<JPAResource> descriptor, ResourceId id) {
+		if(Key.isLegacyEncoding()) {
+			return cb.equal(descriptor.get("id"),id);
+		}
+		return cb.equal(descriptor.get("lookupKey"),Key.newInstance(id));
+	}
+
 	@Override
 	public <T extends Resource> T resourceById(ResourceId id, Class<? extends T> expectedResourceClass) {
 		EntityManager em = entityManager();
@@ -68,15 +91,23 @@ final class JPAResourceRepository implements ResourceRepository {
 		Root<JPAResource> descriptor = query.from(JPAResource.class);
 		query.
 			select(descriptor).
-			where(cb.equal(descriptor.get("id"),id)).
+			where(lookup(cb,descriptor,id)).
 			distinct(true);
-		List<JPAResource> results = em.createQuery(query).getResultList();
+		List<JPAResource> results =
+			em.createQuery(query).
+				setHint(QueryHints.HINT_CACHEABLE,this.cacheable).
+				getResultList();
 		if(results.isEmpty()) {
 			return null;
 		}
 		JPAResource found = results.get(0);
 		if(expectedResourceClass.isInstance(found)) {
 			found.setTemplateLibrary(this.templateLibrary);
+			if(found instanceof JPAContainer) {
+				((JPAContainer)found).attach(this.memberRepository);
+			} else {
+				found.setMemberRepository(this.memberRepository);
+			}
 			return expectedResourceClass.cast(found);
 		}
 		return null;
@@ -99,10 +130,20 @@ final class JPAResourceRepository implements ResourceRepository {
 	@Override
 	public void add(Resource resource) {
 		entityManager().persist(resource);
+		if(resource instanceof JPAContainer) {
+			JPAContainer container=(JPAContainer)resource;
+			container.attach(this.memberRepository);
+			for(JPAMember member:container.drainPendingMembers()) {
+				this.memberRepository.add(member);
+			}
+		}
 	}
 
 	@Override
 	public void remove(Resource resource) {
+		if(resource instanceof JPAContainer) {
+			this.memberRepository.removeAll(Key.newInstance(resource.id()));
+		}
 		entityManager().remove(resource);
 	}
 
@@ -26,44 +26,75 @@
  */
 package org.ldp4j.application.kernel.persistence.jpa;
 
+import javax.persistence.EntityManager;
 import javax.persistence.Persistence;
 
 import org.ldp4j.application.kernel.constraints.ConstraintReportRepository;
+import org.ldp4j.application.kernel.constraints.ConstraintReportRetentionPolicy;
+import org.ldp4j.application.kernel.constraints.ConstraintReportSweeper;
 import org.ldp4j.application.kernel.endpoint.EndpointRepository;
 import org.ldp4j.application.kernel.lifecycle.LifecycleException;
 import org.ldp4j.application.kernel.resource.ResourceRepository;
 import org.ldp4j.application.kernel.spi.ModelFactory;
 import org.ldp4j.application.kernel.spi.RuntimeDelegate;
+import org.ldp4j.application.kernel.transaction.Transaction;
 import org.ldp4j.application.kernel.transaction.TransactionManager;
 
 public final class JPARuntimeDelegate extends RuntimeDelegate {
 
+	private final class ConstraintReportSweep implements Runnable {
+
+		@Override
+		public void run() {
+			try {
+				evictConstraintReports();
+			} finally {
+				JPARuntimeDelegate.this.provider.close();
+			}
+		}
+
+	}
+
+	private final CacheSettings cacheSettings;
 	private final JPAEntityManagerProvider provider;
 	private final JPAModelFactory modelFactory;
 	private final JPAResourceRepository resourceRepository;
 	private final JPATransactionManager transactionManager;
 	private final JPAEndpointRepository endpointRepository;
 	private final JPAConstraintReportRepository constraintReportRepository;
+	private final ConstraintReportSweeper constraintReportSweeper;
 
 	public JPARuntimeDelegate() {
+		this.cacheSettings = CacheSettings.load();
 		this.provider = new JPAEntityManagerProvider();
 		this.transactionManager = new JPATransactionManager(this.provider);
-		this.endpointRepository = new JPAEndpointRepository(this.provider);
-		this.resourceRepository = new JPAResourceRepository(this.provider);
+		this.endpointRepository = new JPAEndpointRepository(this.provider,this.cacheSettings);
+		this.resourceRepository = new JPAResourceRepository(this.provider,this.cacheSettings);
 		this.constraintReportRepository = new JPAConstraintReportRepository(this.provider);
 		this.modelFactory = new JPAModelFactory(this.resourceRepository);
+		this.constraintReportSweeper = new ConstraintReportSweeper("jpa-constraint-reports",new ConstraintReportSweep());
 	}
 
 	@Override
 	public void init() throws LifecycleException {
-		this.provider.setEntityManagerFactory(Persistence.createEntityManagerFactory("kernel"));
+		this.provider.setEntityManagerFactory(Persistence.createEntityManagerFactory("kernel",this.cacheSettings.properties()));
+		this.endpointRepository.resetIndex();
+		ConstraintReportRetentionPolicy policy=this.constraintReportRepository.policy();
+		if(policy.isBounded()) {
+			this.constraintReportSweeper.start(policy.sweepInterval());
+		}
 	}
 
 	@Override
 	public void shutdown() throws LifecycleException {
+		this.constraintReportSweeper.stop();
 		this.provider.dispose();
 	}
 
+	EntityManager entityManager() {
+		return this.provider.entityManager();
+	}
+
 	@Override
 	public ModelFactory getModelFactory() {
 		return this.modelFactory;
@@ -93,4 +124,70 @@ public final class JPARuntimeDelegate extends RuntimeDelegate {
 		this.provider.close();
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Re-encode the keys of every persisted entity using the compact
+	 * encoding, so that databases populated with the legacy encoding can
+	 * benefit from the compact one (and from the indexed resource lookups).
+	 * The migration is carried out in a single transaction. Once completed,
+	 * the compact encoding has to be enabled (see {@link Key#KEY_ENCODING})
+	 * before the database is used again.
+	 *
+	 * @return the number of entities processed
+	 */
+	public int migrateKeys() {
+		Transaction transaction=this.transactionManager.currentTransaction();
+		transaction.begin();
+		try {
+			EntityManager em=this.provider.entityManager();
+			int count=0;
+			for(JPAResource resource:em.createQuery("SELECT r FROM JPAResource r",JPAResource.class).getResultList()) {
+				resource.reencodeKeys();
+				count++;
+			}
+			for(JPAEndpoint endpoint:em.createQuery("SELECT e FROM JPAEndpoint e",JPAEndpoint.class).getResultList()) {
+				endpoint.reencodeKeys();
+				count++;
+			}
+			for(JPAAttachment attachment:em.createQuery("SELECT a FROM JPAAttachment a",JPAAttachment.class).getResultList()) {
+				attachment.reencodeKeys();
+				count++;
+			}
+			for(JPAMember member:em.createQuery("SELECT m FROM JPAMember m",JPAMember.class).getResultList()) {
+				member.reencodeKeys();
+				count++;
+			}
+			for(JPASlug slug:em.createQuery("SELECT s FROM JPASlug s",JPASlug.class).getResultList()) {
+				slug.reencodeKeys();
+				count++;
+			}
+			transaction.commit();
+			return count;
+		} finally {
+			if(transaction.isActive()) {
+				transaction.rollback();
+			}
+		}
+	}
+
+	/**
+	 * Evict the constraint reports that are not to be retained according to
+	 * the retention policy in use. The eviction is carried out in its own
+	 * transaction and is run periodically in the background.
+	 *
+	 * @return the number of constraint reports evicted
+	 */
+	public int evictConstraintReports() {
+		Transaction transaction=this.transactionManager.currentTransaction();
+		transaction.begin();
+		try {
+			int evicted=this.constraintReportRepository.evict(System.currentTimeMillis());
+			transaction.commit();
+			return evicted;
+		} finally {
+			if(transaction.isActive()) {
+				transaction.rollback();
+			}
+		}
+	}
+
+}
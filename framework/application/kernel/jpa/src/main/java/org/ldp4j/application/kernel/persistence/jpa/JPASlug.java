@@ -111,6 +111,13 @@ final class JPASlug implements Slug {
 		return result;
 	}
 
+	/**
+	 * Refresh the encoded form of the keys using the compact encoding.
+	 */
+	void reencodeKeys() {
+		this.containerId=Key.reencode(this.containerId);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -39,6 +39,23 @@ final class Key implements Serializable {
 
 	private static final long serialVersionUID = 8863328550780382031L;
 
+	/**
+	 * System property for selecting how the names of the keys are encoded:
+	 * {@code legacy} (default, Base64 of the Java serialization of the name's
+	 * identifier) or {@code compact}. The compact encoding must only be
+	 * enabled once the keys of existing databases have been migrated (see
+	 * {@link JPARuntimeDelegate#migrateKeys()}), as lookups compare encoded
+	 * keys. Values encoded using either mechanism can always be decoded.
+	 */
+	static final String KEY_ENCODING="org.ldp4j.application.kernel.persistence.jpa.key.encoding";
+
+	static final String COMPACT_ENCODING="compact";
+
+	private static final Encoder ENCODER=
+		COMPACT_ENCODING.equalsIgnoreCase(System.getProperty(KEY_ENCODING))?
+			Encoder.compactEncoder():
+			Encoder.valueEncoder();
+
 	static final Key NULL=new Key();
 
 	private boolean cacheAvailable;
@@ -72,7 +89,7 @@ final class Key implements Serializable {
 		this.cachedId=
 			ResourceId.
 				createId(
-					Key.fromBase64(this.nameValue),
+					Key.decodeName(this.nameValue),
 					this.templateId);
 		// Self healing...
 		this.nameType=nameTypeOf(this.cachedId.name());
@@ -144,12 +161,16 @@ final class Key implements Serializable {
 	}
 
 	static Key newInstance(ResourceId id) {
+		return newInstance(id,ENCODER);
+	}
+
+	private static Key newInstance(ResourceId id, Encoder encoder) {
 		if(id==null) {
 			return null;
 		}
 		Name<?> name = id.name();
 		String nameType=nameTypeOf(name);
-		String nameValue=Key.toBase64(name);
+		String nameValue=encoder.encode(name);
 		return new Key(id,id.templateId(),nameType,nameValue);
 	}
 
@@ -157,12 +178,23 @@ final class Key implements Serializable {
 		return name.id().getClass().getCanonicalName();
 	}
 
-	static String toBase64(Name<?> name) {
-		return Encoder.valueEncoder().encode(name);
+	/**
+	 * Create a key for the same resource identifier using the compact
+	 * encoding.
+	 */
+	static Key reencode(Key key) {
+		if(key==null || key.resourceId()==null) {
+			return key;
+		}
+		return newInstance(key.resourceId(),Encoder.compactEncoder());
+	}
+
+	static boolean isLegacyEncoding() {
+		return ENCODER==Encoder.valueEncoder();
 	}
 
-	static <T extends Serializable> Name<T> fromBase64(String data) {
-		return Encoder.valueEncoder().decode(data);
+	static <T extends Serializable> Name<T> decodeName(String data) {
+		return Encoder.compactEncoder().decode(data);
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-jpa:0.2.1
+ *   Bundle      : ldp4j-application-kernel-jpa-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.persistence.encoding;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+
+import javax.xml.namespace.QName;
+
+import org.junit.Test;
+import org.ldp4j.application.data.Name;
+import org.ldp4j.application.data.NamingScheme;
+
+public class CompactEncoderTest {
+
+	private final Encoder sut=Encoder.compactEncoder();
+
+	private void verifyRoundTrip(Name<?> name, String tag) {
+		String data=sut.encode(name);
+		assertThat(data,startsWith(tag+":"));
+		Name<?> decoded=sut.decode(data);
+		assertThat(decoded,equalTo((Object)name));
+		assertThat(decoded.id().getClass(),equalTo((Object)name.id().getClass()));
+	}
+
+	@Test
+	public void testEncode$nullName() throws Exception {
+		assertThat(sut.encode(null),nullValue());
+	}
+
+	@Test
+	public void testDecode$nullData() throws Exception {
+		assertThat(sut.decode(null),nullValue());
+	}
+
+	@Test
+	public void testRoundTrip$string() throws Exception {
+		verifyRoundTrip(NamingScheme.getDefault().name("http://www.ldp4j.org/resource/"),"S");
+	}
+
+	@Test
+	public void testRoundTrip$uri() throws Exception {
+		verifyRoundTrip(NamingScheme.getDefault().name(URI.create("http://www.ldp4j.org/resource/")),"U");
+	}
+
+	@Test
+	public void testRoundTrip$numbers() throws Exception {
+		verifyRoundTrip(NamingScheme.getDefault().name(Byte.MAX_VALUE),"B");
+		verifyRoundTrip(NamingScheme.getDefault().name(Short.MAX_VALUE),"H");
+		verifyRoundTrip(NamingScheme.getDefault().name(Integer.MIN_VALUE),"I");
+		verifyRoundTrip(NamingScheme.getDefault().name(Long.MAX_VALUE),"L");
+		verifyRoundTrip(NamingScheme.getDefault().name(Double.MAX_VALUE),"D");
+		verifyRoundTrip(NamingScheme.getDefault().name(Float.MIN_VALUE),"F");
+		verifyRoundTrip(NamingScheme.getDefault().name(new BigInteger("123456789012345678901234567890")),"N");
+		verifyRoundTrip(NamingScheme.getDefault().name(new BigDecimal("1234567890.12345678901234567890")),"M");
+	}
+
+	@Test
+	public void testRoundTrip$serializable() throws Exception {
+		verifyRoundTrip(NamingScheme.getDefault().name(new QName("http://www.ldp4j.org/","resource/","ldp4j")),"J");
+	}
+
+	@Test
+	public void testDecode$legacyEncoding() throws Exception {
+		Name<String> name=NamingScheme.getDefault().name("resource");
+		String legacy=Encoder.valueEncoder().encode(name);
+		assertThat(sut.decode(legacy),equalTo((Object)name));
+	}
+
+	@Test
+	public void testEncode$isShorterThanLegacyEncoding() throws Exception {
+		Name<String> name=NamingScheme.getDefault().name("resource");
+		assertThat(sut.encode(name).length(),lessThan(Encoder.valueEncoder().encode(name).length()));
+	}
+
+}
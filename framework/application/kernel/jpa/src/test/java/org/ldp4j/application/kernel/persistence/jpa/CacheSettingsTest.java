@@ -0,0 +1,72 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-jpa:0.2.1
+ *   Bundle      : ldp4j-application-kernel-jpa-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.persistence.jpa;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class CacheSettingsTest {
+
+	private static final String REGION_FACTORY = "org.hibernate.cache.ehcache.SingletonEhCacheRegionFactory";
+
+	@After
+	public void tearDown() {
+		System.clearProperty(CacheSettings.CACHE_REGION_FACTORY);
+	}
+
+	@Test
+	public void testDisabledByDefault() {
+		assertThat(CacheSettings.load().isEnabled(),is(false));
+		assertThat(CacheSettings.load().properties().isEmpty(),is(true));
+	}
+
+	@Test
+	public void testDisabledWhenBlank() {
+		System.setProperty(CacheSettings.CACHE_REGION_FACTORY,"  ");
+		assertThat(CacheSettings.load().isEnabled(),is(false));
+		assertThat(CacheSettings.load().properties().isEmpty(),is(true));
+	}
+
+	@Test
+	public void testEnabled() {
+		System.setProperty(CacheSettings.CACHE_REGION_FACTORY,REGION_FACTORY);
+		assertThat(CacheSettings.load().isEnabled(),is(true));
+		Map<String,Object> properties=CacheSettings.load().properties();
+		assertThat(properties,hasEntry("hibernate.cache.region.factory_class",(Object)REGION_FACTORY));
+		assertThat(properties,hasEntry("hibernate.cache.use_second_level_cache",(Object)"true"));
+		assertThat(properties,hasEntry("hibernate.cache.use_query_cache",(Object)"true"));
+		assertThat(properties.get("javax.persistence.sharedCache.mode"),equalTo((Object)"ENABLE_SELECTIVE"));
+	}
+
+}
@@ -0,0 +1,132 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-jpa:0.2.1
+ *   Bundle      : ldp4j-application-kernel-jpa-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.persistence.jpa;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.util.Date;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.ldp4j.application.engine.context.EntityTag;
+import org.ldp4j.application.kernel.endpoint.Endpoint;
+import org.ldp4j.application.kernel.endpoint.EndpointRepository;
+import org.ldp4j.application.kernel.resource.Resource;
+import org.ldp4j.application.kernel.spi.RuntimeDelegate;
+import org.ldp4j.example.PersonHandler;
+
+public class JPACacheTest extends AbstractJPARepositoryTest<EndpointRepository> {
+
+	private static final String REGION_FACTORY = "org.hibernate.cache.ehcache.SingletonEhCacheRegionFactory";
+
+	@BeforeClass
+	public static void setUpCache() throws Exception {
+		System.setProperty(CacheSettings.CACHE_REGION_FACTORY,REGION_FACTORY);
+		RuntimeDelegate.setInstance(new JPARuntimeDelegate());
+	}
+
+	@AfterClass
+	public static void tearDownCache() throws Exception {
+		System.clearProperty(CacheSettings.CACHE_REGION_FACTORY);
+	}
+
+	private Statistics statistics() {
+		Statistics statistics=
+			delegate().
+				entityManager().
+					getEntityManagerFactory().
+						unwrap(SessionFactory.class).
+							getStatistics();
+		statistics.setStatisticsEnabled(true);
+		return statistics;
+	}
+
+	private void findEndpoint(final Resource resource, final EntityTag entityTag) throws Exception {
+		withinTransaction(
+			new Task<EndpointRepository>("Finding endpoint by resource id") {
+				@Override
+				public void execute(EndpointRepository sut) {
+					Endpoint result = sut.endpointOfResource(resource.id());
+					assertThat(result,notNullValue());
+					assertThat(result.entityTag(),equalTo(entityTag));
+				}
+			}
+		);
+		clear();
+	}
+
+	@Test
+	public void testRepeatedLookupsAreCached() throws Exception {
+		final Resource resource = rootResource(name("cached"),PersonHandler.ID);
+		final Endpoint ep1 = super.endpoint("cached",resource);
+		withinTransaction(
+			new Task<EndpointRepository>("Creating endpoint") {
+				@Override
+				public void execute(EndpointRepository sut) {
+					sut.add(ep1);
+				}
+			}
+		);
+		clear();
+
+		Statistics statistics=statistics();
+		findEndpoint(resource,ep1.entityTag());
+		long statements=statistics.getPrepareStatementCount();
+		long hits=statistics.getQueryCacheHitCount();
+
+		findEndpoint(resource,ep1.entityTag());
+		assertThat(statistics.getPrepareStatementCount(),equalTo(statements));
+		assertThat(statistics.getQueryCacheHitCount(),greaterThan(hits));
+
+		final EntityTag newEntityTag=EntityTag.createStrong("modified");
+		withinTransaction(
+			new Task<EndpointRepository>("Modifying endpoint") {
+				@Override
+				public void execute(EndpointRepository sut) {
+					sut.endpointOfPath(ep1.path()).modify(newEntityTag,new Date());
+				}
+			}
+		);
+		clear();
+
+		statements=statistics.getPrepareStatementCount();
+		findEndpoint(resource,newEntityTag);
+		assertThat(statistics.getPrepareStatementCount(),greaterThan(statements));
+	}
+
+	@Override
+	protected EndpointRepository getSubjectUnderTest(JPARuntimeDelegate delegate) {
+		return delegate.getEndpointRepository();
+	}
+
+}
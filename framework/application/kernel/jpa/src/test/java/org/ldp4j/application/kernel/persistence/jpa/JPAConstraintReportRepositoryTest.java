@@ -45,6 +45,8 @@ import static org.hamcrest.Matchers.*;
 
 public class JPAConstraintReportRepositoryTest extends AbstractJPARepositoryTest<ConstraintReportRepository> {
 
+	private JPARuntimeDelegate delegate;
+
 	@Test
 	public void testSerializability() throws IOException {
 		Constraints constraints = constraints();
@@ -95,8 +97,38 @@ public class JPAConstraintReportRepositoryTest extends AbstractJPARepositoryTest
 		);
 	}
 
+	@Test
+	public void testEvictsExpiredReports() throws Exception {
+		ResourceId resourceId = ResourceId.createId(name("expiring"),"template");
+		Date date = new Date();
+		final ConstraintReport expired = new JPAConstraintReport(ConstraintReportId.create(resourceId, "expired"), new Date(date.getTime()-2*86400000L),httpRequest(),constraints());
+		final ConstraintReport retained = new JPAConstraintReport(ConstraintReportId.create(resourceId, "retained"), date,httpRequest(),constraints());
+		withinTransaction(
+			new Task<ConstraintReportRepository>("Creating reports") {
+				@Override
+				public void execute(ConstraintReportRepository sut) {
+					sut.add(expired);
+					sut.add(retained);
+				}
+			}
+		);
+		clear();
+		assertThat(this.delegate.evictConstraintReports(),equalTo(1));
+		clear();
+		withinTransaction(
+			new Task<ConstraintReportRepository>("Retrieving retained reports") {
+				@Override
+				public void execute(ConstraintReportRepository sut) {
+					assertThat(sut.constraintReportOfId(expired.id()),nullValue());
+					assertThat(sut.constraintReportOfId(retained.id()),notNullValue());
+				}
+			}
+		);
+	}
+
 	@Override
 	protected ConstraintReportRepository getSubjectUnderTest(JPARuntimeDelegate delegate) {
+		this.delegate=delegate;
 		return delegate.getConstraintReportRepository();
 	}
 
@@ -26,9 +26,17 @@
  */
 package org.ldp4j.application.kernel.persistence.jpa;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -39,6 +47,7 @@ import org.ldp4j.application.kernel.endpoint.Endpoint;
 import org.ldp4j.application.kernel.endpoint.EndpointRepository;
 import org.ldp4j.application.kernel.persistence.jpa.JPARuntimeDelegate;
 import org.ldp4j.application.kernel.resource.Resource;
+import org.ldp4j.application.kernel.resource.ResourceId;
 import org.ldp4j.example.PersonHandler;
 
 public class JPAEndpointRepositoryTest extends AbstractJPARepositoryTest<EndpointRepository> {
@@ -174,6 +183,78 @@ public class JPAEndpointRepositoryTest extends AbstractJPARepositoryTest<Endpoin
 		);
 	}
 
+	@Test
+	public void testEndpointsOfResources() throws Exception {
+		final Resource r1 = rootResource(NamingScheme.getDefault().name(this.name.getMethodName(),"1"),PersonHandler.ID);
+		final Resource r2 = rootResource(NamingScheme.getDefault().name(this.name.getMethodName(),"2"),PersonHandler.ID);
+		final Resource r3 = rootResource(NamingScheme.getDefault().name(this.name.getMethodName(),"3"),PersonHandler.ID);
+		final Endpoint ep1 = super.endpoint("batch1",r1);
+		final Endpoint ep2 = super.endpoint("batch2",r2);
+		withinTransaction(
+			new Task<EndpointRepository>("Creating endpoints") {
+				@Override
+				public void execute(EndpointRepository sut) {
+					sut.add(ep1);
+					sut.add(ep2);
+				}
+			}
+		);
+		clear();
+		withinTransaction(
+			new Task<EndpointRepository>("Finding endpoints by resource ids") {
+				@Override
+				public void execute(EndpointRepository sut) {
+					Map<ResourceId,Endpoint> result = sut.endpointsOfResources(Arrays.asList(r1.id(),r2.id(),r3.id()));
+					assertThat(result.size(),equalTo(2));
+					assertThat(result,hasKey(r1.id()));
+					assertThat(result,hasKey(r2.id()));
+					assertThat(result.get(r1.id()).path(),equalTo(ep1.path()));
+					assertThat(result.get(r2.id()).path(),equalTo(ep2.path()));
+				}
+			}
+		);
+		clear();
+	}
+
+	@Test
+	public void testKeyMigration() throws Exception {
+		final Resource resource = rootResource(resourceName(),PersonHandler.ID);
+		final Endpoint ep1 = super.endpoint("migration",resource);
+		withinTransaction(
+			new Task<EndpointRepository>("Creating endpoint with legacy keys") {
+				@Override
+				public void execute(EndpointRepository sut) {
+					sut.add(ep1);
+				}
+			}
+		);
+		clear();
+		withinTransaction(
+			new Task<EndpointRepository>("Finding endpoint by legacy resource key") {
+				@Override
+				public void execute(EndpointRepository sut) {
+					assertThat(sut.endpointOfResource(resource.id()),notNullValue());
+				}
+			}
+		);
+		clear();
+		assertThat(delegate().migrateKeys(),greaterThan(0));
+		clear();
+		withinTransaction(
+			new Task<EndpointRepository>("Checking migrated endpoint") {
+				@Override
+				public void execute(EndpointRepository sut) {
+					Endpoint result = sut.endpointOfPath(ep1.path());
+					assertThat(result.resourceId(),equalTo(resource.id()));
+					// Lookups keep on using the legacy encoding until the
+					// compact one is enabled
+					assertThat(sut.endpointOfResource(resource.id()),nullValue());
+				}
+			}
+		);
+		clear();
+	}
+
 	@Override
 	protected EndpointRepository getSubjectUnderTest(JPARuntimeDelegate delegate) {
 		return delegate.getEndpointRepository();
@@ -26,7 +26,14 @@
  */
 package org.ldp4j.application.kernel.persistence.jpa;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
 import java.util.Date;
+import java.util.List;
 
 import org.junit.Test;
 import org.ldp4j.application.data.Name;
@@ -35,6 +42,7 @@ import org.ldp4j.application.kernel.constraints.ConstraintReport;
 import org.ldp4j.application.kernel.persistence.jpa.JPARuntimeDelegate;
 import org.ldp4j.application.kernel.resource.Attachment;
 import org.ldp4j.application.kernel.resource.Container;
+import org.ldp4j.application.kernel.resource.Member;
 import org.ldp4j.application.kernel.resource.Resource;
 import org.ldp4j.application.kernel.resource.ResourceId;
 import org.ldp4j.application.kernel.resource.ResourceRepository;
@@ -144,6 +152,69 @@ public class JPAResourceRepositoryTest extends AbstractJPARepositoryTest<Resourc
 		);
 	}
 
+	@Test
+	public void testMembership() throws Exception {
+		final Name<String> containerName = NamingScheme.getDefault().name("membershipContainer");
+		final ResourceId containerId = ResourceId.createId(containerName,PersonContainerHandler.ID);
+		final Container container = rootContainer(containerName, PersonContainerHandler.ID);
+		withinTransaction(
+			new Task<ResourceRepository>("Creating container with a pending member") {
+				@Override
+				public void execute(ResourceRepository sut) {
+					sut.add(container.addMember(memberId(0)));
+					sut.add(container);
+				}
+			}
+		);
+		clear();
+		withinTransaction(
+			new Task<ResourceRepository>("Adding members") {
+				@Override
+				public void execute(ResourceRepository sut) {
+					Container result = sut.containerOfId(containerId);
+					for(int i=1;i<5;i++) {
+						sut.add(result.addMember(memberId(i)));
+					}
+					assertThat(result.hasMember(memberId(4)),equalTo(true));
+				}
+			}
+		);
+		clear();
+		withinTransaction(
+			new Task<ResourceRepository>("Querying and removing members") {
+				@Override
+				public void execute(ResourceRepository sut) {
+					Container result = sut.containerOfId(containerId);
+					assertThat(result.hasMember(memberId(0)),equalTo(true));
+					assertThat(result.hasMember(memberId(5)),equalTo(false));
+					assertThat(result.members(),hasSize(5));
+					List<Member> page = result.members(1,2);
+					assertThat(page,hasSize(2));
+					assertThat(page.get(0).memberId(),equalTo(memberId(1)));
+					assertThat(page.get(1).memberId(),equalTo(memberId(2)));
+					Member member = result.findMember(memberId(3));
+					assertThat(member,notNullValue());
+					assertThat(result.removeMember(member),equalTo(true));
+				}
+			}
+		);
+		clear();
+		withinTransaction(
+			new Task<ResourceRepository>("Checking removal") {
+				@Override
+				public void execute(ResourceRepository sut) {
+					Container result = sut.containerOfId(containerId);
+					assertThat(result.findMember(memberId(3)),nullValue());
+					assertThat(result.members(),hasSize(4));
+				}
+			}
+		);
+	}
+
+	private static ResourceId memberId(int id) {
+		return ResourceId.createId(NamingScheme.getDefault().name("membershipMember",Integer.toString(id)),PersonHandler.ID);
+	}
+
 	@Override
 	protected ResourceRepository getSubjectUnderTest(JPARuntimeDelegate delegate) {
 		return delegate.getResourceRepository();
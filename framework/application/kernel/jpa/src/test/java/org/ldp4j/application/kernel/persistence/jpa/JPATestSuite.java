@@ -34,7 +34,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({
 	JPAEndpointRepositoryTest.class,
 	JPAConstraintReportRepositoryTest.class,
-	JPAResourceRepositoryTest.class
+	JPAResourceRepositoryTest.class,
+	JPACacheTest.class
 })
 public class JPATestSuite {
 
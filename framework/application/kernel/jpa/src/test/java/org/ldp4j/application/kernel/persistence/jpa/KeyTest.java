@@ -40,6 +40,7 @@ import static org.hamcrest.Matchers.sameInstance;
 import org.junit.Test;
 import org.ldp4j.application.data.Name;
 import org.ldp4j.application.data.NamingScheme;
+import org.ldp4j.application.kernel.persistence.encoding.Encoder;
 import org.ldp4j.application.kernel.resource.ResourceId;
 
 public class KeyTest {
@@ -197,6 +198,31 @@ public class KeyTest {
 		assertThat(id2,sameInstance(id1));
 	}
 
+	@Test
+	public void testAssembly$legacyEncoding() throws Exception {
+		Key sut=unassambledKey();
+
+		Key key=Key.newInstance(RESOURCE_ID);
+		setField(sut, "templateId", key.templateId());
+		setField(sut, "nameType", key.nameType());
+		setField(sut, "nameValue", Encoder.valueEncoder().encode(NAME));
+
+		assertThat(sut.resourceId(),equalTo(RESOURCE_ID));
+	}
+
+	@Test
+	public void testReencode() throws Exception {
+		Key legacy=Key.newInstance(TEMPLATE_ID,String.class.getName(),Encoder.valueEncoder().encode(NAME));
+		Key key=Key.reencode(legacy);
+		assertThat(key.resourceId(),equalTo(RESOURCE_ID));
+		assertThat(key.nameValue(),equalTo(Encoder.compactEncoder().encode(NAME)));
+	}
+
+	@Test
+	public void testReencode$null() throws Exception {
+		assertThat(Key.reencode(null),nullValue());
+	}
+
 	private Key unassambledKey() {
 		Key sut=newInstance(Key.class.getName());
 		assertCacheIsEmpty(sut);
@@ -0,0 +1,83 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-mem:0.2.1
+ *   Bundle      : ldp4j-application-kernel-mem-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.impl;
+
+import java.util.concurrent.ConcurrentMap;
+
+import org.ldp4j.application.kernel.endpoint.Endpoint;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.Maps;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Compact record of the paths of the endpoints whose tombstones have been
+ * compacted. Paths are kept as 64-bit hashes, together with the last
+ * modification date of the endpoint, so that the repository can still
+ * report that the path is gone (and prevent its reuse) without keeping the
+ * endpoint itself. The probability of two paths clashing is negligible for
+ * any realistic number of endpoints.
+ */
+final class ExpiredEndpointPaths {
+
+	private static final HashFunction HASH_FUNCTION=Hashing.murmur3_128();
+
+	private final ConcurrentMap<Long,Long> lastModifiedByPath=Maps.newConcurrentMap();
+
+	private static Long hash(String path) {
+		return HASH_FUNCTION.hashString(path,Charsets.UTF_8).asLong();
+	}
+
+	void add(Endpoint endpoint) {
+		this.lastModifiedByPath.put(hash(endpoint.path()),endpoint.lastModified().getTime());
+	}
+
+	boolean contains(String path) {
+		return !this.lastModifiedByPath.isEmpty() && this.lastModifiedByPath.containsKey(hash(path));
+	}
+
+	Endpoint tombstoneOf(String path) {
+		if(this.lastModifiedByPath.isEmpty()) {
+			return null;
+		}
+		Long lastModified=this.lastModifiedByPath.get(hash(path));
+		if(lastModified==null) {
+			return null;
+		}
+		return new InMemoryEndpointTombstone(path,lastModified);
+	}
+
+	int size() {
+		return this.lastModifiedByPath.size();
+	}
+
+	void clear() {
+		this.lastModifiedByPath.clear();
+	}
+
+}
@@ -28,6 +28,7 @@ package org.ldp4j.application.kernel.impl;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -35,6 +36,10 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.ldp4j.application.kernel.constraints.ConstraintReport;
 import org.ldp4j.application.kernel.constraints.ConstraintReportId;
 import org.ldp4j.application.kernel.constraints.ConstraintReportRepository;
+import org.ldp4j.application.kernel.constraints.ConstraintReportRetentionPolicy;
+import org.ldp4j.application.kernel.constraints.ConstraintReportRetentionStatistics;
+import org.ldp4j.application.kernel.constraints.ConstraintReportRetentionStatistics.Cause;
+import org.ldp4j.application.kernel.constraints.ConstraintReportSweeper;
 import org.ldp4j.application.kernel.lifecycle.LifecycleException;
 import org.ldp4j.application.kernel.lifecycle.Managed;
 import org.ldp4j.application.kernel.resource.Resource;
@@ -44,15 +49,123 @@ import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 
+/**
+ * In-memory constraint report repository bounded by a
+ * {@link ConstraintReportRetentionPolicy}. The per-resource and size limits
+ * are enforced whenever a report is added, evicting the oldest reports
+ * first, whereas expired reports are evicted by a background sweeper.
+ */
 final class InMemoryConstraintReportRepository implements Managed, ConstraintReportRepository {
 
+	private static final class RetainedReport {
+
+		private final ConstraintReport report;
+		private final long size;
+
+		private RetainedReport(ConstraintReport report, long size) {
+			this.report=report;
+			this.size=size;
+		}
+
+	}
+
+	private final class Sweep implements Runnable {
+
+		@Override
+		public void run() {
+			evictExpired(System.currentTimeMillis());
+		}
+
+	}
+
 	private final ReadWriteLock lock=new ReentrantReadWriteLock();
 	private final Multimap<ResourceId, String> failureIds;
-	private final Map<ConstraintReportId,ConstraintReport> reports;
+	private final Map<ConstraintReportId,RetainedReport> reports;
+	private final ConstraintReportRetentionPolicy policy;
+	private final ConstraintReportRetentionStatistics statistics;
+	private final ConstraintReportSweeper sweeper;
+
+	private long retainedBytes;
 
 	InMemoryConstraintReportRepository() {
+		this(ConstraintReportRetentionPolicy.fromSystemProperties(),ConstraintReportRetentionStatistics.getInstance());
+	}
+
+	InMemoryConstraintReportRepository(ConstraintReportRetentionPolicy policy, ConstraintReportRetentionStatistics statistics) {
+		this.policy=checkNotNull(policy,"Retention policy cannot be null");
+		this.statistics=checkNotNull(statistics,"Retention statistics cannot be null");
 		this.reports=Maps.newLinkedHashMap();
 		this.failureIds=LinkedHashMultimap.create();
+		this.sweeper=new ConstraintReportSweeper("in-memory-constraint-reports",new Sweep());
+	}
+
+	private long remove(ConstraintReportId id) {
+		RetainedReport retained=this.reports.remove(id);
+		if(retained==null) {
+			return 0;
+		}
+		this.failureIds.remove(id.resourceId(),id.failureId());
+		this.retainedBytes-=retained.size;
+		return retained.size;
+	}
+
+	private void enforceResourceLimit(ResourceId resourceId) {
+		int evicted=0;
+		long bytes=0;
+		Iterator<String> iterator=this.failureIds.get(resourceId).iterator();
+		int remaining=this.failureIds.get(resourceId).size();
+		while(this.policy.exceedsReportsPerResource(remaining) && iterator.hasNext()) {
+			RetainedReport retained=this.reports.remove(ConstraintReportId.create(resourceId,iterator.next()));
+			iterator.remove();
+			remaining--;
+			if(retained!=null) {
+				this.retainedBytes-=retained.size;
+				bytes+=retained.size;
+				evicted++;
+			}
+		}
+		this.statistics.reportsEvicted(Cause.RESOURCE_LIMIT,evicted,bytes);
+	}
+
+	/**
+	 * The newest report is always retained, even if it exceeds the size
+	 * limit on its own.
+	 */
+	private void enforceSizeLimit() {
+		int evicted=0;
+		long bytes=0;
+		while(this.policy.exceedsBytes(this.retainedBytes) && this.reports.size()>1) {
+			bytes+=remove(this.reports.keySet().iterator().next());
+			evicted++;
+		}
+		this.statistics.reportsEvicted(Cause.SIZE_LIMIT,evicted,bytes);
+	}
+
+	/**
+	 * Evict the reports that have expired at the specified instant.
+	 */
+	void evictExpired(long now) {
+		this.lock.writeLock().lock();
+		try {
+			int evicted=0;
+			long bytes=0;
+			Iterator<Map.Entry<ConstraintReportId,RetainedReport>> iterator=this.reports.entrySet().iterator();
+			while(iterator.hasNext()) {
+				Map.Entry<ConstraintReportId,RetainedReport> entry=iterator.next();
+				RetainedReport retained=entry.getValue();
+				if(this.policy.isExpired(retained.report,now)) {
+					iterator.remove();
+					this.failureIds.remove(entry.getKey().resourceId(),entry.getKey().failureId());
+					this.retainedBytes-=retained.size;
+					bytes+=retained.size;
+					evicted++;
+				}
+			}
+			this.statistics.reportsEvicted(Cause.EXPIRED,evicted,bytes);
+			this.statistics.sweepCompleted(this.reports.size(),this.retainedBytes);
+		} finally {
+			this.lock.writeLock().unlock();
+		}
 	}
 
 	/**
@@ -63,7 +176,8 @@ final class InMemoryConstraintReportRepository implements Managed, ConstraintRep
 		checkNotNull(id,"Constraint report identifier cannot be null");
 		this.lock.readLock().lock();
 		try {
-			return this.reports.get(id);
+			RetainedReport retained=this.reports.get(id);
+			return retained!=null?retained.report:null;
 		} finally {
 			this.lock.readLock().unlock();
 		}
@@ -75,11 +189,16 @@ final class InMemoryConstraintReportRepository implements Managed, ConstraintRep
 	@Override
 	public void add(ConstraintReport report) {
 		checkNotNull(report,"Constraint report cannot be null");
+		long size=this.policy.maxBytes()>0?ConstraintReportRetentionPolicy.sizeOf(report):0;
 		this.lock.writeLock().lock();
 		try {
 			ConstraintReportId id = report.id();
+			remove(id);
 			this.failureIds.put(id.resourceId(),id.failureId());
-			this.reports.put(id,report);
+			this.reports.put(id,new RetainedReport(report,size));
+			this.retainedBytes+=size;
+			enforceResourceLimit(id.resourceId());
+			enforceSizeLimit();
 		} finally {
 			this.lock.writeLock().unlock();
 		}
@@ -93,9 +212,7 @@ final class InMemoryConstraintReportRepository implements Managed, ConstraintRep
 		checkNotNull(report,"Constraint report cannot be null");
 		this.lock.writeLock().lock();
 		try {
-			ConstraintReportId reportId = report.id();
-			this.failureIds.remove(reportId.resourceId(),reportId.failureId());
-			this.reports.remove(reportId);
+			remove(report.id());
 		} finally {
 			this.lock.writeLock().unlock();
 		}
@@ -111,7 +228,10 @@ final class InMemoryConstraintReportRepository implements Managed, ConstraintRep
 		try {
 			ResourceId resourceId = resource.id();
 			for(String constraintsId:this.failureIds.get(resourceId)) {
-				this.reports.remove(ConstraintReportId.create(resourceId, constraintsId));
+				RetainedReport retained=this.reports.remove(ConstraintReportId.create(resourceId, constraintsId));
+				if(retained!=null) {
+					this.retainedBytes-=retained.size;
+				}
 			}
 			this.failureIds.removeAll(resourceId);
 		} finally {
@@ -124,7 +244,9 @@ final class InMemoryConstraintReportRepository implements Managed, ConstraintRep
 	 */
 	@Override
 	public void init() throws LifecycleException {
-		// Nothing to do
+		if(this.policy.isBounded()) {
+			this.sweeper.start(this.policy.sweepInterval());
+		}
 	}
 
 	/**
@@ -132,12 +254,15 @@ final class InMemoryConstraintReportRepository implements Managed, ConstraintRep
 	 */
 	@Override
 	public void shutdown() throws LifecycleException {
+		this.sweeper.stop();
 		this.lock.writeLock().lock();
 		try {
 			this.reports.clear();
+			this.failureIds.clear();
+			this.retainedBytes=0;
 		} finally {
 			this.lock.writeLock().unlock();
 		}
 	}
 
-}
\ No newline at end of file
+}
@@ -26,11 +26,15 @@
  */
 package org.ldp4j.application.kernel.impl;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.ldp4j.application.kernel.resource.Container;
@@ -42,6 +46,7 @@ import org.ldp4j.application.kernel.resource.Slug;
 import org.ldp4j.application.kernel.template.ContainerTemplate;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 
@@ -88,12 +93,14 @@ final class InMemoryContainer extends InMemoryResource implements Container {
 	}
 
 	private final ConcurrentMap<ResourceId,Member> members;
+	private final ConcurrentNavigableMap<Long,Member> membersByNumber;
 	private final AtomicLong memberCounter;
 	private final ConcurrentMap<String,InMemorySlug> slugs;
 
 	InMemoryContainer(ResourceId id, ResourceId parentId) {
 		super(id,parentId);
 		this.members=Maps.newConcurrentMap();
+		this.membersByNumber=new ConcurrentSkipListMap<Long,Member>();
 		this.memberCounter=new AtomicLong();
 		this.slugs=Maps.newConcurrentMap();
 	}
@@ -106,6 +113,7 @@ final class InMemoryContainer extends InMemoryResource implements Container {
 		InMemoryMember member = new InMemoryMember(id(), newResource.id(), this.memberCounter.incrementAndGet());
 		Member result = this.members.putIfAbsent(member.memberId(), member);
 		if(result==null) {
+			this.membersByNumber.put(member.number(),member);
 			result=member;
 		}
 		return result;
@@ -143,6 +151,20 @@ final class InMemoryContainer extends InMemoryResource implements Container {
 		return ImmutableSet.copyOf(members.values());
 	}
 
+	@Override
+	public List<Member> members(long cursor, int pageSize) {
+		checkArgument(pageSize>0,"Page size must be greater than zero (%s)",pageSize);
+		ImmutableList.Builder<Member> builder=ImmutableList.builder();
+		int count=0;
+		for(Member member:this.membersByNumber.tailMap(cursor).values()) {
+			if(count++==pageSize) {
+				break;
+			}
+			builder.add(member);
+		}
+		return builder.build();
+	}
+
 	@Override
 	public Member findMember(ResourceId resourceId) {
 		return this.members.get(resourceId);
@@ -151,7 +173,11 @@ final class InMemoryContainer extends InMemoryResource implements Container {
 	@Override
 	public boolean removeMember(Member member) {
 		checkNotNull(member,"Member cannot be null");
-		return members.remove(member.memberId(), member);
+		boolean removed=this.members.remove(member.memberId(), member);
+		if(removed) {
+			this.membersByNumber.remove(member.number(),member);
+		}
+		return removed;
 	}
 
 	@Override
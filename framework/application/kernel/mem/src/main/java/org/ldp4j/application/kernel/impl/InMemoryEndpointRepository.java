@@ -26,31 +26,77 @@
  */
 package org.ldp4j.application.kernel.impl;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.ldp4j.application.kernel.endpoint.Endpoint;
+import org.ldp4j.application.kernel.endpoint.EndpointPathIndex;
 import org.ldp4j.application.kernel.endpoint.EndpointRepository;
+import org.ldp4j.application.kernel.endpoint.EndpointTombstonePolicy;
 import org.ldp4j.application.kernel.lifecycle.LifecycleException;
 import org.ldp4j.application.kernel.lifecycle.Managed;
 import org.ldp4j.application.kernel.resource.ResourceId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
+/**
+ * Lock-free endpoint repository. Endpoints are indexed both by path and by
+ * resource identifier. Additions claim the path first and then the resource
+ * identifier, rolling back the path claim if the identifier is already bound
+ * to a live endpoint, so that the uniqueness of both keys is preserved without
+ * blocking readers. The paths of the endpoints are also indexed in a
+ * path-segment trie for resolving the endpoint of the longest prefix of a
+ * path. <br>
+ * Deleted endpoints are kept as tombstones during the grace period defined
+ * by the {@link EndpointTombstonePolicy}. Afterwards a background task
+ * compacts them, keeping only a hash of their paths so that the paths are
+ * still reported as gone and are not reused.
+ */
 final class InMemoryEndpointRepository implements Managed, EndpointRepository {
 
-	private final Map<String,Endpoint> endpointsByPath=Maps.newLinkedHashMap();
-	private final Map<ResourceId,Endpoint> endpointsByResourceName=Maps.newLinkedHashMap();
+	private static final Logger LOGGER=LoggerFactory.getLogger(InMemoryEndpointRepository.class);
 
-	private final Lock readLock;
-	private final Lock writeLock;
+	private final class Compaction implements Runnable {
+
+		@Override
+		public void run() {
+			try {
+				compact(System.currentTimeMillis());
+			} catch (RuntimeException e) {
+				LOGGER.warn("Endpoint tombstone compaction failed",e);
+			}
+		}
+
+	}
+
+	private final ConcurrentMap<String,Endpoint> endpointsByPath=Maps.newConcurrentMap();
+	private final ConcurrentMap<ResourceId,Endpoint> endpointsByResourceName=Maps.newConcurrentMap();
+	private final EndpointPathIndex pathIndex=new EndpointPathIndex();
+	private final ExpiredEndpointPaths expiredPaths=new ExpiredEndpointPaths();
+	private final EndpointTombstonePolicy policy;
+
+	private ScheduledExecutorService compactor;
 
 	InMemoryEndpointRepository() {
-		ReadWriteLock lock=new ReentrantReadWriteLock();
-		this.readLock = lock.readLock();
-		this.writeLock = lock.writeLock();
+		this(EndpointTombstonePolicy.fromSystemProperties());
+	}
+
+	InMemoryEndpointRepository(EndpointTombstonePolicy policy) {
+		this.policy=checkNotNull(policy,"Tombstone policy cannot be null");
+	}
+
+	private static boolean isAlive(Endpoint endpoint) {
+		return endpoint!=null && endpoint.deleted()==null;
 	}
 
 	/**
@@ -58,12 +104,14 @@ final class InMemoryEndpointRepository implements Managed, EndpointRepository {
 	 */
 	@Override
 	public Endpoint endpointOfPath(String path) {
-		this.readLock.lock();
-		try {
-			return this.endpointsByPath.get(path);
-		} finally {
-			this.readLock.unlock();
+		if(path==null) {
+			return null;
 		}
+		Endpoint endpoint=this.endpointsByPath.get(path);
+		if(endpoint==null) {
+			endpoint=this.expiredPaths.tombstoneOf(path);
+		}
+		return endpoint;
 	}
 
 	/**
@@ -71,16 +119,44 @@ final class InMemoryEndpointRepository implements Managed, EndpointRepository {
 	 */
 	@Override
 	public Endpoint endpointOfResource(ResourceId id) {
-		this.readLock.lock();
-		try {
-			Endpoint endpoint = this.endpointsByResourceName.get(id);
-			if(endpoint!=null && endpoint.deleted()!=null) {
-				endpoint=null;
+		if(id==null) {
+			return null;
+		}
+		Endpoint endpoint=this.endpointsByResourceName.get(id);
+		if(!isAlive(endpoint)) {
+			endpoint=null;
+		}
+		return endpoint;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Endpoint endpointOfLongestPrefix(String path) {
+		if(path==null) {
+			return null;
+		}
+		String prefix=this.pathIndex.longestPrefixOf(path);
+		if(prefix==null) {
+			return null;
+		}
+		return this.endpointsByPath.get(prefix);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<ResourceId,Endpoint> endpointsOfResources(Collection<ResourceId> ids) {
+		Map<ResourceId,Endpoint> result=Maps.newLinkedHashMap();
+		for(ResourceId id:ids) {
+			Endpoint endpoint=endpointOfResource(id);
+			if(endpoint!=null) {
+				result.put(id,endpoint);
 			}
-			return endpoint;
-		} finally {
-			this.readLock.unlock();
 		}
+		return result;
 	}
 
 	/**
@@ -88,42 +164,95 @@ final class InMemoryEndpointRepository implements Managed, EndpointRepository {
 	 */
 	@Override
 	public void add(Endpoint endpoint) {
-		this.writeLock.lock();
-		try {
-			if(this.endpointsByPath.containsKey(endpoint.path())) {
-				throw new IllegalArgumentException("An endpoint with path '"+endpoint.path()+"' already exists");
+		if(this.endpointsByPath.putIfAbsent(endpoint.path(),endpoint)!=null) {
+			throw new IllegalArgumentException("An endpoint with path '"+endpoint.path()+"' already exists");
+		}
+		if(this.expiredPaths.contains(endpoint.path())) {
+			this.endpointsByPath.remove(endpoint.path(),endpoint);
+			throw new IllegalArgumentException("An endpoint with path '"+endpoint.path()+"' already existed");
+		}
+		ResourceId resourceId=endpoint.resourceId();
+		boolean bound=false;
+		while(!bound) {
+			Endpoint other=this.endpointsByResourceName.get(resourceId);
+			if(isAlive(other)) {
+				this.endpointsByPath.remove(endpoint.path(),endpoint);
+				throw new IllegalArgumentException("An endpoint with resource name '"+resourceId+"' already exists ("+other+")");
 			}
-			Endpoint other=endpointOfResource(endpoint.resourceId());
-			if(other!=null) {
-				throw new IllegalArgumentException("An endpoint with resource name '"+endpoint.resourceId()+"' already exists ("+other+")");
+			if(other==null) {
+				bound=this.endpointsByResourceName.putIfAbsent(resourceId,endpoint)==null;
+			} else {
+				bound=this.endpointsByResourceName.replace(resourceId,other,endpoint);
 			}
-			this.endpointsByPath.put(endpoint.path(), endpoint);
-			this.endpointsByResourceName.put(endpoint.resourceId(),endpoint);
-		} finally {
-			this.writeLock.unlock();
 		}
+		this.pathIndex.add(endpoint.path());
+	}
+
+	/**
+	 * Compact the tombstones whose grace period has expired at the
+	 * specified instant. The path of each compacted endpoint is recorded
+	 * before the endpoint is dropped, so that concurrent lookups never miss
+	 * it.
+	 *
+	 * @return the number of tombstones compacted
+	 */
+	int compact(long now) {
+		int compacted=0;
+		Iterator<Endpoint> iterator=this.endpointsByPath.values().iterator();
+		while(iterator.hasNext()) {
+			Endpoint endpoint=iterator.next();
+			if(this.policy.isExpired(endpoint,now)) {
+				this.expiredPaths.add(endpoint);
+				if(this.endpointsByPath.remove(endpoint.path(),endpoint)) {
+					this.pathIndex.remove(endpoint.path());
+					compacted++;
+				}
+			}
+		}
+		Iterator<Map.Entry<ResourceId,Endpoint>> entries=this.endpointsByResourceName.entrySet().iterator();
+		while(entries.hasNext()) {
+			Map.Entry<ResourceId,Endpoint> entry=entries.next();
+			if(this.policy.isExpired(entry.getValue(),now)) {
+				this.endpointsByResourceName.remove(entry.getKey(),entry.getValue());
+			}
+		}
+		if(compacted>0) {
+			LOGGER.debug("Compacted {} endpoint tombstones ({} expired paths)",compacted,this.expiredPaths.size());
+		}
+		return compacted;
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public void init() throws LifecycleException {
-		// Nothing to do
+	public synchronized void init() throws LifecycleException {
+		if(this.compactor!=null) {
+			return;
+		}
+		this.compactor=
+			Executors.newSingleThreadScheduledExecutor(
+				new ThreadFactoryBuilder().
+					setNameFormat("ldp4j-endpoint-compactor-%d").
+					setDaemon(true).
+					build());
+		long interval=this.policy.compactionInterval();
+		this.compactor.scheduleWithFixedDelay(new Compaction(),interval,interval,TimeUnit.MILLISECONDS);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public void shutdown() throws LifecycleException {
-		this.writeLock.lock();
-		try {
-			this.endpointsByPath.clear();
-			this.endpointsByResourceName.clear();
-		} finally {
-			this.writeLock.unlock();
+	public synchronized void shutdown() throws LifecycleException {
+		if(this.compactor!=null) {
+			this.compactor.shutdownNow();
+			this.compactor=null;
 		}
+		this.endpointsByPath.clear();
+		this.endpointsByResourceName.clear();
+		this.pathIndex.clear();
+		this.expiredPaths.clear();
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-mem:0.2.1
+ *   Bundle      : ldp4j-application-kernel-mem-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.impl;
+
+import java.util.Date;
+
+import org.ldp4j.application.engine.context.EntityTag;
+import org.ldp4j.application.kernel.endpoint.Endpoint;
+import org.ldp4j.application.kernel.resource.ResourceId;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * Stand-in for a deleted endpoint whose tombstone has been compacted. Only
+ * the path and the last modification date of the original endpoint are
+ * known, which is all that is needed for reporting that the endpoint is
+ * gone.
+ */
+final class InMemoryEndpointTombstone implements Endpoint {
+
+	private final String path;
+	private final long lastModified;
+
+	InMemoryEndpointTombstone(String path, long lastModified) {
+		this.path=path;
+		this.lastModified=lastModified;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String path() {
+		return this.path;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Date created() {
+		return new Date(this.lastModified);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Date deleted() {
+		return new Date(this.lastModified);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public EntityTag entityTag() {
+		return EntityTag.createWeak(Long.toHexString(this.lastModified));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Date lastModified() {
+		return new Date(this.lastModified);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ResourceId resourceId() {
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void modify(EntityTag newEntityTag, Date newLastModified) {
+		throw new IllegalStateException("Endpoint is already deleted");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void delete(Date deleted) {
+		throw new IllegalStateException("Endpoint is already deleted");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return
+			MoreObjects.
+				toStringHelper(getClass()).
+					add("path",this.path).
+					add("lastModified",this.lastModified).
+					toString();
+	}
+
+}
@@ -28,10 +28,7 @@ package org.ldp4j.application.kernel.impl;
 
 import static com.google.common.base.Preconditions.*;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentMap;
 
 import org.ldp4j.application.kernel.lifecycle.LifecycleException;
 import org.ldp4j.application.kernel.lifecycle.Managed;
@@ -39,28 +36,26 @@ import org.ldp4j.application.kernel.resource.Container;
 import org.ldp4j.application.kernel.resource.Resource;
 import org.ldp4j.application.kernel.resource.ResourceId;
 import org.ldp4j.application.kernel.resource.ResourceRepository;
-import org.ldp4j.application.kernel.resource.ResourceVisitor;
 
+import com.google.common.collect.Maps;
+
+/**
+ * Lock-free resource repository. Resources and containers share a single
+ * concurrent index, so that the uniqueness of resource identifiers can be
+ * enforced atomically when adding new resources.
+ */
 final class InMemoryResourceRepository implements Managed, ResourceRepository {
 
-	private final ReadWriteLock lock=new ReentrantReadWriteLock();
-	private final Map<ResourceId,Resource> resources=new LinkedHashMap<ResourceId,Resource>();
-	private final Map<ResourceId,Container> containers=new LinkedHashMap<ResourceId,Container>();
+	private final ConcurrentMap<ResourceId,Resource> resources=Maps.newConcurrentMap();
 
 	InMemoryResourceRepository() {
 	}
 
 	private Resource find(ResourceId id) {
-		lock.readLock().lock();
-		try {
-			Resource result=resources.get(id);
-			if(result==null) {
-				result=containers.get(id);
-			}
-			return result;
-		} finally {
-			lock.readLock().unlock();
+		if(id==null) {
+			return null;
 		}
+		return this.resources.get(id);
 	}
 
 	/**
@@ -81,12 +76,11 @@ final class InMemoryResourceRepository implements Managed, ResourceRepository {
 	 */
 	@Override
 	public Resource resourceOfId(ResourceId id) {
-		lock.readLock().lock();
-		try {
-			return resources.get(id);
-		} finally {
-			lock.readLock().unlock();
+		Resource found=find(id);
+		if(found instanceof Container) {
+			return null;
 		}
+		return found;
 	}
 
 	/**
@@ -94,12 +88,11 @@ final class InMemoryResourceRepository implements Managed, ResourceRepository {
 	 */
 	@Override
 	public Container containerOfId(ResourceId id) {
-		lock.readLock().lock();
-		try {
-			return containers.get(id);
-		} finally {
-			lock.readLock().unlock();
+		Resource found=find(id);
+		if(found instanceof Container) {
+			return (Container)found;
 		}
+		return null;
 	}
 
 	/**
@@ -108,24 +101,8 @@ final class InMemoryResourceRepository implements Managed, ResourceRepository {
 	@Override
 	public void add(Resource resource) {
 		checkNotNull(resource,"Resource cannot be null");
-		lock.writeLock().lock();
-		try {
-			checkState(find(resource.id())==null,"A resource with identifier '%s' already exists",resource.id());
-			resource.accept(
-				new ResourceVisitor() {
-					@Override
-					public void visitResource(Resource resource) {
-						InMemoryResourceRepository.this.resources.put(resource.id(),resource);
-					}
-					@Override
-					public void visitContainer(Container resource) {
-						InMemoryResourceRepository.this.containers.put(resource.id(),resource);
-					}
-				}
-			);
-		} finally {
-			lock.writeLock().unlock();
-		}
+		Resource previous=this.resources.putIfAbsent(resource.id(),resource);
+		checkState(previous==null,"A resource with identifier '%s' already exists",resource.id());
 	}
 
 	/**
@@ -134,13 +111,7 @@ final class InMemoryResourceRepository implements Managed, ResourceRepository {
 	@Override
 	public void remove(Resource resource) {
 		checkNotNull(resource,"Resource cannot be null");
-		lock.writeLock().lock();
-		try {
-			resources.remove(resource.id());
-			containers.remove(resource.id());
-		} finally {
-			lock.writeLock().unlock();
-		}
+		this.resources.remove(resource.id());
 	}
 
 	/**
@@ -156,13 +127,7 @@ final class InMemoryResourceRepository implements Managed, ResourceRepository {
 	 */
 	@Override
 	public void shutdown() throws LifecycleException {
-		lock.writeLock().lock();
-		try {
-			resources.clear();
-			containers.clear();
-		} finally {
-			lock.writeLock().unlock();
-		}
+		this.resources.clear();
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,128 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-mem:0.2.1
+ *   Bundle      : ldp4j-application-kernel-mem-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.ldp4j.application.data.NamingScheme;
+import org.ldp4j.application.kernel.constraints.ConstraintReport;
+import org.ldp4j.application.kernel.constraints.ConstraintReportId;
+import org.ldp4j.application.kernel.constraints.ConstraintReportRetentionPolicy;
+import org.ldp4j.application.kernel.constraints.ConstraintReportRetentionStatistics;
+import org.ldp4j.application.kernel.resource.ResourceId;
+
+public class InMemoryConstraintReportRepositoryTest {
+
+	private static ResourceId resourceId(int id) {
+		return ResourceId.createId(NamingScheme.getDefault().name(id),"template");
+	}
+
+	private static ConstraintReport report(ResourceId resourceId, String failureId, long date) {
+		return new InMemoryConstraintReport(ConstraintReportId.create(resourceId,failureId),new Date(date),null,null);
+	}
+
+	private static InMemoryConstraintReportRepository repository(ConstraintReportRetentionPolicy policy) {
+		return new InMemoryConstraintReportRepository(policy,ConstraintReportRetentionStatistics.getInstance());
+	}
+
+	@Test
+	public void testUnboundedPolicyRetainsEveryReport() throws Exception {
+		InMemoryConstraintReportRepository sut=repository(ConstraintReportRetentionPolicy.unbounded());
+		long now=System.currentTimeMillis();
+		ConstraintReport first=report(resourceId(1),"first",0);
+		ConstraintReport second=report(resourceId(1),"second",now);
+		sut.add(first);
+		sut.add(second);
+		sut.evictExpired(now);
+		assertThat(sut.constraintReportOfId(first.id()),sameInstance(first));
+		assertThat(sut.constraintReportOfId(second.id()),sameInstance(second));
+	}
+
+	@Test
+	public void testEvictsOldestReportsOfResourceOverLimit() throws Exception {
+		InMemoryConstraintReportRepository sut=repository(ConstraintReportRetentionPolicy.unbounded().withMaxReportsPerResource(2));
+		long now=System.currentTimeMillis();
+		ConstraintReport first=report(resourceId(1),"first",now);
+		ConstraintReport second=report(resourceId(1),"second",now);
+		ConstraintReport third=report(resourceId(1),"third",now);
+		ConstraintReport other=report(resourceId(2),"first",now);
+		sut.add(first);
+		sut.add(other);
+		sut.add(second);
+		sut.add(third);
+		assertThat(sut.constraintReportOfId(first.id()),nullValue());
+		assertThat(sut.constraintReportOfId(second.id()),sameInstance(second));
+		assertThat(sut.constraintReportOfId(third.id()),sameInstance(third));
+		assertThat(sut.constraintReportOfId(other.id()),sameInstance(other));
+	}
+
+	@Test
+	public void testEvictsOldestReportsOverSizeBudget() throws Exception {
+		long now=System.currentTimeMillis();
+		ConstraintReport first=report(resourceId(1),"first",now);
+		ConstraintReport second=report(resourceId(2),"second",now);
+		ConstraintReport third=report(resourceId(3),"third",now);
+		long size=ConstraintReportRetentionPolicy.sizeOf(first);
+		InMemoryConstraintReportRepository sut=repository(ConstraintReportRetentionPolicy.unbounded().withMaxBytes(2*size));
+		sut.add(first);
+		sut.add(second);
+		sut.add(third);
+		assertThat(sut.constraintReportOfId(first.id()),nullValue());
+		assertThat(sut.constraintReportOfId(second.id()),notNullValue());
+		assertThat(sut.constraintReportOfId(third.id()),notNullValue());
+	}
+
+	@Test
+	public void testRetainsNewestReportOverSizeBudget() throws Exception {
+		ConstraintReport report=report(resourceId(1),"first",System.currentTimeMillis());
+		InMemoryConstraintReportRepository sut=repository(ConstraintReportRetentionPolicy.unbounded().withMaxBytes(1));
+		sut.add(report);
+		assertThat(sut.constraintReportOfId(report.id()),sameInstance(report));
+	}
+
+	@Test
+	public void testSweepEvictsExpiredReports() throws Exception {
+		InMemoryConstraintReportRepository sut=repository(ConstraintReportRetentionPolicy.unbounded().withMaxAge(1,TimeUnit.HOURS));
+		long now=System.currentTimeMillis();
+		ConstraintReport expired=report(resourceId(1),"expired",now-TimeUnit.HOURS.toMillis(2));
+		ConstraintReport retained=report(resourceId(1),"retained",now);
+		sut.add(expired);
+		sut.add(retained);
+		assertThat(sut.constraintReportOfId(expired.id()),sameInstance(expired));
+		sut.evictExpired(now);
+		assertThat(sut.constraintReportOfId(expired.id()),nullValue());
+		assertThat(sut.constraintReportOfId(retained.id()),sameInstance(retained));
+	}
+
+}
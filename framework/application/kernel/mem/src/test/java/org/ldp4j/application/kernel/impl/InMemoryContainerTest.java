@@ -31,13 +31,20 @@ import org.junit.Test;
 
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
 
 import org.ldp4j.application.data.Name;
 import org.ldp4j.application.data.NamingScheme;
 import org.ldp4j.application.kernel.impl.InMemoryContainer;
 import org.ldp4j.application.kernel.resource.Container;
+import org.ldp4j.application.kernel.resource.Member;
 import org.ldp4j.application.kernel.resource.ResourceId;
 import org.ldp4j.application.kernel.resource.Slug;
+import org.ldp4j.application.kernel.template.ContainerTemplate;
+import org.ldp4j.application.kernel.template.ResourceTemplate;
+import org.ldp4j.application.kernel.template.TemplateLibrary;
 
 public class InMemoryContainerTest {
 
@@ -49,7 +56,18 @@ public class InMemoryContainerTest {
 
 	@Before
 	public void setUp() {
-		this.container = new InMemoryContainer(CONTAINER_ID);
+		ResourceTemplate memberTemplate=mock(ResourceTemplate.class);
+		ContainerTemplate containerTemplate=mock(ContainerTemplate.class);
+		when(containerTemplate.memberTemplate()).thenReturn(memberTemplate);
+		TemplateLibrary library=mock(TemplateLibrary.class);
+		when(library.findById("template")).thenReturn(containerTemplate);
+		InMemoryContainer tmp=new InMemoryContainer(CONTAINER_ID);
+		tmp.setTemplateLibrary(library);
+		this.container = tmp;
+	}
+
+	private ResourceId memberId(int id) {
+		return ResourceId.createId(NamingScheme.getDefault().name("member"+id), "memberTemplate");
 	}
 
 	@Test
@@ -106,4 +124,40 @@ public class InMemoryContainerTest {
 		assertThat(original.version(),equalTo(3L));
 	}
 
-}
+	@Test
+	public void testMembers$page$ordered() throws Exception {
+		for(int i=0;i<5;i++) {
+			this.container.addMember(memberId(i));
+		}
+		List<Member> first = this.container.members(0,2);
+		assertThat(first,hasSize(2));
+		assertThat(first.get(0).memberId(),equalTo(memberId(0)));
+		assertThat(first.get(1).memberId(),equalTo(memberId(1)));
+		List<Member> second = this.container.members(first.get(1).number()+1,2);
+		assertThat(second,hasSize(2));
+		assertThat(second.get(0).memberId(),equalTo(memberId(2)));
+		assertThat(second.get(1).memberId(),equalTo(memberId(3)));
+		List<Member> last = this.container.members(second.get(1).number()+1,2);
+		assertThat(last,hasSize(1));
+		assertThat(last.get(0).memberId(),equalTo(memberId(4)));
+		assertThat(this.container.members(last.get(0).number()+1,2),hasSize(0));
+	}
+
+	@Test
+	public void testMembers$page$skipsRemovedMembers() throws Exception {
+		for(int i=0;i<3;i++) {
+			this.container.addMember(memberId(i));
+		}
+		assertThat(this.container.removeMember(this.container.findMember(memberId(1))),equalTo(true));
+		List<Member> page = this.container.members(0,3);
+		assertThat(page,hasSize(2));
+		assertThat(page.get(0).memberId(),equalTo(memberId(0)));
+		assertThat(page.get(1).memberId(),equalTo(memberId(2)));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testMembers$page$invalidPageSize() throws Exception {
+		this.container.members(0,0);
+	}
+
+}
\ No newline at end of file
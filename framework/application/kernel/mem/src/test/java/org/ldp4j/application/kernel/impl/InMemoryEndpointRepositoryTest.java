@@ -0,0 +1,236 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-application-kernel-mem:0.2.1
+ *   Bundle      : ldp4j-application-kernel-mem-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.ldp4j.application.data.NamingScheme;
+import org.ldp4j.application.engine.context.EntityTag;
+import org.ldp4j.application.kernel.endpoint.Endpoint;
+import org.ldp4j.application.kernel.endpoint.EndpointTombstonePolicy;
+import org.ldp4j.application.kernel.resource.ResourceId;
+
+import com.google.common.collect.Lists;
+
+public class InMemoryEndpointRepositoryTest {
+
+	private InMemoryEndpointRepository sut;
+
+	private static ResourceId resourceId(int id) {
+		return ResourceId.createId(NamingScheme.getDefault().name(id),"template");
+	}
+
+	private static Endpoint endpoint(String path, ResourceId id) {
+		return InMemoryEndpoint.create(path,id,new Date(),EntityTag.createStrong(path));
+	}
+
+	@Before
+	public void setUp() {
+		this.sut=new InMemoryEndpointRepository();
+	}
+
+	@Test
+	public void testAddIndexesByPathAndResource() throws Exception {
+		Endpoint endpoint=endpoint("path/",resourceId(1));
+		sut.add(endpoint);
+		assertThat(sut.endpointOfPath("path/"),sameInstance(endpoint));
+		assertThat(sut.endpointOfResource(resourceId(1)),sameInstance(endpoint));
+		assertThat(sut.endpointOfPath(null),nullValue());
+		assertThat(sut.endpointOfResource(null),nullValue());
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void testAddRejectsDuplicatePath() throws Exception {
+		sut.add(endpoint("path/",resourceId(1)));
+		sut.add(endpoint("path/",resourceId(2)));
+	}
+
+	@Test
+	public void testAddRejectsDuplicateResourceAndReleasesPath() throws Exception {
+		Endpoint endpoint=endpoint("path/",resourceId(1));
+		sut.add(endpoint);
+		try {
+			sut.add(endpoint("other/",resourceId(1)));
+		} catch (IllegalArgumentException e) {
+			assertThat(sut.endpointOfPath("other/"),nullValue());
+			assertThat(sut.endpointOfResource(resourceId(1)),sameInstance(endpoint));
+			return;
+		}
+		throw new AssertionError("Duplicate resource should have been rejected");
+	}
+
+	@Test
+	public void testAddReplacesDeletedEndpointOfResource() throws Exception {
+		Endpoint deleted=endpoint("path/",resourceId(1));
+		sut.add(deleted);
+		deleted.delete(new Date());
+		assertThat(sut.endpointOfResource(resourceId(1)),nullValue());
+		Endpoint endpoint=endpoint("other/",resourceId(1));
+		sut.add(endpoint);
+		assertThat(sut.endpointOfResource(resourceId(1)),sameInstance(endpoint));
+		assertThat(sut.endpointOfPath("path/"),sameInstance(deleted));
+	}
+
+	@Test
+	public void testEndpointOfLongestPrefix() throws Exception {
+		Endpoint container=endpoint("people/",resourceId(1));
+		Endpoint member=endpoint("people/1/",resourceId(2));
+		sut.add(container);
+		sut.add(member);
+		assertThat(sut.endpointOfLongestPrefix("people/1/"),sameInstance(member));
+		assertThat(sut.endpointOfLongestPrefix("people/1/address#me"),sameInstance(member));
+		assertThat(sut.endpointOfLongestPrefix("people/2/"),sameInstance(container));
+		assertThat(sut.endpointOfLongestPrefix("other/"),nullValue());
+		assertThat(sut.endpointOfLongestPrefix(null),nullValue());
+	}
+
+	@Test
+	public void testEndpointOfLongestPrefixIgnoresRejectedPaths() throws Exception {
+		sut.add(endpoint("path/",resourceId(1)));
+		try {
+			sut.add(endpoint("path/other/",resourceId(1)));
+		} catch (IllegalArgumentException e) {
+			assertThat(sut.endpointOfLongestPrefix("path/other/").path(),equalTo("path/"));
+			return;
+		}
+		throw new AssertionError("Duplicate resource should have been rejected");
+	}
+
+	@Test
+	public void testEndpointsOfResources() throws Exception {
+		Endpoint first=endpoint("first/",resourceId(1));
+		Endpoint second=endpoint("second/",resourceId(2));
+		Endpoint deleted=endpoint("deleted/",resourceId(3));
+		sut.add(first);
+		sut.add(second);
+		sut.add(deleted);
+		deleted.delete(new Date());
+		Map<ResourceId,Endpoint> endpoints=sut.endpointsOfResources(Lists.newArrayList(resourceId(1),resourceId(2),resourceId(3),resourceId(4)));
+		assertThat(endpoints.size(),equalTo(2));
+		assertThat(endpoints,hasEntry(resourceId(1),first));
+		assertThat(endpoints,hasEntry(resourceId(2),second));
+		assertThat(endpoints,not(hasKey(resourceId(3))));
+	}
+
+	@Test
+	public void testConcurrentAddsOfSameResourceBindOnlyOneEndpoint() throws Exception {
+		final int threads=8;
+		final ResourceId id=resourceId(1);
+		ExecutorService executor=Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Boolean>> results=Lists.newArrayList();
+			for(int i=0;i<threads;i++) {
+				final String path="path"+i+"/";
+				results.add(
+					executor.submit(
+						new Callable<Boolean>() {
+							@Override
+							public Boolean call() {
+								try {
+									sut.add(endpoint(path,id));
+									return true;
+								} catch (IllegalArgumentException e) {
+									return false;
+								}
+							}
+						}
+					)
+				);
+			}
+			int added=0;
+			for(Future<Boolean> result:results) {
+				if(result.get()) {
+					added++;
+				}
+			}
+			assertThat(added,equalTo(1));
+			Endpoint winner=sut.endpointOfResource(id);
+			assertThat(sut.endpointOfPath(winner.path()),sameInstance(winner));
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testTombstonesAreKeptDuringGracePeriod() throws Exception {
+		InMemoryEndpointRepository sut=new InMemoryEndpointRepository(EndpointTombstonePolicy.defaultPolicy().withGracePeriod(1,TimeUnit.HOURS));
+		long now=System.currentTimeMillis();
+		Endpoint endpoint=endpoint("gone/",resourceId(1));
+		sut.add(endpoint);
+		endpoint.delete(new Date(now-TimeUnit.MINUTES.toMillis(30)));
+		assertThat(sut.compact(now),equalTo(0));
+		assertThat(sut.endpointOfPath("gone/"),sameInstance(endpoint));
+		assertThat(sut.endpointOfResource(resourceId(1)),nullValue());
+	}
+
+	@Test
+	public void testCompactedTombstonesAreStillGone() throws Exception {
+		InMemoryEndpointRepository sut=new InMemoryEndpointRepository(EndpointTombstonePolicy.defaultPolicy().withGracePeriod(1,TimeUnit.HOURS));
+		long now=System.currentTimeMillis();
+		Endpoint endpoint=endpoint("gone/",resourceId(1));
+		sut.add(endpoint);
+		sut.add(endpoint("alive/",resourceId(2)));
+		endpoint.delete(new Date(now-TimeUnit.HOURS.toMillis(2)));
+		assertThat(sut.compact(now),equalTo(1));
+		Endpoint tombstone=sut.endpointOfPath("gone/");
+		assertThat(tombstone,notNullValue());
+		assertThat(tombstone.path(),equalTo("gone/"));
+		assertThat(tombstone.deleted(),notNullValue());
+		assertThat(tombstone.lastModified(),equalTo(endpoint.lastModified()));
+		assertThat(sut.endpointOfPath("alive/"),notNullValue());
+		assertThat(sut.endpointOfLongestPrefix("gone/child"),nullValue());
+		try {
+			sut.add(endpoint("gone/",resourceId(3)));
+			fail("Should not reuse the path of a compacted endpoint");
+		} catch (IllegalArgumentException e) {
+			assertThat(sut.endpointOfResource(resourceId(3)),nullValue());
+		}
+		Endpoint replacement=endpoint("replacement/",resourceId(1));
+		sut.add(replacement);
+		assertThat(sut.endpointOfResource(resourceId(1)),sameInstance(replacement));
+	}
+
+}
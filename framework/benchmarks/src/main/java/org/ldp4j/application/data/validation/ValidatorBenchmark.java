@@ -0,0 +1,122 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-benchmarks:0.2.1
+ *   Bundle      : ldp4j-benchmarks-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.data.validation;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.ldp4j.application.data.DataSet;
+import org.ldp4j.application.data.DataSets;
+import org.ldp4j.application.data.Individual;
+import org.ldp4j.application.data.Literals;
+import org.ldp4j.application.data.ManagedIndividual;
+import org.ldp4j.application.data.ManagedIndividualId;
+import org.ldp4j.application.data.NamingScheme;
+import org.ldp4j.application.data.Property;
+import org.ldp4j.application.data.validation.Validator.ValidatorBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Validation of the representation of a large container whose members are
+ * linked to it through an is-member-of relation, which requires a read-only
+ * constraint per member. The indexed validator is compared against a linear
+ * scan of every property against every constraint, which is how properties
+ * were dispatched before the constraints were indexed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=5,time=1)
+@Measurement(iterations=10,time=1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+	private static final URI IS_MEMBER_OF = URI.create("http://www.ldp4j.org/vocab#isMemberOf");
+	private static final URI TITLE        = URI.create("http://purl.org/dc/terms/title");
+	private static final String TEMPLATE  = "template";
+
+	@Param({"100","1000","5000"})
+	private int members;
+
+	private DataSet dataSet;
+	private List<ValidationConstraint<Property>> constraints;
+
+	private static ManagedIndividualId id(String name) {
+		return ManagedIndividualId.createId(NamingScheme.getDefault().name(name),TEMPLATE);
+	}
+
+	@Setup
+	public void setUp() {
+		this.dataSet=DataSets.createDataSet(NamingScheme.getDefault().name("container"));
+		ManagedIndividual container=this.dataSet.individual(id("container"),ManagedIndividual.class);
+		container.addValue(TITLE,Literals.newLiteral("container"));
+		this.constraints=Lists.newArrayList();
+		for(int i=0;i<this.members;i++) {
+			ManagedIndividual member=this.dataSet.individual(id("member"+i),ManagedIndividual.class);
+			member.addValue(TITLE,Literals.newLiteral("member "+i));
+			member.addValue(IS_MEMBER_OF,container);
+			this.constraints.add(ValidationConstraintFactory.readOnlyProperty(member.property(IS_MEMBER_OF)));
+		}
+	}
+
+	@Benchmark
+	public boolean indexed() {
+		ValidatorBuilder builder=Validator.builder();
+		for(ValidationConstraint<Property> constraint:this.constraints) {
+			builder.withPropertyConstraint(constraint);
+		}
+		return builder.build().validate(this.dataSet).isValid();
+	}
+
+	@Benchmark
+	public boolean linearScan() {
+		boolean valid=true;
+		for(Individual<?,?> individual:this.dataSet) {
+			for(Property property:individual) {
+				for(ValidationConstraint<Property> constraint:this.constraints) {
+					ValidationLog log=constraint.validate(property);
+					valid&=!log.checked() || log.success();
+				}
+			}
+		}
+		return valid;
+	}
+
+}
@@ -0,0 +1,176 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-benchmarks:0.2.1
+ *   Bundle      : ldp4j-benchmarks-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.impl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.ldp4j.application.data.NamingScheme;
+import org.ldp4j.application.kernel.resource.Member;
+import org.ldp4j.application.kernel.resource.Resource;
+import org.ldp4j.application.kernel.resource.ResourceId;
+import org.ldp4j.application.kernel.template.ContainerTemplate;
+import org.ldp4j.application.kernel.template.ResourceTemplate;
+import org.ldp4j.application.kernel.template.TemplateLibrary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Membership management of in-memory containers holding a large number of
+ * members.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=5,time=1)
+@Measurement(iterations=10,time=1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InMemoryContainerBenchmark {
+
+	private static final String CONTAINER_TEMPLATE = "containerTemplate";
+	private static final String MEMBER_TEMPLATE    = "memberTemplate";
+
+	/**
+	 * Minimal template stub: the container template returns the member
+	 * template, the library resolves the container template, and any other
+	 * method returns the default value of its return type.
+	 */
+	private static final class TemplateStub implements InvocationHandler {
+
+		private final Object result;
+
+		private TemplateStub(Object result) {
+			this.result=result;
+		}
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			Class<?> returnType=method.getReturnType();
+			if("equals".equals(method.getName())) {
+				return proxy==args[0];
+			} else if("hashCode".equals(method.getName())) {
+				return System.identityHashCode(proxy);
+			} else if(this.result!=null && returnType.isInstance(this.result)) {
+				return this.result;
+			} else if(returnType==boolean.class) {
+				return Boolean.FALSE;
+			} else if(returnType==String.class) {
+				return method.getName();
+			}
+			return null;
+		}
+
+		static <T> T create(Class<T> clazz, Object result) {
+			return
+				clazz.cast(
+					Proxy.newProxyInstance(
+						InMemoryContainerBenchmark.class.getClassLoader(),
+						new Class<?>[]{clazz},
+						new TemplateStub(result)));
+		}
+
+	}
+
+	@Param({"1000","100000"})
+	public int members;
+
+	@Param({"10","100"})
+	public int pageSize;
+
+	private InMemoryContainer container;
+
+	private ResourceId[] memberIds;
+
+	private long middle;
+
+	private int next;
+
+	private static ResourceId memberId(int id) {
+		return ResourceId.createId(NamingScheme.getDefault().name("member",Integer.toString(id)),MEMBER_TEMPLATE);
+	}
+
+	private static TemplateLibrary templateLibrary() {
+		ResourceTemplate memberTemplate=TemplateStub.create(ResourceTemplate.class,null);
+		ContainerTemplate containerTemplate=TemplateStub.create(ContainerTemplate.class,memberTemplate);
+		return TemplateStub.create(TemplateLibrary.class,containerTemplate);
+	}
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		this.container=
+			new InMemoryContainer(
+				ResourceId.createId(NamingScheme.getDefault().name("container"),CONTAINER_TEMPLATE));
+		this.container.setTemplateLibrary(templateLibrary());
+		this.memberIds=new ResourceId[this.members];
+		for(int i=0;i<this.members;i++) {
+			this.memberIds[i]=memberId(i);
+			this.container.addMember(this.memberIds[i]);
+		}
+		this.middle=this.container.findMember(this.memberIds[this.members/2]).number();
+		this.next=this.members;
+	}
+
+	@Benchmark
+	public Resource addMember() {
+		return this.container.addMember(memberId(this.next++));
+	}
+
+	@Benchmark
+	public boolean hasMember() {
+		return this.container.hasMember(this.memberIds[this.next++%this.members]);
+	}
+
+	@Benchmark
+	public Set<Member> allMembers() {
+		return this.container.members();
+	}
+
+	@Benchmark
+	public List<Member> firstPage() {
+		return this.container.members(0,this.pageSize);
+	}
+
+	@Benchmark
+	public List<Member> middlePage() {
+		return this.container.members(this.middle,this.pageSize);
+	}
+
+}
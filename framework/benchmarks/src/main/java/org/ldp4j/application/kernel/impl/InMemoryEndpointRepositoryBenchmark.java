@@ -0,0 +1,119 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-benchmarks:0.2.1
+ *   Bundle      : ldp4j-benchmarks-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.application.kernel.impl;
+
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.ldp4j.application.data.NamingScheme;
+import org.ldp4j.application.engine.context.EntityTag;
+import org.ldp4j.application.kernel.endpoint.Endpoint;
+import org.ldp4j.application.kernel.resource.ResourceId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookup throughput of the in-memory endpoint repository. The read
+ * benchmarks are run both single-threaded and with as many threads as
+ * available processors so that the scalability of concurrent readers can be
+ * compared.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=5,time=1)
+@Measurement(iterations=10,time=1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InMemoryEndpointRepositoryBenchmark {
+
+	@Param({"1000","100000"})
+	public int endpoints;
+
+	private InMemoryEndpointRepository repository;
+
+	private String[] paths;
+
+	private ResourceId[] resourceIds;
+
+	@Setup
+	public void setUp() {
+		this.repository=new InMemoryEndpointRepository();
+		this.paths=new String[this.endpoints];
+		this.resourceIds=new ResourceId[this.endpoints];
+		Date now=new Date();
+		for(int i=0;i<this.endpoints;i++) {
+			this.paths[i]="container/member_"+i+"/";
+			this.resourceIds[i]=ResourceId.createId(NamingScheme.getDefault().name(i),"template");
+			this.repository.add(
+				InMemoryEndpoint.create(
+					this.paths[i],
+					this.resourceIds[i],
+					now,
+					EntityTag.createStrong(Integer.toString(i))));
+		}
+	}
+
+	private int next() {
+		return ThreadLocalRandom.current().nextInt(this.endpoints);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Endpoint endpointOfPath() {
+		return this.repository.endpointOfPath(this.paths[next()]);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Endpoint endpointOfPathConcurrently() {
+		return this.repository.endpointOfPath(this.paths[next()]);
+	}
+
+	@Benchmark
+	@Threads(1)
+	public Endpoint endpointOfResource() {
+		return this.repository.endpointOfResource(this.resourceIds[next()]);
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public Endpoint endpointOfResourceConcurrently() {
+		return this.repository.endpointOfResource(this.resourceIds[next()]);
+	}
+
+}
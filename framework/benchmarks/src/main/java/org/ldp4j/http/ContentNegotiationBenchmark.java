@@ -0,0 +1,94 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-benchmarks:0.2.1
+ *   Bundle      : ldp4j-benchmarks-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of media types and negotiation of the representation to serve
+ * using the typical headers sent by LDP clients and browsers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations=5,time=1)
+@Measurement(iterations=10,time=1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentNegotiationBenchmark {
+
+	private static final MediaType TURTLE  = MediaTypes.of("text","turtle");
+	private static final MediaType RDF_XML = MediaTypes.of("application","rdf+xml");
+	private static final MediaType JSON_LD = MediaTypes.of("application","ld+json");
+
+	@Param({
+		"text/turtle",
+		"application/ld+json; profile=\"http://www.w3.org/ns/json-ld#compacted\"",
+		"text/html;level=1;charset=\"UTF-8\""
+	})
+	public String mediaType;
+
+	@Param({
+		"text/turtle",
+		"text/turtle;q=0.9, application/rdf+xml;q=0.8, application/ld+json;q=0.7, */*;q=0.1",
+		"text/html,application/xhtml+xml,application/xml;q=0.9,image/webp,*/*;q=0.8"
+	})
+	public String accept;
+
+	@Benchmark
+	public MediaType fromString() {
+		return MediaTypes.fromString(this.mediaType);
+	}
+
+	@Benchmark
+	public NegotiationResult negotiate() {
+		return
+			ContentNegotiator.
+				newInstance().
+					support(TURTLE).
+					support(RDF_XML).
+					support(JSON_LD).
+					support(CharacterEncodings.of(StandardCharsets.UTF_8)).
+					support(Languages.of(Locale.ENGLISH)).
+					accept(this.accept).
+					acceptCharset("utf-8, iso-8859-1;q=0.5").
+					negotiate();
+	}
+
+}
@@ -0,0 +1,118 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-benchmarks:0.2.1
+ *   Bundle      : ldp4j-benchmarks-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.rdf.impl;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.ldp4j.rdf.Format;
+import org.ldp4j.rdf.Triple;
+import org.ldp4j.rdf.TripleHandler;
+import org.ldp4j.rdf.impl.UnmarshallOptions.Ordering;
+import org.ldp4j.rdf.impl.UnmarshallOptions.UnmarshallStyle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Unmarshalling of Turtle documents of increasing size using both the
+ * repository-based and the parser-based strategies, as well as the
+ * streaming mode (which ignores the style and ordering parameters).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=5,time=1)
+@Measurement(iterations=10,time=1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RDFModelParserBenchmark {
+
+	private static final URI BASE=URI.create("http://www.example.org/ldp4j/resource/");
+
+	@Param({"REPOSITORY_BASED","PARSER_BASED"})
+	public UnmarshallStyle style;
+
+	@Param({"KEEP_TRIPLE_ORDER","SORT_TRIPLES"})
+	public Ordering ordering;
+
+	@Param({"10","1000","10000"})
+	public int size;
+
+	private String content;
+
+	private RDFModelParser parser;
+
+	@Setup
+	public void setUp() {
+		StringBuilder builder=new StringBuilder();
+		builder.append("@prefix ldp: <http://www.w3.org/ns/ldp#> .\n");
+		builder.append("@prefix dct: <http://purl.org/dc/terms/> .\n");
+		builder.append("@prefix ex: <http://www.example.org/vocab#> .\n\n");
+		builder.append("<> a ldp:BasicContainer ;\n");
+		builder.append("  dct:title \"Benchmark container\" .\n");
+		for(int i=0;i<this.size;i++) {
+			builder.append("<member").append(i).append("> a ex:Item ;\n");
+			builder.append("  dct:title \"Item ").append(i).append("\"@en ;\n");
+			builder.append("  ex:index ").append(i).append(" ;\n");
+			builder.append("  ex:owner [ a ex:Person ; ex:name \"Owner ").append(i).append("\" ] .\n");
+			builder.append("<> ldp:contains <member").append(i).append("> .\n");
+		}
+		this.content=builder.toString();
+		this.parser=new RDFModelParser(BASE,Format.TURTLE,this.style,this.ordering);
+	}
+
+	@Benchmark
+	public void parse(Blackhole blackhole) throws IOException {
+		for(Triple triple:this.parser.parse(this.content)) {
+			blackhole.consume(triple);
+		}
+	}
+
+	@Benchmark
+	public void parseStreaming(final Blackhole blackhole) throws IOException {
+		this.parser.parse(
+			new StringReader(this.content),
+			new TripleHandler() {
+				@Override
+				public void handleTriple(Triple triple) {
+					blackhole.consume(triple);
+				}
+			});
+	}
+
+}
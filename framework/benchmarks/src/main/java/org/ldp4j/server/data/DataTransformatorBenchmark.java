@@ -0,0 +1,118 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-benchmarks:0.2.1
+ *   Bundle      : ldp4j-benchmarks-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.server.data;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import javax.ws.rs.core.MediaType;
+
+import org.ldp4j.application.data.DataSet;
+import org.ldp4j.application.data.DataSets;
+import org.ldp4j.application.data.ExternalIndividual;
+import org.ldp4j.application.data.Literals;
+import org.ldp4j.application.data.NamingScheme;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Marshalling and unmarshalling of data sets of increasing size for each of
+ * the media types supported by the server.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=5,time=1)
+@Measurement(iterations=10,time=1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataTransformatorBenchmark {
+
+	private static final URI APPLICATION_BASE = URI.create("http://localhost:8080/ldp4j/");
+	private static final URI ENDPOINT         = URI.create("api/resource/");
+
+	private static final URI TITLE   = URI.create("http://purl.org/dc/terms/title");
+	private static final URI INDEX   = URI.create("http://www.example.org/vocab#index");
+	private static final URI RELATED = URI.create("http://www.example.org/vocab#related");
+
+	@Param({"text/turtle","application/rdf+xml","application/ld+json"})
+	public String mediaType;
+
+	@Param({"10","1000"})
+	public int size;
+
+	private DataTransformator transformator;
+
+	private DataSet dataSet;
+
+	private String entity;
+
+	@Setup
+	public void setUp() throws IOException {
+		this.transformator=
+			DataTransformator.
+				create(APPLICATION_BASE).
+				mediaType(MediaType.valueOf(this.mediaType)).
+				permanentEndpoint(ENDPOINT);
+		this.dataSet=DataSets.createDataSet(NamingScheme.getDefault().name("benchmark"));
+		ExternalIndividual previous=null;
+		for(int i=0;i<this.size;i++) {
+			ExternalIndividual individual=
+				this.dataSet.
+					individual(
+						URI.create("http://www.example.org/items/"+i),
+						ExternalIndividual.class);
+			individual.addValue(TITLE,Literals.newLiteral("Item "+i));
+			individual.addValue(INDEX,Literals.newLiteral(i));
+			if(previous!=null) {
+				individual.addValue(RELATED,previous);
+			}
+			previous=individual;
+		}
+		this.entity=this.transformator.marshall(this.dataSet);
+	}
+
+	@Benchmark
+	public String marshall() throws IOException {
+		return this.transformator.marshall(this.dataSet);
+	}
+
+	@Benchmark
+	public DataSet unmarshall() throws IOException {
+		return this.transformator.unmarshall(this.entity);
+	}
+
+}
@@ -0,0 +1,229 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-benchmarks:0.2.1
+ *   Bundle      : ldp4j-benchmarks-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.server.frontend;
+
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ServletContext;
+import javax.ws.rs.core.Response;
+
+import org.apache.cxf.endpoint.Server;
+import org.apache.cxf.interceptor.Fault;
+import org.apache.cxf.jaxrs.JAXRSServerFactoryBean;
+import org.apache.cxf.jaxrs.client.WebClient;
+import org.apache.cxf.jaxrs.lifecycle.SingletonResourceProvider;
+import org.apache.cxf.message.Message;
+import org.apache.cxf.phase.AbstractPhaseInterceptor;
+import org.apache.cxf.phase.Phase;
+import org.apache.cxf.transport.http.AbstractHTTPDestination;
+import org.apache.cxf.transport.local.LocalConduit;
+import org.ldp4j.application.engine.ApplicationEngine;
+import org.ldp4j.application.engine.context.ApplicationContext;
+import org.ldp4j.example.MyApplication;
+import org.ldp4j.server.controller.providers.DiagnosedExceptionMapper;
+import org.ldp4j.server.controller.providers.InvalidContentDiagnosedExceptionMapper;
+import org.ldp4j.server.controller.providers.MethodNotAllowedExceptionMapper;
+import org.ldp4j.server.controller.providers.NotAcceptableExceptionMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End to end processing of requests by the server frontend, running the
+ * example application on top of the in-memory kernel. Requests are
+ * dispatched in-process using the CXF local transport, so that the figures
+ * do not include any network or servlet container overhead.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations=5,time=1)
+@Measurement(iterations=10,time=1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServerFrontendBenchmark {
+
+	private static final String ADDRESS = "local://ldp4j";
+
+	private static final String TURTLE = "text/turtle";
+
+	private static final String BODY =
+		"<> a <http://www.w3.org/ns/ldp#RDFSource> , <http://example.com/ns#Bug> ;\n"+
+		"\t<http://example.com/ns#refersTo> <relativeResource> ;\n"+
+		"\t<http://example.com/ns#severity> \"High\" ;\n"+
+		"\t<http://purl.org/dc/terms/description>  \"Issues that need to be fixed.\" ;\n"+
+		"\t<http://purl.org/dc/terms/title> \"Another bug to test.\" .";
+
+	/**
+	 * Servlet context stub that only keeps the attributes the frontend
+	 * relies on.
+	 */
+	private static final class ServletContextStub implements InvocationHandler {
+
+		private final Map<String,Object> attributes=new ConcurrentHashMap<String,Object>();
+
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) {
+			String name=method.getName();
+			Object result=null;
+			if("getAttribute".equals(name)) {
+				result=this.attributes.get((String)args[0]);
+			} else if("setAttribute".equals(name)) {
+				this.attributes.put((String)args[0],args[1]);
+			} else if("removeAttribute".equals(name)) {
+				this.attributes.remove((String)args[0]);
+			} else if("getContextPath".equals(name)) {
+				result="";
+			} else if("equals".equals(name)) {
+				result=proxy==args[0];
+			} else if("hashCode".equals(name)) {
+				result=System.identityHashCode(proxy);
+			} else if("toString".equals(name)) {
+				result="ServletContextStub"+this.attributes.keySet();
+			}
+			return result;
+		}
+
+		static ServletContext create() {
+			return
+				(ServletContext)Proxy.newProxyInstance(
+					ServerFrontendBenchmark.class.getClassLoader(),
+					new Class<?>[]{ServletContext.class},
+					new ServletContextStub());
+		}
+
+	}
+
+	/**
+	 * Makes the servlet context available to the frontend, as the servlet
+	 * transport would do.
+	 */
+	private static final class ServletContextInterceptor extends AbstractPhaseInterceptor<Message> {
+
+		private final ServletContext servletContext;
+
+		private ServletContextInterceptor(ServletContext servletContext) {
+			super(Phase.RECEIVE);
+			this.servletContext=servletContext;
+		}
+
+		@Override
+		public void handleMessage(Message message) throws Fault {
+			message.put(AbstractHTTPDestination.HTTP_CONTEXT,this.servletContext);
+		}
+
+	}
+
+	private ApplicationEngine engine;
+
+	private ApplicationContext applicationContext;
+
+	private Server server;
+
+	@Setup
+	public void setUp() throws Exception {
+		ServletContext servletContext=ServletContextStub.create();
+		// The frontend must be created before the engine starts so that it
+		// gets notified about the engine state changes.
+		ServerFrontend frontend=new ServerFrontend();
+		File temporalDirectory=new File(System.getProperty("java.io.tmpdir"),"ldp4j-benchmarks");
+		temporalDirectory.mkdirs();
+		this.engine=
+			ApplicationEngine.
+				engine().
+					withContextPath("").
+					withTemporalDirectory(temporalDirectory);
+		this.engine.start();
+		this.applicationContext=this.engine.load(MyApplication.class.getName());
+		servletContext.setAttribute(ServerFrontend.LDP4J_APPLICATION_CONTEXT,this.applicationContext);
+
+		JAXRSServerFactoryBean factory=new JAXRSServerFactoryBean();
+		factory.setAddress(ADDRESS);
+		factory.setResourceClasses(ServerFrontend.class);
+		factory.setResourceProvider(ServerFrontend.class,new SingletonResourceProvider(frontend,true));
+		factory.setProviders(
+			Arrays.<Object>asList(
+				new NotAcceptableExceptionMapper(),
+				new MethodNotAllowedExceptionMapper(),
+				new InvalidContentDiagnosedExceptionMapper(),
+				new DiagnosedExceptionMapper()));
+		factory.getInInterceptors().add(new ServletContextInterceptor(servletContext));
+		this.server=factory.create();
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		this.server.stop();
+		this.server.destroy();
+		this.engine.dispose(this.applicationContext);
+		this.engine.shutdown();
+	}
+
+	private WebClient client(String path) {
+		WebClient client=WebClient.create(ADDRESS).path(path);
+		WebClient.getConfig(client).getRequestContext().put(LocalConduit.DIRECT_DISPATCH,Boolean.TRUE);
+		return client;
+	}
+
+	private String consume(Response response) {
+		try {
+			return response.readEntity(String.class);
+		} finally {
+			response.close();
+		}
+	}
+
+	@Benchmark
+	public String getResource() {
+		return consume(client(MyApplication.ROOT_PERSON_RESOURCE_PATH).accept(TURTLE).get());
+	}
+
+	@Benchmark
+	public String getContainer() {
+		return consume(client(MyApplication.ROOT_PERSON_CONTAINER_PATH).accept(TURTLE).get());
+	}
+
+	@Benchmark
+	public String postMember() {
+		return consume(client(MyApplication.ROOT_PERSON_CONTAINER_PATH).type(TURTLE).accept(TURTLE).post(BODY));
+	}
+
+}
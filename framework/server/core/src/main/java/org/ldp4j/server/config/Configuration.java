@@ -37,8 +37,36 @@ public final class Configuration {
 
 	public static final String OMMIT_CONTENT_TYPE_CHARSET = "org.ldp4j.server.response.contentType.ommitCharset";
 
+	public static final String STREAM_RESPONSE_ENTITIES = "org.ldp4j.server.response.entity.streaming";
+
+	public static final String CONTAINER_PAGE_SIZE = "org.ldp4j.server.container.pageSize";
+
+	public static final int DEFAULT_CONTAINER_PAGE_SIZE = 100;
+
+	public static final String CONTAINER_PAGING_THRESHOLD = "org.ldp4j.server.container.pagingThreshold";
+
+	public static final int DEFAULT_CONTAINER_PAGING_THRESHOLD = 0;
+
+	public static final String REPRESENTATION_CACHE_SIZE = "org.ldp4j.server.response.cache.size";
+
+	public static final long DEFAULT_REPRESENTATION_CACHE_SIZE = 0;
+
+	public static final String REQUEST_BODY_SNAPSHOT_SIZE = "org.ldp4j.server.request.entity.snapshotSize";
+
+	public static final int DEFAULT_REQUEST_BODY_SNAPSHOT_SIZE = 65536;
+
 	private static final AtomicBoolean INCLUDE_CHARSET_LOGGED=new AtomicBoolean();
 
+	private static final AtomicBoolean STREAM_ENTITIES_LOGGED=new AtomicBoolean();
+
+	private static final AtomicBoolean CONTAINER_PAGE_SIZE_LOGGED=new AtomicBoolean();
+
+	private static final AtomicBoolean CONTAINER_PAGING_THRESHOLD_LOGGED=new AtomicBoolean();
+
+	private static final AtomicBoolean REPRESENTATION_CACHE_SIZE_LOGGED=new AtomicBoolean();
+
+	private static final AtomicBoolean REQUEST_BODY_SNAPSHOT_SIZE_LOGGED=new AtomicBoolean();
+
 	private Configuration() {
 	}
 
@@ -50,4 +78,138 @@ public final class Configuration {
 		return result;
 	}
 
-}
+	public static boolean streamResponseEntities() {
+		boolean result=Boolean.parseBoolean(System.getProperty(STREAM_RESPONSE_ENTITIES));
+		if(STREAM_ENTITIES_LOGGED.compareAndSet(false,true)) {
+			LOGGER.info("Streaming of response entities is {}",result?"enabled":"disabled");
+		}
+		return result;
+	}
+
+	public static int containerPageSize() {
+		String rawValue=System.getProperty(CONTAINER_PAGE_SIZE);
+		int result=DEFAULT_CONTAINER_PAGE_SIZE;
+		boolean valid=true;
+		if(rawValue!=null) {
+			try {
+				result=Integer.parseInt(rawValue.trim());
+			} catch (NumberFormatException e) {
+				valid=false;
+			}
+			if(result<=0) {
+				valid=false;
+			}
+			if(!valid) {
+				result=DEFAULT_CONTAINER_PAGE_SIZE;
+			}
+		}
+		if(CONTAINER_PAGE_SIZE_LOGGED.compareAndSet(false,true)) {
+			if(!valid) {
+				LOGGER.warn("Invalid container page size '{}': using default value instead",rawValue);
+			}
+			LOGGER.info("Container page size is {}",result);
+		}
+		return result;
+	}
+
+	/**
+	 * Number of members above which the server redirects retrievals of a
+	 * container to its first page. A value of zero (the default) disables
+	 * server-initiated paging.
+	 */
+	public static int containerPagingThreshold() {
+		String rawValue=System.getProperty(CONTAINER_PAGING_THRESHOLD);
+		int result=DEFAULT_CONTAINER_PAGING_THRESHOLD;
+		boolean valid=true;
+		if(rawValue!=null) {
+			try {
+				result=Integer.parseInt(rawValue.trim());
+			} catch (NumberFormatException e) {
+				valid=false;
+			}
+			if(result<0) {
+				valid=false;
+			}
+			if(!valid) {
+				result=DEFAULT_CONTAINER_PAGING_THRESHOLD;
+			}
+		}
+		if(CONTAINER_PAGING_THRESHOLD_LOGGED.compareAndSet(false,true)) {
+			if(!valid) {
+				LOGGER.warn("Invalid container paging threshold '{}': using default value instead",rawValue);
+			}
+			if(result>0) {
+				LOGGER.info("Server-initiated paging is enabled for containers with more than {} members",result);
+			} else {
+				LOGGER.info("Server-initiated paging is disabled");
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Maximum number of characters of serialized representations that the
+	 * server may keep cached. A value of zero (the default) disables the
+	 * cache.
+	 */
+	public static long representationCacheSize() {
+		String rawValue=System.getProperty(REPRESENTATION_CACHE_SIZE);
+		long result=DEFAULT_REPRESENTATION_CACHE_SIZE;
+		boolean valid=true;
+		if(rawValue!=null) {
+			try {
+				result=Long.parseLong(rawValue.trim());
+			} catch (NumberFormatException e) {
+				valid=false;
+			}
+			if(result<0) {
+				valid=false;
+			}
+			if(!valid) {
+				result=DEFAULT_REPRESENTATION_CACHE_SIZE;
+			}
+		}
+		if(REPRESENTATION_CACHE_SIZE_LOGGED.compareAndSet(false,true)) {
+			if(!valid) {
+				LOGGER.warn("Invalid representation cache size '{}': using default value instead",rawValue);
+			}
+			if(result>0) {
+				LOGGER.info("Representation cache is enabled (up to {} characters)",result);
+			} else {
+				LOGGER.info("Representation cache is disabled");
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Maximum number of characters of a request body that are kept for the
+	 * constraint reports of the request. Longer bodies are truncated.
+	 */
+	public static int requestBodySnapshotSize() {
+		String rawValue=System.getProperty(REQUEST_BODY_SNAPSHOT_SIZE);
+		int result=DEFAULT_REQUEST_BODY_SNAPSHOT_SIZE;
+		boolean valid=true;
+		if(rawValue!=null) {
+			try {
+				result=Integer.parseInt(rawValue.trim());
+			} catch (NumberFormatException e) {
+				valid=false;
+			}
+			if(result<0) {
+				valid=false;
+			}
+			if(!valid) {
+				result=DEFAULT_REQUEST_BODY_SNAPSHOT_SIZE;
+			}
+		}
+		if(REQUEST_BODY_SNAPSHOT_SIZE_LOGGED.compareAndSet(false,true)) {
+			if(!valid) {
+				LOGGER.warn("Invalid request body snapshot size '{}': using default value instead",rawValue);
+			}
+			LOGGER.info("Request body snapshots are limited to {} characters",result);
+		}
+		return result;
+	}
+
+}
\ No newline at end of file
@@ -46,6 +46,11 @@ final class ContentPreferencesUtils {
 
 	private static String PARAMETER="^\\s*(\\w*)\\s*=\\s*\"([^\"]+)\"\\s*$";
 
+	/**
+	 * Page size hint defined by the LDP Paging specification.
+	 */
+	private static final Pattern MAX_MEMBER_COUNT=Pattern.compile("^\\s*max-member-count\\s*=\\s*\"?(\\d{1,9})\"?\\s*$");
+
 	private ContentPreferencesUtils() {
 	}
 
@@ -65,6 +70,9 @@ final class ContentPreferencesUtils {
 		Pattern pattern = Pattern.compile(PARAMETER);
 		Set<String> configured=new TreeSet<String>();
 		for(String refinement:parameters) {
+			if(MAX_MEMBER_COUNT.matcher(refinement).matches()) {
+				continue;
+			}
 			Matcher matcher = pattern.matcher(refinement);
 			if(!matcher.matches()) {
 				throw new InvalidPreferenceHeaderException("Invalid preference refinement '"+refinement+"'");
@@ -117,6 +125,28 @@ final class ContentPreferencesUtils {
 		}
 	}
 
+	/**
+	 * Get the maximum number of members per page requested in a preference
+	 * header, if any.
+	 *
+	 * @return the requested page size, or {@code null} if the header does not
+	 *         include a valid page size hint
+	 */
+	public static Integer maxMemberCount(String header) {
+		checkNotNull(header,"Preference header cannot be null");
+		String[] preferenceParts = header.split(";");
+		for(int i=1;i<preferenceParts.length;i++) {
+			Matcher matcher=MAX_MEMBER_COUNT.matcher(preferenceParts[i]);
+			if(matcher.matches()) {
+				int count=Integer.parseInt(matcher.group(1));
+				if(count>0) {
+					return count;
+				}
+			}
+		}
+		return null;
+	}
+
 	public static String asPreferenceHeader(ContentPreferences contentPreferences) {
 		checkNotNull("Content preferences cannot be null");
 		StringBuilder header=new StringBuilder();
@@ -26,8 +26,13 @@
  */
 package org.ldp4j.server.controller;
 
+import java.io.BufferedWriter;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.UnsupportedEncodingException;
+import java.io.Writer;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.Charset;
@@ -41,6 +46,7 @@ import java.util.Locale;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.Variant;
 
 import org.ldp4j.application.data.DataSet;
@@ -56,6 +62,7 @@ import org.ldp4j.application.ext.Query;
 import org.ldp4j.application.vocabulary.LDP;
 import org.ldp4j.application.vocabulary.Term;
 import org.ldp4j.server.config.Configuration;
+import org.ldp4j.server.data.ResolvedRepresentation;
 import org.ldp4j.server.utils.VariantUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -191,12 +198,11 @@ public final class EndpointControllerUtils {
 
 	static void populateRequiredHeaders(ResponseBuilder builder, OperationContext context) {
 		PublicResource resource = context.resource();
-		addProtocolEndorsedHeaders(builder,resource.lastModified(),resource.entityTag());
+		addProtocolEndorsedHeaders(builder,resource.lastModified(),context.entityTag());
 		addProtocolSpecificHeaders(builder,resource.getClass());
-
 	}
 
-	static void populateResponseBody(ResponseBuilder builder, String entity, Variant variant, boolean includeEntity) {
+	static Charset populateResponseMetadata(ResponseBuilder builder, Variant variant) {
 		MediaType mediaType = variant.getMediaType();
 
 		String charsetName=mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
@@ -213,20 +219,47 @@ public final class EndpointControllerUtils {
 				mediaType.withCharset(charsetName):
 				new MediaType(mediaType.getType(),mediaType.getSubtype());
 
-		byte[] bytes = entity.getBytes(charset);
-		builder.
-			type(target).
-			header(MoreHttp.CONTENT_LENGTH_HEADER,bytes.length);
+		builder.type(target);
 
 		if(variant.getLanguage()!=null) {
 			builder.language(variant.getLanguage());
 		}
+		return charset;
+	}
+
+	static void populateResponseBody(ResponseBuilder builder, String entity, Variant variant, boolean includeEntity) {
+		Charset charset=populateResponseMetadata(builder,variant);
+
+		byte[] bytes = entity.getBytes(charset);
+		builder.header(MoreHttp.CONTENT_LENGTH_HEADER,bytes.length);
 
 		if(includeEntity) {
 			builder.entity(new ByteArrayInputStream(bytes));
 		}
 	}
 
+	/**
+	 * Populate the response body with a representation that will be written
+	 * directly to the response output stream once the response is committed.
+	 * As the length of the representation is not known in advance, no
+	 * Content-Length header is included.
+	 */
+	static void populateResponseBody(ResponseBuilder builder, final ResolvedRepresentation entity, Variant variant, boolean includeEntity) {
+		final Charset charset=populateResponseMetadata(builder,variant);
+		if(includeEntity) {
+			builder.entity(
+				new StreamingOutput() {
+					@Override
+					public void write(OutputStream output) throws IOException {
+						Writer writer=new BufferedWriter(new OutputStreamWriter(output,charset));
+						entity.writeTo(writer);
+						writer.flush();
+					}
+				}
+			);
+		}
+	}
+
 	static String createQueryOfLink(Object uriRef, Query query) {
 		String strQuery = toString(query);
 		try {
@@ -36,9 +36,13 @@ import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.Variant;
 
 import org.ldp4j.application.data.DataSet;
+import org.ldp4j.application.data.ExternalIndividual;
+import org.ldp4j.application.data.ManagedIndividual;
 import org.ldp4j.application.engine.context.ApplicationContextException;
 import org.ldp4j.application.engine.context.ApplicationExecutionException;
+import org.ldp4j.application.engine.context.ContainerPage;
 import org.ldp4j.application.engine.context.ContentPreferences;
+import org.ldp4j.application.engine.context.EntityTag;
 import org.ldp4j.application.engine.context.OperationPrecondititionException;
 import org.ldp4j.application.engine.context.PublicContainer;
 import org.ldp4j.application.engine.context.PublicResource;
@@ -49,6 +53,11 @@ import org.ldp4j.application.ext.InvalidQueryException;
 import org.ldp4j.application.ext.Parameter;
 import org.ldp4j.application.ext.Query;
 import org.ldp4j.application.ext.UnknownResourceException;
+import org.ldp4j.application.vocabulary.LDP;
+import org.ldp4j.application.vocabulary.RDF;
+import org.ldp4j.rdf.Namespaces;
+import org.ldp4j.server.config.Configuration;
+import org.ldp4j.server.data.ResolvedRepresentation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,20 +90,36 @@ final class ExistingEndpointController implements EndpointController {
 			Variant variant,
 			DataSet entity,
 			boolean includeEntity) {
-		String body=
-			context.serialize(
-				entity,
-				NamespacesHelper.
-					constraintReportNamespaces(
-						context.applicationNamespaces()),
-				variant.getMediaType());
+		Namespaces namespaces=
+			NamespacesHelper.
+				constraintReportNamespaces(
+					context.applicationNamespaces());
 		ResponseBuilder builder=Response.ok();
-		EndpointControllerUtils.
-			populateResponseBody(
-				builder,
-				body,
-				variant,
-				includeEntity);
+		if(Configuration.streamResponseEntities()) {
+			ResolvedRepresentation representation=
+				context.resolveRepresentation(
+					entity,
+					namespaces,
+					variant.getMediaType());
+			EndpointControllerUtils.
+				populateResponseBody(
+					builder,
+					representation,
+					variant,
+					includeEntity);
+		} else {
+			String body=
+				context.serialize(
+					entity,
+					namespaces,
+					variant.getMediaType());
+			EndpointControllerUtils.
+				populateResponseBody(
+					builder,
+					body,
+					variant,
+					includeEntity);
+		}
 		return builder;
 	}
 
@@ -104,15 +129,29 @@ final class ExistingEndpointController implements EndpointController {
 			DataSet entity,
 			boolean includeEntity) {
 		ResponseBuilder builder=prepareRetrievalResponse(context, variant, entity, includeEntity);
-		addOptionsMandatoryHeaders(context, builder);
+		return completeResourceRetrievalResponse(context, builder);
+	}
 
-		ContentPreferences preferences = context.contentPreferences();
-		if(preferences!=null) {
-			builder.
-				header(
-					ContentPreferencesUtils.PREFERENCE_APPLIED_HEADER,
-					ContentPreferencesUtils.asPreferenceAppliedHeader(preferences));
-		}
+	private Response prepareCachedResourceRetrievalResponse(
+			OperationContext context,
+			Variant variant,
+			String body,
+			boolean includeEntity) {
+		ResponseBuilder builder=Response.ok();
+		EndpointControllerUtils.
+			populateResponseBody(
+				builder,
+				body,
+				variant,
+				includeEntity);
+		return completeResourceRetrievalResponse(context, builder);
+	}
+
+	private Response completeResourceRetrievalResponse(
+			OperationContext context,
+			ResponseBuilder builder) {
+		addOptionsMandatoryHeaders(context, builder);
+		addPreferenceAppliedHeader(context, builder);
 
 		Query query=context.getQuery();
 		if(!query.isEmpty()) {
@@ -127,6 +166,83 @@ final class ExistingEndpointController implements EndpointController {
 		return builder.build();
 	}
 
+	private Response prepareContainerPageRetrievalResponse(
+			OperationContext context,
+			Variant variant,
+			ContainerPage page,
+			int pageSize,
+			boolean includeEntity) {
+		ResponseBuilder builder=prepareRetrievalResponse(context, variant, page.entity(), includeEntity);
+		addOptionsMandatoryHeaders(context, builder);
+		addPreferenceAppliedHeader(context, builder);
+		// Each page is a different representation, and thus requires its own
+		// entity tag
+		builder.header(MoreHttp.ENTITY_TAG_HEADER,null);
+		builder.header(MoreHttp.ENTITY_TAG_HEADER,pageEntityTag(context.entityTag(),page.cursor(),pageSize));
+		builder.header(HttpHeaders.LINK,MoreHttp.createLink(LDP.PAGE.as(URI.class),"type"));
+		if(page.hasNext()) {
+			builder.
+				header(
+					HttpHeaders.LINK,
+					MoreHttp.
+						createLink(
+							RetrievalScenario.pageLink(context,page.nextCursor()),
+							"next"));
+		}
+		return builder.build();
+	}
+
+	private EntityTag pageEntityTag(EntityTag containerEntityTag, long cursor, int pageSize) {
+		String value=containerEntityTag.getValue()+"-"+cursor+"-"+pageSize;
+		return
+			containerEntityTag.isWeak()?
+				EntityTag.createWeak(value):
+				EntityTag.createStrong(value);
+	}
+
+	/**
+	 * LDP Paging 1.0 - 6.2.6 : Server-initiated paging is applied whenever the
+	 * client hints a page size, or whenever the container has more members
+	 * than the configured threshold. In that case the client is redirected
+	 * to the first page of the container.
+	 */
+	private boolean requiresPaging(OperationContext context) {
+		PublicResource resource=context.resource();
+		if(!(resource instanceof PublicContainer)) {
+			return false;
+		}
+		if(context.preferredPageSize()!=null) {
+			return true;
+		}
+		int threshold=Configuration.containerPagingThreshold();
+		return threshold>0 && ((PublicContainer)resource).hasMoreMembersThan(threshold);
+	}
+
+	private Response handleFirstPageRedirection(OperationContext context) {
+		LOGGER.debug("Redirecting retrieval to the first page of the container");
+		ResponseBuilder builder=
+			Response.seeOther(URI.create(RetrievalScenario.pageLink(context,0)));
+		addOptionsMandatoryHeaders(context, builder);
+		return builder.build();
+	}
+
+	private int pageSize(OperationContext context) {
+		return
+			Optional.
+				fromNullable(context.preferredPageSize()).
+				or(Configuration.containerPageSize());
+	}
+
+	private void addPreferenceAppliedHeader(OperationContext context, ResponseBuilder builder) {
+		ContentPreferences preferences = context.contentPreferences();
+		if(preferences!=null) {
+			builder.
+				header(
+					ContentPreferencesUtils.PREFERENCE_APPLIED_HEADER,
+					ContentPreferencesUtils.asPreferenceAppliedHeader(preferences));
+		}
+	}
+
 	private Response prepareConstraintReportRetrievalResponse(
 			OperationContext context,
 			Variant variant,
@@ -139,21 +255,50 @@ final class ExistingEndpointController implements EndpointController {
 
 	private Response handleRetrieval(OperationContext context, boolean includeEntity) {
 		final Variant variant=context.expectedVariant();
-		context.
-			checkOperationSupport().
-			checkPreconditions();
-		switch(RetrievalScenario.forContext(context)) {
+		context.checkOperationSupport();
+		RetrievalScenario scenario=RetrievalScenario.forContext(context);
+		if(!RetrievalScenario.CONTAINER_PAGE_RETRIEVAL.equals(scenario)) {
+			// Pages are checked against their own entity tag once the page
+			// has been identified
+			context.checkPreconditions();
+		}
+		switch(scenario) {
 			case MIXED_QUERY:
 				throw new MixedQueryNotAllowedException(context,includeEntity);
 			case QUERY_NOT_SUPPORTED:
 				throw new QueryingNotSupportedException(context,includeEntity);
+			case PAGING_NOT_SUPPORTED:
+				throw new PagingNotSupportedException(context,includeEntity);
 			case CONSTRAINT_REPORT_RETRIEVAL:
 				return handleConstraintReportRetrieval(context,includeEntity,variant);
+			case CONTAINER_PAGE_RETRIEVAL:
+				return handleContainerPageRetrieval(context,includeEntity,variant);
 			default:
+				if(context.getQuery().isEmpty() && requiresPaging(context)) {
+					return handleFirstPageRedirection(context);
+				}
+				if(!includeEntity && context.getQuery().isEmpty()) {
+					return handleMetadataRetrieval(context,variant);
+				}
 				return handleResourceRetrieval(context,includeEntity,variant);
 		}
 	}
 
+	/**
+	 * Metadata-only retrieval used for serving HEAD requests: all the headers
+	 * are computed from the endpoint alone, so that neither the resource
+	 * handler is invoked nor the representation is marshalled. As a
+	 * consequence, no Content-Length header is included.
+	 */
+	private Response handleMetadataRetrieval(OperationContext context, Variant variant) {
+		if(LOGGER.isDebugEnabled()) {
+			LOGGER.debug(EndpointControllerUtils.retrievalLog(context));
+		}
+		ResponseBuilder builder=Response.ok();
+		EndpointControllerUtils.populateResponseMetadata(builder,variant);
+		return completeResourceRetrievalResponse(context,builder);
+	}
+
 	private Response handleResourceRetrieval(OperationContext context, boolean includeEntity, Variant variant) {
 		try {
 			if(LOGGER.isDebugEnabled()) {
@@ -165,6 +310,10 @@ final class ExistingEndpointController implements EndpointController {
 				Optional.
 					fromNullable(context.contentPreferences()).
 					or(new DefaultContentPreferencesSupplier());
+			RepresentationCache cache=context.representationCache();
+			if(query.isEmpty() && cache.isEnabled()) {
+				return handleCachedResourceRetrieval(context,includeEntity,variant,preferences);
+			}
 			DataSet entity=
 				query.isEmpty()?
 					resource.entity(preferences):
@@ -180,6 +329,104 @@ final class ExistingEndpointController implements EndpointController {
 		}
 	}
 
+	/**
+	 * Serve the representation from the cache if available, and populate the
+	 * cache otherwise. The entity tag of the endpoint is part of the cache key
+	 * so that stale representations are never served.
+	 */
+	private Response handleCachedResourceRetrieval(OperationContext context, boolean includeEntity, Variant variant, ContentPreferences preferences) throws ApplicationExecutionException {
+		PublicResource resource=context.resource();
+		RepresentationCache cache=context.representationCache();
+		RepresentationCache.Key key=
+			cache.key(
+				context.base(),
+				context.path(),
+				resource.entityTag(),
+				variant.getMediaType(),
+				preferences);
+		String body=cache.get(key);
+		if(body==null) {
+			DataSet entity=resource.entity(preferences);
+			if(LOGGER.isTraceEnabled()) {
+				LOGGER.trace(EndpointControllerUtils.retrievalResultLog(entity));
+			}
+			body=
+				context.serialize(
+					entity,
+					NamespacesHelper.
+						constraintReportNamespaces(
+							context.applicationNamespaces()),
+					variant.getMediaType());
+			cache.put(key,body);
+		} else if(LOGGER.isTraceEnabled()) {
+			LOGGER.trace("Serving cached representation for {}",key);
+		}
+		return prepareCachedResourceRetrievalResponse(context,variant,body,includeEntity);
+	}
+
+	private Response handleContainerPageRetrieval(OperationContext context, boolean includeEntity, Variant variant) {
+		long cursor=pageCursor(context,includeEntity);
+		int pageSize=pageSize(context);
+		context.checkPreconditions(pageEntityTag(context.entityTag(),cursor,pageSize));
+		try {
+			LOGGER.debug("Retrieving container page: {}",cursor);
+			PublicContainer container=(PublicContainer)context.resource();
+			ContentPreferences preferences =
+				Optional.
+					fromNullable(context.contentPreferences()).
+					or(new DefaultContentPreferencesSupplier());
+			ContainerPage page=
+				container.
+					page(
+						preferences,
+						cursor,
+						pageSize);
+			populatePageSequence(context,container,page);
+			if(LOGGER.isTraceEnabled()) {
+				LOGGER.trace(EndpointControllerUtils.retrievalResultLog(page.entity()));
+			}
+			return prepareContainerPageRetrievalResponse(context,variant,page,pageSize,includeEntity);
+		} catch (ApplicationExecutionException e) {
+			throw diagnoseApplicationExecutionException(context, e);
+		} catch (ApplicationContextException e) {
+			throw new InternalServerException(context,e);
+		}
+	}
+
+	private long pageCursor(OperationContext context, boolean includeEntity) {
+		Parameter parameter=RetrievalScenario.pageCursor(context);
+		long cursor=-1;
+		if(parameter.cardinality()==1) {
+			try {
+				cursor=Long.parseLong(parameter.rawValue());
+			} catch (NumberFormatException e) {
+				LOGGER.trace("Invalid page cursor '{}'",parameter.rawValue(),e);
+			}
+		}
+		if(cursor<0) {
+			throw new InvalidContainerPageRetrievalException(context,parameter.rawValues(),includeEntity);
+		}
+		return cursor;
+	}
+
+	private void populatePageSequence(OperationContext context, PublicContainer container, ContainerPage page) {
+		DataSet entity=page.entity();
+		ExternalIndividual pageIndividual=
+			entity.
+				individual(
+					URI.create(RetrievalScenario.pageLink(context,page.cursor())),
+					ExternalIndividual.class);
+		pageIndividual.
+			addValue(
+				RDF.TYPE.as(URI.class),
+				entity.individual(LDP.PAGE.as(URI.class),ExternalIndividual.class));
+		entity.
+			individual(container.individualId(),ManagedIndividual.class).
+				addValue(
+					LDP.PAGE_SEQUENCE.as(URI.class),
+					pageIndividual);
+	}
+
 	private Response handleConstraintReportRetrieval(OperationContext context, boolean includeEntity, Variant variant) {
 		Parameter parameter=RetrievalScenario.constraintReportId(context);
 		if(parameter.cardinality()!=1) {
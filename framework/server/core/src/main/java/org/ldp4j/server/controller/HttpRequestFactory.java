@@ -34,26 +34,107 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.UriInfo;
 
 import org.ldp4j.application.engine.context.HttpRequest;
+import org.ldp4j.application.engine.context.HttpRequest.Header;
 import org.ldp4j.application.engine.context.HttpRequest.HttpMethod;
+import org.ldp4j.application.engine.context.HttpRequest.ProtocolVersion;
 import org.ldp4j.application.sdk.HttpRequestBuilder;
 
 final class HttpRequestFactory {
 
+	/**
+	 * Request whose body is the snapshot recorded while the request entity
+	 * is read, so that the entity does not have to be read before the
+	 * operation starts. The request never reads the entity itself.
+	 */
+	private static final class EntityHttpRequest implements HttpRequest {
+
+		private static final long serialVersionUID = 5097227362316472826L;
+
+		private final HttpRequest delegate;
+		private final transient RequestEntity.Body body;
+
+		private EntityHttpRequest(HttpRequest delegate, RequestEntity.Body body) {
+			this.delegate=delegate;
+			this.body=body;
+		}
+
+		@Override
+		public HttpMethod method() {
+			return this.delegate.method();
+		}
+
+		@Override
+		public String absolutePath() {
+			return this.delegate.absolutePath();
+		}
+
+		@Override
+		public String host() {
+			return this.delegate.host();
+		}
+
+		@Override
+		public ProtocolVersion protocolVersion() {
+			return this.delegate.protocolVersion();
+		}
+
+		@Override
+		public List<Header> headers() {
+			return this.delegate.headers();
+		}
+
+		@Override
+		public String body() {
+			return this.body.value();
+		}
+
+		@Override
+		public Date serverDate() {
+			return this.delegate.serverDate();
+		}
+
+		@Override
+		public Date clientDate() {
+			return this.delegate.clientDate();
+		}
+
+		private Object writeReplace() {
+			HttpRequestBuilder builder=
+				HttpRequestBuilder.
+					newInstance().
+						withMethod(method()).
+						withProtocolVersion(protocolVersion()).
+						withServerDate(serverDate()).
+						withClientDate(clientDate()).
+						withBody(body()).
+						withAbsolutePath(absolutePath()).
+						withHost(host());
+			for(Header header:headers()) {
+				builder.withHeader(header.name(),header.rawValue());
+			}
+			return builder.build();
+		}
+
+	}
+
 	private HttpRequestFactory() {
 	}
 
-	static HttpRequest create(HttpMethod method, UriInfo uriInfo, HttpHeaders headers, String entity) {
+	static HttpRequest create(HttpMethod method, UriInfo uriInfo, HttpHeaders headers, RequestEntity entity) {
 		HttpRequestBuilder builder=
 			HttpRequestBuilder.
 				newInstance().
 					withMethod(method).
 					withServerDate(new Date()).
 					withClientDate(headers.getDate()).
-					withBody(entity).
 					withAbsolutePath(uriInfo.getAbsolutePath().getPath()).
 					withHost(uriInfo.getAbsolutePath().getAuthority());
 		createHeaders(builder,headers);
-		return builder.build();
+		HttpRequest request=builder.build();
+		if(entity!=null) {
+			request=new EntityHttpRequest(request,entity.body());
+		}
+		return request;
 	}
 
 	private static void createHeaders(HttpRequestBuilder builder, HttpHeaders headers) {
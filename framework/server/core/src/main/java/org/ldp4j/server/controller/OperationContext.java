@@ -36,10 +36,12 @@ import javax.ws.rs.core.Variant;
 import org.ldp4j.application.data.DataSet;
 import org.ldp4j.application.engine.context.ContentPreferences;
 import org.ldp4j.application.engine.context.CreationPreferences;
+import org.ldp4j.application.engine.context.EntityTag;
 import org.ldp4j.application.engine.context.PublicContainer;
 import org.ldp4j.application.engine.context.PublicResource;
 import org.ldp4j.application.ext.Query;
 import org.ldp4j.rdf.Namespaces;
+import org.ldp4j.server.data.ResolvedRepresentation;
 
 public interface OperationContext {
 
@@ -55,20 +57,51 @@ public interface OperationContext {
 
 	CreationPreferences creationPreferences();
 
+	/**
+	 * The page size requested by the client using the {@code max-member-count}
+	 * hint of the {@code Prefer} header.
+	 *
+	 * @return the requested page size, or {@code null} if no page size was
+	 *         requested
+	 */
+	Integer preferredPageSize();
+
 	OperationContext checkContents();
 
 	OperationContext checkPreconditions();
 
+	/**
+	 * Check the preconditions of the request against the entity tag of a
+	 * specific representation of the resource, such as a container page.
+	 *
+	 * @param entityTag
+	 *            the entity tag of the representation
+	 * @return this operation context
+	 */
+	OperationContext checkPreconditions(EntityTag entityTag);
+
 	OperationContext checkOperationSupport();
 
 	PublicResource resource();
 
+	/**
+	 * The entity tag to be published in the response. For retrievals, this is
+	 * the entity tag of the representation of the resource that matches the
+	 * content preferences of the request. For any other operation, this is
+	 * the entity tag of the resource.
+	 *
+	 * @return the entity tag of the response
+	 */
+	EntityTag entityTag();
+
 	PublicContainer container();
 
 	URI resolve(PublicResource newResource);
 
 	String serialize(DataSet entity, Namespaces namespaces, MediaType mediaType);
 
+	ResolvedRepresentation resolveRepresentation(DataSet entity, Namespaces namespaces, MediaType mediaType);
+
 	boolean isResourceQueryable();
 
 	Query getQuery();
@@ -77,6 +110,8 @@ public interface OperationContext {
 
 	void completeOperation();
 
+	RepresentationCache representationCache();
+
 	Namespaces applicationNamespaces();
 
 	List<Charset> supportedCharsets();
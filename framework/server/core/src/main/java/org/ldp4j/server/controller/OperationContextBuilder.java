@@ -28,6 +28,8 @@ package org.ldp4j.server.controller;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.io.Reader;
+
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.UriInfo;
@@ -35,6 +37,8 @@ import javax.ws.rs.core.UriInfo;
 import org.ldp4j.application.engine.context.ApplicationContext;
 import org.ldp4j.application.engine.context.HttpRequest.HttpMethod;
 
+import com.google.common.base.Optional;
+
 public final class OperationContextBuilder {
 
 	// Mandatory
@@ -46,7 +50,8 @@ public final class OperationContextBuilder {
 	private HttpHeaders headers;
 
 	// Optional
-	private String entity;
+	private RequestEntity entity;
+	private RepresentationCache representationCache;
 
 	public OperationContextBuilder() {
 	}
@@ -82,7 +87,17 @@ public final class OperationContextBuilder {
 	}
 
 	public OperationContextBuilder withEntity(String entity) {
-		this.entity = entity;
+		this.entity = entity==null?null:RequestEntity.create(entity);
+		return this;
+	}
+
+	public OperationContextBuilder withEntity(Reader entity) {
+		this.entity = entity==null?null:RequestEntity.create(entity);
+		return this;
+	}
+
+	public OperationContextBuilder withRepresentationCache(RepresentationCache representationCache) {
+		this.representationCache = representationCache;
 		return this;
 	}
 
@@ -93,7 +108,7 @@ public final class OperationContextBuilder {
 		checkNotNull(this.uriInfo,"Uri info cannot be null");
 		checkNotNull(this.request,"Request cannot be null");
 		checkNotNull(this.headers,"Headers cannot be null");
-		return new OperationContextImpl(this.applicationContext,this.endpointPath,this.uriInfo,this.headers,this.request,this.entity,this.method);
+		return new OperationContextImpl(this.applicationContext,this.endpointPath,this.uriInfo,this.headers,this.request,this.entity,this.method,Optional.fromNullable(this.representationCache).or(RepresentationCache.disabled()));
 	}
 
 }
\ No newline at end of file
@@ -32,6 +32,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
@@ -62,6 +63,9 @@ import org.ldp4j.application.ext.Query;
 import org.ldp4j.application.sdk.QueryBuilder;
 import org.ldp4j.rdf.Namespaces;
 import org.ldp4j.server.data.DataTransformator;
+import org.ldp4j.server.data.ResolvedRepresentation;
+import org.ldp4j.server.data.PrefixResourceResolver;
+import org.ldp4j.server.data.ResolvedLocation;
 import org.ldp4j.server.data.ResourceResolver;
 import org.ldp4j.server.data.UnsupportedMediaTypeException;
 import org.ldp4j.server.utils.CharsetSelector;
@@ -72,10 +76,11 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
 
 final class OperationContextImpl implements OperationContext {
 
-	private final class OperationContextResourceResolver implements ResourceResolver {
+	private final class OperationContextResourceResolver implements PrefixResourceResolver {
 
 		@Override
 		public URI resolveResource(ManagedIndividualId id) {
@@ -102,6 +107,24 @@ final class OperationContextImpl implements OperationContext {
 			return result;
 		}
 
+		@Override
+		public ResolvedLocation resolveLongestPrefix(URI location) {
+			URI path=base().relativize(location);
+			if(path.isAbsolute()) {
+				return null;
+			}
+			PublicResource resolvedResource =
+				applicationContextOperation.
+					resolveResourceOfLongestPrefix(path.toString());
+
+			ResolvedLocation result = null;
+			if(resolvedResource!=null) {
+				result=ResolvedLocation.create(base().resolve(resolvedResource.path()),resolvedResource.individualId());
+				LOGGER.trace("Resolved location '{}' to resource {} at '{}'",location,result.individualId(),result.location());
+			}
+			return result;
+		}
+
 	}
 
 	private static final Logger LOGGER=LoggerFactory.getLogger(OperationContextImpl.class);
@@ -112,7 +135,8 @@ final class OperationContextImpl implements OperationContext {
 	private final UriInfo            uriInfo;
 	private final HttpHeaders        headers;
 	private final Request            request;
-	private final String             entity;
+	private final RequestEntity      entity;
+	private final RepresentationCache representationCache;
 
 	private ApplicationContextOperation applicationContextOperation;
 	private PublicResource              resource;
@@ -126,8 +150,9 @@ final class OperationContextImpl implements OperationContext {
 		UriInfo uriInfo,
 		HttpHeaders headers,
 		Request request,
-		String entity,
-		HttpMethod method) {
+		RequestEntity entity,
+		HttpMethod method,
+		RepresentationCache representationCache) {
 		this.applicationContext = applicationContext;
 		this.endpointPath = endpointPath;
 		this.method = method;
@@ -135,6 +160,7 @@ final class OperationContextImpl implements OperationContext {
 		this.headers=headers;
 		this.request=request;
 		this.entity = entity;
+		this.representationCache=representationCache;
 		LOGGER.trace("Host.........: {}",headers.getHeaderString(HttpHeaders.HOST));
 		LOGGER.trace("Request uri..: {}",this.uriInfo.getRequestUri());
 		LOGGER.trace("Base.........: {}",base());
@@ -247,7 +273,7 @@ final class OperationContextImpl implements OperationContext {
 		return this.request;
 	}
 
-	String entity() {
+	RequestEntity entity() {
 		return this.entity;
 	}
 
@@ -282,8 +308,12 @@ final class OperationContextImpl implements OperationContext {
 	@Override
 	public OperationContext checkContents() {
 		List<Variant> supportedVariants=VariantUtils.defaultVariants();
-		if(entity()==null || entity().isEmpty()) {
-			throw new MissingContentException(this);
+		try {
+			if(entity()==null || entity().isEmpty()) {
+				throw new MissingContentException(this);
+			}
+		} catch (IOException e) {
+			throw new InvalidRequestContentException("Entity cannot be read ("+Throwables.getRootCause(e).getMessage()+")",e,this);
 		}
 		if(headers().getMediaType()==null) {
 			throw new MissingContentTypeException(this);
@@ -296,9 +326,92 @@ final class OperationContextImpl implements OperationContext {
 		return this;
 	}
 
+	private boolean isRetrieval() {
+		return HttpMethod.GET.equals(this.method) || HttpMethod.HEAD.equals(this.method);
+	}
+
+	/**
+	 * Representations retrieved using other than the default content
+	 * preferences are different representations, so they get their own entity
+	 * tag, derived from the one of the resource and the preferences. Any other
+	 * operation uses the entity tag of the resource.
+	 */
+	@Override
+	public EntityTag entityTag() {
+		EntityTag entityTag=resource().entityTag();
+		if(!isRetrieval()) {
+			return entityTag;
+		}
+		ContentPreferences preferences=contentPreferences();
+		if(preferences==null || preferences.equals(ContentPreferences.defaultPreferences())) {
+			return entityTag;
+		}
+		String value=
+			entityTag.getValue()+"-"+
+			Hashing.
+				murmur3_32().
+					hashString(
+						ContentPreferencesUtils.asPreferenceHeader(preferences),
+						StandardCharsets.UTF_8);
+		return
+			entityTag.isWeak()?
+				EntityTag.createWeak(value):
+				EntityTag.createStrong(value);
+	}
+
+	/**
+	 * Find the entity tag of a representation of the resource used by the
+	 * client in the preconditions of the request. Clients only learn the
+	 * entity tags of the representations they retrieve, which are derived
+	 * from the entity tag of the resource (see {@link #entityTag()} and the
+	 * container pages), so any of them identifies the current state of the
+	 * resource.
+	 */
+	private EntityTag representationEntityTag(EntityTag resourceEntityTag) {
+		String prefix=resourceEntityTag.getValue()+"-";
+		for(String header:Arrays.asList(HttpHeaders.IF_MATCH,HttpHeaders.IF_NONE_MATCH)) {
+			List<String> requestHeader=this.headers.getRequestHeader(header);
+			if(requestHeader==null) {
+				continue;
+			}
+			for(String rawValue:requestHeader) {
+				for(String rawEntityTag:rawValue.split(",")) {
+					EntityTag candidate=parseEntityTag(rawEntityTag.trim());
+					if(candidate!=null && candidate.isWeak()==resourceEntityTag.isWeak() && candidate.getValue().startsWith(prefix)) {
+						return candidate;
+					}
+				}
+			}
+		}
+		return resourceEntityTag;
+	}
+
+	private static EntityTag parseEntityTag(String rawEntityTag) {
+		try {
+			return EntityTag.valueOf(rawEntityTag);
+		} catch (IllegalArgumentException e) {
+			LOGGER.trace("Discarding invalid entity tag '{}'",rawEntityTag,e);
+			return null;
+		}
+	}
+
 	@Override
 	public OperationContext checkPreconditions() {
-		EntityTag entityTag=this.resource.entityTag();
+		return checkPreconditions(entityTag());
+	}
+
+	/**
+	 * Retrievals are evaluated against the entity tag of the retrieved
+	 * representation, whereas any other operation is evaluated against the
+	 * entity tag of the resource, accepting the entity tags of its
+	 * representations.
+	 */
+	@Override
+	public OperationContext checkPreconditions(EntityTag representationEntityTag) {
+		EntityTag entityTag=representationEntityTag;
+		if(!isRetrieval()) {
+			entityTag=representationEntityTag(entityTag);
+		}
 		Date lastModified=this.resource.lastModified();
 		if(HttpMethod.PUT.equals(this.method)) {
 			List<String> requestHeader = this.headers.getRequestHeader(HttpHeaders.IF_MATCH);
@@ -341,7 +454,7 @@ final class OperationContextImpl implements OperationContext {
 				} else {
 					transformator=transformator.permanentEndpoint(endpoint());
 				}
-				this.dataSet=transformator.unmarshall(this.entity);
+				this.dataSet=transformator.unmarshall(this.entity.reader());
 			} catch(UnsupportedMediaTypeException e) {
 				throw new UnsupportedContentException(this,contentVariant(),e);
 			} catch(IOException e) {
@@ -415,17 +528,20 @@ final class OperationContextImpl implements OperationContext {
 		return base().resolve(resource.path());
 	}
 
+	private DataTransformator marshallingTransformator(Namespaces namespaces, MediaType mediaType) {
+		return
+			DataTransformator.
+				create(base()).
+				enableResolution(resourceResolver()).
+				mediaType(mediaType).
+				namespaces(namespaces).
+				permanentEndpoint(endpoint());
+	}
+
 	@Override
 	public String serialize(DataSet representation, Namespaces namespaces, MediaType mediaType) {
 		try {
-			DataTransformator transformator =
-				DataTransformator.
-					create(base()).
-					enableResolution(resourceResolver()).
-					mediaType(mediaType).
-					namespaces(namespaces).
-					permanentEndpoint(endpoint());
-			return transformator.marshall(representation);
+			return marshallingTransformator(namespaces,mediaType).marshall(representation);
 		} catch(UnsupportedMediaTypeException e) {
 			throw new UnsupportedContentException(this,contentVariant(),e);
 		} catch(IOException e) {
@@ -433,6 +549,15 @@ final class OperationContextImpl implements OperationContext {
 		}
 	}
 
+	@Override
+	public ResolvedRepresentation resolveRepresentation(DataSet representation, Namespaces namespaces, MediaType mediaType) {
+		try {
+			return marshallingTransformator(namespaces,mediaType).resolve(representation);
+		} catch(UnsupportedMediaTypeException e) {
+			throw new UnsupportedContentException(this,contentVariant(),e);
+		}
+	}
+
 	@Override
 	public PublicResource resource() {
 		if(this.resource==null) {
@@ -466,6 +591,23 @@ final class OperationContextImpl implements OperationContext {
 		return result;
 	}
 
+	@Override
+	public Integer preferredPageSize() {
+		Integer result = null;
+		List<String> requestHeader = this.headers.getRequestHeader(ContentPreferencesUtils.PREFER_HEADER);
+		if(requestHeader!=null) {
+			for(Iterator<String> it=requestHeader.iterator();it.hasNext() && result==null;) {
+				result=ContentPreferencesUtils.maxMemberCount(it.next());
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public RepresentationCache representationCache() {
+		return this.representationCache;
+	}
+
 	@Override
 	public Namespaces applicationNamespaces() {
 		org.ldp4j.application.ext.Namespaces applicationNamespaces = this.applicationContext.applicationNamespaces();
@@ -0,0 +1,345 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-server-core:0.2.1
+ *   Bundle      : ldp4j-server-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.server.controller;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.ws.rs.core.MediaType;
+
+import org.ldp4j.application.engine.context.ContentPreferences;
+import org.ldp4j.application.engine.context.EntityTag;
+import org.ldp4j.application.engine.lifecycle.EndpointLifecycleListener;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.cache.Weigher;
+
+/**
+ * Bounded cache of serialized resource representations. Entries are keyed by
+ * the endpoint they belong to, the entity tag of the endpoint at the time
+ * the representation was serialized, the negotiated media type and the
+ * content preferences applied, so that a modification of the resource
+ * (which changes the entity tag) is never served from the cache. Entries of
+ * endpoints that are created or deleted are evicted eagerly. The keys are also
+ * indexed by path, so that evicting the entries of an endpoint only requires
+ * visiting the variants cached for that endpoint. The statistics of the cache
+ * can be published through JMX (see {@link RepresentationCacheMBean}).
+ */
+public final class RepresentationCache implements EndpointLifecycleListener, RepresentationCacheMBean {
+
+	static final class Key {
+
+		private final URI base;
+		private final String path;
+		private final String entityTag;
+		private final String mediaType;
+		private final String preferences;
+
+		private Key(URI base, String path, EntityTag entityTag, MediaType mediaType, ContentPreferences preferences) {
+			this.base=base;
+			this.path=path;
+			this.entityTag=entityTag.toString();
+			this.mediaType=mediaType.getType()+"/"+mediaType.getSubtype();
+			this.preferences=preferences.toString();
+		}
+
+		String path() {
+			return this.path;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(this.base,this.path,this.entityTag,this.mediaType,this.preferences);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			boolean result=false;
+			if(obj instanceof Key) {
+				Key that=(Key)obj;
+				result=
+					Objects.equal(this.base,that.base) &&
+					Objects.equal(this.path,that.path) &&
+					Objects.equal(this.entityTag,that.entityTag) &&
+					Objects.equal(this.mediaType,that.mediaType) &&
+					Objects.equal(this.preferences,that.preferences);
+			}
+			return result;
+		}
+
+		@Override
+		public String toString() {
+			return
+				MoreObjects.
+					toStringHelper(getClass()).
+						omitNullValues().
+						add("base",this.base).
+						add("path",this.path).
+						add("entityTag",this.entityTag).
+						add("mediaType",this.mediaType).
+						add("preferences",this.preferences).
+						toString();
+		}
+
+	}
+
+	private static final class RepresentationWeigher implements Weigher<Key,String> {
+		@Override
+		public int weigh(Key key, String value) {
+			return value.length();
+		}
+	}
+
+	private final class IndexCleaner implements RemovalListener<Key,String> {
+		@Override
+		public void onRemoval(RemovalNotification<Key,String> notification) {
+			if(notification.getCause()!=RemovalCause.REPLACED) {
+				unindex(notification.getKey());
+			}
+		}
+	}
+
+	private static final RepresentationCache DISABLED=new RepresentationCache(0);
+
+	private final Cache<Key,String> cache;
+	private final ConcurrentMap<String,Set<Key>> keysByPath;
+
+	private RepresentationCache(long maximumSize) {
+		if(maximumSize==0) {
+			this.cache=null;
+			this.keysByPath=null;
+		} else {
+			this.keysByPath=new ConcurrentHashMap<String,Set<Key>>();
+			this.cache=
+				CacheBuilder.
+					newBuilder().
+						maximumWeight(maximumSize).
+						weigher(new RepresentationWeigher()).
+						removalListener(new IndexCleaner()).
+						recordStats().
+						build();
+		}
+	}
+
+	private void index(Key key) {
+		while(true) {
+			Set<Key> keys=this.keysByPath.get(key.path());
+			if(keys==null) {
+				Set<Key> newKeys=Collections.newSetFromMap(new ConcurrentHashMap<Key,Boolean>());
+				keys=this.keysByPath.putIfAbsent(key.path(),newKeys);
+				if(keys==null) {
+					keys=newKeys;
+				}
+			}
+			keys.add(key);
+			// Retry if the set was discarded while adding the key
+			if(this.keysByPath.get(key.path())==keys) {
+				return;
+			}
+		}
+	}
+
+	private void unindex(Key key) {
+		Set<Key> keys=this.keysByPath.get(key.path());
+		if(keys!=null) {
+			keys.remove(key);
+			if(keys.isEmpty()) {
+				this.keysByPath.remove(key.path(),keys);
+			}
+		}
+	}
+
+	public boolean isEnabled() {
+		return this.cache!=null;
+	}
+
+	Key key(URI base, String path, EntityTag entityTag, MediaType mediaType, ContentPreferences preferences) {
+		checkNotNull(base,"Base cannot be null");
+		checkNotNull(path,"Path cannot be null");
+		checkNotNull(entityTag,"Entity tag cannot be null");
+		checkNotNull(mediaType,"Media type cannot be null");
+		checkNotNull(preferences,"Content preferences cannot be null");
+		return new Key(base,path,entityTag,mediaType,preferences);
+	}
+
+	String get(Key key) {
+		if(!isEnabled()) {
+			return null;
+		}
+		return this.cache.getIfPresent(key);
+	}
+
+	void put(Key key, String representation) {
+		if(isEnabled()) {
+			index(key);
+			this.cache.put(key,representation);
+		}
+	}
+
+	/**
+	 * Evict all the cached representations of the endpoint with the
+	 * specified path.
+	 */
+	public void invalidate(String path) {
+		if(!isEnabled() || path==null) {
+			return;
+		}
+		Set<Key> keys=this.keysByPath.remove(path);
+		if(keys!=null) {
+			this.cache.invalidateAll(keys);
+		}
+	}
+
+	/**
+	 * Evict all the cached representations of the endpoints whose path is a
+	 * proper prefix of the specified path, that is, of the containers the
+	 * endpoint may be a member of.
+	 */
+	private void invalidateAncestors(String path) {
+		if(!isEnabled() || path==null) {
+			return;
+		}
+		int end=path.endsWith("/")?path.length()-1:path.length();
+		int index=path.lastIndexOf('/',end-1);
+		while(index>=0) {
+			invalidate(path.substring(0,index+1));
+			index=path.lastIndexOf('/',index-1);
+		}
+	}
+
+	@Override
+	public void invalidateAll() {
+		if(isEnabled()) {
+			this.cache.invalidateAll();
+			this.keysByPath.clear();
+		}
+	}
+
+	int indexedPaths() {
+		return isEnabled()?this.keysByPath.size():0;
+	}
+
+	public long size() {
+		return isEnabled()?this.cache.size():0;
+	}
+
+	@Override
+	public long getSize() {
+		return size();
+	}
+
+	@Override
+	public long getRequestCount() {
+		return stats().requestCount();
+	}
+
+	@Override
+	public long getHitCount() {
+		return stats().hitCount();
+	}
+
+	@Override
+	public long getMissCount() {
+		return stats().missCount();
+	}
+
+	@Override
+	public double getHitRate() {
+		return stats().hitRate();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return stats().evictionCount();
+	}
+
+	/**
+	 * Hit, miss and eviction counters of the cache. A disabled cache always
+	 * reports empty statistics.
+	 */
+	public CacheStats stats() {
+		return isEnabled()?this.cache.stats():new CacheStats(0,0,0,0,0,0);
+	}
+
+	/**
+	 * The membership of the container of the new endpoint has changed, so its
+	 * cached representations are evicted.
+	 */
+	@Override
+	public void endpointCreated(String path) {
+		invalidate(path);
+		invalidateAncestors(path);
+	}
+
+	@Override
+	public void endpointDeleted(String path) {
+		invalidate(path);
+		invalidateAncestors(path);
+	}
+
+	@Override
+	public String toString() {
+		return
+			MoreObjects.
+				toStringHelper(getClass()).
+					add("enabled",isEnabled()).
+					add("size",size()).
+					add("stats",stats()).
+					toString();
+	}
+
+	public static RepresentationCache disabled() {
+		return DISABLED;
+	}
+
+	/**
+	 * Create a cache that will keep at most {@code maximumSize} characters
+	 * of serialized representations. A size of zero returns a disabled
+	 * cache.
+	 */
+	public static RepresentationCache create(long maximumSize) {
+		checkArgument(maximumSize>=0,"Maximum size cannot be negative (%s)",maximumSize);
+		if(maximumSize==0) {
+			return DISABLED;
+		}
+		return new RepresentationCache(maximumSize);
+	}
+
+}
@@ -0,0 +1,180 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-server-core:0.2.1
+ *   Bundle      : ldp4j-server-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.server.controller;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.ldp4j.server.config.Configuration;
+
+/**
+ * Entity of a request, read from the request body as it is unmarshalled
+ * instead of being bound to a String up front. The characters read are
+ * recorded, up to a configurable limit, so that the raw body can still be
+ * included in the constraint reports of the operation. The entity can only
+ * be read once.
+ */
+final class RequestEntity {
+
+	/**
+	 * Raw body of the entity, as recorded while the entity is read. Once the
+	 * entity has been read, the recorded characters are frozen into an
+	 * immutable snapshot. The body never reads from the entity itself.
+	 */
+	static final class Body {
+
+		private final int limit;
+		private StringBuilder recorded;
+		private String snapshot;
+
+		private Body(int limit) {
+			this.limit=limit;
+			this.recorded=new StringBuilder();
+		}
+
+		private void record(char[] buffer, int offset, int length) {
+			if(this.snapshot!=null) {
+				return;
+			}
+			int room=this.limit-this.recorded.length();
+			if(room>0) {
+				this.recorded.append(buffer,offset,Math.min(room,length));
+			}
+		}
+
+		private void freeze() {
+			if(this.snapshot==null) {
+				this.snapshot=this.recorded.toString();
+				this.recorded=null;
+			}
+		}
+
+		private void freeze(String entity) {
+			this.snapshot=entity.length()>this.limit?entity.substring(0,this.limit):entity;
+			this.recorded=null;
+		}
+
+		/**
+		 * The recorded body: the snapshot once the entity has been read, or
+		 * the part read so far otherwise.
+		 */
+		String value() {
+			String result=this.snapshot;
+			if(result==null) {
+				result=this.recorded.toString();
+			}
+			return result;
+		}
+
+	}
+
+	private final class RecordingReader extends Reader {
+
+		@Override
+		public int read(char[] buffer, int offset, int length) throws IOException {
+			int read=RequestEntity.this.source.read(buffer,offset,length);
+			if(read>0) {
+				RequestEntity.this.length+=read;
+				RequestEntity.this.body.record(buffer,offset,read);
+			} else if(read<0) {
+				RequestEntity.this.body.freeze();
+			}
+			return read;
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				RequestEntity.this.source.close();
+			} finally {
+				RequestEntity.this.body.freeze();
+			}
+		}
+
+	}
+
+	private final PushbackReader source;
+	private final Body body;
+	private long length;
+	private boolean consumed;
+
+	private RequestEntity(Reader source, int limit) {
+		this.source=new PushbackReader(source);
+		this.body=new Body(limit);
+	}
+
+	boolean isEmpty() throws IOException {
+		if(this.consumed) {
+			return this.length==0;
+		}
+		int next=this.source.read();
+		if(next<0) {
+			return true;
+		}
+		this.source.unread(next);
+		return false;
+	}
+
+	Reader reader() {
+		checkState(!this.consumed,"Entity has already been read");
+		this.consumed=true;
+		return new RecordingReader();
+	}
+
+	/**
+	 * The raw body of the entity, as recorded so far. Only the characters
+	 * already read are included, and at most as many as the configured
+	 * snapshot size.
+	 */
+	Body body() {
+		return this.body;
+	}
+
+	static RequestEntity create(Reader source) {
+		return create(source,Configuration.requestBodySnapshotSize());
+	}
+
+	static RequestEntity create(Reader source, int limit) {
+		checkNotNull(source,"Entity reader cannot be null");
+		checkArgument(limit>=0,"Snapshot size cannot be negative (%s)",limit);
+		return new RequestEntity(source,limit);
+	}
+
+	static RequestEntity create(String entity) {
+		checkNotNull(entity,"Entity cannot be null");
+		RequestEntity result=create(new StringReader(entity));
+		result.body.freeze(entity);
+		return result;
+	}
+
+}
\ No newline at end of file
@@ -26,18 +26,23 @@
  */
 package org.ldp4j.server.controller;
 
+import org.ldp4j.application.engine.context.PublicContainer;
 import org.ldp4j.application.ext.Parameter;
 import org.ldp4j.application.ext.Query;
 
 enum RetrievalScenario {
 	RESOURCE_RETRIEVAL,
 	CONSTRAINT_REPORT_RETRIEVAL,
+	CONTAINER_PAGE_RETRIEVAL,
 	MIXED_QUERY,
 	QUERY_NOT_SUPPORTED,
+	PAGING_NOT_SUPPORTED,
 	;
 
 	static final String CONSTRAINT_QUERY_PARAMETER = "ldp:constrainedBy";
 
+	static final String PAGE_QUERY_PARAMETER = "ldp:page";
+
 	static RetrievalScenario forContext(OperationContext context) {
 		Query query=context.getQuery();
 		RetrievalScenario result=RESOURCE_RETRIEVAL;
@@ -48,6 +53,14 @@ enum RetrievalScenario {
 				} else {
 					result=MIXED_QUERY;
 				}
+			} else if(query.hasParameter(PAGE_QUERY_PARAMETER)) {
+				if(query.size()>1) {
+					result=MIXED_QUERY;
+				} else if(context.resource() instanceof PublicContainer) {
+					result=CONTAINER_PAGE_RETRIEVAL;
+				} else {
+					result=PAGING_NOT_SUPPORTED;
+				}
 			} else if(!context.isResourceQueryable()) {
 				result=QUERY_NOT_SUPPORTED;
 			}
@@ -59,6 +72,14 @@ enum RetrievalScenario {
 		return context.getQuery().getParameter(CONSTRAINT_QUERY_PARAMETER);
 	}
 
+	static Parameter pageCursor(OperationContext context) {
+		return context.getQuery().getParameter(PAGE_QUERY_PARAMETER);
+	}
+
+	static String pageLink(OperationContext context, long cursor) {
+		return context.base()+context.path()+"?"+PAGE_QUERY_PARAMETER+"="+cursor;
+	}
+
 	static String constraintReportLink(OperationContext context, String constraintReportId) {
 		return context.base()+context.path()+"?"+CONSTRAINT_QUERY_PARAMETER+"="+constraintReportId;
 	}
@@ -31,6 +31,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Iterator;
@@ -56,6 +57,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.Iterables;
+import com.google.common.io.CharStreams;
 
 // TODO: Add support for encodings
 // TODO: Add support for charsets
@@ -81,12 +83,15 @@ public final class DataTransformator {
 
 	private Namespaces namespaces;
 
+	private boolean sortTurtleTriples;
+
 	private DataTransformator(DataTransformator dataTransformation) {
 		setApplicationBase(dataTransformation.applicationBase);
 		setEndpoint(dataTransformation.endpoint, dataTransformation.permanent);
 		setResourceResolver(dataTransformation.resourceResolver);
 		setMediaType(dataTransformation.mediaType);
 		setNamespaces(dataTransformation.namespaces);
+		setSortTurtleTriples(dataTransformation.sortTurtleTriples);
 	}
 
 	private DataTransformator() {
@@ -128,22 +133,44 @@ public final class DataTransformator {
 		this.namespaces=new Namespaces(namespaces);
 	}
 
+	private void setSortTurtleTriples(boolean sortTurtleTriples) {
+		this.sortTurtleTriples=sortTurtleTriples;
+	}
+
+	private Marshaller newMarshaller() {
+		return
+			MediaTypeSupport.
+				newMarshaller(this.mediaType).
+					sortTriples(this.sortTurtleTriples);
+	}
+
 	private URI baseEndpoint() {
 		return this.applicationBase.resolve(this.endpoint);
 	}
 
+	/**
+	 * The alternative URI is assembled from the raw components of the
+	 * endpoint so that percent-encoded paths are preserved verbatim.
+	 */
 	private URI createAlternative(URI endpoint) {
+		StringBuilder builder=new StringBuilder();
+		builder.append(endpoint.getScheme()).append("://");
+		if(endpoint.getRawUserInfo()!=null) {
+			builder.append(endpoint.getRawUserInfo()).append('@');
+		}
+		builder.append("ldp4j").append(endpoint.getHost());
+		if(endpoint.getPort()>=0) {
+			builder.append(':').append(endpoint.getPort());
+		}
+		builder.append(endpoint.getRawPath());
+		if(endpoint.getRawQuery()!=null) {
+			builder.append('?').append(endpoint.getRawQuery());
+		}
+		if(endpoint.getRawFragment()!=null) {
+			builder.append('#').append(endpoint.getRawFragment());
+		}
 		try {
-			return
-				new URI(
-					endpoint.getScheme(),
-					endpoint.getUserInfo(),
-					"ldp4j".concat(endpoint.getHost()),
-					endpoint.getPort(),
-					endpoint.getPath(),
-					endpoint.getFragment(),
-					endpoint.getQuery()
-				);
+			return new URI(builder.toString());
 		} catch (URISyntaxException e) {
 			throw new IllegalStateException("Alternative URI creation failed",e);
 		}
@@ -182,6 +209,23 @@ public final class DataTransformator {
 		return unmarshaller.unmarshall(context,this.resourceResolver,entity);
 	}
 
+	private DataSet permanentUnmarshall(Reader entity, URI endpoint) throws ContentTransformationException, IOException {
+		Context context =
+			ImmutableContext.
+				newInstance(endpoint).
+					setNamespaces(this.namespaces);
+
+		Unmarshaller unmarshaller=MediaTypeSupport.newUnmarshaller(mediaType);
+		return unmarshaller.unmarshall(context,this.resourceResolver,entity);
+	}
+
+	private Context marshallingContext() {
+		return
+			ImmutableContext.
+				newInstance(baseEndpoint()).
+					setNamespaces(this.namespaces);
+	}
+
 	public DataTransformator permanentEndpoint(URI endpoint) {
 		checkNotNull(endpoint,"Endpoint URI cannot be null");
 		checkArgument(!endpoint.isAbsolute(),"Endpoint URI must be relative");
@@ -222,6 +266,23 @@ public final class DataTransformator {
 		return result;
 	}
 
+	/**
+	 * Create transformator that sorts the triples of the representations
+	 * marshalled as Turtle. By default triples are marshalled in the order in
+	 * which they are generated from the representation, which avoids sorting
+	 * them. The setting has no effect on other media types.
+	 *
+	 * @param enabled
+	 *            whether or not Turtle triples should be sorted
+	 * @return a new transformator with the same configuration except for the
+	 *         sorting of Turtle triples
+	 */
+	public DataTransformator sortTurtleTriples(boolean enabled) {
+		DataTransformator result = new DataTransformator(this);
+		result.setSortTurtleTriples(enabled);
+		return result;
+	}
+
 	public DataTransformator enableResolution(ResourceResolver resourceResolver) {
 		checkNotNull(endpoint,"Resource resolver cannot be null");
 		DataTransformator result = new DataTransformator(this);
@@ -254,15 +315,61 @@ public final class DataTransformator {
 		}
 	}
 
+	/**
+	 * Unmarshall the contents provided by the specified reader. Surrogate
+	 * endpoints require processing the entity more than once, so in that case
+	 * the contents of the reader are buffered before unmarshalling them.
+	 *
+	 * @param entity
+	 *            the reader from where the entity to unmarshall will be read
+	 * @return the unmarshalled data set
+	 * @throws IOException
+	 *             if the entity cannot be read or parsed
+	 */
+	public DataSet unmarshall(Reader entity) throws IOException {
+		checkNotNull(entity,"Entity cannot be null");
+		checkNotNull(mediaType,MEDIA_TYPE_CANNOT_BE_NULL);
+		if(!this.permanent) {
+			return unmarshall(CharStreams.toString(entity));
+		}
+		LOGGER.trace("Unmarshalling streamed entity using base '{}'...",baseEndpoint());
+		try {
+			DataSet result=permanentUnmarshall(entity,baseEndpoint());
+			LOGGER.trace("Unmarshalled data set: \n{}",result);
+			return result;
+		} catch (ContentTransformationException e) {
+			throw new IOException("Entity cannot be parsed as '"+mediaType+"'",e);
+		}
+	}
+
+	/**
+	 * Resolve the triples of the specified representation so that they can be
+	 * written afterwards, even when the resource resolver is no longer
+	 * available.
+	 *
+	 * @param representation
+	 *            the representation to resolve
+	 * @return the resolved representation, ready to be written
+	 */
+	public ResolvedRepresentation resolve(DataSet representation) {
+		checkNotNull(representation,"Representation cannot be null");
+		Context context=marshallingContext();
+		Marshaller marshaller=newMarshaller();
+		LOGGER.trace("Resolving representation using base '{}'",context.getBase());
+		return
+			new ResolvedRepresentation(
+				marshaller,
+				context,
+				marshaller.resolve(context,this.resourceResolver,representation),
+				this.mediaType);
+	}
+
 	public String marshall(DataSet representation) throws IOException {
 		checkNotNull(representation,"Representation cannot be null");
 
-		Context context =
-			ImmutableContext.
-				newInstance(baseEndpoint()).
-					setNamespaces(this.namespaces);
+		Context context=marshallingContext();
 
-		Marshaller marshaller=MediaTypeSupport.newMarshaller(mediaType);
+		Marshaller marshaller=newMarshaller();
 		try {
 			LOGGER.trace("Marshalling using base '{}'",context.getBase());
 			String rawEntity = marshaller.marshall(context,this.resourceResolver,representation);
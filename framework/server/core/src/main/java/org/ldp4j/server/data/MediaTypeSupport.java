@@ -29,6 +29,11 @@ package org.ldp4j.server.data;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+
 import javax.ws.rs.core.MediaType;
 
 import org.ldp4j.application.data.DataSet;
@@ -36,11 +41,14 @@ import org.ldp4j.application.data.DataSets;
 import org.ldp4j.application.data.Individual;
 import org.ldp4j.application.data.NamingScheme;
 import org.ldp4j.rdf.Triple;
-import org.ldp4j.rdf.util.TripleSet;
+import org.ldp4j.rdf.TripleHandler;
 import org.ldp4j.server.data.spi.ContentTransformationException;
 import org.ldp4j.server.data.spi.Context;
 import org.ldp4j.server.data.spi.MediaTypeProvider;
 import org.ldp4j.server.data.spi.RuntimeDelegate;
+import org.ldp4j.server.data.spi.StreamingMediaTypeProvider;
+
+import com.google.common.io.CharStreams;
 
 final class MediaTypeSupport {
 
@@ -48,26 +56,85 @@ final class MediaTypeSupport {
 
 		private final MediaType targetMediaType;
 		private final MediaTypeProvider provider;
+		private boolean sortTriples;
 
 		private Marshaller(MediaType targetMediaType, MediaTypeProvider provider) {
 			this.targetMediaType = targetMediaType;
 			this.provider = provider;
 		}
 
-		String marshall(Context context, ResourceResolver resourceResolver, DataSet content) throws ContentTransformationException {
+		/**
+		 * Sort the resolved triples before marshalling them. Sorting is only
+		 * honored when marshalling Turtle, where it makes the layout of
+		 * pretty-printed documents stable; other formats always get the
+		 * triples in the order in which they are generated.
+		 */
+		Marshaller sortTriples(boolean sortTriples) {
+			this.sortTriples=sortTriples && TURTLE.isCompatible(this.targetMediaType);
+			return this;
+		}
+
+		Iterable<Triple> resolve(Context context, ResourceResolver resourceResolver, DataSet content) {
 			checkNotNull(content,"Content cannot be null");
 			TripleSetBuilder tripleSetBuilder =
-				new TripleSetBuilder(resourceResolver,context.getBase());
+				new TripleSetBuilder(resourceResolver,context.getBase(),this.sortTriples);
 			for(Individual<?,?> individual:content) {
 				tripleSetBuilder.generateTriples(individual);
 			}
-			TripleSet triples=tripleSetBuilder.build();
+			return tripleSetBuilder.build();
+		}
+
+		String marshall(Context context, ResourceResolver resourceResolver, DataSet content) throws ContentTransformationException {
+			Iterable<Triple> triples=resolve(context,resourceResolver,content);
 			return this.provider.marshallContent(context,triples,this.targetMediaType);
 		}
+
+		void marshall(Context context, Iterable<Triple> triples, Writer target) throws ContentTransformationException, IOException {
+			if(this.provider instanceof StreamingMediaTypeProvider) {
+				((StreamingMediaTypeProvider)this.provider).marshallContent(context,triples,this.targetMediaType,target);
+			} else {
+				target.write(this.provider.marshallContent(context,triples,this.targetMediaType));
+			}
+		}
 	}
 
 	static final class Unmarshaller {
 
+		/**
+		 * Populates a data set with the triples as they are unmarshalled.
+		 */
+		private static final class DataSetBuilder implements TripleHandler {
+
+			private final DataSet dataSet;
+			private final ValueAdapter adapter;
+			private final ResourceResolution nullResolution;
+
+			private DataSetBuilder(Context context, ResourceResolver resourceResolver) {
+				this.dataSet=
+					DataSets.
+						createDataSet(
+							NamingScheme.getDefault().name(context.getBase()));
+				this.adapter=new ValueAdapter(resourceResolver,this.dataSet);
+				this.nullResolution=ResourceResolutionFactory.nullResolution();
+			}
+
+			@Override
+			public void handleTriple(Triple triple) {
+				Individual<?,?> individual=
+					this.adapter.
+						getIndividual(triple.getSubject(),this.nullResolution);
+				individual.
+					addValue(
+						triple.getPredicate().getIdentity(),
+						this.adapter.getValue(triple.getObject(),this.nullResolution));
+			}
+
+			DataSet build() {
+				return this.dataSet;
+			}
+
+		}
+
 		private final MediaType targetMediaType;
 
 		private final MediaTypeProvider provider;
@@ -79,30 +146,45 @@ final class MediaTypeSupport {
 
 		DataSet unmarshall(Context context, ResourceResolver resourceResolver, String content) throws ContentTransformationException {
 			checkNotNull(content,"Content cannot be null");
+			if(this.provider instanceof StreamingMediaTypeProvider) {
+				return unmarshallIncrementally(context,resourceResolver,new StringReader(content));
+			}
 			Iterable<Triple> triples=
 				this.provider.
 					unmarshallContent(context,content,this.targetMediaType);
-			DataSet dataSet=
-				DataSets.
-					createDataSet(
-						NamingScheme.getDefault().name(context.getBase()));
-			ValueAdapter adapter=new ValueAdapter(resourceResolver,dataSet);
-			ResourceResolution nullResolution=
-				ResourceResolutionFactory.nullResolution();
+			return createDataSet(context,resourceResolver,triples);
+		}
+
+		DataSet unmarshall(Context context, ResourceResolver resourceResolver, Reader content) throws ContentTransformationException, IOException {
+			checkNotNull(content,"Content cannot be null");
+			if(this.provider instanceof StreamingMediaTypeProvider) {
+				return unmarshallIncrementally(context,resourceResolver,content);
+			}
+			Iterable<Triple> triples=
+				this.provider.
+					unmarshallContent(context,CharStreams.toString(content),this.targetMediaType);
+			return createDataSet(context,resourceResolver,triples);
+		}
+
+		private DataSet unmarshallIncrementally(Context context, ResourceResolver resourceResolver, Reader content) throws ContentTransformationException {
+			DataSetBuilder builder=new DataSetBuilder(context,resourceResolver);
+			((StreamingMediaTypeProvider)this.provider).
+				unmarshallContent(context,content,this.targetMediaType,builder);
+			return builder.build();
+		}
+
+		private DataSet createDataSet(Context context, ResourceResolver resourceResolver, Iterable<Triple> triples) {
+			DataSetBuilder builder=new DataSetBuilder(context,resourceResolver);
 			for(Triple triple:triples) {
-				Individual<?,?> individual=
-					adapter.
-						getIndividual(triple.getSubject(),nullResolution);
-				individual.
-					addValue(
-						triple.getPredicate().getIdentity(),
-						adapter.getValue(triple.getObject(),nullResolution));
+				builder.handleTriple(triple);
 			}
-			return dataSet;
+			return builder.build();
 		}
 
 	}
 
+	private static final MediaType TURTLE=new MediaType("text","turtle");
+
 	private MediaTypeSupport() {
 	}
 
@@ -0,0 +1,70 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-server-core:0.2.1
+ *   Bundle      : ldp4j-server-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.server.data;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import javax.ws.rs.core.MediaType;
+
+import org.ldp4j.rdf.Triple;
+import org.ldp4j.server.data.MediaTypeSupport.Marshaller;
+import org.ldp4j.server.data.spi.ContentTransformationException;
+import org.ldp4j.server.data.spi.Context;
+
+/**
+ * A resource representation whose managed individuals have already been
+ * resolved, and which can be written later on to a target writer without
+ * having to keep the serialized form of the representation in memory.
+ */
+public final class ResolvedRepresentation {
+
+	private final Marshaller marshaller;
+	private final Context context;
+	private final Iterable<Triple> triples;
+	private final MediaType mediaType;
+
+	ResolvedRepresentation(Marshaller marshaller, Context context, Iterable<Triple> triples, MediaType mediaType) {
+		this.marshaller=marshaller;
+		this.context=context;
+		this.triples=triples;
+		this.mediaType=mediaType;
+	}
+
+	public MediaType mediaType() {
+		return this.mediaType;
+	}
+
+	public void writeTo(Writer target) throws IOException {
+		try {
+			this.marshaller.marshall(this.context,this.triples,target);
+		} catch (ContentTransformationException e) {
+			throw new IOException("Resource representation cannot be serialized as '"+this.mediaType+"' ",e);
+		}
+	}
+
+}
@@ -26,6 +26,8 @@
  */
 package org.ldp4j.server.data;
 
+import static com.google.common.base.Preconditions.checkState;
+
 import java.net.URI;
 import java.util.List;
 
@@ -33,6 +35,8 @@ import javax.ws.rs.core.MediaType;
 
 import org.ldp4j.rdf.Node;
 import org.ldp4j.rdf.NodeVisitor;
+import org.ldp4j.rdf.RDFFactory;
+import org.ldp4j.rdf.Resource;
 import org.ldp4j.rdf.Triple;
 import org.ldp4j.rdf.URIRef;
 import org.ldp4j.server.data.spi.ContentTransformationException;
@@ -109,6 +113,7 @@ final class TripleResolver {
 
 		}
 
+		private final RDFFactory factory;
 		private MediaTypeProvider unmarshaller;
 		private URIResolver resolver;
 		private URIDescriber describer;
@@ -116,6 +121,7 @@ final class TripleResolver {
 
 		private TripleResolverBuilder() {
 			this.result=new TripleResolver();
+			this.factory=new RDFFactory();
 		}
 
 		TripleResolverBuilder withApplication(URI application) {
@@ -139,23 +145,36 @@ final class TripleResolver {
 		}
 
 		TripleResolver build() throws ContentTransformationException {
+			checkState(
+				this.result.endpoint().getRawPath().equals(this.result.alternative().getRawPath()),
+				"Endpoint URI and alternative URI must share the same path");
 			this.resolver=URIResolver.newInstance(this.result.endpoint(),this.result.alternative());
 			this.describer=URIDescriber.newInstance(this.result.application(),this.result.endpoint());
 			this.result.setTripleResolutions(createResolutions());
 			return new TripleResolver(this.result);
 		}
 
+		/**
+		 * The entity is parsed just once, using the alternative URI as base.
+		 * As the alternative URI is synthetic, any URI that shares its scheme
+		 * and authority can only come from a relative reference, and the
+		 * URI that would have been obtained using the endpoint as base is
+		 * recovered by rebasing it.
+		 */
 		private List<TripleResolution> createResolutions() throws ContentTransformationException {
-			List<Triple> endpointTriples=triples(this.result.endpoint());
-			List<Triple> alternativeTriples=triples(this.result.alternative());
 			Builder<TripleResolution> builder = ImmutableList.builder();
-			for(int i=0;i<endpointTriples.size();i++) {
-				builder.add(resolveTriple(endpointTriples.get(i), alternativeTriples.get(i)));
+			for(Triple tAlternative:triples(this.result.alternative())) {
+				builder.add(resolveTriple(tAlternative));
 			}
 			return builder.build();
 		}
 
-		private TripleResolution resolveTriple(Triple tEndpoint, Triple tAlternative) {
+		private TripleResolution resolveTriple(Triple tAlternative) {
+			Triple tEndpoint=
+				new Triple(
+					rebaseResource(tAlternative.getSubject()),
+					rebaseURIRef(tAlternative.getPredicate()),
+					rebaseNode(tAlternative.getObject()));
 			return
 				new ImmutableTripleResolution(
 					tEndpoint,
@@ -164,6 +183,29 @@ final class TripleResolver {
 				);
 		}
 
+		private URIRef rebaseURIRef(URIRef uriRef) {
+			URI identity=uriRef.getIdentity();
+			URI rebased=this.resolver.rebase(identity);
+			if(rebased==identity) {
+				return uriRef;
+			}
+			return this.factory.newURIRef(rebased);
+		}
+
+		private Resource<?> rebaseResource(Resource<?> resource) {
+			if(resource instanceof URIRef) {
+				return rebaseURIRef((URIRef)resource);
+			}
+			return resource;
+		}
+
+		private Node rebaseNode(Node node) {
+			if(node instanceof URIRef) {
+				return rebaseURIRef((URIRef)node);
+			}
+			return node;
+		}
+
 		private ResourceResolution resolveResource(Node nEndpoint,Node nAlternative) {
 			return
 				nEndpoint.
@@ -173,15 +215,13 @@ final class TripleResolver {
 					);
 		}
 
-		private List<Triple> triples(URI base) throws ContentTransformationException {
+		private Iterable<Triple> triples(URI base) throws ContentTransformationException {
 			return
-				ImmutableList.
-					copyOf(
-						mediaTypeProvider().
-							unmarshallContent(
-								ImmutableContext.newInstance(base),
-								this.result.entity(),
-								this.result.mediaType()));
+				mediaTypeProvider().
+					unmarshallContent(
+						ImmutableContext.newInstance(base),
+						this.result.entity(),
+						this.result.mediaType());
 		}
 
 		private MediaTypeProvider mediaTypeProvider() {
@@ -33,10 +33,13 @@ import static org.ldp4j.rdf.util.RDFModelDSL.typedLiteral;
 import static org.ldp4j.rdf.util.RDFModelDSL.uriRef;
 
 import java.net.URI;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import javax.xml.namespace.QName;
 
@@ -63,9 +66,14 @@ import org.ldp4j.application.data.ValueVisitor;
 import org.ldp4j.application.vocabulary.Term;
 import org.ldp4j.rdf.BlankNode;
 import org.ldp4j.rdf.Resource;
+import org.ldp4j.rdf.Triple;
 import org.ldp4j.rdf.URIRef;
-import org.ldp4j.rdf.util.TripleSet;
 
+/**
+ * Translates the individuals of a data set into triples. Each individual is
+ * visited once, and the triples are kept in the order in which they are
+ * generated (discarding duplicates), unless sorting is requested.
+ */
 final class TripleSetBuilder {
 
 	/**
@@ -245,18 +253,24 @@ final class TripleSetBuilder {
 
 	private final ResourceResolver resourceResolver;
 	private final Map<Object,Resource<?>> localResources;
-	private final List<Object> visitedIndividuals;
+	private final Set<Object> visitedIndividuals;
 
 	private final URI base;
-	private TripleSet triples;
+	private final boolean sorted;
+	private Set<Triple> triples;
 	private final TimeUtils timeUtils;
 
 	TripleSetBuilder(ResourceResolver resourceResolver, URI base) {
+		this(resourceResolver,base,false);
+	}
+
+	TripleSetBuilder(ResourceResolver resourceResolver, URI base, boolean sorted) {
 		this.resourceResolver=resourceResolver;
 		this.base = base;
+		this.sorted = sorted;
 		this.localResources=new HashMap<Object,Resource<?>>();
-		this.visitedIndividuals=new ArrayList<Object>();
-		this.triples=new TripleSet();
+		this.visitedIndividuals=new HashSet<Object>();
+		this.triples=new LinkedHashSet<Triple>();
 		// TODO: Make this configurable --> See Literals class
 		this.timeUtils=TimeUtils.newInstance();
 	}
@@ -277,14 +291,21 @@ final class TripleSetBuilder {
 		return local;
 	}
 
-	TripleSet build() {
-		TripleSet result = triples;
+	/**
+	 * Return the triples generated so far, either in the order in which they
+	 * were generated or sorted, and reset the builder.
+	 */
+	Collection<Triple> build() {
+		Collection<Triple> result = triples;
+		if(this.sorted) {
+			result=new TreeSet<Triple>(result);
+		}
 		clear();
 		return result;
 	}
 
 	void clear() {
-		triples=new TripleSet();
+		triples=new LinkedHashSet<Triple>();
 		localResources.clear();
 		visitedIndividuals.clear();
 	}
@@ -76,6 +76,32 @@ final class URIResolver {
 		return resolved;
 	}
 
+	/**
+	 * Translate a URI that was resolved against the alternative base into the
+	 * URI that would have been obtained if it had been resolved against the
+	 * endpoint. URIs that do not share the scheme and authority of the
+	 * alternative are returned as is.
+	 */
+	URI rebase(URI candidate) {
+		if(candidate.isOpaque() || candidate.getScheme()==null) {
+			return candidate;
+		}
+		String alternativePrefix=authorityPrefix(this.alternative);
+		String rawCandidate=candidate.toString();
+		if(!rawCandidate.startsWith(alternativePrefix)) {
+			return candidate;
+		}
+		String remainder=rawCandidate.substring(alternativePrefix.length());
+		if(!remainder.isEmpty() && "/?#".indexOf(remainder.charAt(0))<0) {
+			return candidate;
+		}
+		return URI.create(authorityPrefix(this.endpoint).concat(remainder));
+	}
+
+	private static String authorityPrefix(URI uri) {
+		return uri.getScheme()+"://"+uri.getRawAuthority();
+	}
+
 	@Override
 	public String toString() {
 		return
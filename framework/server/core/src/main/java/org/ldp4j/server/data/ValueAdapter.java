@@ -128,21 +128,31 @@ final class ValueAdapter {
 			return this.dataSet.individual(this.resolution.realURI(),NewIndividual.class);
 		}
 		URI location = node.getIdentity();
-		for(URI identity:URIHelper.getParents(location)) {
-			ManagedIndividualId resourceId = this.resourceResolver.resolveLocation(identity);
-			if(resourceId!=null) {
-				if(identity.equals(location)) {
-					return this.dataSet.individual(resourceId, ManagedIndividual.class);
-				} else {
-					URI relativePath = identity.relativize(location);
-					RelativeIndividualId relativeId = RelativeIndividualId.createId(resourceId, relativePath);
-					return this.dataSet.individual(relativeId,RelativeIndividual.class);
+		if(this.resourceResolver instanceof PrefixResourceResolver) {
+			ResolvedLocation resolved=((PrefixResourceResolver)this.resourceResolver).resolveLongestPrefix(location);
+			if(resolved!=null) {
+				return managedIndividual(location,resolved.location(),resolved.individualId());
+			}
+		} else {
+			for(URI identity:URIHelper.getParents(location)) {
+				ManagedIndividualId resourceId = this.resourceResolver.resolveLocation(identity);
+				if(resourceId!=null) {
+					return managedIndividual(location,identity,resourceId);
 				}
 			}
 		}
 		return this.dataSet.individual(location,ExternalIndividual.class);
 	}
 
+	private Individual<?, ?> managedIndividual(URI location, URI identity, ManagedIndividualId resourceId) {
+		if(identity.equals(location)) {
+			return this.dataSet.individual(resourceId, ManagedIndividual.class);
+		}
+		URI relativePath = identity.relativize(location);
+		RelativeIndividualId relativeId = RelativeIndividualId.createId(resourceId, relativePath);
+		return this.dataSet.individual(relativeId,RelativeIndividual.class);
+	}
+
 	@SuppressWarnings("rawtypes")
 	private Individual<?, ?> resolveBlankNode(BlankNode node) {
 		return
@@ -27,14 +27,18 @@
 package org.ldp4j.server.data.impl;
 
 import java.io.IOException;
-import java.io.StringWriter;
+import java.io.Reader;
+import java.io.Writer;
 
 import javax.ws.rs.core.MediaType;
 
 import org.ldp4j.rdf.Format;
 import org.ldp4j.rdf.RDFContext;
 import org.ldp4j.rdf.Triple;
+import org.ldp4j.rdf.TripleHandler;
+import org.ldp4j.rdf.impl.MarshallOptions;
 import org.ldp4j.rdf.impl.UnmarshallOptions;
+import org.ldp4j.server.config.Configuration;
 import org.ldp4j.server.data.spi.ContentTransformationException;
 import org.ldp4j.server.data.spi.Context;
 
@@ -47,7 +51,7 @@ public class TurtleMediaTypeProvider extends AbstractMediaTypeProvider {
 	}
 	
 	@Override
-	public Iterable<Triple> unmarshallContent(Context context, String content, MediaType type) throws ContentTransformationException {
+	public Iterable<Triple> unmarshallContent(Context context, Reader content, MediaType type) throws ContentTransformationException {
 		try {
 			RDFContext rdfContext = RDFContext.createContext(context.getBase());
 			rdfContext.setOption(UnmarshallOptions.TRIPLE_ORDERING, UnmarshallOptions.Ordering.KEEP_TRIPLE_ORDER);
@@ -58,13 +62,24 @@ public class TurtleMediaTypeProvider extends AbstractMediaTypeProvider {
 	}
 
 	@Override
-	public String marshallContent(Context context, Iterable<Triple> content, MediaType type) throws ContentTransformationException {
+	public void unmarshallContent(Context context, Reader content, MediaType type, TripleHandler handler) throws ContentTransformationException {
+		try {
+			RDFContext rdfContext = RDFContext.createContext(context.getBase());
+			rdfContext.deserialize(content, Format.TURTLE, handler);
+		} catch (IOException e) {
+			throw new ContentTransformationException("Could not unmarshall contents",e);
+		}
+	}
+
+	@Override
+	public void marshallContent(Context context, Iterable<Triple> content, MediaType type, Writer target) throws ContentTransformationException {
 		try {
 			RDFContext rdfContext = RDFContext.createContext(context.getBase());
 			rdfContext.setNamespaces(context.getNamespaces());
-			StringWriter writer = new StringWriter();
-			rdfContext.serialize(content, Format.TURTLE, writer);
-			return writer.toString();
+			if(Configuration.streamResponseEntities()) {
+				rdfContext.setOption(MarshallOptions.TURTLE_STREAMING, Boolean.TRUE);
+			}
+			rdfContext.serialize(content, Format.TURTLE, target);
 		} catch (IOException e) {
 			throw new ContentTransformationException("Could not marshall contents",e);
 		}
@@ -0,0 +1,53 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-server-core:0.2.1
+ *   Bundle      : ldp4j-server-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.server.data.spi;
+
+import java.io.Reader;
+import java.io.Writer;
+
+import javax.ws.rs.core.MediaType;
+
+import org.ldp4j.rdf.Triple;
+import org.ldp4j.rdf.TripleHandler;
+
+/**
+ * A {@link MediaTypeProvider} that is able to consume and produce contents
+ * without requiring that the whole entity is held in memory as a String.
+ */
+public interface StreamingMediaTypeProvider extends MediaTypeProvider {
+
+	Iterable<Triple> unmarshallContent(Context context, Reader content, MediaType type) throws ContentTransformationException;
+
+	/**
+	 * Push each of the triples of the content to the handler as soon as
+	 * they are parsed, in the order in which they appear in the content.
+	 */
+	void unmarshallContent(Context context, Reader content, MediaType type, TripleHandler handler) throws ContentTransformationException;
+
+	void marshallContent(Context context, Iterable<Triple> content, MediaType type, Writer target) throws ContentTransformationException;
+
+}
@@ -26,6 +26,7 @@
  */
 package org.ldp4j.server.frontend;
 
+import java.io.Reader;
 import java.util.Locale;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -53,6 +54,7 @@ import org.ldp4j.application.engine.lifecycle.ApplicationEngineState;
 import org.ldp4j.server.controller.EndpointControllerFactory;
 import org.ldp4j.server.controller.OperationContext;
 import org.ldp4j.server.controller.OperationContextBuilder;
+import org.ldp4j.server.controller.RepresentationCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -90,6 +92,7 @@ public final class ServerFrontend {
 	private static final String ENDPOINT_PATH       = "/{"+ENDPOINT_PATH_PARAM+":.*}";
 
 	public static final String LDP4J_APPLICATION_CONTEXT = "ldp4jApplicationContext";
+	public static final String LDP4J_REPRESENTATION_CACHE = "ldp4jRepresentationCache";
 	public static final String PATH                      = "/";
 
 	private final LocalApplicationEngineLifecycleListener lifecyleListener;
@@ -130,11 +133,16 @@ public final class ServerFrontend {
 		return currentContext;
 	}
 
+	private RepresentationCache currentRepresentationCache() {
+		return (RepresentationCache)this.servletContext.getAttribute(LDP4J_REPRESENTATION_CACHE);
+	}
+
 	private OperationContextBuilder newOperationBuilder(HttpMethod operation) {
 		checkApplicationEngineAvailable();
 		return
 			new OperationContextBuilder().
 				withApplicationContext(currentContext()).
+				withRepresentationCache(currentRepresentationCache()).
 				withOperation(operation);
 	}
 
@@ -226,7 +234,7 @@ public final class ServerFrontend {
 		@PathParam(ENDPOINT_PATH_PARAM) String path,
 		@Context HttpHeaders headers,
 		@Context Request request,
-		String entity) {
+		Reader entity) {
 		OperationContext context =
 			newOperationBuilder(HttpMethod.PUT).
 				withEndpointPath(path).
@@ -248,7 +256,7 @@ public final class ServerFrontend {
 		@PathParam(ENDPOINT_PATH_PARAM) String path,
 		@Context HttpHeaders headers,
 		@Context Request request,
-		String entity) {
+		Reader entity) {
 		OperationContext context =
 			newOperationBuilder(HttpMethod.POST).
 				withEndpointPath(path).
@@ -290,7 +298,7 @@ public final class ServerFrontend {
 		@PathParam(ENDPOINT_PATH_PARAM) String path,
 		@Context HttpHeaders headers,
 		@Context Request request,
-		String entity) {
+		Reader entity) {
 		OperationContext context =
 			newOperationBuilder(HttpMethod.PATCH).
 				withEndpointPath(path).
@@ -27,7 +27,11 @@
 package org.ldp4j.server.setup;
 
 import java.io.File;
+import java.lang.management.ManagementFactory;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletContextAttributeEvent;
 import javax.servlet.ServletContextAttributeListener;
@@ -42,6 +46,8 @@ import org.ldp4j.application.engine.ApplicationEngine;
 import org.ldp4j.application.engine.ApplicationEngineLifecycleException;
 import org.ldp4j.application.engine.ApplicationEngineRuntimeException;
 import org.ldp4j.application.engine.context.ApplicationContext;
+import org.ldp4j.server.config.Configuration;
+import org.ldp4j.server.controller.RepresentationCache;
 import org.ldp4j.server.frontend.ServerFrontend;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -81,6 +87,8 @@ public final class BootstrapContextListener implements ServletContextListener {
 
 	private static final String LDP4J_TARGET_APPLICATION  = "ldp4jTargetApplication";
 
+	private static final String REPRESENTATION_CACHE_OBJECT_NAME = "org.ldp4j.server:type=RepresentationCache";
+
 	@Override
 	public void contextInitialized(ServletContextEvent sce) {
 		ServletContext servletContext=sce.getServletContext();
@@ -149,11 +157,42 @@ public final class BootstrapContextListener implements ServletContextListener {
 		return context.getInitParameter(LDP4J_TARGET_APPLICATION);
 	}
 
+	private static void registerRepresentationCacheMBean(RepresentationCache cache) {
+		try {
+			MBeanServer server=ManagementFactory.getPlatformMBeanServer();
+			ObjectName name=new ObjectName(REPRESENTATION_CACHE_OBJECT_NAME);
+			if(server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+			server.registerMBean(cache,name);
+		} catch (JMException e) {
+			LOGGER.warn("Could not register representation cache MBean '{}'",REPRESENTATION_CACHE_OBJECT_NAME,e);
+		}
+	}
+
+	private static void unregisterRepresentationCacheMBean() {
+		try {
+			MBeanServer server=ManagementFactory.getPlatformMBeanServer();
+			ObjectName name=new ObjectName(REPRESENTATION_CACHE_OBJECT_NAME);
+			if(server.isRegistered(name)) {
+				server.unregisterMBean(name);
+			}
+		} catch (JMException e) {
+			LOGGER.warn("Could not unregister representation cache MBean '{}'",REPRESENTATION_CACHE_OBJECT_NAME,e);
+		}
+	}
+
 	private static void loadApplicationContext(ServletContext servletContext, ApplicationEngine engine) {
 		String targetApplicationClassName=getTargetApplicationClassName(servletContext);
 		try {
 			ApplicationContext applicationContext=engine.load(targetApplicationClassName);
 			servletContext.setAttribute(ServerFrontend.LDP4J_APPLICATION_CONTEXT, applicationContext);
+			RepresentationCache cache=RepresentationCache.create(Configuration.representationCacheSize());
+			if(cache.isEnabled()) {
+				applicationContext.registerEndpointLifecycleListener(cache);
+				registerRepresentationCacheMBean(cache);
+				servletContext.setAttribute(ServerFrontend.LDP4J_REPRESENTATION_CACHE, cache);
+			}
 			LOGGER.info("LDP4j Application '{}' ({}) initialized.",applicationContext.applicationName(),applicationContext.applicationClassName());
 		} catch (ApplicationContextCreationException e) {
 			LOGGER.error("Could not configure LDP4j Application to be used within the LDP4j Server Frontend. Full stacktrace follows:",e);
@@ -164,6 +203,13 @@ public final class BootstrapContextListener implements ServletContextListener {
 		if(applicationContext==null) {
 			return;
 		}
+		RepresentationCache cache=(RepresentationCache)servletContext.getAttribute(ServerFrontend.LDP4J_REPRESENTATION_CACHE);
+		if(cache!=null) {
+			servletContext.removeAttribute(ServerFrontend.LDP4J_REPRESENTATION_CACHE);
+			applicationContext.deregisterEndpointLifecycleListener(cache);
+			unregisterRepresentationCacheMBean();
+			LOGGER.info("LDP4j representation cache disposed: {}",cache);
+		}
 		servletContext.removeAttribute(ServerFrontend.LDP4J_APPLICATION_CONTEXT);
 		try {
 			ApplicationEngine.engine().dispose(applicationContext);
@@ -146,4 +146,17 @@ public class ContentPreferencesUtilsTest {
 		assertThat(ContentPreferencesUtils.fromPreferenceHeader(ContentPreferencesUtils.asPreferenceHeader(MULTIPLE_OMITS)),equalTo(MULTIPLE_OMITS));
 	}
 
+	@Test
+	public void testMaxMemberCount() throws Exception {
+		assertThat(ContentPreferencesUtils.maxMemberCount("return=representation; max-member-count=\"10\""),equalTo(10));
+		assertThat(ContentPreferencesUtils.maxMemberCount(SINGLE_INCLUDE_PREFERENCE+"; max-member-count=\"25\""),equalTo(25));
+		assertThat(ContentPreferencesUtils.maxMemberCount(SINGLE_INCLUDE_PREFERENCE),nullValue());
+		assertThat(ContentPreferencesUtils.maxMemberCount("return=representation; max-member-count=\"0\""),nullValue());
+	}
+
+	@Test
+	public void testFromPreferenceHeader$ignoresPageSizeHint() throws Exception {
+		assertThat(ContentPreferencesUtils.fromPreferenceHeader(SINGLE_INCLUDE_PREFERENCE+"; max-member-count=\"10\""),equalTo(SINGLE_INCLUDE));
+	}
+
 }
@@ -0,0 +1,166 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-server-core:0.2.1
+ *   Bundle      : ldp4j-server-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.server.controller;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.net.URI;
+
+import javax.ws.rs.core.MediaType;
+
+import org.junit.Test;
+import org.ldp4j.application.engine.context.ContentPreferences;
+import org.ldp4j.application.engine.context.EntityTag;
+
+import com.google.common.base.Strings;
+
+public class RepresentationCacheTest {
+
+	private static final URI BASE = URI.create("http://localhost:8080/ldp4j/");
+	private static final MediaType TURTLE = new MediaType("text","turtle");
+
+	private RepresentationCache.Key key(RepresentationCache cache, String path, String entityTag) {
+		return
+			cache.key(
+				BASE,
+				path,
+				EntityTag.createStrong(entityTag),
+				TURTLE,
+				ContentPreferences.defaultPreferences());
+	}
+
+	@Test
+	public void testDisabledCacheDoesNotRetainRepresentations() throws Exception {
+		RepresentationCache sut=RepresentationCache.create(0);
+		RepresentationCache.Key key=key(sut,"resource/","1");
+		sut.put(key,"body");
+		assertThat(sut.isEnabled(),equalTo(false));
+		assertThat(sut.get(key),nullValue());
+		assertThat(sut.size(),equalTo(0L));
+	}
+
+	@Test
+	public void testCachedRepresentationIsBoundToEntityTag() throws Exception {
+		RepresentationCache sut=RepresentationCache.create(1024);
+		sut.put(key(sut,"resource/","1"),"body");
+		assertThat(sut.get(key(sut,"resource/","1")),equalTo("body"));
+		assertThat(sut.get(key(sut,"resource/","2")),nullValue());
+		assertThat(sut.stats().hitCount(),equalTo(1L));
+		assertThat(sut.stats().missCount(),equalTo(1L));
+	}
+
+	@Test
+	public void testMediaTypeParametersAreIgnored() throws Exception {
+		RepresentationCache sut=RepresentationCache.create(1024);
+		sut.put(key(sut,"resource/","1"),"body");
+		RepresentationCache.Key key=
+			sut.key(
+				BASE,
+				"resource/",
+				EntityTag.createStrong("1"),
+				TURTLE.withCharset("UTF-8"),
+				ContentPreferences.defaultPreferences());
+		assertThat(sut.get(key),equalTo("body"));
+	}
+
+	@Test
+	public void testDeletedEndpointRepresentationsAreEvicted() throws Exception {
+		RepresentationCache sut=RepresentationCache.create(1024);
+		sut.put(key(sut,"resource/","1"),"body");
+		sut.put(key(sut,"other/","1"),"other body");
+		sut.endpointDeleted("resource/");
+		assertThat(sut.get(key(sut,"resource/","1")),nullValue());
+		assertThat(sut.get(key(sut,"other/","1")),equalTo("other body"));
+	}
+
+	@Test
+	public void testInvalidationOnlyEvictsVariantsOfPath() throws Exception {
+		RepresentationCache sut=RepresentationCache.create(1024);
+		sut.put(key(sut,"resource/","1"),"body");
+		sut.put(key(sut,"resource/","2"),"new body");
+		sut.put(key(sut,"other/","1"),"other body");
+		sut.invalidate("resource/");
+		assertThat(sut.get(key(sut,"resource/","1")),nullValue());
+		assertThat(sut.get(key(sut,"resource/","2")),nullValue());
+		assertThat(sut.get(key(sut,"other/","1")),equalTo("other body"));
+		assertThat(sut.indexedPaths(),equalTo(1));
+	}
+
+	@Test
+	public void testEvictedEntriesAreRemovedFromIndex() throws Exception {
+		RepresentationCache sut=RepresentationCache.create(1000);
+		String body=Strings.repeat("x",100);
+		for(int i=0;i<100;i++) {
+			sut.put(key(sut,"resource"+i+"/","1"),body);
+		}
+		assertThat((long)sut.indexedPaths(),equalTo(sut.size()));
+		sut.invalidateAll();
+		assertThat(sut.indexedPaths(),equalTo(0));
+	}
+
+	@Test
+	public void testCacheIsBoundedByRepresentationSize() throws Exception {
+		RepresentationCache sut=RepresentationCache.create(1000);
+		String body=Strings.repeat("x",100);
+		for(int i=0;i<100;i++) {
+			sut.put(key(sut,"resource"+i+"/","1"),body);
+		}
+		assertThat(sut.size()*body.length(),lessThanOrEqualTo(1000L));
+		assertThat(sut.stats().evictionCount(),greaterThan(0L));
+	}
+
+	@Test
+	public void testEndpointCreationEvictsContainers() throws Exception {
+		RepresentationCache sut=RepresentationCache.create(1024);
+		sut.put(key(sut,"container/","1"),"container body");
+		sut.put(key(sut,"container/members/","1"),"members body");
+		sut.put(key(sut,"other/","1"),"other body");
+		sut.endpointCreated("container/members/1/");
+		assertThat(sut.get(key(sut,"container/","1")),nullValue());
+		assertThat(sut.get(key(sut,"container/members/","1")),nullValue());
+		assertThat(sut.get(key(sut,"other/","1")),equalTo("other body"));
+	}
+
+	@Test
+	public void testStatisticsAreExposed() throws Exception {
+		RepresentationCache cache=RepresentationCache.create(1024);
+		RepresentationCacheMBean sut=cache;
+		cache.put(key(cache,"resource/","1"),"body");
+		cache.get(key(cache,"resource/","1"));
+		cache.get(key(cache,"resource/","2"));
+		assertThat(sut.getSize(),equalTo(1L));
+		assertThat(sut.getRequestCount(),equalTo(2L));
+		assertThat(sut.getHitCount(),equalTo(1L));
+		assertThat(sut.getMissCount(),equalTo(1L));
+		assertThat(sut.getHitRate(),equalTo(0.5D));
+	}
+
+}
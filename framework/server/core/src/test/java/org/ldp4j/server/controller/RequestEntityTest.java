@@ -0,0 +1,98 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-server-core:0.2.1
+ *   Bundle      : ldp4j-server-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.server.controller;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.io.Reader;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import com.google.common.io.CharStreams;
+
+public class RequestEntityTest {
+
+	private static final String BODY = "<> a <http://www.w3.org/ns/ldp#Resource> .";
+
+	@Test
+	public void testEmptyEntity() throws Exception {
+		RequestEntity sut=RequestEntity.create(new StringReader(""));
+		assertThat(sut.isEmpty(),equalTo(true));
+		assertThat(sut.body().value(),equalTo(""));
+	}
+
+	@Test
+	public void testCheckingEmptinessDoesNotConsumeEntity() throws Exception {
+		RequestEntity sut=RequestEntity.create(new StringReader(BODY));
+		assertThat(sut.isEmpty(),equalTo(false));
+		assertThat(CharStreams.toString(sut.reader()),equalTo(BODY));
+		assertThat(sut.isEmpty(),equalTo(false));
+	}
+
+	@Test
+	public void testBodyIsRecordedWhileReading() throws Exception {
+		RequestEntity sut=RequestEntity.create(new StringReader(BODY));
+		assertThat(CharStreams.toString(sut.reader()),equalTo(BODY));
+		assertThat(sut.body().value(),equalTo(BODY));
+	}
+
+	@Test
+	public void testBodyDoesNotReadTheEntity() throws Exception {
+		RequestEntity sut=RequestEntity.create(new StringReader(BODY));
+		Reader reader=sut.reader();
+		char[] buffer=new char[2];
+		assertThat(reader.read(buffer),equalTo(2));
+		assertThat(sut.body().value(),equalTo(BODY.substring(0,2)));
+		assertThat(CharStreams.toString(reader),equalTo(BODY.substring(2)));
+		assertThat(sut.body().value(),equalTo(BODY));
+	}
+
+	@Test
+	public void testBodySnapshotIsTruncated() throws Exception {
+		RequestEntity sut=RequestEntity.create(new StringReader(BODY),4);
+		assertThat(CharStreams.toString(sut.reader()),equalTo(BODY));
+		assertThat(sut.body().value(),equalTo(BODY.substring(0,4)));
+	}
+
+	@Test
+	public void testBodyCanBeReadBeforeUnmarshalling() throws Exception {
+		RequestEntity sut=RequestEntity.create(BODY);
+		assertThat(sut.body().value(),equalTo(BODY));
+		assertThat(CharStreams.toString(sut.reader()),equalTo(BODY));
+		assertThat(sut.body().value(),equalTo(BODY));
+	}
+
+	@Test(expected=IllegalStateException.class)
+	public void testEntityCanOnlyBeReadOnce() throws Exception {
+		RequestEntity sut=RequestEntity.create(BODY);
+		sut.reader();
+		sut.reader();
+	}
+
+}
\ No newline at end of file
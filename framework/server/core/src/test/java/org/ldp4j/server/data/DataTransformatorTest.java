@@ -27,10 +27,13 @@
 package org.ldp4j.server.data;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.notNullValue;
 
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URI;
 import java.nio.charset.Charset;
 
@@ -132,6 +135,30 @@ public class DataTransformatorTest {
 		sut.unmarshall(loadResource("/data/public-uri-clash.ttl"));
 	}
 
+	@Test
+	public void testSurrogateEndpointWithPercentEncodedPath() throws Exception {
+		DataTransformator sut =
+			DataTransformator.
+				create(URI.create("http://localhost:8080/ldp4j/")).
+				surrogateEndpoint(URI.create("api/my%20container/")).
+				enableResolution(
+					new ResourceResolver() {
+						@Override
+						public URI resolveResource(ManagedIndividualId id) {
+							return null;
+						}
+						@Override
+						public ManagedIndividualId resolveLocation(URI path) {
+							return null;
+						}
+					}
+				).
+				mediaType(new MediaType("text","turtle"));
+
+		DataSet dataSet=sut.unmarshall("<> <http://www.w3.org/2000/01/rdf-schema#label> \"label\" .");
+		assertThat(dataSet.numberOfIndividuals(),greaterThan(0));
+	}
+
 	@Test
 	public void testMarshallOmmitsUnknownManagedIndividuals() throws Exception {
 		DataTransformator sut =
@@ -184,4 +211,34 @@ public class DataTransformatorTest {
 		assertThat(data,notNullValue());
 	}
 
+	@Test
+	public void testStreamedUnmarshallMatchesBufferedUnmarshall() throws Exception {
+		String entity=loadResource("/data/relative-managed-individuals.ttl");
+		DataSet buffered=sut.unmarshall(entity);
+		DataSet streamed=sut.unmarshall(new StringReader(entity));
+		assertThat(streamed.numberOfIndividuals(),equalTo(buffered.numberOfIndividuals()));
+		assertThat(streamed.individualOfId(NANDANA_ID),notNullValue());
+		assertThat(streamed.individualOfId(NANDANA_ME_ID),notNullValue());
+	}
+
+	@Test
+	public void testResolvedRepresentationMatchesMarshalledRepresentation() throws Exception {
+		DataSet dataSet=sut.unmarshall(loadResource("/data/relative-managed-individuals.ttl"));
+		ResolvedRepresentation representation=sut.resolve(dataSet);
+		StringWriter writer=new StringWriter();
+		representation.writeTo(writer);
+		assertThat(representation.mediaType(),equalTo(new MediaType("text","turtle")));
+		assertThat(writer.toString(),equalTo(sut.marshall(dataSet)));
+	}
+
+	@Test
+	public void testSortedTurtleMarshallingKeepsContent() throws Exception {
+		DataSet dataSet=sut.unmarshall(loadResource("/data/relative-managed-individuals.ttl"));
+		DataSet unsorted=sut.unmarshall(sut.marshall(dataSet));
+		DataSet sorted=sut.unmarshall(sut.sortTurtleTriples(true).marshall(dataSet));
+		assertThat(sorted.numberOfIndividuals(),equalTo(unsorted.numberOfIndividuals()));
+		assertThat(sorted.individualOfId(NANDANA_ID),notNullValue());
+		assertThat(sorted.individualOfId(NANDANA_ME_ID),notNullValue());
+	}
+
 }
@@ -0,0 +1,78 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-server-core:0.2.1
+ *   Bundle      : ldp4j-server-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.server.data;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.ldp4j.rdf.util.RDFModelDSL.blankNode;
+import static org.ldp4j.rdf.util.RDFModelDSL.literal;
+import static org.ldp4j.rdf.util.RDFModelDSL.triple;
+import static org.ldp4j.rdf.util.RDFModelDSL.uriRef;
+
+import java.net.URI;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.ldp4j.application.data.DataSet;
+import org.ldp4j.application.data.DataSets;
+import org.ldp4j.application.data.Literals;
+import org.ldp4j.application.data.LocalIndividual;
+import org.ldp4j.application.data.Name;
+import org.ldp4j.application.data.NamingScheme;
+import org.ldp4j.rdf.Triple;
+
+public class TripleSetBuilderTest {
+
+	private static final URI BASE = URI.create("http://www.example.org/");
+	private static final URI PREDICATE = URI.create("http://www.example.org/vocab#predicate");
+
+	@SuppressWarnings("rawtypes")
+	private static LocalIndividual localIndividual(DataSet dataSet, Name<?> name) {
+		return dataSet.individual((Name)name,LocalIndividual.class);
+	}
+
+	@Test
+	public void testDuplicateTriplesAreDiscarded() {
+		DataSet dataSet=DataSets.createDataSet(NamingScheme.getDefault().name("dataSet"));
+		// Both names are translated to the same blank node
+		Name<String> stringName=NamingScheme.getDefault().name("local");
+		Name<URI> uriName=NamingScheme.getDefault().name(URI.create("local"));
+		LocalIndividual first=localIndividual(dataSet,stringName);
+		LocalIndividual second=localIndividual(dataSet,uriName);
+		first.addValue(PREDICATE,Literals.of("value"));
+		second.addValue(PREDICATE,Literals.of("value"));
+
+		TripleSetBuilder sut=new TripleSetBuilder(null,BASE);
+		sut.generateTriples(first);
+		sut.generateTriples(second);
+		Collection<Triple> triples=sut.build();
+
+		Triple expected=triple(blankNode("local"),uriRef(PREDICATE),literal("value"));
+		assertThat(triples,contains(expected));
+	}
+
+}
@@ -92,6 +92,30 @@ public class URIResolverTest {
 		}
 	}
 
+	@Test
+	public void testRebase() {
+		for(int i=0;i<candidates.length;i++) {
+			String candidate = candidates[i];
+			URI erCandidate = endpoint.resolve(candidate);
+			URI arCandidate = alternative.resolve(candidate);
+			if(!candidate.equals(alternative.toString())) {
+				assertThat("Rebase failed ["+i+"]",sut.rebase(arCandidate),equalTo(erCandidate));
+			}
+		}
+	}
+
+	@Test
+	public void testRebaseKeepsQueryAndFragment() {
+		URI candidate=alternative.resolve("child?param=value#fragment");
+		assertThat(sut.rebase(candidate),equalTo(endpoint.resolve("child?param=value#fragment")));
+	}
+
+	@Test
+	public void testRebaseIgnoresAuthoritiesSharingPrefix() {
+		URI candidate=URI.create("http://www.ldp4j.org.example.com/target/resource/");
+		assertThat(sut.rebase(candidate),equalTo(candidate));
+	}
+
 	@Test
 	public void testEvaluate() {
 		URI application = endpoint.resolve("..");
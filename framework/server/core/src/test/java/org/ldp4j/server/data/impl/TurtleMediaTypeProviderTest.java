@@ -0,0 +1,132 @@
+/**
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   This file is part of the LDP4j Project:
+ *     http://www.ldp4j.org/
+ *
+ *   Center for Open Middleware
+ *     http://www.centeropenmiddleware.com/
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Copyright (C) 2014-2016 Center for Open Middleware.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *             http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ *   Artifact    : org.ldp4j.framework:ldp4j-server-core:0.2.1
+ *   Bundle      : ldp4j-server-core-0.2.1.jar
+ * #-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=-=#
+ */
+package org.ldp4j.server.data.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.ldp4j.rdf.util.RDFModelDSL.literal;
+import static org.ldp4j.rdf.util.RDFModelDSL.triple;
+import static org.ldp4j.rdf.util.RDFModelDSL.uriRef;
+
+import java.io.StringWriter;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.ws.rs.core.MediaType;
+
+import org.junit.After;
+import org.junit.Test;
+import org.ldp4j.rdf.Namespaces;
+import org.ldp4j.rdf.Triple;
+import org.ldp4j.server.config.Configuration;
+import org.ldp4j.server.data.spi.Context;
+
+public class TurtleMediaTypeProviderTest {
+
+	/**
+	 * Counts the number of times the marshalled content is written.
+	 */
+	private static final class CountingWriter extends StringWriter {
+
+		private int writes;
+
+		@Override
+		public void write(int c) {
+			this.writes++;
+			super.write(c);
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) {
+			this.writes++;
+			super.write(cbuf,off,len);
+		}
+
+		@Override
+		public void write(String str) {
+			this.writes++;
+			super.write(str);
+		}
+
+		@Override
+		public void write(String str, int off, int len) {
+			this.writes++;
+			super.write(str,off,len);
+		}
+
+	}
+
+	private static final URI BASE = URI.create("http://www.example.org/");
+
+	private static final MediaType TURTLE = new MediaType("text","turtle");
+
+	private static final Context CONTEXT=new Context() {
+		@Override
+		public URI getBase() {
+			return BASE;
+		}
+		@Override
+		public Namespaces getNamespaces() {
+			return new Namespaces();
+		}
+	};
+
+	private final TurtleMediaTypeProvider sut=new TurtleMediaTypeProvider();
+
+	private final List<Triple> triples=
+		Arrays.asList(
+			triple(uriRef("http://www.example.org/s1"),uriRef("http://www.example.org/p"),literal("one")),
+			triple(uriRef("http://www.example.org/s2"),uriRef("http://www.example.org/p"),literal("two")));
+
+	@After
+	public void tearDown() {
+		System.clearProperty(Configuration.STREAM_RESPONSE_ENTITIES);
+	}
+
+	private CountingWriter marshall() throws Exception {
+		CountingWriter writer=new CountingWriter();
+		sut.marshallContent(CONTEXT,triples,TURTLE,writer);
+		return writer;
+	}
+
+	@Test
+	public void testRendersWholeDocumentByDefault() throws Exception {
+		assertThat(marshall().writes,equalTo(1));
+	}
+
+	@Test
+	public void testStreamsDocumentWhenResponseEntityStreamingIsEnabled() throws Exception {
+		String buffered=marshall().toString();
+		System.setProperty(Configuration.STREAM_RESPONSE_ENTITIES,"true");
+		CountingWriter streamed=marshall();
+		assertThat(streamed.writes,greaterThan(1));
+		assertThat(streamed.toString(),equalTo(buffered));
+	}
+
+}
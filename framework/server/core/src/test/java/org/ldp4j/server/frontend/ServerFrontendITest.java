@@ -211,6 +211,44 @@ public class ServerFrontendITest {
 		LOGGER.info("Completed {}",testName.getMethodName());
 	}
 
+	@Test
+	@Category({
+		LDP.class,
+		HappyPath.class
+	})
+	@OperateOnDeployment(DEPLOYMENT)
+	public void testHeadMatchesGet(@ArquillianResource final URL url) throws Exception {
+		LOGGER.info("Started {}",testName.getMethodName());
+		HELPER.base(url);
+		HELPER.setLegacy(false);
+		for(String path:new String[]{MyApplication.ROOT_PERSON_RESOURCE_PATH,MyApplication.ROOT_PERSON_CONTAINER_PATH}) {
+			Metadata getResponse=HELPER.httpRequest(HELPER.newRequest(path,HttpGet.class));
+			Metadata headResponse=HELPER.httpRequest(HELPER.newRequest(path,HttpHead.class));
+			assertThat(headResponse.status,equalTo(getResponse.status));
+			assertThat(headResponse.etag,equalTo(getResponse.etag));
+			assertThat(headResponse.lastModified,equalTo(getResponse.lastModified));
+			assertThat(headResponse.contentType,equalTo(getResponse.contentType));
+		}
+		LOGGER.info("Completed {}",testName.getMethodName());
+	}
+
+	@Test
+	@Category({
+		ExceptionPath.class
+	})
+	@OperateOnDeployment(DEPLOYMENT)
+	public void testHeadMatchesGetOnFailure(@ArquillianResource final URL url) throws Exception {
+		LOGGER.info("Started {}",testName.getMethodName());
+		HELPER.base(url);
+		HELPER.setLegacy(false);
+		String path=MyApplication.ROOT_PERSON_RESOURCE_PATH+"?ldp:page=0";
+		Metadata getResponse=HELPER.httpRequest(HELPER.newRequest(path,HttpGet.class));
+		Metadata headResponse=HELPER.httpRequest(HELPER.newRequest(path,HttpHead.class));
+		assertThat(getResponse.status,equalTo(HttpStatus.SC_FORBIDDEN));
+		assertThat(headResponse.status,equalTo(getResponse.status));
+		LOGGER.info("Completed {}",testName.getMethodName());
+	}
+
 	@Test
 	@Category({
 		LDP.class,
@@ -263,6 +301,53 @@ public class ServerFrontendITest {
 		LOGGER.info("Completed {}",testName.getMethodName());
 	}
 
+	@Test
+	@Category({
+		LDP.class,
+		HappyPath.class
+	})
+	@OperateOnDeployment(DEPLOYMENT)
+	public void testPutWithEntityTagOfPreferredRepresentation(@ArquillianResource final URL url) throws Exception {
+		LOGGER.info("Started {}",testName.getMethodName());
+		HELPER.base(url);
+		HELPER.setLegacy(false);
+		HttpGet get = HELPER.newRequest(MyApplication.ROOT_PERSON_RESOURCE_PATH,HttpGet.class);
+		get.addHeader("Prefer","return=representation; include=\"http://www.w3.org/ns/ldp#PreferMinimalContainer\"");
+		Metadata defaultGetResponse=HELPER.httpRequest(HELPER.newRequest(MyApplication.ROOT_PERSON_RESOURCE_PATH,HttpGet.class));
+		Metadata getResponse=HELPER.httpRequest(get);
+		assertThat(getResponse.etag,not(equalTo(defaultGetResponse.etag)));
+		HttpPut put = HELPER.newRequest(MyApplication.ROOT_PERSON_RESOURCE_PATH,HttpPut.class);
+		put.setEntity(
+			new StringEntity(
+				EXAMPLE_BODY,
+				ContentType.create("text/turtle", "UTF-8"))
+		);
+		put.addHeader(HttpHeaders.IF_MATCH,getResponse.etag);
+		Metadata putResponse=HELPER.httpRequest(put);
+		assertThat(putResponse.status,not(equalTo(HttpStatus.SC_PRECONDITION_FAILED)));
+		LOGGER.info("Completed {}",testName.getMethodName());
+	}
+
+	@Test
+	@Category({
+		LDP.class,
+		HappyPath.class
+	})
+	@OperateOnDeployment(DEPLOYMENT)
+	public void testConditionalContainerPageRetrieval(@ArquillianResource final URL url) throws Exception {
+		LOGGER.info("Started {}",testName.getMethodName());
+		HELPER.base(url);
+		HELPER.setLegacy(false);
+		String path=MyApplication.ROOT_PERSON_CONTAINER_PATH+"?ldp:page=0";
+		Metadata getResponse=HELPER.httpRequest(HELPER.newRequest(path,HttpGet.class));
+		assertThat(getResponse.status,equalTo(HttpStatus.SC_OK));
+		HttpGet conditionalGet=HELPER.newRequest(path,HttpGet.class);
+		conditionalGet.addHeader(HttpHeaders.IF_NONE_MATCH,getResponse.etag);
+		Metadata conditionalGetResponse=HELPER.httpRequest(conditionalGet);
+		assertThat(conditionalGetResponse.status,equalTo(HttpStatus.SC_NOT_MODIFIED));
+		LOGGER.info("Completed {}",testName.getMethodName());
+	}
+
 	@Test
 	@Category({
 		LDP.class,